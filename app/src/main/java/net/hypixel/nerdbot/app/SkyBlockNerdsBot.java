@@ -5,10 +5,24 @@ import net.aerh.imagegenerator.data.PackGlyphIndex;
 import net.aerh.imagegenerator.pack.PackRepository;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Activity;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.GuildVoiceState;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.channel.middleman.AudioChannel;
+import net.hypixel.nerdbot.app.activity.ActivityAggregator;
+import net.hypixel.nerdbot.app.activity.ActivityHistoryIndex;
 import net.hypixel.nerdbot.app.activity.ActivityListener;
+import net.hypixel.nerdbot.app.activity.MongoVoiceSessionStore;
+import net.hypixel.nerdbot.app.activity.RoleRestrictedChannelRouter;
+import net.hypixel.nerdbot.app.activity.VoiceSession;
+import net.hypixel.nerdbot.app.activity.VoiceSessionTracker;
 import net.hypixel.nerdbot.app.feature.RepositoryAutosaveFeature;
+import net.hypixel.nerdbot.app.feature.ResourcePackReloadFeature;
 import net.hypixel.nerdbot.app.feature.RoleReconcileFeature;
+import net.hypixel.nerdbot.app.feature.SuggestionMaintenanceFeature;
 import net.hypixel.nerdbot.app.badge.BadgeManager;
+import net.hypixel.nerdbot.app.generation.RenderCache;
+import net.hypixel.nerdbot.app.generation.RenderExecutor;
 import net.hypixel.nerdbot.app.generation.pack.ResourcePackService;
 import net.hypixel.nerdbot.app.listener.FunListener;
 import net.hypixel.nerdbot.app.listener.MetricsListener;
@@ -19,9 +33,14 @@ import net.hypixel.nerdbot.app.listener.RoleRestrictedChannelListener;
 import net.hypixel.nerdbot.app.listener.RoleSyncListener;
 import net.hypixel.nerdbot.app.listener.SuggestionListener;
 import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
+import net.hypixel.nerdbot.app.punishment.PunishmentCollection;
 import net.hypixel.nerdbot.app.sentry.SentryManager;
+import net.hypixel.nerdbot.app.storage.RepositoryFlusher;
+import net.hypixel.nerdbot.app.storage.RepositoryJournal;
 import net.hypixel.nerdbot.app.reminder.ReminderDispatcher;
+import net.hypixel.nerdbot.app.reminder.ReminderScheduler;
 import net.hypixel.nerdbot.app.user.BirthdayScheduler;
+import net.hypixel.nerdbot.app.user.StartupUserLoader;
 import net.hypixel.nerdbot.discord.AbstractDiscordBot;
 import net.hypixel.nerdbot.discord.api.feature.BotFeature;
 import net.hypixel.nerdbot.discord.api.feature.FeatureEventListener;
@@ -40,10 +59,14 @@ import net.hypixel.nerdbot.discord.util.DiscordBotEnvironment;
 import net.hypixel.nerdbot.discord.util.DiscordUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SkyBlock Nerds Discord bot implementation.
@@ -61,6 +84,52 @@ public class SkyBlockNerdsBot extends AbstractDiscordBot {
      */
     private final ResourcePackService resourcePackService = new ResourcePackService(PackRepository.global());
 
+    /**
+     * Worker pool every generator command renders on, shared fairly between users.
+     */
+    private final RenderExecutor renderExecutor = new RenderExecutor();
+
+    /**
+     * Encoded renders shared between identical generator commands.
+     */
+    private final RenderCache renderCache = new RenderCache();
+
+    /**
+     * Single scheduler shared by every pending reminder. Constructed eagerly so reminder commands
+     * can always reach it; it is started and fed from the database in {@link #onReady(JDA)}.
+     */
+    private final ReminderScheduler reminderScheduler = new ReminderScheduler(ReminderDispatcher::fire);
+
+    /**
+     * Compiled channel-to-group table for matching activity against role-restricted channel groups.
+     */
+    private final RoleRestrictedChannelRouter roleRestrictedChannelRouter = new RoleRestrictedChannelRouter();
+
+    /**
+     * Open voice sessions, checkpointed to the database so they survive restarts.
+     */
+    private final VoiceSessionTracker voiceSessionTracker = new VoiceSessionTracker(new MongoVoiceSessionStore());
+
+    /**
+     * Writes changed repository documents back to the database, for both the periodic autosave and
+     * the final save at shutdown, so the shutdown save only writes what changed since the last
+     * autosave.
+     */
+    private final RepositoryFlusher repositoryFlusher = new RepositoryFlusher();
+
+    /**
+     * Per-day activity counters answering the inactivity sweeps' window queries. Kept current by
+     * {@link #activityAggregator}.
+     */
+    private final ActivityHistoryIndex activityHistoryIndex = new ActivityHistoryIndex();
+
+    /**
+     * Buffers message and vote activity from {@link ActivityListener} and flushes it into users'
+     * {@code LastActivity} in batches. Constructed eagerly so events arriving before
+     * {@link #onReady(JDA)} are buffered rather than lost.
+     */
+    private final ActivityAggregator activityAggregator = new ActivityAggregator(activityHistoryIndex);
+
     /**
      * Static helper to get the MessageCache from the current bot instance.
      */
@@ -76,6 +145,55 @@ public class SkyBlockNerdsBot extends AbstractDiscordBot {
         return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).resourcePackService;
     }
 
+    /**
+     * Static helper to get the RenderExecutor from the current bot instance.
+     */
+    public static RenderExecutor renderExecutor() {
+        return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).renderExecutor;
+    }
+
+    /**
+     * Static helper to get the RenderCache from the current bot instance.
+     */
+    public static RenderCache renderCache() {
+        return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).renderCache;
+    }
+
+    /**
+     * Static helper to get the ReminderScheduler from the current bot instance.
+     */
+    public static ReminderScheduler reminderScheduler() {
+        return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).reminderScheduler;
+    }
+
+    /**
+     * Static helper to get the ActivityAggregator from the current bot instance.
+     */
+    public static ActivityAggregator activityAggregator() {
+        return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).activityAggregator;
+    }
+
+    /**
+     * Static helper to get the ActivityHistoryIndex from the current bot instance.
+     */
+    public static ActivityHistoryIndex activityHistoryIndex() {
+        return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).activityHistoryIndex;
+    }
+
+    /**
+     * Static helper to get the VoiceSessionTracker from the current bot instance.
+     */
+    public static VoiceSessionTracker voiceSessionTracker() {
+        return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).voiceSessionTracker;
+    }
+
+    /**
+     * Static helper to get the RoleRestrictedChannelRouter from the current bot instance.
+     */
+    public static RoleRestrictedChannelRouter roleRestrictedChannelRouter() {
+        return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).roleRestrictedChannelRouter;
+    }
+
     /**
      * Static helper to get the SuggestionCache from the current bot instance.
      */
@@ -83,6 +201,13 @@ public class SkyBlockNerdsBot extends AbstractDiscordBot {
         return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).suggestionCache;
     }
 
+    /**
+     * Static helper to get the RepositoryFlusher from the current bot instance.
+     */
+    public static RepositoryFlusher repositoryFlusher() {
+        return ((SkyBlockNerdsBot) DiscordBotEnvironment.getBot()).repositoryFlusher;
+    }
+
     @Override
     protected @NotNull Class<? extends DiscordBotConfig> getConfigClass() {
         return NerdBotConfig.class;
@@ -192,6 +317,14 @@ public class SkyBlockNerdsBot extends AbstractDiscordBot {
         // while the bot was offline (see RoleReconcileFeature for details).
         features.add(new RoleReconcileFeature());
 
+        // Always-on: applies the suggestion auto-archive/auto-lock thresholds in batches (see
+        // SuggestionMaintenanceFeature). Thresholds of zero or less disable it per forum type.
+        features.add(new SuggestionMaintenanceFeature());
+
+        // Opt-in: reloads resource packs whose files change (see ResourcePackReloadFeature).
+        // Does nothing unless a watch interval above zero is configured.
+        features.add(new ResourcePackReloadFeature());
+
         return features;
     }
 
@@ -238,23 +371,25 @@ public class SkyBlockNerdsBot extends AbstractDiscordBot {
             log.warn("No badges found in config file, so no badges will be loaded!");
         }
 
+        // Write back anything journaled at the last shutdown before any repository loads it, and
+        // build any missing punishment indexes in the background
+        if (getDatabase().isConnected()) {
+            repositoryFlusher.replayJournal(getDatabase().getRepositoryManager().getRepositories(), repositoryJournal());
+            Thread.ofVirtual().name("punishment-indexes").start(PunishmentCollection::ensureIndexes);
+        }
+
         // Load Discord users and schedule birthdays
         DiscordUserRepository discordUserRepository = getDatabase()
             .getRepositoryManager()
             .getRepository(DiscordUserRepository.class);
 
         if (discordUserRepository != null) {
-            discordUserRepository.loadAllDocumentsIntoCacheAsync()
-                .thenRun(() -> {
-                    discordUserRepository.forEach(BirthdayScheduler::schedule);
-                    log.info("Successfully loaded all Discord users into cache");
-                })
-                .exceptionally(throwable -> {
-                    log.error("Failed to load Discord users into cache", throwable);
-                    return null;
-                });
+            BirthdayScheduler.start();
+            StartupUserLoader.start(discordUserRepository, getStartTime());
         }
 
+        activityAggregator.start();
+        reconcileVoiceSessions();
         loadRemindersFromDatabase();
 
         // Initialize member count metric
@@ -273,10 +408,56 @@ public class SkyBlockNerdsBot extends AbstractDiscordBot {
 
     @Override
     protected void onShutdown() {
+        // Flush buffered activity before the repositories are saved
+        activityAggregator.stop();
+        voiceSessionTracker.stop();
+        reminderScheduler.stop();
+        renderExecutor.stop();
+        BirthdayScheduler.stop();
         PrometheusMetrics.setMetricsEnabled(false);
         SentryManager.close();
     }
 
+    @Override
+    protected void saveRepositories(Map<Class<?>, Object> repositories) {
+        NerdBotConfig config = getConfig();
+        repositoryFlusher.flushAll(repositories, Duration.ofSeconds(config.getShutdownSaveDeadlineSeconds()), repositoryJournal());
+    }
+
+    private RepositoryJournal repositoryJournal() {
+        return new RepositoryJournal(Path.of(getConfig().getRepositoryJournalDirectory()));
+    }
+
+    /**
+     * Resumes voice sessions from the last checkpoint against the main guild's current voice states,
+     * crediting sessions that ended while the bot was offline, then starts checkpointing.
+     */
+    private void reconcileVoiceSessions() {
+        try {
+            Guild guild = DiscordUtils.getMainGuild();
+            Map<Long, Long> connectedMembers = new HashMap<>();
+
+            for (GuildVoiceState voiceState : guild.getVoiceStates()) {
+                if (voiceState.getChannel() != null && !voiceState.getMember().getUser().isBot()) {
+                    connectedMembers.put(voiceState.getMember().getIdLong(), voiceState.getChannel().getIdLong());
+                }
+            }
+
+            for (VoiceSession session : voiceSessionTracker.reconcile(connectedMembers, System.currentTimeMillis())) {
+                Member member = guild.getMemberById(session.userId());
+                AudioChannel channel = guild.getChannelById(AudioChannel.class, session.channelId());
+
+                if (member != null && channel != null) {
+                    ActivityListener.creditVoiceSession(member, channel, session.durationUntil(session.lastSeen()), session.lastSeen());
+                }
+            }
+        } catch (Exception exception) {
+            log.error("Failed to reconcile voice sessions from the last checkpoint!", exception);
+        }
+
+        voiceSessionTracker.start();
+    }
+
     private void loadRemindersFromDatabase() {
         if (!getDatabase().isConnected()) {
             log.error("Failed to load reminders from database, database is not connected!");
@@ -294,27 +475,8 @@ public class SkyBlockNerdsBot extends AbstractDiscordBot {
             return;
         }
 
-        reminderRepository.loadAllDocumentsIntoCacheAsync()
-            .thenRun(() -> {
-                reminderRepository.forEach(reminder -> {
-                    long now = System.currentTimeMillis();
-
-                    if (now > reminder.getTime()) {
-                        ReminderDispatcher.dispatch(reminder, true);
-                        log.info("Sent reminder {} because it was not sent yet!", reminder);
-                        return;
-                    }
-
-                    ReminderDispatcher.schedule(reminder);
-                    log.info("Loaded reminder: {}", reminder);
-                });
-
-                log.info("Loaded {} reminders!", reminderRepository.getCache().estimatedSize());
-            })
-            .exceptionally(throwable -> {
-                log.error("Failed to load reminders from database", throwable);
-                return null;
-            });
+        reminderScheduler.start();
+        reminderScheduler.loadFromRepository(reminderRepository);
     }
 
     private static boolean isAllowed(String className) {
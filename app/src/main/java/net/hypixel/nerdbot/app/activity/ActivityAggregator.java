@@ -0,0 +1,434 @@
+package net.hypixel.nerdbot.app.activity;
+
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.storage.DiscordUserStore;
+import net.hypixel.nerdbot.app.storage.DocumentUpdate;
+import net.hypixel.nerdbot.app.storage.RepositoryDiscordUserStore;
+import net.hypixel.nerdbot.app.suggestion.Suggestion;
+import net.hypixel.nerdbot.discord.BotEnvironment;
+import net.hypixel.nerdbot.marmalade.concurrent.ScheduledTask;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.stats.LastActivity;
+import net.hypixel.nerdbot.marmalade.storage.database.repository.DiscordUserRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers per-user activity from Discord events in memory and applies it to each user's
+ * {@link LastActivity} in periodic batches.
+ *
+ * <p>Recording only touches the user's pending tally under a per-user lock, so the event path does
+ * no repository lookup and no list insertion; repeated activity of the same kind within one flush
+ * interval collapses into a count and the latest timestamp. A flush detaches each user's tally,
+ * looks the user up once and replays the counts onto their activity. Timestamps written to the
+ * comment histories are therefore accurate to within one flush interval. The changes are written
+ * as one bulk write of field-level updates ({@code $set} and {@code $push}), rather than each user's
+ * whole document.
+ *
+ * <p>Activity for users without a stored {@link DiscordUser} is dropped at flush time, as it was
+ * when every event looked the user up itself. Each flush is also counted into the
+ * {@link ActivityHistoryIndex}, so window queries against it see the same activity.
+ */
+@Slf4j
+public class ActivityAggregator {
+
+    private static final Duration FLUSH_INTERVAL = Duration.ofSeconds(30);
+    private static final String LAST_ACTIVITY = "lastActivity.";
+
+    private final Map<Long, PendingActivity> pending = new ConcurrentHashMap<>();
+    private final ActivityHistoryIndex historyIndex;
+    private ScheduledTask flushTask;
+
+    public ActivityAggregator(ActivityHistoryIndex historyIndex) {
+        this.historyIndex = historyIndex;
+    }
+
+    public synchronized void start() {
+        if (flushTask != null) {
+            return;
+        }
+
+        flushTask = ScheduledTask.create("activity-aggregator", this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL);
+        flushTask.start();
+    }
+
+    /**
+     * Stops the periodic flush and applies whatever is still buffered.
+     */
+    public synchronized void stop() {
+        if (flushTask != null) {
+            flushTask.stop();
+            flushTask = null;
+        }
+
+        flush();
+    }
+
+    public void recordGlobalActivity(long userId, long time) {
+        PendingActivity activity = lock(userId);
+        try {
+            activity.lastGlobalActivity = Math.max(activity.lastGlobalActivity, time);
+        } finally {
+            activity.lock.unlock();
+        }
+    }
+
+    public void recordAlphaActivity(long userId, long time) {
+        PendingActivity activity = lock(userId);
+        try {
+            activity.lastAlphaActivity = Math.max(activity.lastAlphaActivity, time);
+        } finally {
+            activity.lock.unlock();
+        }
+    }
+
+    public void recordProjectActivity(long userId, long time) {
+        PendingActivity activity = lock(userId);
+        try {
+            activity.lastProjectActivity = Math.max(activity.lastProjectActivity, time);
+        } finally {
+            activity.lock.unlock();
+        }
+    }
+
+    /**
+     * Records a comment on a suggestion, alpha or project thread. Other channel types are ignored.
+     */
+    public void recordSuggestionComment(long userId, Suggestion.ChannelType channelType, long time) {
+        PendingActivity activity = lock(userId);
+        try {
+            switch (channelType) {
+                case NORMAL -> activity.suggestionComments.add(time);
+                case ALPHA -> activity.alphaSuggestionComments.add(time);
+                case PROJECT -> activity.projectSuggestionComments.add(time);
+                default -> {
+                }
+            }
+        } finally {
+            activity.lock.unlock();
+        }
+    }
+
+    /**
+     * Records the first vote on a suggestion, alpha or project thread. Other channel types are ignored.
+     */
+    public void recordSuggestionVote(long userId, Suggestion.ChannelType channelType, String threadId, long time) {
+        PendingActivity activity = lock(userId);
+        try {
+            Map<String, Long> votes = switch (channelType) {
+                case NORMAL -> activity.suggestionVotes();
+                case ALPHA -> activity.alphaSuggestionVotes();
+                case PROJECT -> activity.projectSuggestionVotes();
+                default -> null;
+            };
+
+            if (votes != null) {
+                votes.putIfAbsent(threadId, time);
+            }
+        } finally {
+            activity.lock.unlock();
+        }
+    }
+
+    public void recordChannelMessage(long userId, String channelId, String channelName, long time) {
+        PendingActivity activity = lock(userId);
+        try {
+            activity.channelMessages().computeIfAbsent(channelId, id -> new Tally()).add(channelName, time);
+        } finally {
+            activity.lock.unlock();
+        }
+    }
+
+    public void recordRoleRestrictedMessage(long userId, String groupIdentifier, String channelId, String channelName, long time) {
+        PendingActivity activity = lock(userId);
+        try {
+            activity.roleRestrictedMessages().computeIfAbsent(groupIdentifier, group -> new HashMap<>())
+                .computeIfAbsent(channelId, id -> new Tally())
+                .add(channelName, time);
+        } finally {
+            activity.lock.unlock();
+        }
+    }
+
+    public void recordRoleRestrictedComment(long userId, String groupIdentifier, long time) {
+        PendingActivity activity = lock(userId);
+        try {
+            activity.roleRestrictedComments().computeIfAbsent(groupIdentifier, group -> new Tally()).add(groupIdentifier, time);
+        } finally {
+            activity.lock.unlock();
+        }
+    }
+
+    public void recordRoleRestrictedVote(long userId, String groupIdentifier, String threadId, long time) {
+        PendingActivity activity = lock(userId);
+        try {
+            activity.roleRestrictedVotes().computeIfAbsent(groupIdentifier, group -> new HashMap<>()).putIfAbsent(threadId, time);
+        } finally {
+            activity.lock.unlock();
+        }
+    }
+
+    private void flush() {
+        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+            log.warn("Skipping activity flush as the database is not connected, {} user(s) still buffered", pending.size());
+            return;
+        }
+
+        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+        int flushed = flush(new RepositoryDiscordUserStore(discordUserRepository));
+
+        if (flushed > 0) {
+            log.debug("Flushed buffered activity for {} user(s)", flushed);
+        }
+    }
+
+    /**
+     * Detaches every buffered tally and applies it to the matching stored user.
+     *
+     * @return how many users had activity applied
+     */
+    int flush(DiscordUserStore store) {
+        Map<String, PendingActivity> activities = new HashMap<>();
+        List<DiscordUser> users = new ArrayList<>();
+
+        for (Long userId : pending.keySet()) {
+            PendingActivity activity = pending.remove(userId);
+            if (activity == null) {
+                continue;
+            }
+
+            // Once flushed, recorders that still hold this tally retry against a fresh one
+            activity.lock.lock();
+            try {
+                activity.flushed = true;
+            } finally {
+                activity.lock.unlock();
+            }
+
+            Optional<DiscordUser> discordUser = store.findById(String.valueOf(userId));
+            if (discordUser.isEmpty()) {
+                continue;
+            }
+
+            if (discordUser.get().getLastActivity() != null) {
+                activities.put(discordUser.get().getDiscordId(), activity);
+                users.add(discordUser.get());
+            }
+        }
+
+        if (users.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            store.update(users, user -> {
+                DocumentUpdate update = new DocumentUpdate();
+                historyIndex.record(user, history -> activities.get(user.getDiscordId()).applyTo(user.getLastActivity(), update, history));
+                return update;
+            });
+        } catch (RuntimeException exception) {
+            // The changes are applied to the cached users before they are written, so the autosave
+            // flush still writes the activity
+            log.warn("Failed to write activity updates for {} user(s)", users.size(), exception);
+        }
+        users.forEach(store::save);
+
+        return users.size();
+    }
+
+    private PendingActivity lock(long userId) {
+        while (true) {
+            PendingActivity activity = pending.computeIfAbsent(userId, id -> new PendingActivity());
+            activity.lock.lock();
+
+            if (!activity.flushed) {
+                return activity;
+            }
+
+            activity.lock.unlock();
+        }
+    }
+
+    /**
+     * A count of identical events and the most recent time one happened.
+     */
+    private static final class Tally {
+
+        private String name;
+        private int count;
+        private long lastTime;
+
+        void add(long time) {
+            count++;
+            lastTime = Math.max(lastTime, time);
+        }
+
+        void add(String name, long time) {
+            this.name = name;
+            add(time);
+        }
+
+        void prependTo(List<Long> history) {
+            for (int i = 0; i < count; i++) {
+                history.add(0, lastTime);
+            }
+        }
+    }
+
+    /**
+     * One user's activity since the last flush. Guarded by {@link #lock}; the maps are only
+     * allocated once the user does something that needs them.
+     */
+    private static final class PendingActivity {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean flushed;
+
+        private long lastGlobalActivity;
+        private long lastAlphaActivity;
+        private long lastProjectActivity;
+
+        private final Tally suggestionComments = new Tally();
+        private final Tally alphaSuggestionComments = new Tally();
+        private final Tally projectSuggestionComments = new Tally();
+
+        private Map<String, Long> suggestionVotes;
+        private Map<String, Long> alphaSuggestionVotes;
+        private Map<String, Long> projectSuggestionVotes;
+        private Map<String, Tally> channelMessages;
+        private Map<String, Map<String, Tally>> roleRestrictedMessages;
+        private Map<String, Tally> roleRestrictedComments;
+        private Map<String, Map<String, Long>> roleRestrictedVotes;
+
+        Map<String, Long> suggestionVotes() {
+            return suggestionVotes == null ? suggestionVotes = new HashMap<>() : suggestionVotes;
+        }
+
+        Map<String, Long> alphaSuggestionVotes() {
+            return alphaSuggestionVotes == null ? alphaSuggestionVotes = new HashMap<>() : alphaSuggestionVotes;
+        }
+
+        Map<String, Long> projectSuggestionVotes() {
+            return projectSuggestionVotes == null ? projectSuggestionVotes = new HashMap<>() : projectSuggestionVotes;
+        }
+
+        Map<String, Tally> channelMessages() {
+            return channelMessages == null ? channelMessages = new HashMap<>() : channelMessages;
+        }
+
+        Map<String, Map<String, Tally>> roleRestrictedMessages() {
+            return roleRestrictedMessages == null ? roleRestrictedMessages = new HashMap<>() : roleRestrictedMessages;
+        }
+
+        Map<String, Tally> roleRestrictedComments() {
+            return roleRestrictedComments == null ? roleRestrictedComments = new HashMap<>() : roleRestrictedComments;
+        }
+
+        Map<String, Map<String, Long>> roleRestrictedVotes() {
+            return roleRestrictedVotes == null ? roleRestrictedVotes = new HashMap<>() : roleRestrictedVotes;
+        }
+
+        /**
+         * Applies this activity to the cached {@link LastActivity}, counts it into the user's
+         * history and records the same changes as field-level updates to its stored document.
+         * Role-restricted activity is nested in the model's own group structures, so the update is
+         * marked as needing a full save and that activity reaches the database with the next flush.
+         */
+        void applyTo(LastActivity lastActivity, DocumentUpdate update, ActivityHistoryIndex.UserHistory history) {
+            if (lastGlobalActivity > 0) {
+                lastActivity.setLastGlobalActivity(lastGlobalActivity);
+                update.set(LAST_ACTIVITY + "lastGlobalActivity", lastGlobalActivity);
+            }
+            if (lastAlphaActivity > 0) {
+                lastActivity.setLastAlphaActivity(lastAlphaActivity);
+                update.set(LAST_ACTIVITY + "lastAlphaActivity", lastAlphaActivity);
+            }
+            if (lastProjectActivity > 0) {
+                lastActivity.setLastProjectActivity(lastProjectActivity);
+                update.set(LAST_ACTIVITY + "lastProjectActivity", lastProjectActivity);
+            }
+
+            applyComments(suggestionComments, lastActivity.getSuggestionCommentHistory(), update, "suggestionCommentHistory", history);
+            applyComments(alphaSuggestionComments, lastActivity.getAlphaSuggestionCommentHistory(), update, "alphaSuggestionCommentHistory", history);
+            applyComments(projectSuggestionComments, lastActivity.getProjectSuggestionCommentHistory(), update, "projectSuggestionCommentHistory", history);
+
+            applyVotes(suggestionVotes, lastActivity.getSuggestionVoteHistoryMap(), update, "suggestionVoteHistoryMap", history);
+            applyVotes(alphaSuggestionVotes, lastActivity.getAlphaSuggestionVoteHistoryMap(), update, "alphaSuggestionVoteHistoryMap", history);
+            applyVotes(projectSuggestionVotes, lastActivity.getProjectSuggestionVoteHistoryMap(), update, "projectSuggestionVoteHistoryMap", history);
+
+            if (channelMessages != null) {
+                channelMessages.forEach((channelId, tally) -> {
+                    for (int i = 0; i < tally.count; i++) {
+                        lastActivity.addChannelHistory(channelId, tally.name, tally.lastTime);
+                    }
+                    history.addOverall(ActivityHistoryIndex.Category.MESSAGES, tally.lastTime, tally.count);
+                });
+                // Entries are merged per channel by the model, so the (small) list is replaced whole
+                update.setSerialized(LAST_ACTIVITY + "channelActivityHistory", lastActivity.getChannelActivityHistory());
+            }
+
+            if (roleRestrictedMessages != null || roleRestrictedComments != null || roleRestrictedVotes != null) {
+                update.requireFullSave();
+            }
+
+            if (roleRestrictedMessages != null) {
+                roleRestrictedMessages.forEach((group, channels) -> channels.forEach((channelId, tally) -> {
+                    lastActivity.addRoleRestrictedChannelActivity(group, channelId, tally.name, tally.count, tally.lastTime);
+                    history.add(group, ActivityHistoryIndex.Category.MESSAGES, tally.lastTime, tally.count);
+                }));
+            }
+
+            if (roleRestrictedComments != null) {
+                roleRestrictedComments.forEach((group, tally) -> {
+                    for (int i = 0; i < tally.count; i++) {
+                        lastActivity.addRoleRestrictedChannelComment(group, tally.lastTime);
+                    }
+                    history.add(group, ActivityHistoryIndex.Category.COMMENTS, tally.lastTime, tally.count);
+                });
+            }
+
+            if (roleRestrictedVotes != null) {
+                // The model decides whether another vote on a thread counts, so the group's vote
+                // counter is seeded again rather than guessed at
+                roleRestrictedVotes.forEach((group, votes) -> {
+                    votes.forEach((threadId, time) -> lastActivity.addRoleRestrictedChannelVote(group, threadId, time));
+                    history.reseed(group, ActivityHistoryIndex.Category.VOTES);
+                });
+            }
+        }
+
+        private static void applyComments(Tally comments, List<Long> commentHistory, DocumentUpdate update, String field, ActivityHistoryIndex.UserHistory history) {
+            if (comments.count == 0) {
+                return;
+            }
+
+            comments.prependTo(commentHistory);
+            update.pushFirst(LAST_ACTIVITY + field, commentHistory.subList(0, comments.count));
+            history.addOverall(ActivityHistoryIndex.Category.COMMENTS, comments.lastTime, comments.count);
+        }
+
+        /**
+         * Only a user's first vote on a thread is kept, so only votes new to the history are written
+         * and counted.
+         */
+        private static void applyVotes(Map<String, Long> votes, Map<String, Long> voteHistory, DocumentUpdate update, String field, ActivityHistoryIndex.UserHistory history) {
+            if (votes == null) {
+                return;
+            }
+
+            votes.forEach((threadId, time) -> {
+                if (voteHistory.putIfAbsent(threadId, time) == null) {
+                    update.set(LAST_ACTIVITY + field + "." + threadId, time);
+                    history.addOverall(ActivityHistoryIndex.Category.VOTES, time, 1);
+                }
+            });
+        }
+    }
+}
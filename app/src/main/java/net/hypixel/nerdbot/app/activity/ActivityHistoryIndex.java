@@ -0,0 +1,232 @@
+package net.hypixel.nerdbot.app.activity;
+
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.stats.LastActivity;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Compact, in-memory view of each user's recent message, comment and vote counts, used to answer
+ * activity window queries in O(days) instead of scanning the timestamp lists and vote maps kept on
+ * {@link LastActivity}.
+ *
+ * <p>Each user gets one {@link DailyActivityCounter} per category overall and per role-restricted
+ * group, allocated the first time it is queried, so memory per user is fixed by the window capacity
+ * rather than by lifetime activity. {@link LastActivity} stays the source of truth: a counter is
+ * seeded from it by differencing its window counts day by day, and is then kept in step with it by
+ * the writers that change it.
+ * <ul>
+ *     <li>{@link ActivityAggregator} applies its flushes through {@link #record}, which counts
+ *     what each flush adds under the same lock that seeding takes.</li>
+ *     <li>Any other change to the counted histories must call {@link #invalidate(String)}. The
+ *     user's counters are then seeded again on the next query.</li>
+ *     <li>A user whose {@link LastActivity} is replaced, e.g. by reloading them from the database,
+ *     is seeded again automatically.</li>
+ * </ul>
+ *
+ * <p>Counters hold whole UTC days. A window of {@code days} days covers today and the
+ * {@code days} days before it, so it always contains the rolling window {@link LastActivity}
+ * answers and can include up to one extra day. Queries whose window does not fit in the capacity
+ * fall back to {@link LastActivity}.
+ */
+public class ActivityHistoryIndex {
+
+    /**
+     * Covers the default inactivity and role-restricted group windows (30 days).
+     */
+    public static final int DEFAULT_CAPACITY_DAYS = 31;
+
+    private static final long DAY_MS = Duration.ofDays(1).toMillis();
+    private static final String OVERALL = "";
+
+    private final int capacityDays;
+    private final Map<String, UserHistory> histories = new ConcurrentHashMap<>();
+
+    public ActivityHistoryIndex() {
+        this(DEFAULT_CAPACITY_DAYS);
+    }
+
+    public ActivityHistoryIndex(int capacityDays) {
+        this.capacityDays = capacityDays;
+    }
+
+    public enum Category {
+        MESSAGES,
+        COMMENTS,
+        VOTES
+    }
+
+    /**
+     * @return the user's activity of the given kind over the last {@code days} days, across every
+     * channel that counts towards the regular activity requirements
+     */
+    public int count(DiscordUser discordUser, Category category, int days) {
+        return count(discordUser, OVERALL, category, days);
+    }
+
+    /**
+     * @return the user's activity of the given kind in a role-restricted channel group over the
+     * last {@code days} days
+     */
+    public int countRoleRestricted(DiscordUser discordUser, String groupIdentifier, Category category, int days) {
+        return count(discordUser, groupIdentifier, category, days);
+    }
+
+    /**
+     * @return how many days the counters hold, today included
+     */
+    public int getCapacityDays() {
+        return capacityDays;
+    }
+
+    /**
+     * Drops a user's counters so they are seeded from {@link LastActivity} again on the next query.
+     * Call after changing the user's counted history other than through {@link #record}.
+     */
+    public void invalidate(String discordId) {
+        UserHistory history = histories.get(discordId);
+        if (history != null) {
+            history.invalidate();
+        }
+    }
+
+    /**
+     * Drops a user's history, e.g. when they leave the guild.
+     */
+    public void forget(String discordId) {
+        histories.remove(discordId);
+    }
+
+    /**
+     * Runs {@code change} against the user's counters while no query can seed them. The change
+     * applies its activity to {@link LastActivity} and adds the same activity to the counters, so
+     * a counter seeded before the change is brought up to date and one seeded after it already
+     * includes it.
+     */
+    void record(DiscordUser discordUser, Consumer<UserHistory> change) {
+        history(discordUser).apply(discordUser.getLastActivity(), change);
+    }
+
+    private int count(DiscordUser discordUser, String key, Category category, int days) {
+        if (days >= capacityDays) {
+            return fromLastActivity(discordUser.getLastActivity(), key, category, days);
+        }
+
+        return history(discordUser).sum(discordUser.getLastActivity(), key, category, days, System.currentTimeMillis());
+    }
+
+    private UserHistory history(DiscordUser discordUser) {
+        return histories.computeIfAbsent(discordUser.getDiscordId(), discordId -> new UserHistory());
+    }
+
+    private static long day(long time) {
+        return Math.floorDiv(time, DAY_MS);
+    }
+
+    private static int fromLastActivity(LastActivity lastActivity, String key, Category category, int days) {
+        if (OVERALL.equals(key)) {
+            return switch (category) {
+                case MESSAGES -> lastActivity.getTotalMessageCount(days);
+                case COMMENTS -> lastActivity.getTotalComments(days);
+                case VOTES -> lastActivity.getTotalVotes(days);
+            };
+        }
+
+        return switch (category) {
+            case MESSAGES -> lastActivity.getRoleRestrictedChannelMessageCount(key, days);
+            case COMMENTS -> lastActivity.getRoleRestrictedChannelCommentCount(key, days);
+            case VOTES -> lastActivity.getRoleRestrictedChannelVoteCount(key, days);
+        };
+    }
+
+    /**
+     * One user's counters, keyed by role-restricted group identifier (or {@link #OVERALL}) and
+     * category, and the {@link LastActivity} they were seeded from. Every method locks the user.
+     */
+    final class UserHistory {
+
+        private final Map<String, Map<Category, DailyActivityCounter>> counters = new HashMap<>();
+        private LastActivity seededFrom;
+
+        private synchronized int sum(LastActivity lastActivity, String key, Category category, int days, long now) {
+            sync(lastActivity);
+            return counter(key, category, now).sum(day(now), days + 1);
+        }
+
+        private synchronized void apply(LastActivity lastActivity, Consumer<UserHistory> change) {
+            sync(lastActivity);
+            change.accept(this);
+        }
+
+        private synchronized void invalidate() {
+            counters.clear();
+        }
+
+        /**
+         * Counts activity just applied to {@link LastActivity}. Only counters that are already
+         * seeded are updated; any other counter picks the activity up when it is seeded.
+         */
+        synchronized void add(String key, Category category, long time, int amount) {
+            Map<Category, DailyActivityCounter> categories = counters.get(key);
+            DailyActivityCounter counter = categories == null ? null : categories.get(category);
+
+            if (counter != null) {
+                counter.add(day(time), amount);
+            }
+        }
+
+        void addOverall(Category category, long time, int amount) {
+            add(OVERALL, category, time, amount);
+        }
+
+        /**
+         * Drops one counter after a change whose effect on the count is not known, so it is seeded
+         * from {@link LastActivity} again the next time it is queried.
+         */
+        synchronized void reseed(String key, Category category) {
+            Map<Category, DailyActivityCounter> categories = counters.get(key);
+            if (categories != null) {
+                categories.remove(category);
+            }
+        }
+
+        private void sync(LastActivity lastActivity) {
+            if (lastActivity != seededFrom) {
+                counters.clear();
+                seededFrom = lastActivity;
+            }
+        }
+
+        private DailyActivityCounter counter(String key, Category category, long now) {
+            return counters.computeIfAbsent(key, ignored -> new EnumMap<>(Category.class))
+                .computeIfAbsent(category, ignored -> seed(key, category, now));
+        }
+
+        /**
+         * Rebuilds per-day counts from the window totals {@link LastActivity} already answers:
+         * the count for the day {@code d} days back is {@code total(d + 1) - total(d)}. Each
+         * 24-hour slice is put on the later of the two days it spans, so a seeded count is never
+         * left out of a window the rolling totals would include it in.
+         */
+        private DailyActivityCounter seed(String key, Category category, long now) {
+            DailyActivityCounter counter = new DailyActivityCounter(capacityDays);
+            long today = day(now);
+            int previousTotal = 0;
+
+            for (int days = 1; days <= capacityDays; days++) {
+                int total = fromLastActivity(seededFrom, key, category, days);
+                if (total > previousTotal) {
+                    counter.add(today - (days - 1), total - previousTotal);
+                    previousTotal = total;
+                }
+            }
+
+            return counter;
+        }
+    }
+}
@@ -2,10 +2,10 @@ package net.hypixel.nerdbot.app.activity;
 
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Member;
-import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.entities.channel.concrete.ForumChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.AudioChannel;
 import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
 import net.dv8tion.jda.api.entities.channel.unions.AudioChannelUnion;
 import net.dv8tion.jda.api.entities.channel.unions.GuildMessageChannelUnion;
@@ -33,15 +33,10 @@ import net.hypixel.nerdbot.discord.util.EmojiConfigUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class ActivityListener {
-    private final Map<Long, Long> voiceActivity = new HashMap<>();
 
     @SubscribeEvent
     public void onGuildMemberJoin(GuildMemberJoinEvent event) {
@@ -68,6 +63,7 @@ public class ActivityListener {
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
         log.info("User {} (ID: {}) left {} (ID: {})", event.getUser().getName(), event.getUser().getId(), event.getGuild().getName(), event.getGuild().getId());
+        SkyBlockNerdsBot.activityHistoryIndex().forget(event.getUser().getId());
 
         discordUserRepository.deleteFromDatabaseAsync(event.getUser().getId())
             .thenAccept(result -> {
@@ -116,6 +112,9 @@ public class ActivityListener {
                         discordUser.getLastActivity().setLastProjectActivity(time);
                         log.debug("Updating new project suggestion activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
                     }
+
+                    // Creations are written here rather than by the aggregator, so reseed the window counters
+                    SkyBlockNerdsBot.activityHistoryIndex().invalidate(discordUser.getDiscordId());
                 });
         }
     }
@@ -131,19 +130,11 @@ public class ActivityListener {
             return; // Ignore Empty Member
         }
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-
-        discordUserRepository.findByIdAsync(member.getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    return; // Ignore Empty User
-                }
-
-                processMessageActivity(event, member, discordUser);
-            });
+        processMessageActivity(event, member, SkyBlockNerdsBot.activityAggregator());
     }
 
-    private void processMessageActivity(MessageReceivedEvent event, Member member, DiscordUser discordUser) {
+    private void processMessageActivity(MessageReceivedEvent event, Member member, ActivityAggregator activity) {
+        long userId = member.getIdLong();
         GuildMessageChannelUnion guildChannel = event.getGuildChannel();
         // Ignore channel if blacklisted for activity tracking
         if (Arrays.stream(DiscordBotEnvironment.getBot().getConfig().getChannelConfig().getBlacklistedChannels()).anyMatch(guildChannel.getId()::equalsIgnoreCase)) {
@@ -161,13 +152,13 @@ public class ActivityListener {
             channelType = SuggestionTypeResolver.getChannelSuggestionTypeFromName(guildChannel.getName());
         }
 
-        Optional<RoleRestrictedChannelGroup> matchingGroup = findMatchingRoleRestrictedGroup(guildChannel.getId(), member);
+        Optional<RoleRestrictedChannelGroup> matchingGroup = SkyBlockNerdsBot.roleRestrictedChannelRouter().find(guildChannel.getIdLong(), member);
         if (matchingGroup.isPresent()) {
             String groupIdentifier = matchingGroup.get().getIdentifier();
 
             // Handle thread comments in role-restricted channels
             if (guildChannel instanceof ThreadChannel && event.getChannel().getIdLong() != event.getMessage().getIdLong()) {
-                discordUser.getLastActivity().addRoleRestrictedChannelComment(groupIdentifier, time);
+                activity.recordRoleRestrictedComment(userId, groupIdentifier, time);
                 log.debug("Updating role-restricted channel group '{}' comment activity for {} (ID: {}) to {}",
                     groupIdentifier, member.getEffectiveName(), member.getId(), time);
             }
@@ -177,7 +168,7 @@ public class ActivityListener {
                 ? threadChannel.getParentChannel()
                 : guildChannel;
 
-            discordUser.getLastActivity().addRoleRestrictedChannelActivity(groupIdentifier, targetChannel.getId(), targetChannel.getName(), 1, time);
+            activity.recordRoleRestrictedMessage(userId, groupIdentifier, targetChannel.getId(), targetChannel.getName(), time);
             log.debug("Updating role-restricted channel group '{}' message activity for {} (ID: {}) to {}",
                 groupIdentifier, member.getEffectiveName(), member.getId(), time);
         }
@@ -187,47 +178,35 @@ public class ActivityListener {
             ForumChannel forumChannel = guildChannel.asThreadChannel().getParentChannel().asForumChannel();
             channelType = SuggestionTypeResolver.getForumSuggestionType(forumChannel);
 
-            // New Suggestion Comments
-            if (channelType == Suggestion.ChannelType.NORMAL) {
-                discordUser.getLastActivity().getSuggestionCommentHistory().add(0, time);
-                log.debug("Updating suggestion comment activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
-            }
-
-            // New Alpha Suggestion Comments
-            if (channelType == Suggestion.ChannelType.ALPHA) {
-                discordUser.getLastActivity().getAlphaSuggestionCommentHistory().add(0, time);
-                log.debug("Updating alpha suggestion comment activity and last alpha activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
-            }
-
-            // New Project Suggestion Comments
-            if (channelType == Suggestion.ChannelType.PROJECT) {
-                discordUser.getLastActivity().getProjectSuggestionCommentHistory().add(0, time);
-                log.debug("Updating project suggestion comment activity and last project activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
+            // New Suggestion, Alpha Suggestion and Project Suggestion Comments
+            if (channelType != Suggestion.ChannelType.UNKNOWN) {
+                activity.recordSuggestionComment(userId, channelType, time);
+                log.debug("Updating {} suggestion comment activity date for {} (ID: {}) to {}", channelType.getName().toLowerCase(), member.getEffectiveName(), member.getId(), time);
             }
         }
 
         // Alpha/Project-specific Messages
         if (channelType == Suggestion.ChannelType.ALPHA) {
-            discordUser.getLastActivity().setLastAlphaActivity(time);
+            activity.recordAlphaActivity(userId, time);
             log.debug("Updating last alpha activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
         } else if (channelType == Suggestion.ChannelType.PROJECT) {
-            discordUser.getLastActivity().setLastProjectActivity(time);
+            activity.recordProjectActivity(userId, time);
             log.debug("Updating last project activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
         }
 
         // Global Messages
         log.debug("Updating last global activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
-        discordUser.getLastActivity().setLastGlobalActivity(time);
+        activity.recordGlobalActivity(userId, time);
 
         // Update Channel Message History (only if not already tracked in role-restricted channels)
         if (matchingGroup.isEmpty()) {
             if (!(guildChannel instanceof ThreadChannel threadChannel)) {
                 log.debug("Updating channel message history for {} (ID: {}) in channel '{}' (ID: {})", member.getEffectiveName(), member.getId(), guildChannel.getName(), guildChannel.getId());
-                discordUser.getLastActivity().addChannelHistory(guildChannel.getId(), guildChannel.getName(), time);
+                activity.recordChannelMessage(userId, guildChannel.getId(), guildChannel.getName(), time);
             } else {
                 GuildChannel parentChannel = threadChannel.getParentChannel();
                 log.debug("Updating channel message history for {} (ID: {}) in thread '{}' (Parent Channel Name: {}, Parent Channel ID: {}, Thread Channel ID: {})", member.getEffectiveName(), member.getId(), threadChannel.getName(), parentChannel.getName(), parentChannel.getId(), threadChannel.getId());
-                discordUser.getLastActivity().addChannelHistory(parentChannel.getId(), parentChannel.getName(), time);
+                activity.recordChannelMessage(userId, parentChannel.getId(), parentChannel.getName(), time);
             }
         }
     }
@@ -240,6 +219,34 @@ public class ActivityListener {
             return; // Ignore Bots
         }
 
+        VoiceSessionTracker voiceSessions = SkyBlockNerdsBot.voiceSessionTracker();
+        long time = System.currentTimeMillis();
+        AudioChannelUnion channelLeft = event.getChannelLeft();
+        AudioChannelUnion channelJoined = event.getChannelJoined();
+
+        if (channelLeft != null) {
+            voiceSessions.leave(member.getIdLong(), time)
+                .ifPresent(session -> creditVoiceSession(member, channelLeft, session.durationUntil(time), time));
+        }
+
+        if (channelJoined != null) {
+            voiceSessions.join(member.getIdLong(), channelJoined.getIdLong(), time);
+            PrometheusMetrics.VOICE_SESSIONS_STARTED_AMOUNT.labels(SuggestionTypeResolver.getChannelSuggestionTypeFromName(channelJoined.getName()).name()).inc();
+        }
+    }
+
+    /**
+     * Credits a finished voice session to the member's last activity if it lasted longer than the
+     * configured voice threshold.
+     *
+     * @param timeSpent how long the session lasted, in milliseconds
+     * @param time      when the session ended
+     */
+    public static void creditVoiceSession(Member member, AudioChannel channel, long timeSpent, long time) {
+        if ((timeSpent / 1_000L) <= SkyBlockNerdsBot.config().getVoiceThreshold()) {
+            return;
+        }
+
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
         discordUserRepository.findByIdAsync(member.getId())
@@ -248,53 +255,28 @@ public class ActivityListener {
                     return; // Ignore Empty User
                 }
 
-                processVoiceActivity(event, member, discordUser);
-            });
-    }
-
-    private void processVoiceActivity(GuildVoiceUpdateEvent event, Member member, DiscordUser discordUser) {
-        long time = System.currentTimeMillis();
-
-        if (this.voiceActivity.containsKey(member.getIdLong())) {
-            AudioChannelUnion channelLeft = event.getChannelLeft();
-
-            if (channelLeft != null) {
-                long timeSpent = time - this.voiceActivity.get(member.getIdLong());
-
-                PrometheusMetrics.TOTAL_VOICE_TIME_SPENT_BY_USER.labels(member.getEffectiveName(), channelLeft.getName()).inc((TimeUnit.MILLISECONDS.toSeconds(timeSpent)));
-
-                if ((timeSpent / 1_000L) > SkyBlockNerdsBot.config().getVoiceThreshold()) {
-                    Suggestion.ChannelType channelType = SuggestionTypeResolver.getChannelSuggestionType(channelLeft.asVoiceChannel());
-
-                    if (channelType == Suggestion.ChannelType.ALPHA) {
-                        discordUser.getLastActivity().setAlphaVoiceJoinDate(time);
-                        log.debug("Updating last alpha voice activity for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
-                    } else if (channelType == Suggestion.ChannelType.PROJECT) {
-                        discordUser.getLastActivity().setProjectVoiceJoinDate(time);
-                        log.debug("Updating last project voice activity for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
-                    } else {
-                        discordUser.getLastActivity().setLastVoiceChannelJoinDate(time);
-                        log.debug("Updating last global voice activity for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
-                    }
-
-                    // Check if voice channel belongs to a role-restricted group
-                    Optional<RoleRestrictedChannelGroup> matchingGroup = findMatchingRoleRestrictedGroup(channelLeft.getId(), member);
-                    if (matchingGroup.isPresent()) {
-                        String groupIdentifier = matchingGroup.get().getIdentifier();
-                        discordUser.getLastActivity().getRoleRestrictedChannelLastActivity().put(groupIdentifier, time);
-                        log.debug("Updating role-restricted channel group '{}' voice activity for {} (ID: {}) to {}",
-                            groupIdentifier, member.getEffectiveName(), member.getId(), time);
-                    }
+                Suggestion.ChannelType channelType = SuggestionTypeResolver.getChannelSuggestionTypeFromName(channel.getName());
+
+                if (channelType == Suggestion.ChannelType.ALPHA) {
+                    discordUser.getLastActivity().setAlphaVoiceJoinDate(time);
+                    log.debug("Updating last alpha voice activity for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
+                } else if (channelType == Suggestion.ChannelType.PROJECT) {
+                    discordUser.getLastActivity().setProjectVoiceJoinDate(time);
+                    log.debug("Updating last project voice activity for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
+                } else {
+                    discordUser.getLastActivity().setLastVoiceChannelJoinDate(time);
+                    log.debug("Updating last global voice activity for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
                 }
-            }
-
-            this.voiceActivity.remove(member.getIdLong());
-        }
 
-        if (event.getChannelJoined() != null) {
-            this.voiceActivity.put(member.getIdLong(), time);
-            PrometheusMetrics.TOTAL_VOICE_CONNECTIONS_BY_USER.labels(member.getEffectiveName(), event.getChannelJoined().getName()).inc();
-        }
+                // Check if voice channel belongs to a role-restricted group
+                Optional<RoleRestrictedChannelGroup> matchingGroup = SkyBlockNerdsBot.roleRestrictedChannelRouter().find(channel.getIdLong(), member);
+                if (matchingGroup.isPresent()) {
+                    String groupIdentifier = matchingGroup.get().getIdentifier();
+                    discordUser.getLastActivity().getRoleRestrictedChannelLastActivity().put(groupIdentifier, time);
+                    log.debug("Updating role-restricted channel group '{}' voice activity for {} (ID: {}) to {}",
+                        groupIdentifier, member.getEffectiveName(), member.getId(), time);
+                }
+            });
     }
 
     @SubscribeEvent
@@ -308,19 +290,10 @@ public class ActivityListener {
             return; // Ignore Empty Member
         }
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-
-        discordUserRepository.findByIdAsync(member.getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    return; // Ignore Empty User
-                }
-
-                processReactionActivity(event, member, discordUser);
-            });
+        processReactionActivity(event, member, SkyBlockNerdsBot.activityAggregator());
     }
 
-    private void processReactionActivity(MessageReactionAddEvent event, Member member, DiscordUser discordUser) {
+    private void processReactionActivity(MessageReactionAddEvent event, Member member, ActivityAggregator activity) {
         if (event.getChannelType() != net.dv8tion.jda.api.entities.channel.ChannelType.GUILD_PUBLIC_THREAD) {
             return; // Not A Thread
         }
@@ -340,62 +313,32 @@ public class ActivityListener {
             long time = System.currentTimeMillis();
 
             // Check role-restricted channel groups for voting
-            Optional<RoleRestrictedChannelGroup> matchingGroup = findMatchingRoleRestrictedGroup(forumChannelId, member);
+            Optional<RoleRestrictedChannelGroup> matchingGroup = SkyBlockNerdsBot.roleRestrictedChannelRouter().find(threadChannel.getParentChannel().getIdLong(), member);
             if (matchingGroup.isPresent()) {
                 String groupIdentifier = matchingGroup.get().getIdentifier();
-                discordUser.getLastActivity().addRoleRestrictedChannelVote(groupIdentifier, threadChannel.getId(), time);
+                activity.recordRoleRestrictedVote(member.getIdLong(), groupIdentifier, threadChannel.getId(), time);
                 log.debug("Updating role-restricted channel group '{}' voting activity for {} (ID: {}) to {}",
                     groupIdentifier, member.getEffectiveName(), member.getId(), time);
             }
 
             // New Suggestion Voting
             if (forumChannelId.equals(SkyBlockNerdsBot.config().getSuggestionConfig().getForumChannelId())) {
-                discordUser.getLastActivity().getSuggestionVoteHistoryMap().putIfAbsent(threadChannel.getId(), time);
-                SkyBlockNerdsBot.suggestionCache().updateSuggestion(threadChannel);
+                activity.recordSuggestionVote(member.getIdLong(), Suggestion.ChannelType.NORMAL, threadChannel.getId(), time);
                 log.debug("Updating suggestion voting activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
             }
 
             // New Alpha Suggestion Voting
             AlphaProjectConfig alphaProjectConfig = SkyBlockNerdsBot.config().getAlphaProjectConfig();
             if (ArrayUtils.safeArrayStream(alphaProjectConfig.getAlphaForumIds()).anyMatch(forumChannelId::equalsIgnoreCase)) {
-                discordUser.getLastActivity().getAlphaSuggestionVoteHistoryMap().putIfAbsent(threadChannel.getId(), time);
-                SkyBlockNerdsBot.suggestionCache().updateSuggestion(threadChannel);
+                activity.recordSuggestionVote(member.getIdLong(), Suggestion.ChannelType.ALPHA, threadChannel.getId(), time);
                 log.debug("Updating alpha suggestion voting activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
             }
 
             // New Project Suggestion Voting
             if (ArrayUtils.safeArrayStream(alphaProjectConfig.getProjectForumIds()).anyMatch(forumChannelId::equalsIgnoreCase)) {
-                discordUser.getLastActivity().getProjectSuggestionVoteHistoryMap().putIfAbsent(threadChannel.getId(), time);
-                SkyBlockNerdsBot.suggestionCache().updateSuggestion(threadChannel);
+                activity.recordSuggestionVote(member.getIdLong(), Suggestion.ChannelType.PROJECT, threadChannel.getId(), time);
                 log.debug("Updating project suggestion voting activity date for {} (ID: {}) to {}", member.getEffectiveName(), member.getId(), time);
             }
         }
     }
-
-    /**
-     * Find a matching role-restricted channel group for the given channel and member
-     */
-    private Optional<RoleRestrictedChannelGroup> findMatchingRoleRestrictedGroup(String channelId, Member member) {
-        List<RoleRestrictedChannelGroup> groups = DiscordBotEnvironment.getBot().getConfig().getChannelConfig().getRoleRestrictedChannelGroups();
-
-        for (RoleRestrictedChannelGroup group : groups) {
-            boolean channelMatches = Arrays.stream(group.getChannelIds())
-                .anyMatch(groupChannelId -> groupChannelId.equalsIgnoreCase(channelId));
-
-            if (!channelMatches) {
-                continue;
-            }
-
-            boolean hasRequiredRole = Arrays.stream(group.getRequiredRoleIds())
-                .anyMatch(roleId -> member.getRoles().stream()
-                    .map(Role::getId)
-                    .anyMatch(memberRoleId -> memberRoleId.equalsIgnoreCase(roleId)));
-
-            if (hasRequiredRole) {
-                return Optional.of(group);
-            }
-        }
-
-        return Optional.empty();
-    }
-}
\ No newline at end of file
+}
@@ -32,7 +32,7 @@ public class ActivityPurgeFeature extends BotFeature implements SchedulableFeatu
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
         int daysRequiredForVoteHistory = SkyBlockNerdsBot.config().getRoleConfig().getDaysRequiredForVoteHistory();
 
-        int purged = purgeOldHistory(new RepositoryDiscordUserStore(discordUserRepository), daysRequiredForVoteHistory);
+        int purged = purgeOldHistory(new RepositoryDiscordUserStore(discordUserRepository), daysRequiredForVoteHistory, SkyBlockNerdsBot.activityHistoryIndex());
         log.debug("Activity purge complete: {} user(s) had stale history removed", purged);
     }
 
@@ -44,16 +44,25 @@ public class ActivityPurgeFeature extends BotFeature implements SchedulableFeatu
      * in-memory {@link DiscordUserStore} without a live bot or database. {@code executeTask()}
      * remains the thin adapter that supplies the real store and configured retention window.
      *
+     * <p>Purged entries are older than the retention window, so they only fall inside the
+     * {@link ActivityHistoryIndex} counters when that window is shorter than the counters' capacity.
+     * Only then are the purged users' counters seeded again.
+     *
      * @param store                       the user store to purge in place
      * @param daysRequiredForVoteHistory  retention window in days; entries at or older than this
      *                                    are removed
+     * @param historyIndex                the window counters to keep in step with the purge
      * @return the number of users whose history was modified
      */
-    static int purgeOldHistory(DiscordUserStore store, int daysRequiredForVoteHistory) {
+    static int purgeOldHistory(DiscordUserStore store, int daysRequiredForVoteHistory, ActivityHistoryIndex historyIndex) {
+        boolean reachesCounters = daysRequiredForVoteHistory < historyIndex.getCapacityDays();
         int purged = 0;
 
         for (DiscordUser discordUser : store.getAll()) {
             if (discordUser.getLastActivity().purgeOldHistory(daysRequiredForVoteHistory)) {
+                if (reachesCounters) {
+                    historyIndex.invalidate(discordUser.getDiscordId());
+                }
                 store.save(discordUser);
                 purged++;
             }
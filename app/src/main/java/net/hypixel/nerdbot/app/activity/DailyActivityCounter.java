@@ -0,0 +1,79 @@
+package net.hypixel.nerdbot.app.activity;
+
+import java.util.Arrays;
+
+/**
+ * Per-day event counts for a fixed number of recent days, held in a primitive ring buffer.
+ *
+ * <p>Each slot holds one day's count, addressed by epoch day modulo the capacity. Moving to a new
+ * day clears the slots that fell out of the window, so memory stays fixed no matter how much
+ * activity is recorded, and a window query sums at most {@code days} slots. Not thread-safe;
+ * callers guard each counter with their own lock.
+ */
+public class DailyActivityCounter {
+
+    private final int[] counts;
+    private long newestDay;
+
+    public DailyActivityCounter(int capacityDays) {
+        if (capacityDays <= 0) {
+            throw new IllegalArgumentException("capacityDays must be positive");
+        }
+
+        this.counts = new int[capacityDays];
+    }
+
+    public int getCapacityDays() {
+        return counts.length;
+    }
+
+    /**
+     * Adds {@code amount} to the given day. Days that have already left the window are ignored.
+     */
+    public void add(long epochDay, int amount) {
+        advanceTo(epochDay);
+
+        if (epochDay <= newestDay - counts.length) {
+            return;
+        }
+
+        counts[slot(epochDay)] += amount;
+    }
+
+    /**
+     * @return the total over {@code today} and the {@code days - 1} days before it, capped at the
+     * counter's capacity
+     */
+    public int sum(long today, int days) {
+        advanceTo(today);
+
+        int total = 0;
+        int window = Math.min(days, counts.length);
+        for (int i = 0; i < window; i++) {
+            total += counts[slot(today - i)];
+        }
+
+        return total;
+    }
+
+    private void advanceTo(long day) {
+        long gap = day - newestDay;
+        if (gap <= 0) {
+            return;
+        }
+
+        if (gap >= counts.length) {
+            Arrays.fill(counts, 0);
+        } else {
+            for (long cleared = newestDay + 1; cleared <= day; cleared++) {
+                counts[slot(cleared)] = 0;
+            }
+        }
+
+        newestDay = day;
+    }
+
+    private int slot(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) counts.length);
+    }
+}
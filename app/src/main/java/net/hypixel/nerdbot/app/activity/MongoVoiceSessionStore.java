@@ -0,0 +1,92 @@
+package net.hypixel.nerdbot.app.activity;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.storage.MongoCollections;
+import net.hypixel.nerdbot.discord.BotEnvironment;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link VoiceSessionStore} backed by the {@code voice_sessions} MongoDB collection, one document
+ * per connected member keyed by their Discord ID.
+ *
+ * <p>Writes go straight through the Mongo client rather than a repository, since sessions are
+ * transient state with no model class of their own. When the database is unavailable every
+ * operation is a no-op, and in read-only mode checkpoints are not written.
+ */
+@Slf4j
+public class MongoVoiceSessionStore implements VoiceSessionStore {
+
+    private static final String COLLECTION_NAME = "voice_sessions";
+
+    @Override
+    public List<VoiceSession> loadAll() {
+        Optional<MongoCollection<Document>> collection = collection();
+        if (collection.isEmpty()) {
+            return List.of();
+        }
+
+        List<VoiceSession> sessions = new ArrayList<>();
+        for (Document document : collection.get().find()) {
+            Long userId = document.getLong("_id");
+            Long channelId = document.getLong("channelId");
+            Long joinedAt = document.getLong("joinedAt");
+            Long lastSeen = document.getLong("lastSeen");
+
+            if (userId == null || channelId == null || joinedAt == null) {
+                log.warn("Skipping malformed voice session document: {}", document.toJson());
+                continue;
+            }
+
+            sessions.add(new VoiceSession(userId, channelId, joinedAt, lastSeen == null ? joinedAt : lastSeen));
+        }
+
+        return sessions;
+    }
+
+    @Override
+    public void replaceAll(Collection<VoiceSession> sessions, long checkpointedAt) {
+        if (BotEnvironment.getBot().isReadOnly()) {
+            return;
+        }
+
+        Optional<MongoCollection<Document>> collection = collection();
+        if (collection.isEmpty()) {
+            return;
+        }
+
+        List<Long> userIds = new ArrayList<>(sessions.size());
+        List<WriteModel<Document>> writes = new ArrayList<>(sessions.size());
+
+        for (VoiceSession session : sessions) {
+            userIds.add(session.userId());
+            writes.add(new ReplaceOneModel<>(
+                Filters.eq("_id", session.userId()),
+                new Document("_id", session.userId())
+                    .append("channelId", session.channelId())
+                    .append("joinedAt", session.joinedAt())
+                    .append("lastSeen", checkpointedAt),
+                new ReplaceOptions().upsert(true)
+            ));
+        }
+
+        if (!writes.isEmpty()) {
+            collection.get().bulkWrite(writes);
+        }
+
+        collection.get().deleteMany(Filters.nin("_id", userIds));
+    }
+
+    private static Optional<MongoCollection<Document>> collection() {
+        return MongoCollections.get(COLLECTION_NAME);
+    }
+}
@@ -0,0 +1,144 @@
+package net.hypixel.nerdbot.app.activity;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.hypixel.nerdbot.discord.config.objects.RoleRestrictedChannelGroup;
+import net.hypixel.nerdbot.discord.util.DiscordBotEnvironment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves which {@link RoleRestrictedChannelGroup} an activity event belongs to.
+ *
+ * <p>The configured groups are compiled into a table from channel ID to the groups containing that
+ * channel, each holding its required role IDs as a sorted {@code long[]}, so matching an event is a
+ * map lookup plus a binary search per member role. The table is swapped in as a whole whenever the
+ * configured group list is replaced (config reloads and rebuilds both replace it), and
+ * {@link #invalidate()} forces a rebuild after groups are edited in place.
+ */
+@Slf4j
+public class RoleRestrictedChannelRouter {
+
+    private static final Route[] NO_ROUTES = {};
+
+    private volatile Snapshot snapshot = new Snapshot(null, Map.of());
+
+    /**
+     * @return the first configured group containing the channel that the member has a required role for
+     */
+    public Optional<RoleRestrictedChannelGroup> find(long channelId, Member member) {
+        Route[] routes = routes(channelId);
+        if (routes.length == 0) {
+            return Optional.empty();
+        }
+
+        List<Role> roles = member.getRoles();
+        long[] roleIds = new long[roles.size()];
+        for (int i = 0; i < roleIds.length; i++) {
+            roleIds[i] = roles.get(i).getIdLong();
+        }
+
+        return match(routes, roleIds);
+    }
+
+    /**
+     * Discards the compiled table so the next lookup rebuilds it from the current config.
+     */
+    public void invalidate() {
+        snapshot = new Snapshot(null, Map.of());
+    }
+
+    private Route[] routes(long channelId) {
+        return currentSnapshot().routes().getOrDefault(channelId, NO_ROUTES);
+    }
+
+    static Route[] routes(Map<Long, Route[]> table, long channelId) {
+        return table.getOrDefault(channelId, NO_ROUTES);
+    }
+
+    private Snapshot currentSnapshot() {
+        List<RoleRestrictedChannelGroup> groups = DiscordBotEnvironment.getBot().getConfig().getChannelConfig().getRoleRestrictedChannelGroups();
+        Snapshot current = snapshot;
+
+        if (current.source() != groups) {
+            current = new Snapshot(groups, compile(groups));
+            snapshot = current;
+        }
+
+        return current;
+    }
+
+    static Optional<RoleRestrictedChannelGroup> match(Route[] routes, long[] memberRoleIds) {
+        for (Route route : routes) {
+            for (long roleId : memberRoleIds) {
+                if (Arrays.binarySearch(route.requiredRoleIds(), roleId) >= 0) {
+                    return Optional.of(route.group());
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    static Map<Long, Route[]> compile(List<RoleRestrictedChannelGroup> groups) {
+        Map<Long, List<Route>> routes = new HashMap<>();
+
+        if (groups != null) {
+            for (RoleRestrictedChannelGroup group : groups) {
+                if (group == null || group.getChannelIds() == null) {
+                    continue;
+                }
+
+                Route route = new Route(group, parseIds(group.getRequiredRoleIds(), group));
+                for (long channelId : parseIds(group.getChannelIds(), group)) {
+                    List<Route> channelRoutes = routes.computeIfAbsent(channelId, ignored -> new ArrayList<>());
+                    if (!channelRoutes.contains(route)) {
+                        channelRoutes.add(route);
+                    }
+                }
+            }
+        }
+
+        Map<Long, Route[]> compiled = new HashMap<>(routes.size() * 2);
+        routes.forEach((channelId, channelRoutes) -> compiled.put(channelId, channelRoutes.toArray(Route[]::new)));
+        return Map.copyOf(compiled);
+    }
+
+    private static long[] parseIds(String[] ids, RoleRestrictedChannelGroup group) {
+        if (ids == null) {
+            return new long[0];
+        }
+
+        long[] parsed = new long[ids.length];
+        int size = 0;
+
+        for (String id : ids) {
+            if (id == null) {
+                continue;
+            }
+
+            try {
+                parsed[size] = Long.parseLong(id.trim());
+                size++;
+            } catch (NumberFormatException exception) {
+                log.warn("Ignoring invalid ID '{}' in role-restricted channel group '{}'", id, group.getIdentifier());
+            }
+        }
+
+        long[] result = Arrays.copyOf(parsed, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    record Route(RoleRestrictedChannelGroup group, long[] requiredRoleIds) {
+    }
+
+    private record Snapshot(List<RoleRestrictedChannelGroup> source, Map<Long, Route[]> routes) {
+    }
+}
@@ -0,0 +1,25 @@
+package net.hypixel.nerdbot.app.activity;
+
+/**
+ * An open voice session.
+ *
+ * @param userId    the member's Discord ID
+ * @param channelId the voice channel the member is connected to
+ * @param joinedAt  when the member joined the channel, in epoch milliseconds
+ * @param lastSeen  when the session was last known to be open, in epoch milliseconds. Set to the
+ *                  checkpoint time when a session is persisted, so a session that ended while the
+ *                  bot was offline can be closed at that time instead of being dropped.
+ */
+public record VoiceSession(long userId, long channelId, long joinedAt, long lastSeen) {
+
+    public VoiceSession(long userId, long channelId, long joinedAt) {
+        this(userId, channelId, joinedAt, joinedAt);
+    }
+
+    /**
+     * @return how long the session lasted if it ended at {@code endedAt}
+     */
+    public long durationUntil(long endedAt) {
+        return Math.max(0, endedAt - joinedAt);
+    }
+}
@@ -0,0 +1,27 @@
+package net.hypixel.nerdbot.app.activity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Persistence for open {@link VoiceSession}s, so sessions survive a restart.
+ *
+ * <p>{@link VoiceSessionTracker} depends on this interface so its checkpoint and reconcile logic can
+ * be unit-tested against an in-memory fake. Production code is backed by
+ * {@link MongoVoiceSessionStore}.
+ */
+public interface VoiceSessionStore {
+
+    /**
+     * @return every session saved by the last checkpoint
+     */
+    List<VoiceSession> loadAll();
+
+    /**
+     * Replaces the saved sessions with the given ones, stamping each with the checkpoint time.
+     *
+     * @param sessions       the sessions currently open
+     * @param checkpointedAt the checkpoint time, in epoch milliseconds
+     */
+    void replaceAll(Collection<VoiceSession> sessions, long checkpointedAt);
+}
@@ -0,0 +1,147 @@
+package net.hypixel.nerdbot.app.activity;
+
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
+import net.hypixel.nerdbot.marmalade.concurrent.ScheduledTask;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks members' open voice sessions.
+ *
+ * <p>Sessions live in a concurrent map keyed by user ID, so JDA event threads can open and close
+ * them without locking. Open sessions are checkpointed to a {@link VoiceSessionStore} periodically
+ * and on shutdown. On startup {@link #reconcile(Map, long)} merges the last checkpoint with the
+ * guild's current voice states: members still connected keep their original join time, and members
+ * who left while the bot was offline have their session closed at the last checkpoint.
+ *
+ * <p>Session counts and durations are exported without per-user labels.
+ */
+@Slf4j
+public class VoiceSessionTracker {
+
+    private static final Duration CHECKPOINT_INTERVAL = Duration.ofMinutes(1);
+
+    private final Map<Long, VoiceSession> sessions = new ConcurrentHashMap<>();
+    private final VoiceSessionStore store;
+    private ScheduledTask checkpointTask;
+
+    public VoiceSessionTracker(VoiceSessionStore store) {
+        this.store = store;
+    }
+
+    public synchronized void start() {
+        if (checkpointTask != null) {
+            return;
+        }
+
+        checkpointTask = ScheduledTask.create("voice-session-checkpoint", this::checkpoint, CHECKPOINT_INTERVAL, CHECKPOINT_INTERVAL);
+        checkpointTask.start();
+    }
+
+    /**
+     * Stops the checkpoint task and writes a final checkpoint, so sessions open at shutdown are
+     * resumed by the next {@link #reconcile(Map, long)}.
+     */
+    public synchronized void stop() {
+        if (checkpointTask != null) {
+            checkpointTask.stop();
+            checkpointTask = null;
+        }
+
+        checkpoint();
+    }
+
+    /**
+     * Opens a session, replacing any session the member already had open.
+     */
+    public void join(long userId, long channelId, long time) {
+        sessions.put(userId, new VoiceSession(userId, channelId, time));
+        PrometheusMetrics.VOICE_SESSIONS_OPEN.set(sessions.size());
+    }
+
+    /**
+     * Closes the member's open session.
+     *
+     * @return the closed session, or {@link Optional#empty()} if the member had none open
+     */
+    public Optional<VoiceSession> leave(long userId, long time) {
+        VoiceSession session = sessions.remove(userId);
+        if (session == null) {
+            return Optional.empty();
+        }
+
+        PrometheusMetrics.VOICE_SESSIONS_OPEN.set(sessions.size());
+        PrometheusMetrics.VOICE_SESSION_DURATION_SECONDS.observe(session.durationUntil(time) / 1_000D);
+        return Optional.of(session);
+    }
+
+    public Optional<VoiceSession> getSession(long userId) {
+        return Optional.ofNullable(sessions.get(userId));
+    }
+
+    public int getOpenSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Restores sessions from the last checkpoint against the members currently in voice.
+     *
+     * <p>A checkpointed session is resumed with its original join time when the member is still in
+     * the same channel. Members now in voice without a matching checkpoint get a session starting
+     * at {@code now}. Sessions opened by events before this runs are kept as they are.
+     *
+     * @param connectedMembers the channel each member currently in voice is connected to, by user ID
+     * @param now              the current time, in epoch milliseconds
+     *
+     * @return checkpointed sessions whose member has since disconnected or moved. Each ended at some point
+     * after its {@link VoiceSession#lastSeen()}, which is the best available end time.
+     */
+    public List<VoiceSession> reconcile(Map<Long, Long> connectedMembers, long now) {
+        Map<Long, VoiceSession> checkpointed = new HashMap<>();
+        for (VoiceSession session : store.loadAll()) {
+            checkpointed.put(session.userId(), session);
+        }
+
+        int resumed = 0;
+        for (Map.Entry<Long, Long> connected : connectedMembers.entrySet()) {
+            long userId = connected.getKey();
+            long channelId = connected.getValue();
+            VoiceSession saved = checkpointed.get(userId);
+
+            if (saved != null && saved.channelId() == channelId) {
+                checkpointed.remove(userId);
+                sessions.putIfAbsent(userId, new VoiceSession(userId, channelId, saved.joinedAt()));
+                resumed++;
+            } else {
+                sessions.putIfAbsent(userId, new VoiceSession(userId, channelId, now));
+            }
+        }
+
+        // Whatever is left was checkpointed but is not connected to the same channel any more
+        List<VoiceSession> closed = new ArrayList<>(checkpointed.values());
+        for (VoiceSession saved : closed) {
+            PrometheusMetrics.VOICE_SESSION_DURATION_SECONDS.observe(saved.durationUntil(saved.lastSeen()) / 1_000D);
+        }
+
+        PrometheusMetrics.VOICE_SESSIONS_OPEN.set(sessions.size());
+        log.info("Reconciled voice sessions: {} open ({} resumed from checkpoint), {} closed while offline", sessions.size(), resumed, closed.size());
+
+        checkpoint();
+        return closed;
+    }
+
+    void checkpoint() {
+        try {
+            store.replaceAll(List.copyOf(sessions.values()), System.currentTimeMillis());
+        } catch (Exception exception) {
+            log.error("Failed to checkpoint {} open voice session(s)", sessions.size(), exception);
+        }
+    }
+}
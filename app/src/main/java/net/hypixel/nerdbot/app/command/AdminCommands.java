@@ -4,6 +4,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 import lombok.extern.slf4j.Slf4j;
+import net.aerh.imagegenerator.pack.PackId;
 import net.aerh.slashcommands.api.annotations.SlashAutocompleteHandler;
 import net.aerh.slashcommands.api.annotations.SlashCommand;
 import net.aerh.slashcommands.api.annotations.SlashComponentHandler;
@@ -49,6 +50,7 @@ import net.hypixel.nerdbot.app.nomination.NominationSweepReport;
 import net.hypixel.nerdbot.app.util.HttpUtils;
 import net.hypixel.nerdbot.marmalade.io.FileUtils;
 import net.hypixel.nerdbot.marmalade.exception.RepositoryException;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.discord.api.bot.Bot;
 import net.hypixel.nerdbot.discord.api.bot.DiscordBot;
@@ -114,7 +116,7 @@ public class AdminCommands {
                 Curator<ForumChannel, ThreadChannel> forumChannelCurator = new ForumChannelCurator(finalReadOnly);
 
                 BotEnvironment.EXECUTOR_SERVICE.execute(() -> {
-                    event.deferReply(true).complete();
+                    CommandExecution.defer(event, true);
 
                     TimerTask task = new TimerTask() {
                         @Override
@@ -169,7 +171,7 @@ public class AdminCommands {
 
                 List<Invite> invites = new ArrayList<>(amount);
                 TextChannel selected = Objects.requireNonNullElse(channel, DiscordBotEnvironment.getBot().getJDA().getTextChannelsByName("limbo", true).get(0));
-                event.deferReply(true).complete();
+                CommandExecution.defer(event, true);
 
                 ChannelCache.sendToLogChannel(
                     new EmbedBuilder()
@@ -207,53 +209,53 @@ public class AdminCommands {
 
     @SlashCommand(name = "invites", subcommand = "delete", description = "Delete all active invites.", guildOnly = true, defaultMemberPermissions = {"BAN_MEMBERS"}, requiredPermissions = {"BAN_MEMBERS"})
     public void deleteInvites(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+
+            discordUserRepository.findOrCreateByIdAsync(event.getMember().getId())
+                .thenAccept(discordUser -> {
+                    List<Invite> invites = event.getGuild().retrieveInvites().complete();
+                    invites.forEach(invite -> {
+                        invite.delete().complete();
+                        log.info("{} (ID: {}) deleted invite {}", event.getUser().getName(), event.getUser().getId(), invite.getUrl());
+                    });
 
-        discordUserRepository.findOrCreateByIdAsync(event.getMember().getId())
-            .thenAccept(discordUser -> {
-                List<Invite> invites = event.getGuild().retrieveInvites().complete();
-                invites.forEach(invite -> {
-                    invite.delete().complete();
-                    log.info("{} (ID: {}) deleted invite {}", event.getUser().getName(), event.getUser().getId(), invite.getUrl());
+                    ChannelCache.sendToLogChannel(
+                        new EmbedBuilder()
+                            .setTitle("Invites Deleted")
+                            .setDescription(event.getUser().getAsMention() + " deleted all " + invites.size() + " invite(s).")
+                            .build()
+                    );
+
+                    hook.editOriginal(String.format("Deleted %d invites!", invites.size())).queue();
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error loading user for invite deletion", throwable);
+                    hook.editOriginal("Failed to load user data").queue();
+                    return null;
                 });
-
-                ChannelCache.sendToLogChannel(
-                    new EmbedBuilder()
-                        .setTitle("Invites Deleted")
-                        .setDescription(event.getUser().getAsMention() + " deleted all " + invites.size() + " invite(s).")
-                        .build()
-                );
-
-                event.getHook().editOriginal(String.format("Deleted %d invites!", invites.size())).queue();
-            })
-            .exceptionally(throwable -> {
-                log.error("Error loading user for invite deletion", throwable);
-                event.getHook().editOriginal("Failed to load user data").queue();
-                return null;
-            });
+        });
     }
 
     @SlashCommand(name = "config", subcommand = "show", description = "View the currently loaded config", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void showConfig(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getMember().getId()).orElse(null);
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getMember().getId()).orElse(null);
-
-        if (discordUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
+            if (discordUser == null) {
+                hook.editOriginal("User not found").queue();
+                return;
+            }
 
-        try {
-            File file = FileUtils.createTempFile("config-" + System.currentTimeMillis() + ".json", BotEnvironment.GSON.toJson(DiscordBotEnvironment.getBot().getConfig()));
-            event.getHook().editOriginalAttachments(FileUpload.fromData(file)).queue();
-        } catch (IOException exception) {
-            event.getHook().editOriginal("An error occurred while reading the config file! Please check the logs for more information.").queue();
-            log.error("An error occurred when reading the JSON file!", exception);
-        }
+            try {
+                File file = FileUtils.createTempFile("config-" + System.currentTimeMillis() + ".json", BotEnvironment.GSON.toJson(DiscordBotEnvironment.getBot().getConfig()));
+                hook.editOriginalAttachments(FileUpload.fromData(file)).queue();
+            } catch (IOException exception) {
+                hook.editOriginal("An error occurred while reading the config file! Please check the logs for more information.").queue();
+                log.error("An error occurred when reading the JSON file!", exception);
+            }
+        });
     }
 
     @SlashCommand(name = "config", subcommand = "reload", description = "Reload the config file", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
@@ -267,7 +269,7 @@ public class AdminCommands {
                     return;
                 }
 
-                event.deferReply().setEphemeral(true).complete();
+                CommandExecution.defer(event, true);
 
                 DiscordBot bot = DiscordBotEnvironment.getBot();
                 bot.loadConfig();
@@ -283,6 +285,21 @@ public class AdminCommands {
             });
     }
 
+    @SlashCommand(name = "packs", subcommand = "reload", description = "Reload changed resource packs without restarting", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
+    public void reloadPacks(SlashCommandInteractionEvent event, @SlashOption(description = "Re-read every pack, even if its files look unchanged", required = false) Boolean force) {
+        CommandExecution.execute(event, true, hook -> {
+            List<PackId> changed = SkyBlockNerdsBot.resourcePackService()
+                .reloadConfiguredPacks(SkyBlockNerdsBot.config().getGeneratorConfig().getResourcePacks(), force != null && force);
+
+            if (changed.isEmpty()) {
+                hook.editOriginal("No resource packs changed!").queue();
+                return;
+            }
+
+            hook.editOriginal("Reloaded " + changed.size() + " resource pack(s): " + changed.stream().map(packId -> "`" + packId + "`").collect(Collectors.joining(", "))).queue();
+        });
+    }
+
     private static final java.util.Set<String> BLOCKED_CONFIG_KEYS = java.util.Set.of(
         "ownerIds", "guildId", "token", "databaseUri", "databaseName"
     );
@@ -390,66 +407,66 @@ public class AdminCommands {
         @SlashOption(description = "Your Minecraft IGN to link.") String username,
         @SlashOption(description = "Bypass hypixel social check.", required = false) Boolean bypassSocial
     ) {
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-
-        discordUserRepository.findByIdAsync(member.getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    event.reply("User not found").queue();
-                    return;
-                }
+            discordUserRepository.findByIdAsync(member.getId())
+                .thenAccept(discordUser -> {
+                    if (discordUser == null) {
+                        event.reply("User not found").queue();
+                        return;
+                    }
 
-                boolean enforceSocial = bypassSocial == null || !bypassSocial;
+                    boolean enforceSocial = bypassSocial == null || !bypassSocial;
 
-                ProfileCommands.requestMojangProfileAsync(member, username, enforceSocial)
-                    .thenAccept(mojangProfile -> {
-                        if (mojangProfile == null) {
-                            event.getHook().editOriginal(String.format("Could not find player with username `%s`! (%s)", username, "Profile not found")).queue();
-                            return;
-                        }
+                    ProfileCommands.requestMojangProfileAsync(member, username, enforceSocial)
+                        .thenAccept(mojangProfile -> {
+                            if (mojangProfile == null) {
+                                hook.editOriginal(String.format("Could not find player with username `%s`! (%s)", username, "Profile not found")).queue();
+                                return;
+                            }
 
-                        if (mojangProfile.getErrorMessage() != null) {
-                            if (mojangProfile.getErrorMessage().contains("does not match")) {
-                                event.getHook().editOriginal(String.format("Profile mismatch error for %s: %s", username, mojangProfile.getErrorMessage())).queue();
-                            } else {
-                                event.getHook().editOriginal(mojangProfile.getErrorMessage()).queue();
+                            if (mojangProfile.getErrorMessage() != null) {
+                                if (mojangProfile.getErrorMessage().contains("does not match")) {
+                                    hook.editOriginal(String.format("Profile mismatch error for %s: %s", username, mojangProfile.getErrorMessage())).queue();
+                                } else {
+                                    hook.editOriginal(mojangProfile.getErrorMessage()).queue();
+                                }
+                                return;
                             }
-                            return;
-                        }
 
-                        ProfileCommands.updateMojangProfile(member, mojangProfile);
-                        event.getHook().editOriginal(String.format("Updated profile for %s to %s (UUID: %s)", member.getAsMention(), mojangProfile.getUsername(), mojangProfile.getUniqueId())).queue();
-
-                        ChannelCache.sendToLogChannel(
-                            new EmbedBuilder()
-                                .setTitle("Mojang Profile Change")
-                                .setThumbnail(member.getAvatarUrl())
-                                .setDescription(event.getMember().getAsMention() + " updated the Mojang Profile for " + member.getAsMention() + ".")
-                                .addField("Username", mojangProfile.getUsername(), false)
-                                .addField(
-                                    "UUID / SkyCrypt",
-                                    String.format(
-                                        "[%s](https://sky.shiiyu.moe/stats/%s)",
-                                        mojangProfile.getUniqueId(),
-                                        mojangProfile.getUniqueId()
-                                    ),
-                                    false
-                                )
-                                .build()
-                        );
-                    })
-                    .exceptionally(throwable -> {
-                        CommandErrorResponder.respond(event.getHook(), String.format("Could not find a player with username `%s`. Please try again later.", username), throwable);
-                        return null;
-                    });
-            })
-            .exceptionally(throwable -> {
-                log.error("Error loading user for profile linking", throwable);
-                event.getHook().editOriginal("Failed to load user data").queue();
-                return null;
-            });
+                            ProfileCommands.updateMojangProfile(member, mojangProfile);
+                            hook.editOriginal(String.format("Updated profile for %s to %s (UUID: %s)", member.getAsMention(), mojangProfile.getUsername(), mojangProfile.getUniqueId())).queue();
+
+                            ChannelCache.sendToLogChannel(
+                                new EmbedBuilder()
+                                    .setTitle("Mojang Profile Change")
+                                    .setThumbnail(member.getAvatarUrl())
+                                    .setDescription(event.getMember().getAsMention() + " updated the Mojang Profile for " + member.getAsMention() + ".")
+                                    .addField("Username", mojangProfile.getUsername(), false)
+                                    .addField(
+                                        "UUID / SkyCrypt",
+                                        String.format(
+                                            "[%s](https://sky.shiiyu.moe/stats/%s)",
+                                            mojangProfile.getUniqueId(),
+                                            mojangProfile.getUniqueId()
+                                        ),
+                                        false
+                                    )
+                                    .build()
+                            );
+                        })
+                        .exceptionally(throwable -> {
+                            CommandErrorResponder.respond(hook, String.format("Could not find a player with username `%s`. Please try again later.", username), throwable);
+                            return null;
+                        });
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error loading user for profile linking", throwable);
+                    hook.editOriginal("Failed to load user data").queue();
+                    return null;
+                });
+        });
     }
 
     @SlashCommand(
@@ -460,7 +477,7 @@ public class AdminCommands {
         defaultMemberPermissions = {"BAN_MEMBERS"}
     )
     public void userMissingProfile(SlashCommandInteractionEvent event) {
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
 
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
@@ -518,7 +535,7 @@ public class AdminCommands {
         defaultMemberPermissions = {"BAN_MEMBERS"}
     )
     public void userInfo(SlashCommandInteractionEvent event, @SlashOption(description = "The user to search") Member member) {
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
         DiscordUser discordUser = discordUserRepository.findById(member.getId()).orElse(null);
         List<MessageEmbed> embeds = new ArrayList<>(ProfileCommands.getActivityEmbeds(member));
@@ -547,7 +564,7 @@ public class AdminCommands {
         defaultMemberPermissions = {"BAN_MEMBERS"}
     )
     public void viewUserBadges(SlashCommandInteractionEvent event, @SlashOption(description = "The user to search") Member member) {
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
         DiscordUser discordUser = discordUserRepository.findById(member.getId()).orElse(null);
 
@@ -571,210 +588,212 @@ public class AdminCommands {
     // members who never self-assigned a Mojang profile, and no non-heuristic source exists for them.
     @SuppressWarnings("deprecation")
     public void migrateUsernames(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getMember().getId()).orElse(null);
-
-        if (discordUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
-
-        List<MojangProfile> mojangProfiles = new ArrayList<>();
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getMember().getId()).orElse(null);
 
-        event.getGuild()
-            .loadMembers()
-            .onSuccess(members -> {
-                List<CompletableFuture<Void>> migrationTasks = members.stream()
-                    .filter(member -> !member.getUser().isBot())
-                    .filter(member -> Utils.getScuffedMinecraftIGN(member).isPresent())
-                    .map(member ->
-                        discordUserRepository.findByIdAsync(member.getId())
-                            .thenCompose(user -> {
-                                if (user == null || !user.noProfileAssigned()) {
-                                    return CompletableFuture.completedFuture(null);
-                                }
-
-                                String scuffedUsername = Utils.getScuffedMinecraftIGN(member).orElseThrow();
-                                return HttpUtils.getMojangProfileAsync(scuffedUsername)
-                                    .thenAccept(result -> {
-                                        if (result.isSuccess()) {
-                                            MojangProfile mojangProfile = result.orElseGet(MojangProfile::new);
-                                            mojangProfiles.add(mojangProfile);
-                                            user.setMojangProfile(mojangProfile);
-                                            log.info("Migrated {} [{}] ({}) to {} ({})", member.getEffectiveName(), member.getUser().getName(), member.getId(), mojangProfile.getUsername(), mojangProfile.getUniqueId());
-                                        } else {
-                                            log.error("Unable to migrate {} (ID: {})", member.getEffectiveName(), member.getId());
-                                        }
-                                    });
-                            })
-                    )
-                    .toList();
+            if (discordUser == null) {
+                hook.editOriginal("User not found").queue();
+                return;
+            }
 
-                CompletableFuture.allOf(migrationTasks.toArray(new CompletableFuture[0]))
-                    .thenRun(() -> {
-                        event.getHook().editOriginal("Migration complete! Migrated " + mojangProfiles.size() + " users.").queue();
-                    })
-                    .exceptionally(throwable -> {
-                        CommandErrorResponder.respond(event.getHook(), "Migration failed. Please try again later.", throwable);
-                        return null;
-                    });
-            })
-            .onError(throwable -> {
-                log.error("Failed to load guild members for migration", throwable);
-                event.getHook().editOriginal("Failed to load guild members").queue();
-            });
+            List<MojangProfile> mojangProfiles = new ArrayList<>();
+
+            event.getGuild()
+                .loadMembers()
+                .onSuccess(members -> {
+                    List<CompletableFuture<Void>> migrationTasks = members.stream()
+                        .filter(member -> !member.getUser().isBot())
+                        .filter(member -> Utils.getScuffedMinecraftIGN(member).isPresent())
+                        .map(member ->
+                            discordUserRepository.findByIdAsync(member.getId())
+                                .thenCompose(user -> {
+                                    if (user == null || !user.noProfileAssigned()) {
+                                        return CompletableFuture.completedFuture(null);
+                                    }
+
+                                    String scuffedUsername = Utils.getScuffedMinecraftIGN(member).orElseThrow();
+                                    return HttpUtils.getMojangProfileAsync(scuffedUsername)
+                                        .thenAccept(result -> {
+                                            if (result.isSuccess()) {
+                                                MojangProfile mojangProfile = result.orElseGet(MojangProfile::new);
+                                                mojangProfiles.add(mojangProfile);
+                                                user.setMojangProfile(mojangProfile);
+                                                log.info("Migrated {} [{}] ({}) to {} ({})", member.getEffectiveName(), member.getUser().getName(), member.getId(), mojangProfile.getUsername(), mojangProfile.getUniqueId());
+                                            } else {
+                                                log.error("Unable to migrate {} (ID: {})", member.getEffectiveName(), member.getId());
+                                            }
+                                        });
+                                })
+                        )
+                        .toList();
+
+                    CompletableFuture.allOf(migrationTasks.toArray(new CompletableFuture[0]))
+                        .thenRun(() -> {
+                            hook.editOriginal("Migration complete! Migrated " + mojangProfiles.size() + " users.").queue();
+                        })
+                        .exceptionally(throwable -> {
+                            CommandErrorResponder.respond(hook, "Migration failed. Please try again later.", throwable);
+                            return null;
+                        });
+                })
+                .onError(throwable -> {
+                    log.error("Failed to load guild members for migration", throwable);
+                    hook.editOriginal("Failed to load guild members").queue();
+                });
+        });
     }
 
     @SlashCommand(name = "debug", subcommand = "role-restricted-activity", description = "Debug role-restricted channel activity for a user", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void debugRoleRestrictedActivity(SlashCommandInteractionEvent event, @SlashOption(description = "The user to debug") Member member) {
-        event.deferReply(true).complete();
-
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
-        DiscordUser targetUser = discordUserRepository.findById(member.getId()).orElse(null);
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
+            DiscordUser targetUser = discordUserRepository.findById(member.getId()).orElse(null);
 
-        if (discordUser == null || targetUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
+            if (discordUser == null || targetUser == null) {
+                hook.editOriginal("User not found").queue();
+                return;
+            }
 
-        List<RoleRestrictedChannelGroup> groups = SkyBlockNerdsBot.config().getChannelConfig().getRoleRestrictedChannelGroups();
+            List<RoleRestrictedChannelGroup> groups = SkyBlockNerdsBot.config().getChannelConfig().getRoleRestrictedChannelGroups();
 
-        if (groups.isEmpty()) {
-            event.getHook().editOriginal("No role-restricted channel groups configured.").queue();
-            return;
-        }
+            if (groups.isEmpty()) {
+                hook.editOriginal("No role-restricted channel groups configured.").queue();
+                return;
+            }
 
-        EmbedBuilder embedBuilder = new EmbedBuilder()
-            .setTitle("Role-Restricted Channel Activity Debug")
-            .setDescription("Activity data for " + member.getAsMention())
-            .setColor(Color.ORANGE)
-            .setThumbnail(member.getEffectiveAvatarUrl());
-
-        LastActivity lastActivity = targetUser.getLastActivity();
-
-        for (RoleRestrictedChannelGroup group : groups) {
-            boolean hasAccess = Arrays.stream(group.getRequiredRoleIds())
-                .anyMatch(roleId -> member.getRoles().stream()
-                    .map(Role::getId)
-                    .anyMatch(memberRoleId -> memberRoleId.equalsIgnoreCase(roleId)));
-
-            StringBuilder fieldValue = new StringBuilder();
-            fieldValue.append("**Has Access:** ").append(hasAccess ? "✅" : "❌").append("\n");
-
-            if (hasAccess) {
-                fieldValue.append("**Last Activity:** ").append(lastActivity.getRoleRestrictedChannelRelativeTimestamp(group.getIdentifier())).append("\n");
-                fieldValue.append("**30-day Activity:**\n");
-                fieldValue.append(" - Messages: ").append(lastActivity.getRoleRestrictedChannelMessageCount(group.getIdentifier(), 30)).append("/").append(group.getMinimumMessagesForActivity()).append("\n");
-                fieldValue.append(" - Votes: ").append(lastActivity.getRoleRestrictedChannelVoteCount(group.getIdentifier(), 30)).append("/").append(group.getMinimumVotesForActivity()).append("\n");
-                fieldValue.append(" - Comments: ").append(lastActivity.getRoleRestrictedChannelCommentCount(group.getIdentifier(), 30)).append("/").append(group.getMinimumCommentsForActivity()).append("\n");
-
-                int messagesMet = lastActivity.getRoleRestrictedChannelMessageCount(group.getIdentifier(), group.getActivityCheckDays()) >= group.getMinimumMessagesForActivity() ? 1 : 0;
-                int votesMet = lastActivity.getRoleRestrictedChannelVoteCount(group.getIdentifier(), group.getActivityCheckDays()) >= group.getMinimumVotesForActivity() ? 1 : 0;
-                int commentsMet = lastActivity.getRoleRestrictedChannelCommentCount(group.getIdentifier(), group.getActivityCheckDays()) >= group.getMinimumCommentsForActivity() ? 1 : 0;
-                int totalMet = messagesMet + votesMet + commentsMet;
-
-                fieldValue.append("**Requirements Met:** ").append(totalMet).append("/3 ");
-                if (totalMet >= 2) {
-                    fieldValue.append("✅");
+            EmbedBuilder embedBuilder = new EmbedBuilder()
+                .setTitle("Role-Restricted Channel Activity Debug")
+                .setDescription("Activity data for " + member.getAsMention())
+                .setColor(Color.ORANGE)
+                .setThumbnail(member.getEffectiveAvatarUrl());
+
+            LastActivity lastActivity = targetUser.getLastActivity();
+
+            for (RoleRestrictedChannelGroup group : groups) {
+                boolean hasAccess = Arrays.stream(group.getRequiredRoleIds())
+                    .anyMatch(roleId -> member.getRoles().stream()
+                        .map(Role::getId)
+                        .anyMatch(memberRoleId -> memberRoleId.equalsIgnoreCase(roleId)));
+
+                StringBuilder fieldValue = new StringBuilder();
+                fieldValue.append("**Has Access:** ").append(hasAccess ? "✅" : "❌").append("\n");
+
+                if (hasAccess) {
+                    fieldValue.append("**Last Activity:** ").append(lastActivity.getRoleRestrictedChannelRelativeTimestamp(group.getIdentifier())).append("\n");
+                    fieldValue.append("**30-day Activity:**\n");
+                    fieldValue.append(" - Messages: ").append(lastActivity.getRoleRestrictedChannelMessageCount(group.getIdentifier(), 30)).append("/").append(group.getMinimumMessagesForActivity()).append("\n");
+                    fieldValue.append(" - Votes: ").append(lastActivity.getRoleRestrictedChannelVoteCount(group.getIdentifier(), 30)).append("/").append(group.getMinimumVotesForActivity()).append("\n");
+                    fieldValue.append(" - Comments: ").append(lastActivity.getRoleRestrictedChannelCommentCount(group.getIdentifier(), 30)).append("/").append(group.getMinimumCommentsForActivity()).append("\n");
+
+                    int messagesMet = lastActivity.getRoleRestrictedChannelMessageCount(group.getIdentifier(), group.getActivityCheckDays()) >= group.getMinimumMessagesForActivity() ? 1 : 0;
+                    int votesMet = lastActivity.getRoleRestrictedChannelVoteCount(group.getIdentifier(), group.getActivityCheckDays()) >= group.getMinimumVotesForActivity() ? 1 : 0;
+                    int commentsMet = lastActivity.getRoleRestrictedChannelCommentCount(group.getIdentifier(), group.getActivityCheckDays()) >= group.getMinimumCommentsForActivity() ? 1 : 0;
+                    int totalMet = messagesMet + votesMet + commentsMet;
+
+                    fieldValue.append("**Requirements Met:** ").append(totalMet).append("/3 ");
+                    if (totalMet >= 2) {
+                        fieldValue.append("✅");
+                    } else {
+                        fieldValue.append("⚠️");
+                    }
                 } else {
-                    fieldValue.append("⚠️");
-                }
-            } else {
-                fieldValue.append("**Required Roles:** ");
-                for (String roleId : group.getRequiredRoleIds()) {
-                    Role role = member.getGuild().getRoleById(roleId);
-                    if (role != null) {
-                        fieldValue.append(role.getName()).append(" ");
+                    fieldValue.append("**Required Roles:** ");
+                    for (String roleId : group.getRequiredRoleIds()) {
+                        Role role = member.getGuild().getRoleById(roleId);
+                        if (role != null) {
+                            fieldValue.append(role.getName()).append(" ");
+                        }
                     }
                 }
-            }
 
-            embedBuilder.addField(group.getDisplayName(), fieldValue.toString(), false);
-        }
+                embedBuilder.addField(group.getDisplayName(), fieldValue.toString(), false);
+            }
 
-        event.getHook().editOriginalEmbeds(embedBuilder.build()).queue();
+            hook.editOriginalEmbeds(embedBuilder.build()).queue();
+        });
     }
 
     @SlashCommand(name = "cache", subcommand = "force-save", description = "Force save the specified cache to the database", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void forceSaveRepository(SlashCommandInteractionEvent event, @SlashOption String repositoryName) {
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
-
-        if (discordUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
-
-        try {
-            Repository<?> repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(repositoryName);
-            if (repository == null) {
-                event.getHook().editOriginal("Could not find a repository with that name!").queue();
+            if (discordUser == null) {
+                hook.editOriginal("User not found").queue();
                 return;
             }
 
-            repository.saveAllToDatabase();
-            event.getHook().editOriginal(String.format("Saved %d documents to the database!", repository.getCache().estimatedSize())).queue();
-        } catch (RepositoryException exception) {
-            CommandErrorResponder.respond(event.getHook(), "An error occurred while saving the repository. Please try again later.", exception);
-        }
+            try {
+                Repository<?> repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(repositoryName);
+                if (repository == null) {
+                    hook.editOriginal("Could not find a repository with that name!").queue();
+                    return;
+                }
+
+                repository.saveAllToDatabase();
+                hook.editOriginal(String.format("Saved %d documents to the database!", repository.getCache().estimatedSize())).queue();
+            } catch (RepositoryException exception) {
+                CommandErrorResponder.respond(hook, "An error occurred while saving the repository. Please try again later.", exception);
+            }
+        });
     }
 
     @SlashCommand(name = "cache", subcommand = "force-load", description = "Forcefully load documents from the database into the cache", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void forceLoadDocuments(SlashCommandInteractionEvent event, @SlashOption String repositoryName) {
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
+            if (discordUser == null) {
+                hook.editOriginal("User not found").queue();
+                return;
+            }
 
-        if (discordUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
+            try {
+                Repository<?> repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(repositoryName);
 
-        try {
-            Repository<?> repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(repositoryName);
+                if (repository == null) {
+                    hook.editOriginal("Could not find a repository with that name!").queue();
+                    return;
+                }
 
-            if (repository == null) {
-                event.getHook().editOriginal("Could not find a repository with that name!").queue();
-                return;
+                repository.loadAllDocumentsIntoCache();
+                hook.editOriginal(String.format("Loaded %d documents from the database!", repository.getCache().estimatedSize())).queue();
+            } catch (RepositoryException exception) {
+                CommandErrorResponder.respond(hook, "An error occurred while loading the repository. Please try again later.", exception);
             }
-
-            repository.loadAllDocumentsIntoCache();
-            event.getHook().editOriginal(String.format("Loaded %d documents from the database!", repository.getCache().estimatedSize())).queue();
-        } catch (RepositoryException exception) {
-            CommandErrorResponder.respond(event.getHook(), "An error occurred while loading the repository. Please try again later.", exception);
-        }
+        });
     }
 
     @SlashCommand(name = "cache", subcommand = "stats", description = "View cache statistics", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void cacheStats(SlashCommandInteractionEvent event, @SlashOption String repositoryName) {
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findOrCreateById(event.getUser().getId());
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findOrCreateById(event.getUser().getId());
+            try {
+                Repository<?> repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(repositoryName);
 
-        try {
-            Repository<?> repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(repositoryName);
+                if (repository == null) {
+                    hook.editOriginal("Could not find a repository with that name!").queue();
+                    return;
+                }
 
-            if (repository == null) {
-                event.getHook().editOriginal("Could not find a repository with that name!").queue();
-                return;
+                hook.editOriginal(repository.getCache().stats().toString()).queue();
+            } catch (RepositoryException exception) {
+                CommandErrorResponder.respond(hook, "An error occurred while getting the repository statistics. Please try again later.", exception);
             }
-
-            event.getHook().editOriginal(repository.getCache().stats().toString()).queue();
-        } catch (RepositoryException exception) {
-            CommandErrorResponder.respond(event.getHook(), "An error occurred while getting the repository statistics. Please try again later.", exception);
-        }
+        });
     }
 
     @SlashCommand(name = "admin", subcommand = "transfer-tag", description = "Interactive forum tag transfer panel", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void transferForumTag(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-        createTagTransferPanel(event.getHook(), event.getUser().getId());
+        CommandExecution.execute(event, true, hook -> {
+            createTagTransferPanel(hook, event.getUser().getId());
+        });
     }
 
 
@@ -1248,81 +1267,81 @@ public class AdminCommands {
 
     @SlashCommand(name = "scan-channel", description = "Manually scan a channel for role membership", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void scanChannelForRoleRestricted(SlashCommandInteractionEvent event, @SlashOption(description = "The channel to scan") GuildChannel channel) {
-        event.deferReply(true).complete();
-
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
 
-        if (discordUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
-
-        NerdBotConfig botConfig = SkyBlockNerdsBot.config();
+            if (discordUser == null) {
+                hook.editOriginal("User not found").queue();
+                return;
+            }
 
-        if (!botConfig.getChannelConfig().isAutoManageRoleRestrictedChannels()) {
-            event.getHook().editOriginal("Automatic channel management is disabled. Enable it first with `/channel-config toggle`").queue();
-            return;
-        }
+            NerdBotConfig botConfig = SkyBlockNerdsBot.config();
 
-        List<String> currentGroups = new ArrayList<>();
-        for (RoleRestrictedChannelGroup group : botConfig.getChannelConfig().getRoleRestrictedChannelGroups()) {
-            if (Arrays.asList(group.getChannelIds()).contains(channel.getId())) {
-                currentGroups.add(group.getDisplayName());
+            if (!botConfig.getChannelConfig().isAutoManageRoleRestrictedChannels()) {
+                hook.editOriginal("Automatic channel management is disabled. Enable it first with `/channel-config toggle`").queue();
+                return;
             }
-        }
-
-        RoleRestrictedChannelListener listener = new RoleRestrictedChannelListener();
-        listener.updateChannelGroupMembership(channel, false);
-        listener.updateChannelGroupMembership(channel, true);
 
-        NerdBotConfig updatedConfig = SkyBlockNerdsBot.config();
-        List<String> newGroups = new ArrayList<>();
-        for (RoleRestrictedChannelGroup group : updatedConfig.getChannelConfig().getRoleRestrictedChannelGroups()) {
-            if (Arrays.asList(group.getChannelIds()).contains(channel.getId())) {
-                newGroups.add(group.getDisplayName());
+            List<String> currentGroups = new ArrayList<>();
+            for (RoleRestrictedChannelGroup group : botConfig.getChannelConfig().getRoleRestrictedChannelGroups()) {
+                if (Arrays.asList(group.getChannelIds()).contains(channel.getId())) {
+                    currentGroups.add(group.getDisplayName());
+                }
             }
-        }
 
-        EmbedBuilder embedBuilder = new EmbedBuilder()
-            .setTitle("Channel Scan Results")
-            .setDescription("Scanned " + channel.getAsMention() + " for role-restricted group membership")
-            .setColor(Color.BLUE)
-            .addField("Channel Type", channel.getType().name(), true)
-            .addField("Before Scan",
-                currentGroups.isEmpty() ? "No groups" : String.join(", ", currentGroups),
-                false)
-            .addField("After Scan",
-                newGroups.isEmpty() ? "No groups" : String.join(", ", newGroups),
-                false);
-
-        StringBuilder permissionInfo = new StringBuilder();
-        PermissionOverride everyoneOverride = channel.getPermissionContainer().getPermissionOverride(channel.getGuild().getPublicRole());
-        if (everyoneOverride != null && everyoneOverride.getDenied().contains(Permission.VIEW_CHANNEL)) {
-            permissionInfo.append("🔒 @everyone denied: `VIEW_CHANNEL`\n");
+            RoleRestrictedChannelListener listener = new RoleRestrictedChannelListener();
+            listener.updateChannelGroupMembership(channel, false);
+            listener.updateChannelGroupMembership(channel, true);
 
-            List<String> allowedRoles = new ArrayList<>();
-            for (PermissionOverride override : channel.getPermissionContainer().getPermissionOverrides()) {
-                if (override.isRoleOverride() && override.getAllowed().contains(Permission.VIEW_CHANNEL)) {
-                    allowedRoles.add(override.getRole().getName());
+            NerdBotConfig updatedConfig = SkyBlockNerdsBot.config();
+            List<String> newGroups = new ArrayList<>();
+            for (RoleRestrictedChannelGroup group : updatedConfig.getChannelConfig().getRoleRestrictedChannelGroups()) {
+                if (Arrays.asList(group.getChannelIds()).contains(channel.getId())) {
+                    newGroups.add(group.getDisplayName());
                 }
             }
 
-            if (!allowedRoles.isEmpty()) {
-                permissionInfo.append("✅ Allowed roles: ").append(String.join(", ", allowedRoles));
+            EmbedBuilder embedBuilder = new EmbedBuilder()
+                .setTitle("Channel Scan Results")
+                .setDescription("Scanned " + channel.getAsMention() + " for role-restricted group membership")
+                .setColor(Color.BLUE)
+                .addField("Channel Type", channel.getType().name(), true)
+                .addField("Before Scan",
+                    currentGroups.isEmpty() ? "No groups" : String.join(", ", currentGroups),
+                    false)
+                .addField("After Scan",
+                    newGroups.isEmpty() ? "No groups" : String.join(", ", newGroups),
+                    false);
+
+            StringBuilder permissionInfo = new StringBuilder();
+            PermissionOverride everyoneOverride = channel.getPermissionContainer().getPermissionOverride(channel.getGuild().getPublicRole());
+            if (everyoneOverride != null && everyoneOverride.getDenied().contains(Permission.VIEW_CHANNEL)) {
+                permissionInfo.append("🔒 @everyone denied: `VIEW_CHANNEL`\n");
+
+                List<String> allowedRoles = new ArrayList<>();
+                for (PermissionOverride override : channel.getPermissionContainer().getPermissionOverrides()) {
+                    if (override.isRoleOverride() && override.getAllowed().contains(Permission.VIEW_CHANNEL)) {
+                        allowedRoles.add(override.getRole().getName());
+                    }
+                }
+
+                if (!allowedRoles.isEmpty()) {
+                    permissionInfo.append("✅ Allowed roles: ").append(String.join(", ", allowedRoles));
+                } else {
+                    permissionInfo.append("❌ No roles explicitly allowed");
+                }
             } else {
-                permissionInfo.append("❌ No roles explicitly allowed");
+                permissionInfo.append("🌐 Publicly accessible");
             }
-        } else {
-            permissionInfo.append("🌐 Publicly accessible");
-        }
 
-        embedBuilder.addField("Permission Analysis", permissionInfo.toString(), false);
+            embedBuilder.addField("Permission Analysis", permissionInfo.toString(), false);
 
-        event.getHook().editOriginalEmbeds(embedBuilder.build()).queue();
+            hook.editOriginalEmbeds(embedBuilder.build()).queue();
 
-        log.info("{} manually scanned channel {} ({})",
-            event.getUser().getName(), channel.getName(), channel.getId());
+            log.info("{} manually scanned channel {} ({})",
+                event.getUser().getName(), channel.getName(), channel.getId());
+        });
     }
 
     @SlashCommand(name = "channel-config", subcommand = "toggle", description = "Toggle automatic management of role-restricted channel groups", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
@@ -1350,115 +1369,115 @@ public class AdminCommands {
 
     @SlashCommand(name = "channel-config", subcommand = "status", description = "View the status of automatic role-restricted channel management", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void autoManageStatus(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
-
-        if (discordUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
+            if (discordUser == null) {
+                hook.editOriginal("User not found").queue();
+                return;
+            }
 
-        NerdBotConfig botConfig = SkyBlockNerdsBot.config();
-        ChannelConfig channelConfig = botConfig.getChannelConfig();
-
-        EmbedBuilder embedBuilder = new EmbedBuilder()
-            .setTitle("Role-Restricted Channel Auto-Management Status")
-            .setColor(channelConfig.isAutoManageRoleRestrictedChannels() ? Color.GREEN : Color.RED)
-            .addField("Automatic Management",
-                channelConfig.isAutoManageRoleRestrictedChannels() ? "✅ Enabled" : "❌ Disabled",
-                false)
-            .addField("Configured Groups",
-                String.valueOf(channelConfig.getRoleRestrictedChannelGroups().size()),
-                true);
-
-        if (channelConfig.isAutoManageRoleRestrictedChannels()) {
-            embedBuilder
-                .addField("Default Message Requirement",
-                    String.valueOf(channelConfig.getDefaultMinimumMessagesForActivity()),
-                    true)
-                .addField("Default Vote Requirement",
-                    String.valueOf(channelConfig.getDefaultMinimumVotesForActivity()),
-                    true)
-                .addField("Default Comment Requirement",
-                    String.valueOf(channelConfig.getDefaultMinimumCommentsForActivity()),
-                    true)
-                .addField("Default Check Period",
-                    channelConfig.getDefaultActivityCheckDays() + " days",
-                    true)
-                .addBlankField(true);
-        }
+            NerdBotConfig botConfig = SkyBlockNerdsBot.config();
+            ChannelConfig channelConfig = botConfig.getChannelConfig();
+
+            EmbedBuilder embedBuilder = new EmbedBuilder()
+                .setTitle("Role-Restricted Channel Auto-Management Status")
+                .setColor(channelConfig.isAutoManageRoleRestrictedChannels() ? Color.GREEN : Color.RED)
+                .addField("Automatic Management",
+                    channelConfig.isAutoManageRoleRestrictedChannels() ? "✅ Enabled" : "❌ Disabled",
+                    false)
+                .addField("Configured Groups",
+                    String.valueOf(channelConfig.getRoleRestrictedChannelGroups().size()),
+                    true);
+
+            if (channelConfig.isAutoManageRoleRestrictedChannels()) {
+                embedBuilder
+                    .addField("Default Message Requirement",
+                        String.valueOf(channelConfig.getDefaultMinimumMessagesForActivity()),
+                        true)
+                    .addField("Default Vote Requirement",
+                        String.valueOf(channelConfig.getDefaultMinimumVotesForActivity()),
+                        true)
+                    .addField("Default Comment Requirement",
+                        String.valueOf(channelConfig.getDefaultMinimumCommentsForActivity()),
+                        true)
+                    .addField("Default Check Period",
+                        channelConfig.getDefaultActivityCheckDays() + " days",
+                        true)
+                    .addBlankField(true);
+            }
 
-        int totalChannels = channelConfig.getRoleRestrictedChannelGroups().stream()
-            .mapToInt(group -> group.getChannelIds().length)
-            .sum();
+            int totalChannels = channelConfig.getRoleRestrictedChannelGroups().stream()
+                .mapToInt(group -> group.getChannelIds().length)
+                .sum();
 
-        embedBuilder.addField("Total Tracked Channels", String.valueOf(totalChannels), false);
+            embedBuilder.addField("Total Tracked Channels", String.valueOf(totalChannels), false);
 
-        event.getHook().editOriginalEmbeds(embedBuilder.build()).queue();
+            hook.editOriginalEmbeds(embedBuilder.build()).queue();
+        });
     }
 
     @SlashCommand(name = "channel-config", subcommand = "rebuild", description = "Rebuild role-restricted channel groups from current permissions", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void rebuildRoleRestrictedGroups(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
-
-        if (discordUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
+            if (discordUser == null) {
+                hook.editOriginal("User not found").queue();
+                return;
+            }
 
-        NerdBotConfig botConfig = SkyBlockNerdsBot.config();
+            NerdBotConfig botConfig = SkyBlockNerdsBot.config();
 
-        if (!botConfig.getChannelConfig().isAutoManageRoleRestrictedChannels()) {
-            event.getHook().editOriginal("❌ Automatic channel management is disabled. Enable it first with `/channel-config toggle`").queue();
-            return;
-        }
+            if (!botConfig.getChannelConfig().isAutoManageRoleRestrictedChannels()) {
+                hook.editOriginal("❌ Automatic channel management is disabled. Enable it first with `/channel-config toggle`").queue();
+                return;
+            }
 
-        int groupsBefore = botConfig.getChannelConfig().getRoleRestrictedChannelGroups().size();
-        int channelsBefore = botConfig.getChannelConfig().getRoleRestrictedChannelGroups().stream()
-            .mapToInt(group -> group.getChannelIds().length)
-            .sum();
+            int groupsBefore = botConfig.getChannelConfig().getRoleRestrictedChannelGroups().size();
+            int channelsBefore = botConfig.getChannelConfig().getRoleRestrictedChannelGroups().stream()
+                .mapToInt(group -> group.getChannelIds().length)
+                .sum();
 
-        event.getHook().editOriginal("🔄 Scanning all guild channels and rebuilding groups... This may take a moment.").queue();
+            hook.editOriginal("🔄 Scanning all guild channels and rebuilding groups... This may take a moment.").queue();
 
-        BotEnvironment.EXECUTOR_SERVICE.execute(() -> {
-            try {
-                botConfig.getChannelConfig().rebuildRoleRestrictedChannelGroups();
-                DiscordBotEnvironment.getBot().writeConfig(botConfig);
-
-                NerdBotConfig finalConfig = SkyBlockNerdsBot.config();
-                int groupsAfter = finalConfig.getChannelConfig().getRoleRestrictedChannelGroups().size();
-                int channelsAfter = finalConfig.getChannelConfig().getRoleRestrictedChannelGroups().stream()
-                    .mapToInt(group -> group.getChannelIds().length)
-                    .sum();
-
-                StringBuilder summary = new StringBuilder("✅ **Rebuild Complete**\n\n");
-                summary.append(String.format("**Before:** %d groups, %d channels\n", groupsBefore, channelsBefore));
-                summary.append(String.format("**After:** %d groups, %d channels\n\n", groupsAfter, channelsAfter));
-
-                if (groupsAfter > 0) {
-                    summary.append("**Created Groups:**\n");
-                    for (RoleRestrictedChannelGroup group : finalConfig.getChannelConfig().getRoleRestrictedChannelGroups()) {
-                        summary.append(String.format("- **%s** (%d channels)\n",
-                            group.getDisplayName(), group.getChannelIds().length));
+            BotEnvironment.EXECUTOR_SERVICE.execute(() -> {
+                try {
+                    botConfig.getChannelConfig().rebuildRoleRestrictedChannelGroups();
+                    DiscordBotEnvironment.getBot().writeConfig(botConfig);
+
+                    NerdBotConfig finalConfig = SkyBlockNerdsBot.config();
+                    int groupsAfter = finalConfig.getChannelConfig().getRoleRestrictedChannelGroups().size();
+                    int channelsAfter = finalConfig.getChannelConfig().getRoleRestrictedChannelGroups().stream()
+                        .mapToInt(group -> group.getChannelIds().length)
+                        .sum();
+
+                    StringBuilder summary = new StringBuilder("✅ **Rebuild Complete**\n\n");
+                    summary.append(String.format("**Before:** %d groups, %d channels\n", groupsBefore, channelsBefore));
+                    summary.append(String.format("**After:** %d groups, %d channels\n\n", groupsAfter, channelsAfter));
+
+                    if (groupsAfter > 0) {
+                        summary.append("**Created Groups:**\n");
+                        for (RoleRestrictedChannelGroup group : finalConfig.getChannelConfig().getRoleRestrictedChannelGroups()) {
+                            summary.append(String.format("- **%s** (%d channels)\n",
+                                group.getDisplayName(), group.getChannelIds().length));
+                        }
+                    } else {
+                        summary.append("**Result:** No role-restricted channels found - all channels appear to be publicly accessible.");
                     }
-                } else {
-                    summary.append("**Result:** No role-restricted channels found - all channels appear to be publicly accessible.");
-                }
 
-                event.getHook().editOriginal(summary.toString()).queue();
+                    hook.editOriginal(summary.toString()).queue();
 
-                log.info("Role-restricted channel groups rebuild completed by {}: {} groups -> {} groups, {} channels -> {} channels",
-                    event.getUser().getName(), groupsBefore, groupsAfter, channelsBefore, channelsAfter);
+                    log.info("Role-restricted channel groups rebuild completed by {}: {} groups -> {} groups, {} channels -> {} channels",
+                        event.getUser().getName(), groupsBefore, groupsAfter, channelsBefore, channelsAfter);
 
-            } catch (Exception e) {
-                log.error("Error during role-restricted channel groups rebuild", e);
-                event.getHook().editOriginal("❌ **Rebuild Failed**\n\nAn error occurred during the rebuild process. Check the logs for details.").queue();
-            }
+                } catch (Exception e) {
+                    log.error("Error during role-restricted channel groups rebuild", e);
+                    hook.editOriginal("❌ **Rebuild Failed**\n\nAn error occurred during the rebuild process. Check the logs for details.").queue();
+                }
+            });
         });
     }
 
@@ -1494,134 +1513,134 @@ public class AdminCommands {
 
     @SlashCommand(name = "debug", subcommand = "ungrouped-channels", description = "Show channels that are not part of any role-restricted group", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void debugUngroupedChannels(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
+        CommandExecution.execute(event, true, hook -> {
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getUser().getId()).orElse(null);
 
-        if (discordUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
+            if (discordUser == null) {
+                hook.editOriginal("User not found").queue();
+                return;
+            }
 
-        NerdBotConfig botConfig = SkyBlockNerdsBot.config();
-        List<RoleRestrictedChannelGroup> groups = botConfig.getChannelConfig().getRoleRestrictedChannelGroups();
-        Set<String> groupedChannelIds = new HashSet<>();
+            NerdBotConfig botConfig = SkyBlockNerdsBot.config();
+            List<RoleRestrictedChannelGroup> groups = botConfig.getChannelConfig().getRoleRestrictedChannelGroups();
+            Set<String> groupedChannelIds = new HashSet<>();
 
-        for (RoleRestrictedChannelGroup group : groups) {
-            groupedChannelIds.addAll(Arrays.asList(group.getChannelIds()));
-        }
+            for (RoleRestrictedChannelGroup group : groups) {
+                groupedChannelIds.addAll(Arrays.asList(group.getChannelIds()));
+            }
 
-        List<GuildChannel> ungroupedTextChannels = new ArrayList<>();
-        List<GuildChannel> ungroupedVoiceChannels = new ArrayList<>();
-        List<GuildChannel> ungroupedForumChannels = new ArrayList<>();
-        List<GuildChannel> ungroupedOtherChannels = new ArrayList<>();
+            List<GuildChannel> ungroupedTextChannels = new ArrayList<>();
+            List<GuildChannel> ungroupedVoiceChannels = new ArrayList<>();
+            List<GuildChannel> ungroupedForumChannels = new ArrayList<>();
+            List<GuildChannel> ungroupedOtherChannels = new ArrayList<>();
 
-        Guild guild = event.getGuild();
+            Guild guild = event.getGuild();
 
-        for (TextChannel channel : guild.getTextChannels()) {
-            if (!groupedChannelIds.contains(channel.getId())) {
-                ungroupedTextChannels.add(channel);
+            for (TextChannel channel : guild.getTextChannels()) {
+                if (!groupedChannelIds.contains(channel.getId())) {
+                    ungroupedTextChannels.add(channel);
+                }
             }
-        }
 
-        for (VoiceChannel channel : guild.getVoiceChannels()) {
-            if (!groupedChannelIds.contains(channel.getId())) {
-                ungroupedVoiceChannels.add(channel);
+            for (VoiceChannel channel : guild.getVoiceChannels()) {
+                if (!groupedChannelIds.contains(channel.getId())) {
+                    ungroupedVoiceChannels.add(channel);
+                }
             }
-        }
 
-        for (ForumChannel channel : guild.getForumChannels()) {
-            if (!groupedChannelIds.contains(channel.getId())) {
-                ungroupedForumChannels.add(channel);
+            for (ForumChannel channel : guild.getForumChannels()) {
+                if (!groupedChannelIds.contains(channel.getId())) {
+                    ungroupedForumChannels.add(channel);
+                }
             }
-        }
 
-        for (GuildChannel channel : guild.getChannels()) {
-            if (!groupedChannelIds.contains(channel.getId()) &&
-                channel.getType() != ChannelType.TEXT &&
-                channel.getType() != ChannelType.VOICE &&
-                channel.getType() != ChannelType.FORUM) {
-                ungroupedOtherChannels.add(channel);
+            for (GuildChannel channel : guild.getChannels()) {
+                if (!groupedChannelIds.contains(channel.getId()) &&
+                    channel.getType() != ChannelType.TEXT &&
+                    channel.getType() != ChannelType.VOICE &&
+                    channel.getType() != ChannelType.FORUM) {
+                    ungroupedOtherChannels.add(channel);
+                }
             }
-        }
 
-        int totalUngrouped = ungroupedTextChannels.size() + ungroupedVoiceChannels.size()
-            + ungroupedForumChannels.size() + ungroupedOtherChannels.size();
-        int totalChannels = guild.getChannels().size();
-        int totalGrouped = groupedChannelIds.size();
-
-        EmbedBuilder embedBuilder = new EmbedBuilder()
-            .setTitle("📋 Ungrouped Channels Analysis")
-            .setColor(totalUngrouped > 0 ? Color.YELLOW : Color.GREEN)
-            .setDescription("Channels that are not part of any role-restricted channel group")
-            .addField("📊 Summary",
-                String.format("**Total Channels:** %d\n**Grouped:** %d\n**Ungrouped:** %d\n**Groups:** %d",
-                    totalChannels, totalGrouped, totalUngrouped, groups.size()),
-                false);
-
-        if (!ungroupedTextChannels.isEmpty()) {
-            StringBuilder textChannels = new StringBuilder();
-            for (int i = 0; i < Math.min(ungroupedTextChannels.size(), 10); i++) {
-                GuildChannel channel = ungroupedTextChannels.get(i);
-                textChannels.append("- ").append(channel.getAsMention())
-                    .append(" (").append(getChannelAccessType(channel)).append(")\n");
-            }
-            if (ungroupedTextChannels.size() > 10) {
-                textChannels.append("... and ").append(ungroupedTextChannels.size() - 10).append(" more");
+            int totalUngrouped = ungroupedTextChannels.size() + ungroupedVoiceChannels.size()
+                + ungroupedForumChannels.size() + ungroupedOtherChannels.size();
+            int totalChannels = guild.getChannels().size();
+            int totalGrouped = groupedChannelIds.size();
+
+            EmbedBuilder embedBuilder = new EmbedBuilder()
+                .setTitle("📋 Ungrouped Channels Analysis")
+                .setColor(totalUngrouped > 0 ? Color.YELLOW : Color.GREEN)
+                .setDescription("Channels that are not part of any role-restricted channel group")
+                .addField("📊 Summary",
+                    String.format("**Total Channels:** %d\n**Grouped:** %d\n**Ungrouped:** %d\n**Groups:** %d",
+                        totalChannels, totalGrouped, totalUngrouped, groups.size()),
+                    false);
+
+            if (!ungroupedTextChannels.isEmpty()) {
+                StringBuilder textChannels = new StringBuilder();
+                for (int i = 0; i < Math.min(ungroupedTextChannels.size(), 10); i++) {
+                    GuildChannel channel = ungroupedTextChannels.get(i);
+                    textChannels.append("- ").append(channel.getAsMention())
+                        .append(" (").append(getChannelAccessType(channel)).append(")\n");
+                }
+                if (ungroupedTextChannels.size() > 10) {
+                    textChannels.append("... and ").append(ungroupedTextChannels.size() - 10).append(" more");
+                }
+
+                embedBuilder.addField(String.format("💬 Text Channels (%d)", ungroupedTextChannels.size()),
+                    textChannels.toString(), false);
             }
 
-            embedBuilder.addField(String.format("💬 Text Channels (%d)", ungroupedTextChannels.size()),
-                textChannels.toString(), false);
-        }
+            if (!ungroupedVoiceChannels.isEmpty()) {
+                StringBuilder voiceChannels = new StringBuilder();
+                for (int i = 0; i < Math.min(ungroupedVoiceChannels.size(), 10); i++) {
+                    GuildChannel channel = ungroupedVoiceChannels.get(i);
+                    voiceChannels.append("- ").append(channel.getName())
+                        .append(" (").append(getChannelAccessType(channel)).append(")\n");
+                }
+                if (ungroupedVoiceChannels.size() > 10) {
+                    voiceChannels.append("... and ").append(ungroupedVoiceChannels.size() - 10).append(" more");
+                }
 
-        if (!ungroupedVoiceChannels.isEmpty()) {
-            StringBuilder voiceChannels = new StringBuilder();
-            for (int i = 0; i < Math.min(ungroupedVoiceChannels.size(), 10); i++) {
-                GuildChannel channel = ungroupedVoiceChannels.get(i);
-                voiceChannels.append("- ").append(channel.getName())
-                    .append(" (").append(getChannelAccessType(channel)).append(")\n");
-            }
-            if (ungroupedVoiceChannels.size() > 10) {
-                voiceChannels.append("... and ").append(ungroupedVoiceChannels.size() - 10).append(" more");
+                embedBuilder.addField(String.format("🔊 Voice Channels (%d)", ungroupedVoiceChannels.size()),
+                    voiceChannels.toString(), false);
             }
 
-            embedBuilder.addField(String.format("🔊 Voice Channels (%d)", ungroupedVoiceChannels.size()),
-                voiceChannels.toString(), false);
-        }
+            if (!ungroupedForumChannels.isEmpty()) {
+                StringBuilder forumChannels = new StringBuilder();
+                for (int i = 0; i < Math.min(ungroupedForumChannels.size(), 10); i++) {
+                    GuildChannel channel = ungroupedForumChannels.get(i);
+                    forumChannels.append(" - ").append(channel.getAsMention())
+                        .append(" (").append(getChannelAccessType(channel)).append(")\n");
+                }
+                if (ungroupedForumChannels.size() > 10) {
+                    forumChannels.append("... and ").append(ungroupedForumChannels.size() - 10).append(" more");
+                }
 
-        if (!ungroupedForumChannels.isEmpty()) {
-            StringBuilder forumChannels = new StringBuilder();
-            for (int i = 0; i < Math.min(ungroupedForumChannels.size(), 10); i++) {
-                GuildChannel channel = ungroupedForumChannels.get(i);
-                forumChannels.append(" - ").append(channel.getAsMention())
-                    .append(" (").append(getChannelAccessType(channel)).append(")\n");
-            }
-            if (ungroupedForumChannels.size() > 10) {
-                forumChannels.append("... and ").append(ungroupedForumChannels.size() - 10).append(" more");
+                embedBuilder.addField(String.format("📋 Forum Channels (%d)", ungroupedForumChannels.size()),
+                    forumChannels.toString(), false);
             }
 
-            embedBuilder.addField(String.format("📋 Forum Channels (%d)", ungroupedForumChannels.size()),
-                forumChannels.toString(), false);
-        }
+            if (!ungroupedOtherChannels.isEmpty()) {
+                StringBuilder otherChannels = new StringBuilder();
+                for (int i = 0; i < Math.min(ungroupedOtherChannels.size(), 5); i++) {
+                    GuildChannel channel = ungroupedOtherChannels.get(i);
+                    otherChannels.append(" - ").append(channel.getName())
+                        .append(" (").append(channel.getType().name()).append(")\n");
+                }
+                if (ungroupedOtherChannels.size() > 5) {
+                    otherChannels.append("... and ").append(ungroupedOtherChannels.size() - 5).append(" more");
+                }
 
-        if (!ungroupedOtherChannels.isEmpty()) {
-            StringBuilder otherChannels = new StringBuilder();
-            for (int i = 0; i < Math.min(ungroupedOtherChannels.size(), 5); i++) {
-                GuildChannel channel = ungroupedOtherChannels.get(i);
-                otherChannels.append(" - ").append(channel.getName())
-                    .append(" (").append(channel.getType().name()).append(")\n");
+                embedBuilder.addField(String.format("🔧 Other Channels (%d)", ungroupedOtherChannels.size()),
+                    otherChannels.toString(), false);
             }
-            if (ungroupedOtherChannels.size() > 5) {
-                otherChannels.append("... and ").append(ungroupedOtherChannels.size() - 5).append(" more");
-            }
-
-            embedBuilder.addField(String.format("🔧 Other Channels (%d)", ungroupedOtherChannels.size()),
-                otherChannels.toString(), false);
-        }
 
-        embedBuilder.setTimestamp(Instant.now());
-        event.getHook().editOriginalEmbeds(embedBuilder.build()).queue();
+            embedBuilder.setTimestamp(Instant.now());
+            hook.editOriginalEmbeds(embedBuilder.build()).queue();
+        });
     }
 
     /**
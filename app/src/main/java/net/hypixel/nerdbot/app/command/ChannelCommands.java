@@ -12,6 +12,7 @@ import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEve
 import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.managers.channel.concrete.ThreadChannelManager;
 import net.dv8tion.jda.api.utils.FileUpload;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.discord.config.objects.CustomForumTag;
 import net.hypixel.nerdbot.discord.config.objects.ForumAutoTag;
@@ -37,53 +38,53 @@ public class ChannelCommands {
 
     @SlashCommand(name = "archive", subcommand = "channel", description = "Archives a channel and exports its contents to a file", guildOnly = true, defaultMemberPermissions = {"MANAGE_CHANNEL"}, requiredPermissions = {"MANAGE_CHANNEL"})
     public void archive(SlashCommandInteractionEvent event, @SlashOption TextChannel channel) {
-        event.deferReply(true).complete();
-        InteractionHook hook = event.getHook();
-        hook.editOriginal(String.format("Archiving channel %s! If no file appears here, please contact a bot developer.", channel.getAsMention())).queue();
-
-        CompletableFuture.runAsync(() -> {
-            try {
-                File file = ArchiveExporter.exportTextChannel(channel, createProgressUpdater(hook));
-                log.info("Finished archiving channel {} (ID: {})! File located at: {}", channel.getName(), channel.getId(), file.getAbsolutePath());
-
-                if (!hook.isExpired()) {
-                    hook.editOriginal(String.format("Finished archiving channel %s! The file should appear below.", channel.getAsMention()))
-                        .setFiles(FileUpload.fromData(file))
-                        .queue();
-                }
-            } catch (Exception exception) {
-                CommandErrorResponder.capture("An error occurred when archiving the channel " + channel.getId(), exception);
-                if (!hook.isExpired()) {
-                    hook.editOriginal(String.format("An error occurred while archiving channel %s. Please try again later.", channel.getAsMention())).queue();
+        CommandExecution.execute(event, true, hook -> {
+            hook.editOriginal(String.format("Archiving channel %s! If no file appears here, please contact a bot developer.", channel.getAsMention())).queue();
+
+            CompletableFuture.runAsync(() -> {
+                try {
+                    File file = ArchiveExporter.exportTextChannel(channel, createProgressUpdater(hook));
+                    log.info("Finished archiving channel {} (ID: {})! File located at: {}", channel.getName(), channel.getId(), file.getAbsolutePath());
+
+                    if (!hook.isExpired()) {
+                        hook.editOriginal(String.format("Finished archiving channel %s! The file should appear below.", channel.getAsMention()))
+                            .setFiles(FileUpload.fromData(file))
+                            .queue();
+                    }
+                } catch (Exception exception) {
+                    CommandErrorResponder.capture("An error occurred when archiving the channel " + channel.getId(), exception);
+                    if (!hook.isExpired()) {
+                        hook.editOriginal(String.format("An error occurred while archiving channel %s. Please try again later.", channel.getAsMention())).queue();
+                    }
                 }
-            }
+            });
         });
     }
 
     @SlashCommand(name = "archive", subcommand = "category", description = "Archives all text/forum channels (including threads) in a category into a single zip", guildOnly = true, defaultMemberPermissions = {"MANAGE_CHANNEL"}, requiredPermissions = {"MANAGE_CHANNEL"})
     public void archiveCategory(SlashCommandInteractionEvent event, @SlashOption Category category) {
-        event.deferReply(true).complete();
-        InteractionHook hook = event.getHook();
-        hook.editOriginal(String.format("Archiving category **%s** (ID: %s). You will receive a DM when complete.", category.getName(), category.getId())).queue();
-
-        CompletableFuture.runAsync(() -> {
-            try {
-                File zipFile = ArchiveExporter.exportCategory(category, createProgressUpdater(hook));
-                if (!hook.isExpired()) {
-                    hook.editOriginal("Finished archiving! Sending the zip file via DM").queue();
-                }
-                sendZipToUserAsync(event, zipFile, hook, category.getName());
-            } catch (Exception exception) {
-                CommandErrorResponder.capture("Failed to archive category " + category.getId(), exception);
-                if (!hook.isExpired()) {
-                    hook.editOriginal("Failed to create the archive zip file. Please try again later.").queue();
-                } else {
-                    event.getUser().openPrivateChannel().queue(
-                        dm -> dm.sendMessage("Failed to archive category " + category.getName() + ". Please try again later.").queue(),
-                        error -> log.error("Failed to notify user {} of archive failure via DM", event.getUser().getId(), error)
-                    );
+        CommandExecution.execute(event, true, hook -> {
+            hook.editOriginal(String.format("Archiving category **%s** (ID: %s). You will receive a DM when complete.", category.getName(), category.getId())).queue();
+
+            CompletableFuture.runAsync(() -> {
+                try {
+                    File zipFile = ArchiveExporter.exportCategory(category, createProgressUpdater(hook));
+                    if (!hook.isExpired()) {
+                        hook.editOriginal("Finished archiving! Sending the zip file via DM").queue();
+                    }
+                    sendZipToUserAsync(event, zipFile, hook, category.getName());
+                } catch (Exception exception) {
+                    CommandErrorResponder.capture("Failed to archive category " + category.getId(), exception);
+                    if (!hook.isExpired()) {
+                        hook.editOriginal("Failed to create the archive zip file. Please try again later.").queue();
+                    } else {
+                        event.getUser().openPrivateChannel().queue(
+                            dm -> dm.sendMessage("Failed to archive category " + category.getName() + ". Please try again later.").queue(),
+                            error -> log.error("Failed to notify user {} of archive failure via DM", event.getUser().getId(), error)
+                        );
+                    }
                 }
-            }
+            });
         });
     }
 
@@ -163,58 +164,55 @@ public class ChannelCommands {
 
     @SlashCommand(name = "lock", description = "Locks the thread that the command is executed in", guildOnly = true, defaultMemberPermissions = {"MANAGE_THREADS"}, requiredPermissions = {"MANAGE_THREADS"})
     public void lockThread(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-        InteractionHook hook = event.getHook();
+        CommandExecution.execute(event, true, hook -> {
+            hook.editOriginal("Locking...").queue();
 
-        hook.editOriginal("Locking...").queue();
-
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-
-        discordUserRepository.findByIdAsync(event.getMember().getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    hook.editOriginal("User not found").queue();
-                    return;
-                }
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
-                if (!(event.getChannel() instanceof ThreadChannel threadChannel) || !(threadChannel.getParentChannel() instanceof ForumChannel)) {
-                    hook.editOriginal("This command is only available in threads!").queue();
-                    return;
-                }
-
-                ForumChannel forumChannel = threadChannel.getParentChannel().asForumChannel();
-                SuggestionConfig suggestionConfig = SkyBlockNerdsBot.config().getSuggestionConfig();
-                boolean isSuggestion = threadChannel.getParentChannel().getId().equalsIgnoreCase(suggestionConfig.getForumChannelId());
+            discordUserRepository.findByIdAsync(event.getMember().getId())
+                .thenAccept(discordUser -> {
+                    if (discordUser == null) {
+                        hook.editOriginal("User not found").queue();
+                        return;
+                    }
 
-                if (isSuggestion) {
-                    if (!DiscordUtils.hasTagByName(forumChannel, suggestionConfig.getReviewedTag())) {
-                        hook.editOriginal(String.format("I could not find a tag with the name `%s`!", suggestionConfig.getReviewedTag())).queue();
+                    if (!(event.getChannel() instanceof ThreadChannel threadChannel) || !(threadChannel.getParentChannel() instanceof ForumChannel)) {
+                        hook.editOriginal("This command is only available in threads!").queue();
                         return;
                     }
 
-                    handleTagAndLock(event, discordUser, threadChannel, forumChannel, suggestionConfig.getReviewedTag());
-                } else {
-                    Optional<CustomForumTag> customForumTag = DiscordBotEnvironment.getBot().getConfig().getChannelConfig().getCustomForumTags().stream()
-                        .filter(tag -> tag.getOwnerId() != null && tag.getOwnerId().equals(discordUser.getDiscordId()))
-                        .findFirst();
+                    ForumChannel forumChannel = threadChannel.getParentChannel().asForumChannel();
+                    SuggestionConfig suggestionConfig = SkyBlockNerdsBot.config().getSuggestionConfig();
+                    boolean isSuggestion = threadChannel.getParentChannel().getId().equalsIgnoreCase(suggestionConfig.getForumChannelId());
 
-                    if (customForumTag.isPresent()) {
-                        handleTagAndLock(event, discordUser, threadChannel, forumChannel, customForumTag.get().getName());
+                    if (isSuggestion) {
+                        if (!DiscordUtils.hasTagByName(forumChannel, suggestionConfig.getReviewedTag())) {
+                            hook.editOriginal(String.format("I could not find a tag with the name `%s`!", suggestionConfig.getReviewedTag())).queue();
+                            return;
+                        }
+
+                        handleTagAndLock(event, hook, discordUser, threadChannel, forumChannel, suggestionConfig.getReviewedTag());
                     } else {
-                        handleTagAndLock(event, discordUser, threadChannel, forumChannel, suggestionConfig.getReviewedTag());
+                        Optional<CustomForumTag> customForumTag = DiscordBotEnvironment.getBot().getConfig().getChannelConfig().getCustomForumTags().stream()
+                            .filter(tag -> tag.getOwnerId() != null && tag.getOwnerId().equals(discordUser.getDiscordId()))
+                            .findFirst();
+
+                        if (customForumTag.isPresent()) {
+                            handleTagAndLock(event, hook, discordUser, threadChannel, forumChannel, customForumTag.get().getName());
+                        } else {
+                            handleTagAndLock(event, hook, discordUser, threadChannel, forumChannel, suggestionConfig.getReviewedTag());
+                        }
                     }
-                }
-            })
-            .exceptionally(throwable -> {
-                log.error("Error loading user for channel lock", throwable);
-                hook.editOriginal("Failed to load user data").queue();
-                return null;
-            });
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error loading user for channel lock", throwable);
+                    hook.editOriginal("Failed to load user data").queue();
+                    return null;
+                });
+        });
     }
 
-    private void handleTagAndLock(SlashCommandInteractionEvent event, DiscordUser discordUser, ThreadChannel threadChannel, ForumChannel forumChannel, String tagName) {
-        InteractionHook hook = event.getHook();
-
+    private void handleTagAndLock(SlashCommandInteractionEvent event, InteractionHook hook, DiscordUser discordUser, ThreadChannel threadChannel, ForumChannel forumChannel, String tagName) {
         if (!DiscordUtils.hasTagByName(forumChannel, tagName)) {
             hook.editOriginal(String.format("I could not find a tag with the name `%s`!", tagName)).queue();
             return;
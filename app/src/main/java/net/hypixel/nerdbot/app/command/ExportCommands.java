@@ -15,6 +15,7 @@ import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
 import net.dv8tion.jda.api.utils.messages.MessageEditData;
 import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
 import net.hypixel.nerdbot.app.command.util.CommandErrorResponder;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.role.RoleManager;
 import net.hypixel.nerdbot.marmalade.io.FileUtils;
 import net.hypixel.nerdbot.marmalade.csv.CSVData;
@@ -49,7 +50,7 @@ public class ExportCommands {
 
     @SlashCommand(name = PARENT_COMMAND, subcommand = "threads", description = "Export threads from a Forum Channel", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void exportForumThreads(SlashCommandInteractionEvent event, @SlashOption ForumChannel forumChannel) {
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
 
         if (event.getMember() == null) {
             event.getHook().editOriginal("This command can only be used in a server!").queue();
@@ -70,78 +71,78 @@ public class ExportCommands {
 
     @SlashCommand(name = PARENT_COMMAND, subcommand = "greenlit", description = "Exports all greenlit forum posts into a CSV file", guildOnly = true, defaultMemberPermissions = {"MANAGE_CHANNEL", "MANAGE_THREADS"}, requiredPermissions = {"MANAGE_CHANNEL", "MANAGE_THREADS"})
     public void exportGreenlitThreads(SlashCommandInteractionEvent event, @SlashOption(description = "Disregards any post before this UNIX timestamp (Default: 0)", required = false) long suggestionsAfter) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            log.error("Couldn't connect to the database!");
-            return;
-        }
-
-        if (event.getMember() == null) {
-            event.getHook().editOriginal("This command can only be used in a server!").queue();
-            return;
-        }
-
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        DiscordUser discordUser = discordUserRepository.findById(event.getMember().getId()).orElse(null);
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                log.error("Couldn't connect to the database!");
+                return;
+            }
 
-        if (discordUser == null) {
-            event.getHook().editOriginal("User not found").queue();
-            return;
-        }
+            if (event.getMember() == null) {
+                hook.editOriginal("This command can only be used in a server!").queue();
+                return;
+            }
 
-        GreenlitMessageRepository greenlitMessageRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(GreenlitMessageRepository.class);
-        // Force a save before exporting because some might still be cached
-        greenlitMessageRepository.saveAllToDatabase();
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUser discordUser = discordUserRepository.findById(event.getMember().getId()).orElse(null);
 
-        List<GreenlitMessage> output = greenlitMessageRepository.getAllDocuments();
+            if (discordUser == null) {
+                hook.editOriginal("User not found").queue();
+                return;
+            }
 
-        if (output.isEmpty()) {
-            log.info("No greenlit suggestions found for {}'s export (after: {}, current time: {})", event.getMember().getEffectiveName(), formatTimestampLog(suggestionsAfter), formatTimestampLog(System.currentTimeMillis()));
-            event.getHook().editOriginal("No suggestions were greenlit").queue();
-            return;
-        }
+            GreenlitMessageRepository greenlitMessageRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(GreenlitMessageRepository.class);
+            // Force a save before exporting because some might still be cached
+            greenlitMessageRepository.saveAllToDatabase();
 
-        // Send a log line with formatted dates for the suggestionsAfter parameter
-        log.info("Exporting {} greenlit suggestions for {} (after: {}, current time: {})", output.size(), event.getMember().getEffectiveName(), formatTimestampLog(suggestionsAfter), formatTimestampLog(System.currentTimeMillis()));
+            List<GreenlitMessage> output = greenlitMessageRepository.getAllDocuments();
 
-        CSVData csvData = new CSVData(List.of("Creation Date", "Tags", "Title"), ";");
+            if (output.isEmpty()) {
+                log.info("No greenlit suggestions found for {}'s export (after: {}, current time: {})", event.getMember().getEffectiveName(), formatTimestampLog(suggestionsAfter), formatTimestampLog(System.currentTimeMillis()));
+                hook.editOriginal("No suggestions were greenlit").queue();
+                return;
+            }
 
-        for (GreenlitMessage greenlitMessage : output) {
-            // If we manually limited the timestamps to before "x" time (defaults to 0) it "removes" the greenlit suggestions from appearing in the linked CSV file.
-            if (greenlitMessage.getSuggestionTimestamp() >= suggestionsAfter) {
-                csvData.addRow(List.of(
-                    formatTimestampSheets(greenlitMessage.getSuggestionTimestamp()),
-                    "\"" + String.join(", ", greenlitMessage.getTags()) + "\"",
-                    "=HYPERLINK(\"" + greenlitMessage.getSuggestionUrl() + "\", \"" + greenlitMessage.getSuggestionTitle().replace("\"", "\"\"") + "\")"
-                ));
-                log.info("Added greenlit suggestion '{}' to the greenlit suggestion export for {} (after: {}, current time: {})", greenlitMessage.getSuggestionTitle(), event.getMember().getEffectiveName(), formatTimestampLog(suggestionsAfter), formatTimestampLog(System.currentTimeMillis()));
-            } else {
-                log.debug("Skipping greenlit suggestion {} because it was created before the specified timestamp (after: {}, suggestion timestamp: {})", greenlitMessage.getSuggestionTitle(), formatTimestampLog(suggestionsAfter), formatTimestampLog(greenlitMessage.getSuggestionTimestamp()));
+            // Send a log line with formatted dates for the suggestionsAfter parameter
+            log.info("Exporting {} greenlit suggestions for {} (after: {}, current time: {})", output.size(), event.getMember().getEffectiveName(), formatTimestampLog(suggestionsAfter), formatTimestampLog(System.currentTimeMillis()));
+
+            CSVData csvData = new CSVData(List.of("Creation Date", "Tags", "Title"), ";");
+
+            for (GreenlitMessage greenlitMessage : output) {
+                // If we manually limited the timestamps to before "x" time (defaults to 0) it "removes" the greenlit suggestions from appearing in the linked CSV file.
+                if (greenlitMessage.getSuggestionTimestamp() >= suggestionsAfter) {
+                    csvData.addRow(List.of(
+                        formatTimestampSheets(greenlitMessage.getSuggestionTimestamp()),
+                        "\"" + String.join(", ", greenlitMessage.getTags()) + "\"",
+                        "=HYPERLINK(\"" + greenlitMessage.getSuggestionUrl() + "\", \"" + greenlitMessage.getSuggestionTitle().replace("\"", "\"\"") + "\")"
+                    ));
+                    log.info("Added greenlit suggestion '{}' to the greenlit suggestion export for {} (after: {}, current time: {})", greenlitMessage.getSuggestionTitle(), event.getMember().getEffectiveName(), formatTimestampLog(suggestionsAfter), formatTimestampLog(System.currentTimeMillis()));
+                } else {
+                    log.debug("Skipping greenlit suggestion {} because it was created before the specified timestamp (after: {}, suggestion timestamp: {})", greenlitMessage.getSuggestionTitle(), formatTimestampLog(suggestionsAfter), formatTimestampLog(greenlitMessage.getSuggestionTimestamp()));
+                }
             }
-        }
 
-        if (!csvData.hasContent()) {
-            log.info("No greenlit suggestions found for {}'s export (after: {})", event.getMember().getEffectiveName(), formatTimestampLog(suggestionsAfter));
-            event.getHook().editOriginal("No suggestions were greenlit").queue();
-            return;
-        }
+            if (!csvData.hasContent()) {
+                log.info("No greenlit suggestions found for {}'s export (after: {})", event.getMember().getEffectiveName(), formatTimestampLog(suggestionsAfter));
+                hook.editOriginal("No suggestions were greenlit").queue();
+                return;
+            }
 
-        try {
-            MessageEditData data = MessageEditBuilder.from(MessageEditData.fromContent("To import into Google Sheets, go to File -> Import, Upload the `.csv` document shown below.\nChange `Import Location` to `Append to current sheet` and `Separator Type` should be defaulted to Automatic detection if not, change it to tabs.)"))
-                .setFiles(FileUpload.fromData(FileUtils.createTempFile(String.format("export-greenlit-%s.csv", FileUtils.FILE_NAME_DATE_FORMAT.format(Instant.now())), csvData.toCSV())))
-                .build();
+            try {
+                MessageEditData data = MessageEditBuilder.from(MessageEditData.fromContent("To import into Google Sheets, go to File -> Import, Upload the `.csv` document shown below.\nChange `Import Location` to `Append to current sheet` and `Separator Type` should be defaulted to Automatic detection if not, change it to tabs.)"))
+                    .setFiles(FileUpload.fromData(FileUtils.createTempFile(String.format("export-greenlit-%s.csv", FileUtils.FILE_NAME_DATE_FORMAT.format(Instant.now())), csvData.toCSV())))
+                    .build();
 
-            event.getHook().editOriginal(data).queue();
-        } catch (IOException exception) {
-            CommandErrorResponder.respond(event.getHook(), "Failed to create the export file. Please try again later.", exception);
-        }
+                hook.editOriginal(data).queue();
+            } catch (IOException exception) {
+                CommandErrorResponder.respond(hook, "Failed to create the export file. Please try again later.", exception);
+            }
+        });
     }
 
     @SlashCommand(name = PARENT_COMMAND, subcommand = "uuids", description = "Get all assigned Minecraft Names/UUIDs from all specified roles (requires Member) in the server.", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void userList(SlashCommandInteractionEvent event, @SlashOption(description = "Comma-separated role names to search for (Default: Member)", required = false) String roles) {
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
         String[] roleArray = roles != null ? roles.split(", ?") : new String[]{"Member"};
 
@@ -186,7 +187,7 @@ public class ExportCommands {
 
     @SlashCommand(name = PARENT_COMMAND, subcommand = "roles", description = "Export a list of users with the given roles", guildOnly = true, defaultMemberPermissions = {"BAN_MEMBERS"}, requiredPermissions = {"BAN_MEMBERS"})
     public void exportRoles(SlashCommandInteractionEvent event, @SlashOption(description = "Comma-separated list of role names (e.g. Role 1, Role 2, Role 3)") String roles) {
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
         String[] roleArray = roles.split(", ?");
 
         if (event.getGuild() == null) {
@@ -241,7 +242,7 @@ public class ExportCommands {
         @SlashOption(description = "The number of messages to consider as active", required = false) int inactivityMessages,
         @SlashOption(description = "Role to consider when exporting", required = false) String role
     ) {
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
 
         if (event.getGuild() == null || event.getMember() == null) {
             event.getHook().editOriginal("This command can only be used in a server!").queue();
@@ -387,15 +388,14 @@ public class ExportCommands {
 
     @SlashCommand(name = PARENT_COMMAND, subcommand = "user-suggestions", description = "Export all suggestions made by a specific user ID", guildOnly = true, defaultMemberPermissions = {"ADMINISTRATOR"}, requiredPermissions = {"ADMINISTRATOR"})
     public void exportUserSuggestions(SlashCommandInteractionEvent event, @SlashOption(description = "User ID to export suggestions for") String userId) {
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
 
         try {
             long userIdLong = Long.parseLong(userId);
 
             List<Suggestion> userSuggestions = SkyBlockNerdsBot.suggestionCache()
-                .getSuggestions()
+                .getSuggestionsByOwner(userIdLong)
                 .stream()
-                .filter(suggestion -> suggestion.getOwnerIdLong() == userIdLong)
                 .filter(Suggestion::notDeleted)
                 .toList();
 
@@ -39,16 +39,23 @@ import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.utils.FileUpload;
 import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
 import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
+import net.hypixel.nerdbot.app.config.GeneratorConfig;
+import net.hypixel.nerdbot.app.generation.AutocompleteIndex;
 import net.hypixel.nerdbot.app.generation.DiscordGenerationContext;
+import net.hypixel.nerdbot.app.generation.RenderCache;
+import net.hypixel.nerdbot.app.generation.RenderExecutor;
+import net.hypixel.nerdbot.app.generation.RenderedImage;
 import net.hypixel.nerdbot.app.generation.pack.ResourcePackService;
+import net.hypixel.nerdbot.app.storage.DiscordUserUpdates;
+import net.hypixel.nerdbot.app.storage.DocumentUpdate;
 import net.hypixel.nerdbot.app.util.GlyphListing;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.config.channel.ChannelConfig;
 import net.hypixel.nerdbot.discord.util.DiscordBotEnvironment;
 import net.hypixel.nerdbot.discord.util.StringUtils;
 import net.hypixel.nerdbot.discord.util.pagination.PaginatedResponse;
 import net.hypixel.nerdbot.discord.util.pagination.PaginationManager;
 import net.hypixel.nerdbot.marmalade.functional.Pair;
-import net.hypixel.nerdbot.marmalade.image.ImageUtil;
 import net.hypixel.nerdbot.marmalade.io.FileUtils;
 import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
 import net.hypixel.nerdbot.marmalade.storage.database.model.user.generator.GeneratorHistory;
@@ -59,12 +66,17 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -103,6 +115,39 @@ public class GeneratorCommands {
     private static final String TOOLTIP_STYLE_DESCRIPTION = "The pack tooltip style to render with (defaults to the rarity's configured style)";
     private static final String ANIMATED_DESCRIPTION = "Whether animated pack textures render as a GIF (False forces a static render)";
 
+    private static final int DEFAULT_DURABILITY = 100;
+    private static final int TEXT_DEFAULT_ALPHA = 0;
+    private static final int TEXT_DEFAULT_MAX_LINE_LENGTH = MinecraftTooltipGenerator.DEFAULT_MAX_LINE_LENGTH * 3;
+    private static final int DIALOGUE_DEFAULT_MAX_LINE_LENGTH = 91;
+
+    /**
+     * The value each render command uses for an option left out, keyed by full command name, so
+     * the render cache treats an omitted option and its explicit default as the same render.
+     * Keep in step with the defaults the commands resolve.
+     */
+    private static final Map<String, Map<String, String>> RENDER_OPTION_DEFAULTS = Map.of(
+        BASE_COMMAND + " display", optionDefaults(
+            "enchanted", false, "hover_effect", false, "durability", DEFAULT_DURABILITY, "animated", true),
+        BASE_COMMAND + " powerstone", optionDefaults(
+            "alpha", MinecraftTooltip.DEFAULT_ALPHA, "padding", MinecraftTooltip.DEFAULT_PADDING, "enchanted", false,
+            "animated", true, "selected", true, "include_gen_command", false),
+        BASE_COMMAND + " recipe", optionDefaults(
+            "render_background", true),
+        BASE_COMMAND + " inventory", optionDefaults(
+            "draw_border", true, "max_line_length", MinecraftTooltipGenerator.DEFAULT_MAX_LINE_LENGTH),
+        BASE_COMMAND + " item", optionDefaults(
+            "type", "", "rarity", "none", "alpha", MinecraftTooltip.DEFAULT_ALPHA, "padding", MinecraftTooltip.DEFAULT_PADDING,
+            "centered", false, "enchanted", false, "animated", true, "first_line_padding", true,
+            "max_line_length", MinecraftTooltipGenerator.DEFAULT_MAX_LINE_LENGTH, "render_border", true, "durability", DEFAULT_DURABILITY),
+        BASE_COMMAND + " text", optionDefaults(
+            "centered", false, "alpha", TEXT_DEFAULT_ALPHA, "padding", MinecraftTooltip.DEFAULT_PADDING,
+            "max_line_length", TEXT_DEFAULT_MAX_LINE_LENGTH, "render_border", false),
+        BASE_COMMAND + " dialogue single", optionDefaults(
+            "abiphone", false, "max_line_length", DIALOGUE_DEFAULT_MAX_LINE_LENGTH, "render_background", false),
+        BASE_COMMAND + " dialogue multi", optionDefaults(
+            "abiphone", false, "max_line_length", DIALOGUE_DEFAULT_MAX_LINE_LENGTH, "render_background", false)
+    );
+
     private static final boolean AUTO_HIDE_ON_ERROR = true;
 
     @SlashCommand(name = BASE_COMMAND, subcommand = "display", description = "Display an item", guildOnly = true)
@@ -123,53 +168,49 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
-
-        event.deferReply(hidden).complete();
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        GenerationContext context = DiscordGenerationContext.fromEvent(event, hidden);
+        CommandExecution.execute(event, ephemeral, hook -> {
+            GenerationContext context = DiscordGenerationContext.fromEvent(event, ephemeral);
 
-        enchanted = enchanted != null && enchanted;
-        hoverEffect = hoverEffect != null && hoverEffect;
-        animated = animated == null || animated;
-        durability = durability == null ? 100 : durability;
+            boolean resolvedEnchanted = enchanted != null && enchanted;
+            boolean resolvedHoverEffect = hoverEffect != null && hoverEffect;
+            boolean resolvedAnimated = animated == null || animated;
+            int resolvedDurability = durability == null ? DEFAULT_DURABILITY : durability;
 
-        try {
-            PackId packId = resolvePackOption(pack);
-            GeneratorImageBuilder item = new GeneratorImageBuilder().withContext(context);
+            try {
+                PackId packId = resolvePackOption(pack);
+                GeneratorImageBuilder item = new GeneratorImageBuilder().withContext(context);
 
-            if (itemId.equalsIgnoreCase("player_head") && skinValue != null) {
-                item.addGenerator(new MinecraftPlayerHeadGenerator.Builder()
-                    .withSkin(skinValue)
-                    .build());
-            } else {
-                MinecraftItemGenerator.Builder itemBuilder = new MinecraftItemGenerator.Builder()
-                    .withItem(itemId)
-                    .withData(data)
-                    .withColor(color)
-                    .isEnchanted(enchanted)
-                    .withHoverEffect(hoverEffect);
-                applyItemPack(itemBuilder, packId, animated);
-
-                if (durability != null) {
-                    itemBuilder.withDurability(durability);
-                }
+                if (itemId.equalsIgnoreCase("player_head") && skinValue != null) {
+                    item.addGenerator(new MinecraftPlayerHeadGenerator.Builder()
+                        .withSkin(skinValue)
+                        .build());
+                } else {
+                    MinecraftItemGenerator.Builder itemBuilder = new MinecraftItemGenerator.Builder()
+                        .withItem(itemId)
+                        .withData(data)
+                        .withColor(color)
+                        .isEnchanted(resolvedEnchanted)
+                        .withHoverEffect(resolvedHoverEffect);
+                    applyItemPack(itemBuilder, packId, resolvedAnimated);
 
-                item.addGenerator(itemBuilder.build());
-            }
+                    itemBuilder.withDurability(resolvedDurability);
 
-            GeneratedObject generatedObject = item.build();
+                    item.addGenerator(itemBuilder.build());
+                }
 
-            event.getHook().editOriginalAttachments(renderAttachment(generatedObject, "item")).queue();
+                hook.editOriginalAttachments(render(event, item, "item")).queue();
 
-            addCommandToUserHistory(event.getUser(), event.getCommandString());
-        } catch (GeneratorException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-            log.error("Encountered an error while generating an item display", exception);
-        } catch (IOException exception) {
-            event.getHook().editOriginal("An error occurred while generating that item!").queue();
-            log.error("Encountered an error while generating an item display", exception);
-        }
+                addCommandToUserHistory(event.getUser(), event.getCommandString());
+            } catch (GeneratorException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
+                log.error("Encountered an error while generating an item display", exception);
+            } catch (IOException exception) {
+                hook.editOriginal("An error occurred while generating that item!").queue();
+                log.error("Encountered an error while generating an item display", exception);
+            }
+        });
     }
 
     @SlashCommand(name = BASE_COMMAND, subcommand = "powerstone", description = "Generate an image of a Power Stone", guildOnly = true)
@@ -196,136 +237,134 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        event.deferReply(hidden).complete();
+        CommandExecution.execute(event, ephemeral, hook -> {
+            GenerationContext context = DiscordGenerationContext.fromEvent(event, ephemeral);
 
-        GenerationContext context = DiscordGenerationContext.fromEvent(event, hidden);
+            int resolvedAlpha = alpha == null ? MinecraftTooltip.DEFAULT_ALPHA : alpha;
+            int resolvedPadding = padding == null ? MinecraftTooltip.DEFAULT_PADDING : padding;
+            boolean resolvedEnchanted = enchanted != null && enchanted;
+            boolean resolvedAnimated = animated == null || animated;
 
-        alpha = alpha == null ? MinecraftTooltip.DEFAULT_ALPHA : alpha;
-        padding = padding == null ? MinecraftTooltip.DEFAULT_PADDING : padding;
-        enchanted = enchanted != null && enchanted;
-        animated = animated == null || animated;
+            try {
+                StringBuilder scalingStatsFormatted = new StringBuilder();
+                Map<String, Integer> scalingStatsMap = parseStatsToMap(scalingStats);
 
-        try {
-            StringBuilder scalingStatsFormatted = new StringBuilder();
-            Map<String, Integer> scalingStatsMap = parseStatsToMap(scalingStats);
+                for (Map.Entry<String, Integer> entry : scalingStatsMap.entrySet()) {
+                    String statName = entry.getKey();
+                    Integer basePower = entry.getValue();
+                    Stat stat = Stat.byName(statName);
 
-            for (Map.Entry<String, Integer> entry : scalingStatsMap.entrySet()) {
-                String statName = entry.getKey();
-                Integer basePower = entry.getValue();
-                Stat stat = Stat.byName(statName);
+                    if (stat == null) {
+                        throw new GeneratorException("`" + statName + "` is not a valid stat");
+                    }
 
-                if (stat == null) {
-                    throw new GeneratorException("`" + statName + "` is not a valid stat");
+                    scalingStatsFormatted.append(String.format("%%%%%s:%s%%%%\\n", statName, StringUtils.COMMA_SEPARATED_FORMAT.format(calculatePowerStoneStat(stat, basePower, magicalPower))));
                 }
 
-                scalingStatsFormatted.append(String.format("%%%%%s:%s%%%%\\n", statName, StringUtils.COMMA_SEPARATED_FORMAT.format(calculatePowerStoneStat(stat, basePower, magicalPower))));
-            }
+                if (!scalingStatsFormatted.isEmpty()) {
+                    scalingStatsFormatted = new StringBuilder("&7Stats:\\n")
+                        .append(scalingStatsFormatted)
+                        .append("\\n");
+                }
 
-            if (!scalingStatsFormatted.isEmpty()) {
-                scalingStatsFormatted = new StringBuilder("&7Stats:\\n")
-                    .append(scalingStatsFormatted)
-                    .append("\\n");
-            }
+                StringBuilder bonusStatsFormatted = new StringBuilder();
+                Map<String, Integer> bonusStats = parseStatsToMap(uniqueBonus);
 
-            StringBuilder bonusStatsFormatted = new StringBuilder();
-            Map<String, Integer> bonusStats = parseStatsToMap(uniqueBonus);
+                for (Map.Entry<String, Integer> entry : bonusStats.entrySet()) {
+                    String statName = entry.getKey();
+                    Integer statAmount = entry.getValue();
+                    Stat stat = Stat.byName(statName);
 
-            for (Map.Entry<String, Integer> entry : bonusStats.entrySet()) {
-                String statName = entry.getKey();
-                Integer statAmount = entry.getValue();
-                Stat stat = Stat.byName(statName);
+                    if (stat == null) {
+                        throw new GeneratorException("'" + statName + "' is not a valid stat");
+                    }
 
-                if (stat == null) {
-                    throw new GeneratorException("'" + statName + "' is not a valid stat");
+                    bonusStatsFormatted.append(String.format("%%%%%s:%s%%%%\\n", statName, StringUtils.COMMA_SEPARATED_FORMAT.format(statAmount)));
                 }
 
-                bonusStatsFormatted.append(String.format("%%%%%s:%s%%%%\\n", statName, StringUtils.COMMA_SEPARATED_FORMAT.format(statAmount)));
-            }
+                if (!bonusStatsFormatted.isEmpty()) {
+                    bonusStatsFormatted = new StringBuilder("&7Unique Power Bonus:\\n")
+                        .append(bonusStatsFormatted)
+                        .append("\\n");
+                }
 
-            if (!bonusStatsFormatted.isEmpty()) {
-                bonusStatsFormatted = new StringBuilder("&7Unique Power Bonus:\\n")
-                    .append(bonusStatsFormatted)
-                    .append("\\n");
-            }
+                String itemLoreTemplate =
+                    "&8%s\\n" + // %s = PowerStrength.byName(powerStrength) OR powerStrength
+                        "\\n" +
+                        "%s" + // %s = scalingStatsFormatted
+                        "%s" + // %s = bonusStatsFormatted
+                        "&7You have: &6%s Magical Power\\n" + // %d = magicalPower
+                        "\\n" +
+                        (selected == null || selected ? "&aPower is selected!" : "&eClick to select power!");
+
+                String itemLore = String.format(itemLoreTemplate,
+                    PowerStrength.byName(powerStrength) == null ? powerStrength : PowerStrength.byName(powerStrength).getFormattedDisplay(),
+                    scalingStatsFormatted,
+                    bonusStatsFormatted,
+                    StringUtils.COMMA_SEPARATED_FORMAT.format(magicalPower)
+                );
+
+                try {
+                    PackId packId = resolvePackOption(pack);
+                    GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context);
+                    MinecraftTooltipGenerator.Builder tooltipGenerator = new MinecraftTooltipGenerator.Builder()
+                        .withName("&a" + powerName)
+                        .withRarity(Rarity.byName("none"))
+                        .withItemLore(itemLore)
+                        .withAlpha(resolvedAlpha)
+                        .withPadding(resolvedPadding)
+                        .isTextCentered(false)
+                        .hasFirstLinePadding(true)
+                        .withRenderBorder(true);
+                    applyPackTheme(tooltipGenerator, packId, null, Rarity.byName("none"));
+
+                    if (includeGenCommand != null && includeGenCommand) {
+                        // The builder round-trips its own fields (including pack and tooltip_style);
+                        // only options that belong to the item generator still need appending by hand.
+                        String slashCommand = appendPowerStoneItemOptions(tooltipGenerator.buildSlashCommand(), itemId, resolvedEnchanted, resolvedAnimated);
+
+                        hook.sendMessage("Your Power Stone has been parsed into a slash command:\n```" + slashCommand.trim() + "```").queue();
+                    }
 
-            String itemLoreTemplate =
-                "&8%s\\n" + // %s = PowerStrength.byName(powerStrength) OR powerStrength
-                    "\\n" +
-                    "%s" + // %s = scalingStatsFormatted
-                    "%s" + // %s = bonusStatsFormatted
-                    "&7You have: &6%s Magical Power\\n" + // %d = magicalPower
-                    "\\n" +
-                    (selected == null || selected ? "&aPower is selected!" : "&eClick to select power!");
-
-            String itemLore = String.format(itemLoreTemplate,
-                PowerStrength.byName(powerStrength) == null ? powerStrength : PowerStrength.byName(powerStrength).getFormattedDisplay(),
-                scalingStatsFormatted,
-                bonusStatsFormatted,
-                StringUtils.COMMA_SEPARATED_FORMAT.format(magicalPower)
-            );
+                    if (itemId != null) {
+                        if (itemId.equalsIgnoreCase("player_head")) {
+                            MinecraftPlayerHeadGenerator.Builder generator = new MinecraftPlayerHeadGenerator.Builder()
+                                .withScale(-2);
 
-            try {
-                PackId packId = resolvePackOption(pack);
-                GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context);
-                MinecraftTooltipGenerator.Builder tooltipGenerator = new MinecraftTooltipGenerator.Builder()
-                    .withName("&a" + powerName)
-                    .withRarity(Rarity.byName("none"))
-                    .withItemLore(itemLore)
-                    .withAlpha(alpha)
-                    .withPadding(padding)
-                    .isTextCentered(false)
-                    .hasFirstLinePadding(true)
-                    .withRenderBorder(true);
-                applyPackTheme(tooltipGenerator, packId, null, Rarity.byName("none"));
-
-                if (includeGenCommand != null && includeGenCommand) {
-                    // The builder round-trips its own fields (including pack and tooltip_style);
-                    // only options that belong to the item generator still need appending by hand.
-                    String slashCommand = appendPowerStoneItemOptions(tooltipGenerator.buildSlashCommand(), itemId, enchanted, animated);
-
-                    event.getHook().sendMessage("Your Power Stone has been parsed into a slash command:\n```" + slashCommand.trim() + "```").queue();
-                }
+                            if (skinValue != null) {
+                                generator.withSkin(skinValue);
+                            }
 
-                if (itemId != null) {
-                    if (itemId.equalsIgnoreCase("player_head")) {
-                        MinecraftPlayerHeadGenerator.Builder generator = new MinecraftPlayerHeadGenerator.Builder()
-                            .withScale(-2);
+                            generatorImageBuilder.addGenerator(generator.build());
+                        } else {
+                            MinecraftItemGenerator.Builder itemBuilder = new MinecraftItemGenerator.Builder()
+                                .withItem(itemId)
+                                .withColor(color)
+                                .isEnchanted(resolvedEnchanted);
+                            applyItemPack(itemBuilder, packId, resolvedAnimated);
 
-                        if (skinValue != null) {
-                            generator.withSkin(skinValue);
+                            generatorImageBuilder.addGenerator(itemBuilder.build());
                         }
-
-                        generatorImageBuilder.addGenerator(generator.build());
-                    } else {
-                        MinecraftItemGenerator.Builder itemBuilder = new MinecraftItemGenerator.Builder()
-                            .withItem(itemId)
-                            .withColor(color)
-                            .isEnchanted(enchanted);
-                        applyItemPack(itemBuilder, packId, animated);
-
-                        generatorImageBuilder.addGenerator(itemBuilder.build());
                     }
-                }
 
-                generatorImageBuilder.addGenerator(tooltipGenerator.build());
-                GeneratedObject generatedObject = generatorImageBuilder.build();
+                    generatorImageBuilder.addGenerator(tooltipGenerator.build());
+                    hook.editOriginalAttachments(render(event, generatorImageBuilder, "powerstone")).queue();
 
-                event.getHook().editOriginalAttachments(renderAttachment(generatedObject, "powerstone")).queue();
-
-                addCommandToUserHistory(event.getUser(), event.getCommandString());
-            } catch (GeneratorException | IllegalArgumentException exception) {
-                event.getHook().editOriginal(exception.getMessage()).queue();
-                log.error("Encountered an error while generating a Power Stone", exception);
-            } catch (IOException exception) {
-                event.getHook().editOriginal("An error occurred while generating that Power Stone!").queue();
+                    addCommandToUserHistory(event.getUser(), event.getCommandString());
+                } catch (GeneratorException | IllegalArgumentException exception) {
+                    hook.editOriginal(exception.getMessage()).queue();
+                    log.error("Encountered an error while generating a Power Stone", exception);
+                } catch (IOException exception) {
+                    hook.editOriginal("An error occurred while generating that Power Stone!").queue();
+                    log.error("Encountered an error while generating a Power Stone", exception);
+                }
+            } catch (GeneratorException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
                 log.error("Encountered an error while generating a Power Stone", exception);
             }
-        } catch (GeneratorException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-            log.error("Encountered an error while generating a Power Stone", exception);
-        }
+        });
     }
 
     @SlashCommand(name = BASE_COMMAND, subcommand = "search", description = "Search for an item", guildOnly = true)
@@ -334,23 +373,23 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        event.deferReply(hidden).complete();
+        CommandExecution.execute(event, ephemeral, hook -> {
+            List<String> spritesheetResults = Spritesheet.searchForTexture(itemId).stream().map(Pair::first).toList();
+            List<String> packResults = SkyBlockNerdsBot.resourcePackService().searchItemRefs(itemId);
 
-        List<String> spritesheetResults = Spritesheet.searchForTexture(itemId).stream().map(Pair::first).toList();
-        List<String> packResults = SkyBlockNerdsBot.resourcePackService().searchItemRefs(itemId);
-
-        if (spritesheetResults.isEmpty() && packResults.isEmpty()) {
-            event.getHook().editOriginal("No results found for that item!").queue();
-            return;
-        }
+            if (spritesheetResults.isEmpty() && packResults.isEmpty()) {
+                hook.editOriginal("No results found for that item!").queue();
+                return;
+            }
 
-        StringBuilder message = new StringBuilder();
-        appendSearchResults(message, "Top results for `" + itemId + "`", spritesheetResults);
-        appendSearchResults(message, "Resource pack results for `" + itemId + "`", packResults);
+            StringBuilder message = new StringBuilder();
+            appendSearchResults(message, "Top results for `" + itemId + "`", spritesheetResults);
+            appendSearchResults(message, "Resource pack results for `" + itemId + "`", packResults);
 
-        event.getHook().editOriginal(message.toString()).queue();
+            hook.editOriginal(message.toString()).queue();
+        });
     }
 
     private static final int SEARCH_RESULT_LIMIT = 10;
@@ -450,22 +489,22 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
-        event.deferReply(hidden).complete();
-
-        List<String> rows = GlyphListing.buildRows(filter);
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
+        CommandExecution.execute(event, ephemeral, hook -> {
+            List<String> rows = GlyphListing.buildRows(filter);
 
-        if (rows.isEmpty()) {
-            event.getHook().editOriginal("No placeholders match `" + filter + "`!").queue();
-            return;
-        }
+            if (rows.isEmpty()) {
+                hook.editOriginal("No placeholders match `" + filter + "`!").queue();
+                return;
+            }
 
-        PaginatedResponse<String> pagination = PaginatedResponse.forText(rows, SYMBOLS_PER_PAGE, GlyphListing::buildPage, "gen-symbols-page");
-        pagination.sendMessage(event);
+            PaginatedResponse<String> pagination = PaginatedResponse.forText(rows, SYMBOLS_PER_PAGE, GlyphListing::buildPage, "gen-symbols-page");
+            pagination.sendMessage(event);
 
-        event.getHook().retrieveOriginal().queue(message ->
-            PaginationManager.registerPagination(message.getId(), pagination)
-        );
+            hook.retrieveOriginal().queue(message ->
+                PaginationManager.registerPagination(message.getId(), pagination)
+            );
+        });
     }
 
     @SlashComponentHandler(id = "gen-symbols-pagination", patterns = {"gen-symbols-page:*"})
@@ -490,35 +529,34 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
-
-        event.deferReply(hidden).complete();
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        GenerationContext context = DiscordGenerationContext.fromEvent(event, hidden);
+        CommandExecution.execute(event, ephemeral, hook -> {
+            GenerationContext context = DiscordGenerationContext.fromEvent(event, ephemeral);
 
-        renderBackground = renderBackground == null || renderBackground;
+            boolean resolvedRenderBackground = renderBackground == null || renderBackground;
 
-        try {
-            GeneratedObject generatedObject = new GeneratorImageBuilder().withContext(context)
-                .addGenerator(new MinecraftInventoryGenerator.Builder()
-                    .withRows(3)
-                    .withSlotsPerRow(3)
-                    .drawBorder(false)
-                    .drawBackground(renderBackground)
-                    .withPack(resolvePackOption(pack))
-                    .withInventoryString(recipe)
-                    .build())
-                .build();
-
-            event.getHook().editOriginalAttachments(renderAttachment(generatedObject, "recipe")).queue();
-            addCommandToUserHistory(event.getUser(), event.getCommandString());
-        } catch (GeneratorException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-            log.error("Encountered an error while generating a recipe", exception);
-        } catch (IOException exception) {
-            event.getHook().editOriginal("An error occurred while generating that recipe!").queue();
-            log.error("Encountered an error while generating a recipe", exception);
-        }
+            try {
+                GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context)
+                    .addGenerator(new MinecraftInventoryGenerator.Builder()
+                        .withRows(3)
+                        .withSlotsPerRow(3)
+                        .drawBorder(false)
+                        .drawBackground(resolvedRenderBackground)
+                        .withPack(resolvePackOption(pack))
+                        .withInventoryString(recipe)
+                        .build());
+
+                hook.editOriginalAttachments(render(event, generatorImageBuilder, "recipe")).queue();
+                addCommandToUserHistory(event.getUser(), event.getCommandString());
+            } catch (GeneratorException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
+                log.error("Encountered an error while generating a recipe", exception);
+            } catch (IOException exception) {
+                hook.editOriginal("An error occurred while generating that recipe!").queue();
+                log.error("Encountered an error while generating a recipe", exception);
+            }
+        });
     }
 
     @SlashCommand(name = BASE_COMMAND, subcommand = "inventory", description = "Generate an inventory", guildOnly = true)
@@ -538,56 +576,54 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        event.deferReply(hidden).complete();
+        CommandExecution.execute(event, ephemeral, hook -> {
+            GenerationContext context = DiscordGenerationContext.fromEvent(event, ephemeral);
 
-        GenerationContext context = DiscordGenerationContext.fromEvent(event, hidden);
+            boolean resolvedDrawBorder = drawBorder == null || drawBorder;
+            boolean animateGlint = SkyBlockNerdsBot.config().getGeneratorConfig().getInventory().isAnimateGlint();
+            int resolvedMaxLineLength = maxLineLength == null ? MinecraftTooltipGenerator.DEFAULT_MAX_LINE_LENGTH : maxLineLength;
 
-        drawBorder = drawBorder == null || drawBorder;
-        boolean animateGlint = SkyBlockNerdsBot.config().getGeneratorConfig().getInventory().isAnimateGlint();
-        maxLineLength = maxLineLength == null ? MinecraftTooltipGenerator.DEFAULT_MAX_LINE_LENGTH : maxLineLength;
+            try {
+                PackId packId = resolvePackOption(pack);
+                GeneratorImageBuilder generatedObject = new GeneratorImageBuilder().withContext(context)
+                    .addGenerator(new MinecraftInventoryGenerator.Builder()
+                        .withRows(rows)
+                        .withSlotsPerRow(slotsPerRow)
+                        .drawBorder(resolvedDrawBorder)
+                        .drawBackground(true)
+                        .withAnimateGlint(animateGlint)
+                        .withContainerTitle(containerName)
+                        .withPack(packId)
+                        .withInventoryString(inventoryString)
+                        .build());
+
+                if (hoveredItemString != null && !hoveredItemString.isBlank()) {
+                    MinecraftTooltipGenerator.Builder tooltipBuilder = new MinecraftTooltipGenerator.Builder()
+                        .withItemLore(TextWrapper.stripActualNewlines(hoveredItemString))
+                        .withAlpha(MinecraftTooltip.DEFAULT_ALPHA)
+                        .withPadding(MinecraftTooltip.DEFAULT_PADDING)
+                        .hasFirstLinePadding(false)
+                        .withMaxLineLength(resolvedMaxLineLength)
+                        .withScaleFactor(Math.min(2, MinecraftInventoryGenerator.getScaleFactor()))
+                        .withRenderBorder(true);
+                    applyPackTheme(tooltipBuilder, packId);
+
+                    generatedObject.addGenerator(tooltipBuilder.build());
+                }
 
-        try {
-            PackId packId = resolvePackOption(pack);
-            GeneratorImageBuilder generatedObject = new GeneratorImageBuilder().withContext(context)
-                .addGenerator(new MinecraftInventoryGenerator.Builder()
-                    .withRows(rows)
-                    .withSlotsPerRow(slotsPerRow)
-                    .drawBorder(drawBorder)
-                    .drawBackground(true)
-                    .withAnimateGlint(animateGlint)
-                    .withContainerTitle(containerName)
-                    .withPack(packId)
-                    .withInventoryString(inventoryString)
-                    .build());
-
-            if (hoveredItemString != null && !hoveredItemString.isBlank()) {
-                MinecraftTooltipGenerator.Builder tooltipBuilder = new MinecraftTooltipGenerator.Builder()
-                    .withItemLore(TextWrapper.stripActualNewlines(hoveredItemString))
-                    .withAlpha(MinecraftTooltip.DEFAULT_ALPHA)
-                    .withPadding(MinecraftTooltip.DEFAULT_PADDING)
-                    .hasFirstLinePadding(false)
-                    .withMaxLineLength(maxLineLength)
-                    .withScaleFactor(Math.min(2, MinecraftInventoryGenerator.getScaleFactor()))
-                    .withRenderBorder(true);
-                applyPackTheme(tooltipBuilder, packId);
+                hook.editOriginalAttachments(render(event, generatedObject, "inventory", inventoryRenderCost(rows, slotsPerRow))).queue();
 
-                generatedObject.addGenerator(tooltipBuilder.build());
+                addCommandToUserHistory(event.getUser(), event.getCommandString());
+            } catch (GeneratorException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
+                log.error("Encountered an error while generating an inventory", exception);
+            } catch (IOException exception) {
+                hook.editOriginal("An error occurred while generating that inventory!").queue();
+                log.error("Encountered an error while generating an inventory", exception);
             }
-
-            GeneratedObject finalObject = generatedObject.build();
-
-            event.getHook().editOriginalAttachments(renderAttachment(finalObject, "inventory")).queue();
-
-            addCommandToUserHistory(event.getUser(), event.getCommandString());
-        } catch (GeneratorException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-            log.error("Encountered an error while generating an inventory", exception);
-        } catch (IOException exception) {
-            event.getHook().editOriginal("An error occurred while generating that inventory!").queue();
-            log.error("Encountered an error while generating an inventory", exception);
-        }
+        });
     }
 
     private static final int MAX_ATTACHMENT_SIZE_BYTES = 64 * 1024; // 64 KB
@@ -604,93 +640,91 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        event.deferReply(hidden).complete();
+        CommandExecution.execute(event, ephemeral, hook -> {
+            String nbtInput;
+            try {
+                nbtInput = resolveNbtInput(nbt, attachment);
+            } catch (IllegalArgumentException e) {
+                hook.editOriginal(e.getMessage()).queue();
+                return;
+            }
 
-        String nbtInput;
-        try {
-            nbtInput = resolveNbtInput(nbt, attachment);
-        } catch (IllegalArgumentException e) {
-            event.getHook().editOriginal(e.getMessage()).queue();
-            return;
-        }
+            GenerationContext context = DiscordGenerationContext.fromEvent(event, ephemeral);
 
-        GenerationContext context = DiscordGenerationContext.fromEvent(event, hidden);
+            try {
+                MinecraftNbtParser.ParsedNbt parsedNbt = MinecraftNbtParser.parse(nbtInput);
+                PackId packId = resolvePackOption(pack);
+                GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context);
 
-        try {
-            MinecraftNbtParser.ParsedNbt parsedNbt = MinecraftNbtParser.parse(nbtInput);
-            PackId packId = resolvePackOption(pack);
-            GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context);
-
-            parsedNbt.getGenerators().forEach(generator -> {
-                if (generator instanceof MinecraftTooltipGenerator.Builder tooltipBuilder) {
-                    // Themed before buildSlashCommand below so the emitted command round-trips the
-                    // pack and the rarity-derived tooltip style, reproducing the preview exactly
-                    applyPackTheme(tooltipBuilder, packId, null, tooltipBuilder.getRarity());
-                } else if (generator instanceof MinecraftItemGenerator.Builder itemBuilder) {
-                    // The texture's own animation data decides the output, matching the item
-                    // commands' default: an animated pack texture parses into a GIF preview and
-                    // everything else stays static. The emitted command round-trips because the
-                    // animated option defaults on everywhere.
-                    applyItemPack(itemBuilder, packId, true);
-                }
+                parsedNbt.getGenerators().forEach(generator -> {
+                    if (generator instanceof MinecraftTooltipGenerator.Builder tooltipBuilder) {
+                        // Themed before buildSlashCommand below so the emitted command round-trips the
+                        // pack and the rarity-derived tooltip style, reproducing the preview exactly
+                        applyPackTheme(tooltipBuilder, packId, null, tooltipBuilder.getRarity());
+                    } else if (generator instanceof MinecraftItemGenerator.Builder itemBuilder) {
+                        // The texture's own animation data decides the output, matching the item
+                        // commands' default: an animated pack texture parses into a GIF preview and
+                        // everything else stays static. The emitted command round-trips because the
+                        // animated option defaults on everywhere.
+                        applyItemPack(itemBuilder, packId, true);
+                    }
 
-                generatorImageBuilder.addGenerator(generator.build());
-            });
+                    generatorImageBuilder.addGenerator(generator.build());
+                });
+
+                Optional<ClassBuilder<? extends Generator>> tooltipGenerator = parsedNbt.getGenerators()
+                    .stream()
+                    .filter(gen -> gen instanceof MinecraftTooltipGenerator.Builder)
+                    .findFirst();
+                if (tooltipGenerator.isEmpty()) {
+                    hook.editOriginal("An error occurred.").queue();
+                    log.error("An error occurred while parsing the NBT string, there doesnt seem to be a tooltip but no nbt parser exception occurred.");
+                    return;
+                }
 
-            GeneratedObject generatedObject = generatorImageBuilder.build();
+                String slashCommand = ((MinecraftTooltipGenerator.Builder) tooltipGenerator.get()).buildSlashCommand();
+                String commandItemId = parsedNbt.getParsedItemId();
 
-            Optional<ClassBuilder<? extends Generator>> tooltipGenerator = parsedNbt.getGenerators()
-                .stream()
-                .filter(gen -> gen instanceof MinecraftTooltipGenerator.Builder)
-                .findFirst();
-            if (tooltipGenerator.isEmpty()) {
-                event.getHook().editOriginal("An error occurred.").queue();
-                log.error("An error occurred while parsing the NBT string, there doesnt seem to be a tooltip but no nbt parser exception occurred.");
-                return;
-            }
+                if (commandItemId != null && !commandItemId.isBlank()) {
+                    if (commandItemId.startsWith("minecraft:")) {
+                        commandItemId = commandItemId.substring("minecraft:".length());
+                    }
+                    slashCommand += " item_id: " + commandItemId;
+                }
 
-            String slashCommand = ((MinecraftTooltipGenerator.Builder) tooltipGenerator.get()).buildSlashCommand();
-            String commandItemId = parsedNbt.getParsedItemId();
+                if (parsedNbt.getBase64Texture() != null && !parsedNbt.getBase64Texture().isBlank()) {
+                    slashCommand += " skin_value: " + parsedNbt.getBase64Texture();
+                }
 
-            if (commandItemId != null && !commandItemId.isBlank()) {
-                if (commandItemId.startsWith("minecraft:")) {
-                    commandItemId = commandItemId.substring("minecraft:".length());
+                if (parsedNbt.isEnchanted()) {
+                    slashCommand += " enchanted: True";
                 }
-                slashCommand += " item_id: " + commandItemId;
-            }
 
-            if (parsedNbt.getBase64Texture() != null && !parsedNbt.getBase64Texture().isBlank()) {
-                slashCommand += " skin_value: " + parsedNbt.getBase64Texture();
-            }
+                // Escape newlines in lore so the slash command is a single line
+                slashCommand = slashCommand.replace("\n", "\\n");
 
-            if (parsedNbt.isEnchanted()) {
-                slashCommand += " enchanted: True";
-            }
+                String sourceLabel = attachment != null ? "attachment" : "text input";
+                MessageEditBuilder builder = new MessageEditBuilder()
+                    .setContent("Your NBT " + sourceLabel + " has been parsed into a slash command:" + System.lineSeparator() + "```" + System.lineSeparator() + slashCommand + "```");
 
-            // Escape newlines in lore so the slash command is a single line
-            slashCommand = slashCommand.replace("\n", "\\n");
-
-            String sourceLabel = attachment != null ? "attachment" : "text input";
-            MessageEditBuilder builder = new MessageEditBuilder()
-                .setContent("Your NBT " + sourceLabel + " has been parsed into a slash command:" + System.lineSeparator() + "```" + System.lineSeparator() + slashCommand + "```");
-
-            builder.setFiles(renderAttachment(generatedObject, "parsed_nbt"));
-
-            event.getHook().editOriginal(builder.build()).queue();
-            addCommandToUserHistory(event.getUser(), event.getCommandString());
-        } catch (JsonParseException exception) {
-            event.getHook().editOriginal("You provided badly formatted NBT!").queue();
-        } catch (IOException exception) {
-            event.getHook().editOriginal("An error occurred while parsing the NBT!").queue();
-            log.error("Encountered an error while parsing NBT", exception);
-        } catch (TooManyTexturesException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-        } catch (GeneratorException | NbtParseException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-            log.error("Encountered an error while parsing NBT", exception);
-        }
+                builder.setFiles(render(event, generatorImageBuilder, "parsed_nbt"));
+
+                hook.editOriginal(builder.build()).queue();
+                addCommandToUserHistory(event.getUser(), event.getCommandString());
+            } catch (JsonParseException exception) {
+                hook.editOriginal("You provided badly formatted NBT!").queue();
+            } catch (IOException exception) {
+                hook.editOriginal("An error occurred while parsing the NBT!").queue();
+                log.error("Encountered an error while parsing NBT", exception);
+            } catch (TooManyTexturesException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
+            } catch (GeneratorException | NbtParseException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
+                log.error("Encountered an error while parsing NBT", exception);
+            }
+        });
     }
 
     private String resolveNbtInput(String nbtText, net.dv8tion.jda.api.entities.Message.Attachment attachment) {
@@ -756,102 +790,98 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        event.deferReply(hidden).complete();
+        CommandExecution.execute(event, ephemeral, hook -> {
+            GenerationContext context = DiscordGenerationContext.fromEvent(event, ephemeral);
 
-        GenerationContext context = DiscordGenerationContext.fromEvent(event, hidden);
+            String resolvedType = type == null ? "" : type;
+            String resolvedRarity = rarity == null ? "none" : rarity;
+            int resolvedAlpha = alpha == null ? MinecraftTooltip.DEFAULT_ALPHA : alpha;
+            int resolvedPadding = padding == null ? MinecraftTooltip.DEFAULT_PADDING : padding;
+            boolean resolvedCentered = centered != null && centered;
+            boolean resolvedEnchanted = enchanted != null && enchanted;
+            boolean resolvedAnimated = animated == null || animated;
+            boolean resolvedFirstLinePadding = firstLinePadding == null || firstLinePadding;
+            int resolvedMaxLineLength = maxLineLength == null ? MinecraftTooltipGenerator.DEFAULT_MAX_LINE_LENGTH : maxLineLength;
+            boolean resolvedRenderBorder = renderBorder == null || renderBorder;
+            int resolvedDurability = durability == null ? DEFAULT_DURABILITY : durability;
 
-        type = type == null ? "" : type;
-        rarity = rarity == null ? "none" : rarity;
-        alpha = alpha == null ? MinecraftTooltip.DEFAULT_ALPHA : alpha;
-        padding = padding == null ? MinecraftTooltip.DEFAULT_PADDING : padding;
-        centered = centered != null && centered;
-        enchanted = enchanted != null && enchanted;
-        animated = animated == null || animated;
-        firstLinePadding = firstLinePadding == null || firstLinePadding;
-        maxLineLength = maxLineLength == null ? MinecraftTooltipGenerator.DEFAULT_MAX_LINE_LENGTH : maxLineLength;
-        renderBorder = renderBorder == null || renderBorder;
-        durability = durability == null ? 100 : durability;
+            try {
+                PackId packId = resolvePackOption(pack);
+                Rarity itemRarity = Rarity.byName(resolvedRarity);
+                GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context);
+                MinecraftTooltipGenerator.Builder tooltipBuilder = new MinecraftTooltipGenerator.Builder()
+                    .withName(itemName)
+                    .withRarity(itemRarity)
+                    .withItemLore(TextWrapper.stripActualNewlines(itemLore))
+                    .withType(resolvedType)
+                    .withAlpha(resolvedAlpha)
+                    .withPadding(resolvedPadding)
+                    .withMaxLineLength(resolvedMaxLineLength)
+                    .isTextCentered(resolvedCentered)
+                    .hasFirstLinePadding(resolvedFirstLinePadding)
+                    .withRenderBorder(resolvedRenderBorder);
+                requireBorderForTooltipStyle(tooltipStyle, resolvedRenderBorder);
+                applyPackTheme(tooltipBuilder, packId, tooltipStyle, itemRarity);
+                MinecraftTooltipGenerator tooltipGenerator = tooltipBuilder.build();
 
-        try {
-            PackId packId = resolvePackOption(pack);
-            Rarity itemRarity = Rarity.byName(rarity);
-            GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context);
-            MinecraftTooltipGenerator.Builder tooltipBuilder = new MinecraftTooltipGenerator.Builder()
-                .withName(itemName)
-                .withRarity(itemRarity)
-                .withItemLore(TextWrapper.stripActualNewlines(itemLore))
-                .withType(type)
-                .withAlpha(alpha)
-                .withPadding(padding)
-                .withMaxLineLength(maxLineLength)
-                .isTextCentered(centered)
-                .hasFirstLinePadding(firstLinePadding)
-                .withRenderBorder(renderBorder);
-            requireBorderForTooltipStyle(tooltipStyle, renderBorder);
-            applyPackTheme(tooltipBuilder, packId, tooltipStyle, itemRarity);
-            MinecraftTooltipGenerator tooltipGenerator = tooltipBuilder.build();
-
-            if (itemId != null) {
-                if (itemId.equalsIgnoreCase("player_head")) {
-                    MinecraftPlayerHeadGenerator.Builder generator = new MinecraftPlayerHeadGenerator.Builder()
-                        .withScale(-2);
-
-                    if (skinValue != null) {
-                        generator.withSkin(skinValue);
-                    }
+                if (itemId != null) {
+                    if (itemId.equalsIgnoreCase("player_head")) {
+                        MinecraftPlayerHeadGenerator.Builder generator = new MinecraftPlayerHeadGenerator.Builder()
+                            .withScale(-2);
 
-                    generatorImageBuilder.addGenerator(generator.build());
-                } else {
-                    MinecraftItemGenerator.Builder itemBuilder = new MinecraftItemGenerator.Builder()
-                        .withItem(itemId)
-                        .withColor(color)
-                        .isEnchanted(enchanted);
-                    applyItemPack(itemBuilder, packId, animated);
+                        if (skinValue != null) {
+                            generator.withSkin(skinValue);
+                        }
 
-                    if (durability != null) {
-                        itemBuilder.withDurability(durability);
-                    }
+                        generatorImageBuilder.addGenerator(generator.build());
+                    } else {
+                        MinecraftItemGenerator.Builder itemBuilder = new MinecraftItemGenerator.Builder()
+                            .withItem(itemId)
+                            .withColor(color)
+                            .isEnchanted(resolvedEnchanted);
+                        applyItemPack(itemBuilder, packId, resolvedAnimated);
 
-                    generatorImageBuilder.addGenerator(itemBuilder.build());
+                        itemBuilder.withDurability(resolvedDurability);
+
+                        generatorImageBuilder.addGenerator(itemBuilder.build());
+                    }
                 }
-            }
 
-            if (recipe != null && !recipe.isBlank()) {
-                generatorImageBuilder.addGenerator(0, new MinecraftInventoryGenerator.Builder()
-                    .withRows(3)
-                    .withSlotsPerRow(3)
-                    .drawBorder(renderBorder)
-                    .withPack(packId)
-                    .withInventoryString(recipe)
-                    .build()
-                ).build();
-            }
+                if (recipe != null && !recipe.isBlank()) {
+                    generatorImageBuilder.addGenerator(0, new MinecraftInventoryGenerator.Builder()
+                        .withRows(3)
+                        .withSlotsPerRow(3)
+                        .drawBorder(resolvedRenderBorder)
+                        .withPack(packId)
+                        .withInventoryString(recipe)
+                        .build()
+                    ).build();
+                }
 
-            try {
-                if (tooltipSide != null && MinecraftTooltipGenerator.TooltipSide.valueOf(tooltipSide.toUpperCase()) == MinecraftTooltipGenerator.TooltipSide.LEFT) {
-                    generatorImageBuilder.addGenerator(0, tooltipGenerator);
-                } else {
+                try {
+                    if (tooltipSide != null && MinecraftTooltipGenerator.TooltipSide.valueOf(tooltipSide.toUpperCase()) == MinecraftTooltipGenerator.TooltipSide.LEFT) {
+                        generatorImageBuilder.addGenerator(0, tooltipGenerator);
+                    } else {
+                        generatorImageBuilder.addGenerator(tooltipGenerator);
+                    }
+                } catch (IllegalArgumentException ignored) {
+                    // Fallback to default side if an invalid value was provided
                     generatorImageBuilder.addGenerator(tooltipGenerator);
                 }
-            } catch (IllegalArgumentException ignored) {
-                // Fallback to default side if an invalid value was provided
-                generatorImageBuilder.addGenerator(tooltipGenerator);
-            }
 
-            GeneratedObject generatedObject = generatorImageBuilder.build();
+                hook.editOriginalAttachments(render(event, generatorImageBuilder, "item")).queue();
 
-            event.getHook().editOriginalAttachments(renderAttachment(generatedObject, "item")).queue();
-
-            addCommandToUserHistory(event.getUser(), event.getCommandString());
-        } catch (GeneratorException | IllegalArgumentException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-            log.error("Encountered an error while generating an item display", exception);
-        } catch (IOException exception) {
-            event.getHook().editOriginal("An error occurred while generating that item!").queue();
-            log.error("Encountered an error while generating an item display", exception);
-        }
+                addCommandToUserHistory(event.getUser(), event.getCommandString());
+            } catch (GeneratorException | IllegalArgumentException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
+                log.error("Encountered an error while generating an item display", exception);
+            } catch (IOException exception) {
+                hook.editOriginal("An error occurred while generating that item!").queue();
+                log.error("Encountered an error while generating an item display", exception);
+            }
+        });
     }
 
     @SlashCommand(name = BASE_COMMAND, subcommand = "text", description = "Generate some text", guildOnly = true)
@@ -871,45 +901,44 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        event.deferReply(hidden).complete();
+        CommandExecution.execute(event, ephemeral, hook -> {
+            GenerationContext context = DiscordGenerationContext.fromEvent(event, ephemeral);
 
-        GenerationContext context = DiscordGenerationContext.fromEvent(event, hidden);
+            boolean resolvedCentered = centered != null && centered;
+            int resolvedAlpha = alpha == null ? TEXT_DEFAULT_ALPHA : alpha;
+            int resolvedPadding = padding == null ? MinecraftTooltip.DEFAULT_PADDING : padding;
+            int resolvedMaxLineLength = maxLineLength == null ? TEXT_DEFAULT_MAX_LINE_LENGTH : maxLineLength;
+            boolean resolvedRenderBorder = renderBorder != null && renderBorder;
 
-        centered = centered != null && centered;
-        alpha = alpha == null ? 0 : alpha;
-        padding = padding == null ? MinecraftTooltip.DEFAULT_PADDING : padding;
-        maxLineLength = maxLineLength == null ? MinecraftTooltipGenerator.DEFAULT_MAX_LINE_LENGTH * 3 : maxLineLength;
-        renderBorder = renderBorder != null && renderBorder;
+            try {
+                PackId packId = resolvePackOption(pack);
+                GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context);
+                MinecraftTooltipGenerator.Builder tooltipBuilder = new MinecraftTooltipGenerator.Builder()
+                    .withItemLore(TextWrapper.stripActualNewlines(text))
+                    .withAlpha(resolvedAlpha)
+                    .withPadding(resolvedPadding)
+                    .withMaxLineLength(resolvedMaxLineLength)
+                    .isTextCentered(resolvedCentered)
+                    .hasFirstLinePadding(false)
+                    .withRenderBorder(resolvedRenderBorder);
+                requireBorderForTooltipStyle(tooltipStyle, resolvedRenderBorder);
+                applyPackTheme(tooltipBuilder, packId, tooltipStyle, null);
 
-        try {
-            PackId packId = resolvePackOption(pack);
-            GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context);
-            MinecraftTooltipGenerator.Builder tooltipBuilder = new MinecraftTooltipGenerator.Builder()
-                .withItemLore(TextWrapper.stripActualNewlines(text))
-                .withAlpha(alpha)
-                .withPadding(padding)
-                .withMaxLineLength(maxLineLength)
-                .isTextCentered(centered)
-                .hasFirstLinePadding(false)
-                .withRenderBorder(renderBorder);
-            requireBorderForTooltipStyle(tooltipStyle, renderBorder);
-            applyPackTheme(tooltipBuilder, packId, tooltipStyle, null);
-
-            generatorImageBuilder.addGenerator(tooltipBuilder.build());
-            GeneratedObject generatedObject = generatorImageBuilder.build();
-
-            event.getHook().editOriginalAttachments(renderAttachment(generatedObject, "text")).queue();
-
-            addCommandToUserHistory(event.getUser(), event.getCommandString());
-        } catch (GeneratorException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-            log.error("Encountered an error while generating text", exception);
-        } catch (IOException exception) {
-            event.getHook().editOriginal("An error occurred while generating the text!").queue();
-            log.error("Encountered an error while generating text", exception);
-        }
+                generatorImageBuilder.addGenerator(tooltipBuilder.build());
+
+                hook.editOriginalAttachments(render(event, generatorImageBuilder, "text")).queue();
+
+                addCommandToUserHistory(event.getUser(), event.getCommandString());
+            } catch (GeneratorException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
+                log.error("Encountered an error while generating text", exception);
+            } catch (IOException exception) {
+                hook.editOriginal("An error occurred while generating the text!").queue();
+                log.error("Encountered an error while generating text", exception);
+            }
+        });
     }
 
     @SlashCommand(name = BASE_COMMAND, group = "dialogue", subcommand = "single", description = "Generate dialogue for a single NPC", guildOnly = true)
@@ -928,50 +957,48 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
-
-        event.deferReply(hidden).complete();
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        GenerationContext context = DiscordGenerationContext.fromEvent(event, hidden);
+        CommandExecution.execute(event, ephemeral, hook -> {
+            GenerationContext context = DiscordGenerationContext.fromEvent(event, ephemeral);
 
-        abiphone = abiphone != null && abiphone;
-        maxLineLength = maxLineLength == null ? 91 : maxLineLength;
-        renderBackground = renderBackground != null && renderBackground;
+            boolean resolvedAbiphone = abiphone != null && abiphone;
+            int resolvedMaxLineLength = maxLineLength == null ? DIALOGUE_DEFAULT_MAX_LINE_LENGTH : maxLineLength;
+            boolean resolvedRenderBackground = renderBackground != null && renderBackground;
 
-        try {
-            MinecraftTooltipGenerator.Builder tooltipGenerator = new MinecraftTooltipGenerator.Builder()
-                .withItemLore(buildSingleDialogue(npcName, dialogue, abiphone))
-                .withAlpha(0)
-                .withPadding(MinecraftTooltip.DEFAULT_PADDING)
-                .hasFirstLinePadding(false)
-                .withMaxLineLength(maxLineLength)
-                .withRenderBorder(renderBackground)
-                .bypassMaxLineLength(true);
-            applyPackTheme(tooltipGenerator, resolvePackOption(pack));
-
-            GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context)
-                .addGenerator(tooltipGenerator.build());
-
-            if (skinValue != null) {
-                MinecraftPlayerHeadGenerator playerHeadGenerator = new MinecraftPlayerHeadGenerator.Builder()
-                    .withSkin(skinValue)
-                    .withScale(-2)
-                    .build();
-                generatorImageBuilder.addGenerator(0, playerHeadGenerator);
-            }
-
-            GeneratedObject generatedObject = generatorImageBuilder.build();
+            try {
+                MinecraftTooltipGenerator.Builder tooltipGenerator = new MinecraftTooltipGenerator.Builder()
+                    .withItemLore(buildSingleDialogue(npcName, dialogue, resolvedAbiphone))
+                    .withAlpha(0)
+                    .withPadding(MinecraftTooltip.DEFAULT_PADDING)
+                    .hasFirstLinePadding(false)
+                    .withMaxLineLength(resolvedMaxLineLength)
+                    .withRenderBorder(resolvedRenderBackground)
+                    .bypassMaxLineLength(true);
+                applyPackTheme(tooltipGenerator, resolvePackOption(pack));
+
+                GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context)
+                    .addGenerator(tooltipGenerator.build());
+
+                if (skinValue != null) {
+                    MinecraftPlayerHeadGenerator playerHeadGenerator = new MinecraftPlayerHeadGenerator.Builder()
+                        .withSkin(skinValue)
+                        .withScale(-2)
+                        .build();
+                    generatorImageBuilder.addGenerator(0, playerHeadGenerator);
+                }
 
-            event.getHook().editOriginalAttachments(renderAttachment(generatedObject, "dialogue")).queue();
+                hook.editOriginalAttachments(render(event, generatorImageBuilder, "dialogue")).queue();
 
-            addCommandToUserHistory(event.getUser(), event.getCommandString());
-        } catch (GeneratorException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-            log.error("Encountered an error while generating dialogue", exception);
-        } catch (IOException exception) {
-            event.getHook().editOriginal("An error occurred while generating the dialogue!").queue();
-            log.error("Encountered an error while generating dialogue", exception);
-        }
+                addCommandToUserHistory(event.getUser(), event.getCommandString());
+            } catch (GeneratorException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
+                log.error("Encountered an error while generating dialogue", exception);
+            } catch (IOException exception) {
+                hook.editOriginal("An error occurred while generating the dialogue!").queue();
+                log.error("Encountered an error while generating dialogue", exception);
+            }
+        });
     }
 
     @SlashCommand(name = BASE_COMMAND, group = "dialogue", subcommand = "multi", description = "Generate dialogue for multiple NPCs", guildOnly = true)
@@ -990,50 +1017,48 @@ public class GeneratorCommands {
             return;
         }
 
-        hidden = hidden == null ? getUserAutoHideSetting(event) : hidden;
-
-        event.deferReply(hidden).complete();
+        boolean ephemeral = hidden == null ? getUserAutoHideSetting(event) : hidden;
 
-        GenerationContext context = DiscordGenerationContext.fromEvent(event, hidden);
+        CommandExecution.execute(event, ephemeral, hook -> {
+            GenerationContext context = DiscordGenerationContext.fromEvent(event, ephemeral);
 
-        abiphone = abiphone != null && abiphone;
-        maxLineLength = maxLineLength == null ? 91 : maxLineLength;
-        renderBackground = renderBackground != null && renderBackground;
+            boolean resolvedAbiphone = abiphone != null && abiphone;
+            int resolvedMaxLineLength = maxLineLength == null ? DIALOGUE_DEFAULT_MAX_LINE_LENGTH : maxLineLength;
+            boolean resolvedRenderBackground = renderBackground != null && renderBackground;
 
-        try {
-            MinecraftTooltipGenerator.Builder tooltipGenerator = new MinecraftTooltipGenerator.Builder()
-                .withItemLore(buildMultiDialogue(npcNames, dialogue, abiphone))
-                .withAlpha(0)
-                .withPadding(MinecraftTooltip.DEFAULT_PADDING)
-                .hasFirstLinePadding(false)
-                .withMaxLineLength(maxLineLength)
-                .withRenderBorder(renderBackground)
-                .bypassMaxLineLength(true);
-            applyPackTheme(tooltipGenerator, resolvePackOption(pack));
-
-            GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context)
-                .addGenerator(tooltipGenerator.build());
-
-            if (skinValue != null) {
-                MinecraftPlayerHeadGenerator playerHeadGenerator = new MinecraftPlayerHeadGenerator.Builder()
-                    .withSkin(skinValue)
-                    .withScale(-2)
-                    .build();
-                generatorImageBuilder.addGenerator(0, playerHeadGenerator);
-            }
-
-            GeneratedObject generatedObject = generatorImageBuilder.build();
+            try {
+                MinecraftTooltipGenerator.Builder tooltipGenerator = new MinecraftTooltipGenerator.Builder()
+                    .withItemLore(buildMultiDialogue(npcNames, dialogue, resolvedAbiphone))
+                    .withAlpha(0)
+                    .withPadding(MinecraftTooltip.DEFAULT_PADDING)
+                    .hasFirstLinePadding(false)
+                    .withMaxLineLength(resolvedMaxLineLength)
+                    .withRenderBorder(resolvedRenderBackground)
+                    .bypassMaxLineLength(true);
+                applyPackTheme(tooltipGenerator, resolvePackOption(pack));
+
+                GeneratorImageBuilder generatorImageBuilder = new GeneratorImageBuilder().withContext(context)
+                    .addGenerator(tooltipGenerator.build());
+
+                if (skinValue != null) {
+                    MinecraftPlayerHeadGenerator playerHeadGenerator = new MinecraftPlayerHeadGenerator.Builder()
+                        .withSkin(skinValue)
+                        .withScale(-2)
+                        .build();
+                    generatorImageBuilder.addGenerator(0, playerHeadGenerator);
+                }
 
-            event.getHook().editOriginalAttachments(renderAttachment(generatedObject, "dialogue")).queue();
+                hook.editOriginalAttachments(render(event, generatorImageBuilder, "dialogue")).queue();
 
-            addCommandToUserHistory(event.getUser(), event.getCommandString());
-        } catch (GeneratorException exception) {
-            event.getHook().editOriginal(exception.getMessage()).queue();
-            log.error("Encountered an error while generating dialogue", exception);
-        } catch (IOException exception) {
-            event.getHook().editOriginal("An error occurred while generating the dialogue!").queue();
-            log.error("Encountered an error while generating dialogue", exception);
-        }
+                addCommandToUserHistory(event.getUser(), event.getCommandString());
+            } catch (GeneratorException exception) {
+                hook.editOriginal(exception.getMessage()).queue();
+                log.error("Encountered an error while generating dialogue", exception);
+            } catch (IOException exception) {
+                hook.editOriginal("An error occurred while generating the dialogue!").queue();
+                log.error("Encountered an error while generating dialogue", exception);
+            }
+        });
     }
 
     /**
@@ -1135,22 +1160,22 @@ public class GeneratorCommands {
 
     @SlashCommand(name = BASE_COMMAND, subcommand = "history", description = "View your command history", guildOnly = true)
     public void viewHistory(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-
-        List<String> history = getCommandHistory(findDiscordUser(event.getUser()));
+        CommandExecution.execute(event, true, hook -> {
+            List<String> history = getCommandHistory(findDiscordUser(event.getUser()));
 
-        if (history.isEmpty()) {
-            event.getHook().editOriginal("No history found").queue();
-            return;
-        }
+            if (history.isEmpty()) {
+                hook.editOriginal("No history found").queue();
+                return;
+            }
 
-        try {
-            File file = FileUtils.createTempFile("generator_history.txt", String.join("\n\n", history));
-            event.getHook().editOriginalAttachments(FileUpload.fromData(file)).queue();
-        } catch (IOException e) {
-            event.getHook().editOriginal("An error occurred while fetching your generator command history!").queue();
-            log.error("Encountered an error while fetching generator command history for {}", event.getUser().getId(), e);
-        }
+            try {
+                File file = FileUtils.createTempFile("generator_history.txt", String.join("\n\n", history));
+                hook.editOriginalAttachments(FileUpload.fromData(file)).queue();
+            } catch (IOException e) {
+                hook.editOriginal("An error occurred while fetching your generator command history!").queue();
+                log.error("Encountered an error while fetching generator command history for {}", event.getUser().getId(), e);
+            }
+        });
     }
 
     @SlashAutocompleteHandler(id = "power-strengths")
@@ -1162,9 +1187,20 @@ public class GeneratorCommands {
     public List<Command.Choice> itemNames(CommandAutoCompleteInteractionEvent event) {
         ResourcePackService packService = SkyBlockNerdsBot.resourcePackService();
         OptionMapping packOption = event.getOption("pack");
-        Stream<String> packRefs = packService.itemRefsForOption(packOption == null ? null : packOption.getAsString()).stream();
+        AutocompleteIndex packRefs = packService.itemRefIndexForOption(packOption == null ? null : packOption.getAsString());
 
-        return toChoices(Stream.concat(Spritesheet.getImageMap().keySet().stream(), packRefs), event);
+        return AutocompleteIndex.search(List.of(SpritesheetIndex.INSTANCE, packRefs), event.getFocusedOption().getValue(), MAX_AUTOCOMPLETE_CHOICES, MAX_CHOICE_LENGTH)
+            .stream()
+            .map(name -> new Command.Choice(name, name))
+            .toList();
+    }
+
+    /**
+     * The vanilla item names, indexed on first use since the spritesheet never changes after it
+     * is loaded.
+     */
+    private static final class SpritesheetIndex {
+        private static final AutocompleteIndex INSTANCE = AutocompleteIndex.of(Spritesheet.getImageMap().keySet());
     }
 
     @SlashAutocompleteHandler(id = "pack-ids")
@@ -1245,6 +1281,130 @@ public class GeneratorCommands {
             .withAnimatedTextures(animated);
     }
 
+    /**
+     * Renders on the shared {@link RenderExecutor} and builds the attachment, blocking until the
+     * render finishes. An identical render is served from the {@link RenderCache}, or shared if it
+     * is still running. When the render had to queue for a worker, everyone waiting on it is first
+     * told its place in the queue.
+     *
+     * @param builder  The render to build
+     * @param baseName The attachment file name without extension, also the render time metric's label
+     * @param cost     The render's cost relative to a single item render
+     *
+     * @return The {@link FileUpload} to send back to Discord
+     *
+     * @throws GeneratorException If the render queue is full, or the render itself failed
+     * @throws IOException        If encoding the render failed
+     */
+    private static FileUpload render(SlashCommandInteractionEvent event, GeneratorImageBuilder builder, String baseName, int cost) throws IOException {
+        RenderExecutor.Ticket<RenderedImage> ticket;
+
+        try {
+            ticket = SkyBlockNerdsBot.renderCache().get(renderCacheKey(event), () -> submitRender(event, builder, baseName, cost));
+        } catch (RejectedExecutionException exception) {
+            log.warn("Rejected {} render for user {}: {}", baseName, event.getUser().getId(), exception.getMessage());
+            throw new GeneratorException("The image generator is busy right now, please try again in a moment!");
+        }
+
+        if (ticket.position() > 0) {
+            event.getHook().sendMessage("The image generator is busy! Your render is #" + ticket.position() + " in the queue and will appear here shortly.")
+                .setEphemeral(true)
+                .queue();
+        }
+
+        try {
+            return ticket.result().join().toUpload(baseName);
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            if (cause instanceof Error error) {
+                throw error;
+            }
+
+            throw new IOException(cause);
+        }
+    }
+
+    private static RenderExecutor.Ticket<RenderedImage> submitRender(SlashCommandInteractionEvent event, GeneratorImageBuilder builder, String baseName, int cost) {
+        int compressionLevel = SkyBlockNerdsBot.config().getGeneratorConfig().getRender().getPngCompressionLevel();
+        return SkyBlockNerdsBot.renderExecutor().submit(event.getUser().getIdLong(), baseName, cost, () -> RenderedImage.render(builder, compressionLevel));
+    }
+
+    /**
+     * The render cache key for a generator command: its options in a canonical form with omitted
+     * options filled in from {@link #RENDER_OPTION_DEFAULTS}, the content hash of the pack they
+     * resolve to, the generator config values that change the output, and whether April Fools mode
+     * applies. {@code hidden} is left out since it only decides who sees the reply. Commands given
+     * an attachment are not cached, as the key would need the attachment's contents.
+     *
+     * @return The key, or null if the render should not be cached
+     */
+    @Nullable
+    static String renderCacheKey(SlashCommandInteractionEvent event) {
+        SortedMap<String, String> options = new TreeMap<>();
+
+        for (OptionMapping option : event.getOptions()) {
+            switch (option.getType()) {
+                case ATTACHMENT -> {
+                    return null;
+                }
+                case BOOLEAN -> options.put(option.getName(), Boolean.toString(option.getAsBoolean()));
+                case INTEGER -> options.put(option.getName(), Long.toString(option.getAsLong()));
+                case NUMBER -> options.put(option.getName(), Double.toString(option.getAsDouble()));
+                default -> options.put(option.getName(), option.getAsString());
+            }
+        }
+
+        applyRenderOptionDefaults(event.getFullCommandName(), options);
+        options.remove("hidden");
+        String pack = options.remove("pack");
+
+        ResourcePackService resourcePackService = SkyBlockNerdsBot.resourcePackService();
+        PackId packId = resourcePackService.resolvePackOption(pack);
+        GeneratorConfig generatorConfig = SkyBlockNerdsBot.config().getGeneratorConfig();
+        String environment = "pngCompressionLevel=" + generatorConfig.getRender().getPngCompressionLevel()
+            + "|animateGlint=" + generatorConfig.getInventory().isAnimateGlint()
+            + "|aprilFools=" + DiscordGenerationContext.isAprilFools(event.getChannel().getId());
+
+        return RenderCache.key(event.getFullCommandName(), options, String.valueOf(packId) + "@" + resourcePackService.contentHash(packId), environment);
+    }
+
+    /**
+     * Fills in the value a render command uses for each option left out of {@code options}.
+     */
+    static void applyRenderOptionDefaults(String fullCommandName, SortedMap<String, String> options) {
+        RENDER_OPTION_DEFAULTS.getOrDefault(fullCommandName, Map.of()).forEach(options::putIfAbsent);
+    }
+
+    private static Map<String, String> optionDefaults(Object... namesAndValues) {
+        Map<String, String> defaults = new HashMap<>();
+
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            defaults.put((String) namesAndValues[i], String.valueOf(namesAndValues[i + 1]));
+        }
+
+        return Map.copyOf(defaults);
+    }
+
+    private static FileUpload render(SlashCommandInteractionEvent event, GeneratorImageBuilder builder, String baseName) throws IOException {
+        return render(event, builder, baseName, 1);
+    }
+
+    /**
+     * An inventory costs one unit, plus one per full 27-slot chest's worth of slots it draws.
+     */
+    static int inventoryRenderCost(int rows, int slotsPerRow) {
+        return 1 + Math.max(0, rows) * Math.max(0, slotsPerRow) / 27;
+    }
+
     /**
      * Builds the Discord attachment for a generated render, branching on
      * {@link GeneratedObject#isAnimated()}: animated renders upload the encoded GIF bytes as
@@ -1256,14 +1416,10 @@ public class GeneratorCommands {
      *
      * @return The {@link FileUpload} to send back to Discord
      *
-     * @throws IOException If writing the static PNG to a temporary file fails
+     * @throws IOException If encoding the static PNG fails
      */
     static FileUpload renderAttachment(GeneratedObject generatedObject, String baseName) throws IOException {
-        if (generatedObject.isAnimated()) {
-            return FileUpload.fromData(generatedObject.getGifData(), baseName + ".gif");
-        }
-
-        return FileUpload.fromData(ImageUtil.toFile(generatedObject.getImage()), baseName + ".png");
+        return RenderedImage.of(generatedObject).toUpload(baseName);
     }
 
     /**
@@ -1321,8 +1477,8 @@ public class GeneratorCommands {
     }
 
     /**
-     * Adds a slash command to the given {@link User}'s history.
-     * This will silently fail if the user is not found in the database.
+     * Adds a slash command to the given {@link User}'s history and writes just that change to their
+     * stored document. This will silently fail if the user is not found in the database.
      *
      * @param user    The {@link User} to add the command to
      * @param command The command to add
@@ -1334,11 +1490,26 @@ public class GeneratorCommands {
             return;
         }
 
-        if (discordUser.getGeneratorHistory() == null) {
-            discordUser.setGeneratorHistory(new GeneratorHistory());
-        }
+        DiscordUserRepository discordUserRepository = DiscordBotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+
+        try {
+            DiscordUserUpdates.update(discordUserRepository, discordUser, changed -> {
+                DocumentUpdate update = new DocumentUpdate();
 
-        discordUser.getGeneratorHistory().addCommand(command);
+                if (changed.getGeneratorHistory() == null) {
+                    changed.setGeneratorHistory(new GeneratorHistory());
+                    changed.getGeneratorHistory().addCommand(command);
+                    return update.setSerialized("generatorHistory", changed.getGeneratorHistory());
+                }
+
+                List<String> before = new ArrayList<>(changed.getGeneratorHistory().getCommandHistory());
+                changed.getGeneratorHistory().addCommand(command);
+                return update.changeList("generatorHistory.commandHistory", before, changed.getGeneratorHistory().getCommandHistory());
+            });
+        } catch (RuntimeException exception) {
+            // The cached user already holds the command, so the autosave flush still writes it
+            log.warn("Failed to save generator history for {}", user.getId(), exception);
+        }
     }
 
     /**
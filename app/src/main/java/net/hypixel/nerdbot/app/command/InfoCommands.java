@@ -8,6 +8,7 @@ import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.SelfUser;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.role.RoleManager;
 import net.hypixel.nerdbot.marmalade.io.FileUtils;
 import net.hypixel.nerdbot.discord.BotEnvironment;
@@ -78,42 +79,42 @@ public class InfoCommands {
 
     @SlashCommand(name = "info", subcommand = "greenlit", description = "View greenlit suggestions", guildOnly = true, defaultMemberPermissions = {"BAN_MEMBERS"}, requiredPermissions = {"BAN_MEMBERS"})
     public void greenlitInfo(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
-
-        GreenlitMessageRepository greenlitRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(GreenlitMessageRepository.class);
-
-        greenlitRepository.getAllDocumentsAsync().thenAccept(greenlitMessages -> {
-            if (greenlitMessages.isEmpty()) {
-                event.getHook().editOriginal("No greenlit suggestions found!").queue();
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
                 return;
             }
 
-            // Sort by suggestion timestamp
-            List<GreenlitMessage> sortedMessages = greenlitMessages.stream()
-                .sorted(Comparator.comparingLong(GreenlitMessage::getSuggestionTimestamp).reversed())
-                .collect(Collectors.toList());
-
-            PaginatedResponse<GreenlitMessage> pagination = PaginatedResponse.forEmbeds(
-                sortedMessages,
-                5,
-                pageItems -> buildGreenlitEmbed(pageItems).build(),
-                "info-page"
-            );
-
-            pagination.sendMessage(event);
-
-            event.getHook().retrieveOriginal().queue(message ->
-                PaginationManager.registerPagination(message.getId(), pagination)
-            );
-        }).exceptionally(throwable -> {
-            log.error("Error loading greenlit messages", throwable);
-            event.getHook().editOriginal("Failed to load greenlit suggestions: " + throwable.getMessage()).queue();
-            return null;
+            GreenlitMessageRepository greenlitRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(GreenlitMessageRepository.class);
+
+            greenlitRepository.getAllDocumentsAsync().thenAccept(greenlitMessages -> {
+                if (greenlitMessages.isEmpty()) {
+                    hook.editOriginal("No greenlit suggestions found!").queue();
+                    return;
+                }
+
+                // Sort by suggestion timestamp
+                List<GreenlitMessage> sortedMessages = greenlitMessages.stream()
+                    .sorted(Comparator.comparingLong(GreenlitMessage::getSuggestionTimestamp).reversed())
+                    .collect(Collectors.toList());
+
+                PaginatedResponse<GreenlitMessage> pagination = PaginatedResponse.forEmbeds(
+                    sortedMessages,
+                    5,
+                    pageItems -> buildGreenlitEmbed(pageItems).build(),
+                    "info-page"
+                );
+
+                pagination.sendMessage(event);
+
+                hook.retrieveOriginal().queue(message ->
+                    PaginationManager.registerPagination(message.getId(), pagination)
+                );
+            }).exceptionally(throwable -> {
+                log.error("Error loading greenlit messages", throwable);
+                hook.editOriginal("Failed to load greenlit suggestions: " + throwable.getMessage()).queue();
+                return null;
+            });
         });
     }
 
@@ -7,6 +7,7 @@ import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.hypixel.nerdbot.app.post.MarkdownPostService;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.util.StringUtils;
 
 import java.io.InputStream;
@@ -35,41 +36,41 @@ public class PostCommands {
             return;
         }
 
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            String content;
+            try (InputStream inputStream = attachment.getProxy().download().join()) {
+                content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                log.error("Failed to read attachment '{}'", attachment.getFileName(), e);
+                hook.editOriginal("Failed to read the uploaded file: " + e.getMessage()).queue();
+                return;
+            }
 
-        String content;
-        try (InputStream inputStream = attachment.getProxy().download().join()) {
-            content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            log.error("Failed to read attachment '{}'", attachment.getFileName(), e);
-            event.getHook().editOriginal("Failed to read the uploaded file: " + e.getMessage()).queue();
-            return;
-        }
-
-        if (content.isBlank()) {
-            event.getHook().editOriginal("The uploaded file is empty!").queue();
-            return;
-        }
+            if (content.isBlank()) {
+                hook.editOriginal("The uploaded file is empty!").queue();
+                return;
+            }
 
-        List<String> sections = markdownPostService.render(content);
+            List<String> sections = markdownPostService.render(content);
 
-        if (sections.isEmpty()) {
-            event.getHook().editOriginal("No content found after processing the file.").queue();
-            return;
-        }
+            if (sections.isEmpty()) {
+                hook.editOriginal("No content found after processing the file.").queue();
+                return;
+            }
 
-        MessageChannel channel = event.getChannel();
+            MessageChannel channel = event.getChannel();
 
-        CompletableFuture<?> chain = CompletableFuture.completedFuture(null);
-        for (String section : sections) {
-            chain = chain.thenCompose(ignored -> channel.sendMessage(section).submit());
-        }
+            CompletableFuture<?> chain = CompletableFuture.completedFuture(null);
+            for (String section : sections) {
+                chain = chain.thenCompose(ignored -> channel.sendMessage(section).submit());
+            }
 
-        chain.thenRun(() -> event.getHook().editOriginal("Posted " + sections.size() + " message(s) from `" + attachment.getFileName() + "`.").queue())
-            .exceptionally(throwable -> {
-                log.error("Failed to post markdown sections from '{}'", attachment.getFileName(), throwable);
-                event.getHook().editOriginal("An error occurred while posting the markdown content.").queue();
-                return null;
-            });
+            chain.thenRun(() -> hook.editOriginal("Posted " + sections.size() + " message(s) from `" + attachment.getFileName() + "`.").queue())
+                .exceptionally(throwable -> {
+                    log.error("Failed to post markdown sections from '{}'", attachment.getFileName(), throwable);
+                    hook.editOriginal("An error occurred while posting the markdown content.").queue();
+                    return null;
+                });
+        });
     }
 }
@@ -26,6 +26,7 @@ import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
 import net.hypixel.nerdbot.app.command.util.CommandErrorResponder;
 import net.hypixel.nerdbot.app.command.util.SuggestionCommandUtils;
 import net.hypixel.nerdbot.app.badge.BadgeManager;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.role.RoleManager;
 import net.hypixel.nerdbot.app.user.BirthdayScheduler;
 import net.hypixel.nerdbot.app.util.HttpUtils;
@@ -501,83 +502,83 @@ public class ProfileCommands {
         guildOnly = true
     )
     public void requestLinkProfile(SlashCommandInteractionEvent event, @SlashOption(description = "Your Minecraft IGN to link. Use the account you applied with.") String username) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                return;
+            }
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
-        discordUserRepository.findOrCreateByIdAsync(event.getMember().getId())
-            .thenCompose(discordUser -> {
-                if (VERIFY_CACHE.getIfPresent(event.getMember().getId()) != null) {
-                    event.getHook().editOriginal("Your previous verification request has not been reviewed. You will be contacted via DM if any further information is required.").queue();
-                    return CompletableFuture.completedFuture(null);
-                }
+            discordUserRepository.findOrCreateByIdAsync(event.getMember().getId())
+                .thenCompose(discordUser -> {
+                    if (VERIFY_CACHE.getIfPresent(event.getMember().getId()) != null) {
+                        hook.editOriginal("Your previous verification request has not been reviewed. You will be contacted via DM if any further information is required.").queue();
+                        return CompletableFuture.completedFuture(null);
+                    }
 
-                return requestMojangProfileAsync(event.getMember(), username, true)
-                    .thenAccept(mojangProfile -> {
-                        if (mojangProfile == null) {
-                            return;
-                        }
+                    return requestMojangProfileAsync(event.getMember(), username, true)
+                        .thenAccept(mojangProfile -> {
+                            if (mojangProfile == null) {
+                                return;
+                            }
 
-                        if (mojangProfile.getErrorMessage() != null) {
-                            event.getHook().editOriginal(mojangProfile.getErrorMessage()).queue();
-                            return;
-                        }
+                            if (mojangProfile.getErrorMessage() != null) {
+                                hook.editOriginal(mojangProfile.getErrorMessage()).queue();
+                                return;
+                            }
 
-                        VERIFY_CACHE.put(event.getMember().getId(), mojangProfile);
-                        event.getHook().editOriginal("Your verification request has been sent. You will be contacted via DM if any further information is required.").queue();
-
-                        ChannelCache.getVerifyLogChannel().ifPresentOrElse(textChannel -> textChannel.sendMessage("<@&" + DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getModeratorRoleId() + ">").addEmbeds(
-                                new EmbedBuilder()
-                                    .appendDescription("<@&" + DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getModeratorRoleId() + ">")
-                                    .setTitle("Mojang Profile Verification")
-                                    .setDescription(event.getMember().getAsMention() + " has sent a Mojang verification request. This discord account matches the social set for this Mojang Profile.")
-                                    .setColor(Color.PINK)
-                                    .setThumbnail(event.getMember().getEffectiveAvatarUrl())
-                                    .setFooter("This request expires in 1 day.")
-                                    .addField("Username", mojangProfile.getUsername(), false)
-                                    .addField(
-                                        "UUID / SkyCrypt",
+                            VERIFY_CACHE.put(event.getMember().getId(), mojangProfile);
+                            hook.editOriginal("Your verification request has been sent. You will be contacted via DM if any further information is required.").queue();
+
+                            ChannelCache.getVerifyLogChannel().ifPresentOrElse(textChannel -> textChannel.sendMessage("<@&" + DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getModeratorRoleId() + ">").addEmbeds(
+                                    new EmbedBuilder()
+                                        .appendDescription("<@&" + DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getModeratorRoleId() + ">")
+                                        .setTitle("Mojang Profile Verification")
+                                        .setDescription(event.getMember().getAsMention() + " has sent a Mojang verification request. This discord account matches the social set for this Mojang Profile.")
+                                        .setColor(Color.PINK)
+                                        .setThumbnail(event.getMember().getEffectiveAvatarUrl())
+                                        .setFooter("This request expires in 1 day.")
+                                        .addField("Username", mojangProfile.getUsername(), false)
+                                        .addField(
+                                            "UUID / SkyCrypt",
+                                            String.format(
+                                                "[%s](https://sky.shiiyu.moe/stats/%s)",
+                                                mojangProfile.getUniqueId(),
+                                                mojangProfile.getUniqueId()
+                                            ),
+                                            false
+                                        )
+                                        .build()
+                                )
+                                .addActionRow(
+                                    Button.of(
+                                        ButtonStyle.SUCCESS,
                                         String.format(
-                                            "[%s](https://sky.shiiyu.moe/stats/%s)",
-                                            mojangProfile.getUniqueId(),
-                                            mojangProfile.getUniqueId()
+                                            "verification-accept-%s",
+                                            event.getMember().getId()
                                         ),
-                                        false
-                                    )
-                                    .build()
-                            )
-                            .addActionRow(
-                                Button.of(
-                                    ButtonStyle.SUCCESS,
-                                    String.format(
-                                        "verification-accept-%s",
-                                        event.getMember().getId()
+                                        "Accept"
                                     ),
-                                    "Accept"
-                                ),
-                                Button.of(
-                                    ButtonStyle.DANGER,
-                                    String.format(
-                                        "verification-deny-%s",
-                                        event.getMember().getId()
-                                    ),
-                                    "Deny"
+                                    Button.of(
+                                        ButtonStyle.DANGER,
+                                        String.format(
+                                            "verification-deny-%s",
+                                            event.getMember().getId()
+                                        ),
+                                        "Deny"
+                                    )
                                 )
-                            )
-                            .queue(), () -> {
-                            log.warn("Profile verification log channel not found!");
+                                .queue(), () -> {
+                                log.warn("Profile verification log channel not found!");
+                            });
                         });
-                    });
-            })
-            .exceptionally(throwable -> {
-                CommandErrorResponder.respond(event.getHook(), "Failed to process the verification request. Please try again later.", throwable);
-                return null;
-            });
+                })
+                .exceptionally(throwable -> {
+                    CommandErrorResponder.respond(hook, "Failed to process the verification request. Please try again later.", throwable);
+                    return null;
+                });
+        });
     }
 
     @SlashCommand(
@@ -586,66 +587,66 @@ public class ProfileCommands {
         description = "Change your linked Mojang Profile."
     )
     public void linkProfile(SlashCommandInteractionEvent event, @SlashOption(description = "Your Minecraft IGN to link.") String username) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
-
-        DiscordUtils.getMainGuild().retrieveMemberById(event.getUser().getId())
-            .submit()
-            .thenCompose(member -> {
-                if (member == null) {
-                    event.getHook().editOriginal("You must be in SkyBlock Nerds to use this command!").queue();
-                    return CompletableFuture.completedFuture(null);
-                }
-
-                DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-                return discordUserRepository.findOrCreateByIdAsync(event.getUser().getId())
-                    .thenCompose(discordUser -> {
-                        if (discordUser.noProfileAssigned()) {
-                            event.getHook().editOriginal("You have not yet verified your account. Please do so before attempting to change it.").queue();
-                            return CompletableFuture.completedFuture(null);
-                        }
-
-                        return requestMojangProfileAsync(member, username, true)
-                            .thenAccept(mojangProfile -> {
-                                if (mojangProfile == null) {
-                                    return;
-                                }
-
-                                if (mojangProfile.getErrorMessage() != null) {
-                                    event.getHook().editOriginal(mojangProfile.getErrorMessage()).queue();
-                                    return;
-                                }
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                return;
+            }
 
-                                updateMojangProfile(member, mojangProfile);
+            DiscordUtils.getMainGuild().retrieveMemberById(event.getUser().getId())
+                .submit()
+                .thenCompose(member -> {
+                    if (member == null) {
+                        hook.editOriginal("You must be in SkyBlock Nerds to use this command!").queue();
+                        return CompletableFuture.completedFuture(null);
+                    }
 
-                                event.getHook().editOriginal(String.format("Updated your Mojang profile to %s (`%s`)", mojangProfile.getUsername(), mojangProfile.getUniqueId())).queue();
+                    DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+                    return discordUserRepository.findOrCreateByIdAsync(event.getUser().getId())
+                        .thenCompose(discordUser -> {
+                            if (discordUser.noProfileAssigned()) {
+                                hook.editOriginal("You have not yet verified your account. Please do so before attempting to change it.").queue();
+                                return CompletableFuture.completedFuture(null);
+                            }
 
-                                ChannelCache.sendToLogChannel(
-                                    EmbedFactory.success("Mojang Profile Link", member.getAsMention() + " has linked their Mojang Profile.")
-                                        .setThumbnail(member.getEffectiveAvatarUrl())
-                                        .addField("Username", mojangProfile.getUsername(), false)
-                                        .addField(
-                                            "UUID / SkyCrypt",
-                                            String.format(
-                                                "[%s](https://sky.shiiyu.moe/stats/%s)",
-                                                mojangProfile.getUniqueId(),
-                                                mojangProfile.getUniqueId()
-                                            ),
-                                            false
-                                        )
-                                        .build()
-                                );
-                            });
-                    });
-            })
-            .exceptionally(throwable -> {
-                CommandErrorResponder.respond(event.getHook(), "Failed to link the profile. Please try again later.", throwable);
-                return null;
-            });
+                            return requestMojangProfileAsync(member, username, true)
+                                .thenAccept(mojangProfile -> {
+                                    if (mojangProfile == null) {
+                                        return;
+                                    }
+
+                                    if (mojangProfile.getErrorMessage() != null) {
+                                        hook.editOriginal(mojangProfile.getErrorMessage()).queue();
+                                        return;
+                                    }
+
+                                    updateMojangProfile(member, mojangProfile);
+
+                                    hook.editOriginal(String.format("Updated your Mojang profile to %s (`%s`)", mojangProfile.getUsername(), mojangProfile.getUniqueId())).queue();
+
+                                    ChannelCache.sendToLogChannel(
+                                        EmbedFactory.success("Mojang Profile Link", member.getAsMention() + " has linked their Mojang Profile.")
+                                            .setThumbnail(member.getEffectiveAvatarUrl())
+                                            .addField("Username", mojangProfile.getUsername(), false)
+                                            .addField(
+                                                "UUID / SkyCrypt",
+                                                String.format(
+                                                    "[%s](https://sky.shiiyu.moe/stats/%s)",
+                                                    mojangProfile.getUniqueId(),
+                                                    mojangProfile.getUniqueId()
+                                                ),
+                                                false
+                                            )
+                                            .build()
+                                    );
+                                });
+                        });
+                })
+                .exceptionally(throwable -> {
+                    CommandErrorResponder.respond(hook, "Failed to link the profile. Please try again later.", throwable);
+                    return null;
+                });
+        });
     }
 
     @SlashCommand(
@@ -655,15 +656,15 @@ public class ProfileCommands {
         guildOnly = true
     )
     public void myActivity(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                return;
+            }
 
-        List<MessageEmbed> activityEmbeds = getActivityEmbeds(event.getMember());
-        event.getHook().editOriginalEmbeds(activityEmbeds.toArray(new MessageEmbed[]{})).queue();
+            List<MessageEmbed> activityEmbeds = getActivityEmbeds(event.getMember());
+            hook.editOriginalEmbeds(activityEmbeds.toArray(new MessageEmbed[]{})).queue();
+        });
     }
 
     @SlashCommand(
@@ -673,42 +674,42 @@ public class ProfileCommands {
         guildOnly = true
     )
     public void myInfo(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                return;
+            }
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
-        discordUserRepository.findByIdAsync(event.getMember().getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    event.getHook().editOriginal("User not found").queue();
-                    return;
-                }
+            discordUserRepository.findByIdAsync(event.getMember().getId())
+                .thenAccept(discordUser -> {
+                    if (discordUser == null) {
+                        hook.editOriginal("User not found").queue();
+                        return;
+                    }
 
-                String profile = discordUser.isProfileAssigned() ?
-                    discordUser.getMojangProfile().getUsername() + " (" + discordUser.getMojangProfile().getUniqueId().toString() + ")" :
-                    "*Missing Data*";
-
-                event.getHook().editOriginalEmbeds(
-                    new EmbedBuilder()
-                        .setAuthor(event.getMember().getEffectiveName() + " (ID: " + event.getMember().getId() + ")")
-                        .setTitle("Your Profile")
-                        .setThumbnail(event.getMember().getEffectiveAvatarUrl())
-                        .setColor(event.getMember().getColor())
-                        .addField("Mojang Profile", profile, false)
-                        .addField("Badges", discordUser.getBadges().isEmpty() ? "None" : String.valueOf(discordUser.getBadges().size()), true)
-                        .addField("Birthday", discordUser.getBirthdayData().getFormattedDisplay(), true)
-                        .build()
-                ).queue();
-            })
-            .exceptionally(throwable -> {
-                CommandErrorResponder.respond(event.getHook(), "Failed to load the profile. Please try again later.", throwable);
-                return null;
-            });
+                    String profile = discordUser.isProfileAssigned() ?
+                        discordUser.getMojangProfile().getUsername() + " (" + discordUser.getMojangProfile().getUniqueId().toString() + ")" :
+                        "*Missing Data*";
+
+                    hook.editOriginalEmbeds(
+                        new EmbedBuilder()
+                            .setAuthor(event.getMember().getEffectiveName() + " (ID: " + event.getMember().getId() + ")")
+                            .setTitle("Your Profile")
+                            .setThumbnail(event.getMember().getEffectiveAvatarUrl())
+                            .setColor(event.getMember().getColor())
+                            .addField("Mojang Profile", profile, false)
+                            .addField("Badges", discordUser.getBadges().isEmpty() ? "None" : String.valueOf(discordUser.getBadges().size()), true)
+                            .addField("Birthday", discordUser.getBirthdayData().getFormattedDisplay(), true)
+                            .build()
+                    ).queue();
+                })
+                .exceptionally(throwable -> {
+                    CommandErrorResponder.respond(hook, "Failed to load the profile. Please try again later.", throwable);
+                    return null;
+                });
+        });
     }
 
     @SlashCommand(
@@ -718,29 +719,30 @@ public class ProfileCommands {
         guildOnly = true
     )
     public void myBadges(SlashCommandInteractionEvent event, @SlashOption(required = false) Boolean showPublicly) {
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
+        boolean ephemeral = showPublicly == null || !showPublicly;
 
-        showPublicly = (showPublicly == null || !showPublicly);
-        event.deferReply(showPublicly).complete();
+        CommandExecution.execute(event, ephemeral, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                return;
+            }
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
-        discordUserRepository.findByIdAsync(event.getMember().getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    event.getHook().editOriginal("User not found").queue();
-                    return;
-                }
+            discordUserRepository.findByIdAsync(event.getMember().getId())
+                .thenAccept(discordUser -> {
+                    if (discordUser == null) {
+                        hook.editOriginal("User not found").queue();
+                        return;
+                    }
 
-                event.getHook().editOriginalEmbeds(createBadgesEmbed(event.getMember(), discordUser, true)).queue();
-            })
-            .exceptionally(throwable -> {
-                CommandErrorResponder.respond(event.getHook(), "Failed to load the badges. Please try again later.", throwable);
-                return null;
-            });
+                    hook.editOriginalEmbeds(createBadgesEmbed(event.getMember(), discordUser, true)).queue();
+                })
+                .exceptionally(throwable -> {
+                    CommandErrorResponder.respond(hook, "Failed to load the badges. Please try again later.", throwable);
+                    return null;
+                });
+        });
     }
 
     @SlashCommand(
@@ -755,56 +757,56 @@ public class ProfileCommands {
         @SlashOption(description = "Words to filter title for.", required = false) String title,
         @SlashOption(description = "Show suggestions from a specific category.", autocompleteId = "suggestion-types", required = false) String type
     ) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                return;
+            }
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
-        discordUserRepository.findOrCreateByIdAsync(event.getMember().getId())
-            .thenAccept(discordUser -> {
-                final Suggestion.ChannelType finalType = (type == null || type.isEmpty() ? Suggestion.ChannelType.NORMAL : Suggestion.ChannelType.getType(type));
+            discordUserRepository.findOrCreateByIdAsync(event.getMember().getId())
+                .thenAccept(discordUser -> {
+                    final Suggestion.ChannelType finalType = (type == null || type.isEmpty() ? Suggestion.ChannelType.NORMAL : Suggestion.ChannelType.getType(type));
 
-                if (finalType == Suggestion.ChannelType.UNKNOWN) {
-                    event.getHook().editOriginal("Invalid channel type provided!").queue();
-                    return;
-                }
+                    if (finalType == Suggestion.ChannelType.UNKNOWN) {
+                        hook.editOriginal("Invalid channel type provided!").queue();
+                        return;
+                    }
 
-                List<Suggestion> suggestions = SuggestionCommandUtils.getSuggestions(event.getMember(), event.getMember().getIdLong(), tags, title, finalType);
-                SuggestionStats stats = SuggestionCommandUtils.buildSuggestionStats(suggestions, event.getMember());
+                    List<Suggestion> suggestions = SuggestionCommandUtils.getSuggestions(event.getMember(), event.getMember().getIdLong(), tags, title, finalType);
+                    SuggestionStats stats = SuggestionCommandUtils.buildSuggestionStats(suggestions, event.getMember());
 
-                if (suggestions.isEmpty()) {
-                    event.getHook().editOriginal("No suggestions found matching that filter!").queue();
-                    return;
-                }
+                    if (suggestions.isEmpty()) {
+                        hook.editOriginal("No suggestions found matching that filter!").queue();
+                        return;
+                    }
 
-                PaginatedResponse<Suggestion> pagination = SuggestionCommandUtils.createSuggestionsPagination(
-                    event.getMember(),
-                    suggestions,
-                    stats,
-                    tags,
-                    title,
-                    finalType,
-                    false,
-                    true,
-                    "profile-page",
-                    event.getMember().getEffectiveName(),
-                    event.getMember().getEffectiveAvatarUrl()
-                );
-
-                pagination.sendMessage(event);
-
-                event.getHook().retrieveOriginal().queue(message ->
-                    PaginationManager.registerPagination(message.getId(), pagination)
-                );
-            })
-            .exceptionally(throwable -> {
-                CommandErrorResponder.respond(event.getHook(), "Failed to load the suggestions. Please try again later.", throwable);
-                return null;
-            });
+                    PaginatedResponse<Suggestion> pagination = SuggestionCommandUtils.createSuggestionsPagination(
+                        event.getMember(),
+                        suggestions,
+                        stats,
+                        tags,
+                        title,
+                        finalType,
+                        false,
+                        true,
+                        "profile-page",
+                        event.getMember().getEffectiveName(),
+                        event.getMember().getEffectiveAvatarUrl()
+                    );
+
+                    pagination.sendMessage(event);
+
+                    hook.retrieveOriginal().queue(message ->
+                        PaginationManager.registerPagination(message.getId(), pagination)
+                    );
+                })
+                .exceptionally(throwable -> {
+                    CommandErrorResponder.respond(hook, "Failed to load the suggestions. Please try again later.", throwable);
+                    return null;
+                });
+        });
     }
 
     @SlashCommand(
@@ -815,35 +817,32 @@ public class ProfileCommands {
         guildOnly = true
     )
     public void removeBirthday(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
-
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-
-        discordUserRepository.findByIdAsync(event.getMember().getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    event.getHook().editOriginal("User not found").queue();
-                    return;
-                }
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                return;
+            }
 
-                if (discordUser.getBirthdayData().getTimer() != null) {
-                    discordUser.getBirthdayData().getTimer().cancel();
-                }
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
-                discordUser.setBirthdayData(new BirthdayData());
-                discordUserRepository.cacheObject(discordUser);
+            discordUserRepository.findByIdAsync(event.getMember().getId())
+                .thenAccept(discordUser -> {
+                    if (discordUser == null) {
+                        hook.editOriginal("User not found").queue();
+                        return;
+                    }
 
-                event.getHook().editOriginal("Your birthday has been removed!").queue();
-            })
-            .exceptionally(throwable -> {
-                CommandErrorResponder.respond(event.getHook(), "Failed to remove the birthday. Please try again later.", throwable);
-                return null;
-            });
+                    BirthdayScheduler.cancel(discordUser);
+                    discordUser.setBirthdayData(new BirthdayData());
+                    discordUserRepository.cacheObject(discordUser);
+
+                    hook.editOriginal("Your birthday has been removed!").queue();
+                })
+                .exceptionally(throwable -> {
+                    CommandErrorResponder.respond(hook, "Failed to remove the birthday. Please try again later.", throwable);
+                    return null;
+                });
+        });
     }
 
     @SlashCommand(
@@ -857,49 +856,45 @@ public class ProfileCommands {
         SlashCommandInteractionEvent event,
         @SlashOption(autocompleteId = "timezones", description = "Your timezone (e.g., America/New_York, Europe/London, Asia/Tokyo, UTC).") String timezone
     ) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
-
-        ZoneId zoneId;
-        try {
-            zoneId = ZoneId.of(timezone);
-        } catch (Exception e) {
-            event.getHook().editOriginal("Invalid timezone: `" + timezone + "`. Please use a valid timezone ID (e.g., `America/New_York`, `Europe/London`, `Asia/Tokyo`, `UTC`).").queue();
-            return;
-        }
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                return;
+            }
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            ZoneId zoneId;
+            try {
+                zoneId = ZoneId.of(timezone);
+            } catch (Exception e) {
+                hook.editOriginal("Invalid timezone: `" + timezone + "`. Please use a valid timezone ID (e.g., `America/New_York`, `Europe/London`, `Asia/Tokyo`, `UTC`).").queue();
+                return;
+            }
 
-        discordUserRepository.findByIdAsync(event.getMember().getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    event.getHook().editOriginal("User not found").queue();
-                    return;
-                }
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
-                BirthdayData birthdayData = discordUser.getBirthdayData();
-                if (!birthdayData.isBirthdaySet()) {
-                    event.getHook().editOriginal("You need to set your birthday first using `/profile birthday set`.").queue();
-                    return;
-                }
+            discordUserRepository.findByIdAsync(event.getMember().getId())
+                .thenAccept(discordUser -> {
+                    if (discordUser == null) {
+                        hook.editOriginal("User not found").queue();
+                        return;
+                    }
 
-                if (birthdayData.getTimer() != null) {
-                    birthdayData.getTimer().cancel();
-                }
+                    BirthdayData birthdayData = discordUser.getBirthdayData();
+                    if (!birthdayData.isBirthdaySet()) {
+                        hook.editOriginal("You need to set your birthday first using `/profile birthday set`.").queue();
+                        return;
+                    }
 
-                birthdayData.setTimezone(zoneId.getId());
-                BirthdayScheduler.schedule(discordUser);
+                    birthdayData.setTimezone(zoneId.getId());
+                    BirthdayScheduler.schedule(discordUser);
 
-                event.getHook().editOriginal("Your birthday timezone has been updated to `" + zoneId.getId() + "`.").queue();
-            })
-            .exceptionally(throwable -> {
-                CommandErrorResponder.respond(event.getHook(), "Failed to update the timezone. Please try again later.", throwable);
-                return null;
-            });
+                    hook.editOriginal("Your birthday timezone has been updated to `" + zoneId.getId() + "`.").queue();
+                })
+                .exceptionally(throwable -> {
+                    CommandErrorResponder.respond(hook, "Failed to update the timezone. Please try again later.", throwable);
+                    return null;
+                });
+        });
     }
 
     @SlashCommand(
@@ -915,93 +910,89 @@ public class ProfileCommands {
         @SlashOption(description = "Whether to announce your age.", required = false) Boolean announceAge,
         @SlashOption(autocompleteId = "timezones", description = "Your timezone (e.g., America/New_York, Europe/London, Asia/Tokyo). Defaults to UTC.", required = false) String timezone
     ) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
-
-        ZoneId zoneId = null;
-        if (timezone != null && !timezone.isBlank()) {
-            try {
-                zoneId = ZoneId.of(timezone);
-            } catch (Exception e) {
-                event.getHook().editOriginal("Invalid timezone: `" + timezone + "`. Please use a valid timezone ID (e.g., `America/New_York`, `Europe/London`, `Asia/Tokyo`, `UTC`).").queue();
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
                 return;
             }
-        }
-
-        Member member = event.getMember();
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        ZoneId finalZoneId = zoneId;
 
-        discordUserRepository.findByIdAsync(member.getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    event.getHook().editOriginal("User not found").queue();
+            ZoneId zoneId = null;
+            if (timezone != null && !timezone.isBlank()) {
+                try {
+                    zoneId = ZoneId.of(timezone);
+                } catch (Exception e) {
+                    hook.editOriginal("Invalid timezone: `" + timezone + "`. Please use a valid timezone ID (e.g., `America/New_York`, `Europe/London`, `Asia/Tokyo`, `UTC`).").queue();
                     return;
                 }
+            }
 
-                try {
-                    BirthdayData birthdayData = discordUser.getBirthdayData();
+            Member member = event.getMember();
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            ZoneId finalZoneId = zoneId;
 
-                    if (birthdayData.getTimer() != null) {
-                        birthdayData.getTimer().cancel();
+            discordUserRepository.findByIdAsync(member.getId())
+                .thenAccept(discordUser -> {
+                    if (discordUser == null) {
+                        hook.editOriginal("User not found").queue();
+                        return;
                     }
 
-                    Date date = DateUtils.parseDate(birthday, new String[]{"MM/dd/yyyy"});
-                    discordUser.setBirthday(date);
-                    birthdayData.setShouldAnnounceAge(announceAge != null && announceAge);
+                    try {
+                        BirthdayData birthdayData = discordUser.getBirthdayData();
 
-                    if (finalZoneId != null) {
-                        birthdayData.setTimezone(finalZoneId.getId());
-                    }
+                        Date date = DateUtils.parseDate(birthday, new String[]{"MM/dd/yyyy"});
+                        discordUser.setBirthday(date);
+                        birthdayData.setShouldAnnounceAge(announceAge != null && announceAge);
 
-                    BirthdayScheduler.schedule(discordUser);
+                        if (finalZoneId != null) {
+                            birthdayData.setTimezone(finalZoneId.getId());
+                        }
 
-                    String timezoneDisplay = birthdayData.getTimeZoneId().getId();
-                    event.getHook().editOriginal(String.format("Set your birthday to %s (timezone: %s)!", DateFormatUtils.format(date, "dd MMMM yyyy"), timezoneDisplay)).queue();
-                } catch (Exception exception) {
-                    event.getHook().editOriginal("That doesn't seem to be a valid date. Please try again or contact a bot developer!").queue();
-                }
-            })
-            .exceptionally(throwable -> {
-                CommandErrorResponder.respond(event.getHook(), "Failed to set the birthday. Please try again later.", throwable);
-                return null;
-            });
+                        BirthdayScheduler.schedule(discordUser);
+
+                        String timezoneDisplay = birthdayData.getTimeZoneId().getId();
+                        hook.editOriginal(String.format("Set your birthday to %s (timezone: %s)!", DateFormatUtils.format(date, "dd MMMM yyyy"), timezoneDisplay)).queue();
+                    } catch (Exception exception) {
+                        hook.editOriginal("That doesn't seem to be a valid date. Please try again or contact a bot developer!").queue();
+                    }
+                })
+                .exceptionally(throwable -> {
+                    CommandErrorResponder.respond(hook, "Failed to set the birthday. Please try again later.", throwable);
+                    return null;
+                });
+        });
     }
 
     @SlashCommand(name = "profile", group = "preference", subcommand = "hide", description = "Change your default hide behavior for generator commands.")
     public void setHidePreference(SlashCommandInteractionEvent event, @SlashOption(description = "The value to set as your default hide behavior") boolean autohide) {
-        event.deferReply(true).complete();
-
-        if (!BotEnvironment.getBot().getDatabase().isConnected()) {
-            event.getHook().editOriginal("Could not connect to database!").queue();
-            return;
-        }
+        CommandExecution.execute(event, true, hook -> {
+            if (!BotEnvironment.getBot().getDatabase().isConnected()) {
+                hook.editOriginal("Could not connect to database!").queue();
+                return;
+            }
 
-        DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-        discordUserRepository.findByIdAsync(event.getMember().getId())
-            .thenAccept(discordUser -> {
-                if (discordUser == null) {
-                    event.getHook().editOriginal("User not found").queue();
-                    return;
-                }
+            DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            discordUserRepository.findByIdAsync(event.getMember().getId())
+                .thenAccept(discordUser -> {
+                    if (discordUser == null) {
+                        hook.editOriginal("User not found").queue();
+                        return;
+                    }
 
-                try {
-                    discordUser.setAutoHideGenCommands(autohide);
-                    event.getHook().editOriginal("Your default image generator message behavior has been set to " + (autohide ? "hidden" : "public")).queue();
-                } catch (Exception e) {
-                    log.error("Error saving user auto-hide preference", e);
-                    event.getHook().editOriginal("An error occurred while saving your preference, please try again later.").queue();
-                }
-            })
-            .exceptionally(throwable -> {
-                log.error("Error setting hide preference", throwable);
-                event.getHook().editOriginal("An error occurred while saving your preference, please try again later.").queue();
-                return null;
-            });
+                    try {
+                        discordUser.setAutoHideGenCommands(autohide);
+                        hook.editOriginal("Your default image generator message behavior has been set to " + (autohide ? "hidden" : "public")).queue();
+                    } catch (Exception e) {
+                        log.error("Error saving user auto-hide preference", e);
+                        hook.editOriginal("An error occurred while saving your preference, please try again later.").queue();
+                    }
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error setting hide preference", throwable);
+                    hook.editOriginal("An error occurred while saving your preference, please try again later.").queue();
+                    return null;
+                });
+        });
     }
 
     @SlashComponentHandler(id = "verification", patterns = {"verification-*"})
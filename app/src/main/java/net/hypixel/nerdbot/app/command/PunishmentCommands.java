@@ -18,9 +18,12 @@ import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
 import net.dv8tion.jda.api.interactions.components.text.TextInput;
 import net.dv8tion.jda.api.interactions.components.text.TextInputStyle;
 import net.dv8tion.jda.api.interactions.modals.Modal;
+import net.hypixel.nerdbot.app.punishment.MongoPunishmentStore;
+import net.hypixel.nerdbot.app.punishment.PunishmentCursor;
+import net.hypixel.nerdbot.app.punishment.PunishmentPage;
 import net.hypixel.nerdbot.app.punishment.PunishmentService;
 import net.hypixel.nerdbot.app.punishment.PunishmentStats;
-import net.hypixel.nerdbot.app.punishment.RepositoryPunishmentStore;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.discord.cache.ChannelCache;
 import net.hypixel.nerdbot.marmalade.format.DiscordTimestamp;
@@ -37,6 +40,7 @@ import java.util.List;
 public class PunishmentCommands {
 
     private static final int ITEMS_PER_PAGE = 10;
+    private static final String ANY_FILTER = "*";
 
     private PunishmentRepository getPunishmentRepository() {
         return BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(PunishmentRepository.class);
@@ -44,27 +48,29 @@ public class PunishmentCommands {
 
     @SlashCommand(name = "punishment", subcommand = "create", description = "Record a new punishment for a user", guildOnly = true, defaultMemberPermissions = {"BAN_MEMBERS"}, requiredPermissions = {"BAN_MEMBERS"})
     public void punishmentCreate(SlashCommandInteractionEvent event, @SlashOption Member member) {
-        event.deferReply(true).complete();
-        String modId = event.getUser().getId();
-        String targetId = member.getId();
+        CommandExecution.execute(event, true, hook -> {
+            String modId = event.getUser().getId();
+            String targetId = member.getId();
 
-        StringSelectMenu.Builder selectBuilder = StringSelectMenu.create("punish-type-" + modId + "-" + targetId)
-            .setPlaceholder("Select punishment type...")
-            .setRequiredRange(1, 1);
+            StringSelectMenu.Builder selectBuilder = StringSelectMenu.create("punish-type-" + modId + "-" + targetId)
+                .setPlaceholder("Select punishment type...")
+                .setRequiredRange(1, 1);
 
-        for (PunishmentType type : PunishmentType.values()) {
-            selectBuilder.addOption(type.getDisplayName(), type.name(), type.getDescription());
-        }
+            for (PunishmentType type : PunishmentType.values()) {
+                selectBuilder.addOption(type.getDisplayName(), type.name(), type.getDescription());
+            }
 
-        event.getHook().editOriginal("Select the punishment type for <@" + targetId + ">:")
-            .setComponents(ActionRow.of(selectBuilder.build()))
-            .queue();
+            hook.editOriginal("Select the punishment type for <@" + targetId + ">:")
+                .setComponents(ActionRow.of(selectBuilder.build()))
+                .queue();
+        });
     }
 
     @SlashCommand(name = "punishment", subcommand = "history", description = "View punishment history for a user", guildOnly = true, defaultMemberPermissions = {"BAN_MEMBERS"}, requiredPermissions = {"BAN_MEMBERS"})
     public void punishmentHistory(SlashCommandInteractionEvent event, @SlashOption Member member) {
-        event.deferReply(true).complete();
-        createHistoryPanel(event.getHook(), event.getUser().getId(), member.getId(), 1, null);
+        CommandExecution.execute(event, true, hook -> {
+            createHistoryPanel(hook, event.getUser().getId(), member.getId(), 1, null);
+        });
     }
 
     @SlashCommand(name = "punishment", subcommand = "search", description = "Search punishments with filters", guildOnly = true, defaultMemberPermissions = {"BAN_MEMBERS"}, requiredPermissions = {"BAN_MEMBERS"})
@@ -73,60 +79,69 @@ public class PunishmentCommands {
         @SlashOption(description = "Filter by moderator", required = false) Member moderator,
         @SlashOption(description = "Filter by punishment type", required = false) String type
     ) {
-        event.deferReply(true).complete();
-
-        PunishmentType punishmentType = type != null ? PunishmentType.fromName(type) : null;
-
-        if (moderator == null && punishmentType == null) {
-            event.getHook().editOriginal("Please provide at least one filter (moderator or type).").queue();
-            return;
-        }
-
-        PunishmentService punishmentService = new PunishmentService(new RepositoryPunishmentStore(getPunishmentRepository()));
-        List<Punishment> results = punishmentService.search(moderator != null ? moderator.getId() : null, punishmentType, ITEMS_PER_PAGE);
-
-        if (results.isEmpty()) {
-            event.getHook().editOriginal("No punishments found matching the given filters.").queue();
-            return;
-        }
-
-        EmbedBuilder embed = new EmbedBuilder()
-            .setTitle("Punishment Search Results")
-            .setColor(Color.ORANGE)
-            .setFooter("Showing " + results.size() + " result(s)");
+        CommandExecution.execute(event, true, hook -> {
+            PunishmentType punishmentType = type != null ? PunishmentType.fromName(type) : null;
 
-        for (Punishment p : results) {
-            String fieldValue = "**Target:** <@" + p.getTargetUserId() + ">\n" +
-                "**Moderator:** <@" + p.getModeratorUserId() + ">\n" +
-                "**Date:** " + DiscordTimestamp.toShortDateTime(p.getCreatedAt()) + "\n" +
-                "**Reason:** " + StringUtils.truncate(p.getReason(), 100);
-            embed.addField(p.getType().getDisplayName(), fieldValue, false);
-        }
+            if (moderator == null && punishmentType == null) {
+                hook.editOriginal("Please provide at least one filter (moderator or type).").queue();
+                return;
+            }
 
-        event.getHook().editOriginalEmbeds(embed.build()).queue();
+            showSearchResults(hook, event.getUser().getId(), moderator != null ? moderator.getId() : null, punishmentType, null);
+        });
     }
 
     @SlashCommand(name = "punishment", subcommand = "stats", description = "View punishment stats for a user", guildOnly = true, defaultMemberPermissions = {"BAN_MEMBERS"}, requiredPermissions = {"BAN_MEMBERS"})
     public void punishmentStats(SlashCommandInteractionEvent event, @SlashOption Member member) {
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            PunishmentService punishmentService = new PunishmentService(new MongoPunishmentStore());
+            PunishmentStats stats = punishmentService.stats(member.getId());
 
-        PunishmentService punishmentService = new PunishmentService(new RepositoryPunishmentStore(getPunishmentRepository()));
-        PunishmentStats stats = punishmentService.stats(member.getId());
+            EmbedBuilder embed = new EmbedBuilder()
+                .setTitle("Punishment Stats for " + member.getEffectiveName())
+                .setColor(Color.BLUE)
+                .setThumbnail(member.getEffectiveAvatarUrl())
+                .addField("Total", String.valueOf(stats.total()), true);
 
-        EmbedBuilder embed = new EmbedBuilder()
-            .setTitle("Punishment Stats for " + member.getEffectiveName())
-            .setColor(Color.BLUE)
-            .setThumbnail(member.getEffectiveAvatarUrl())
-            .addField("Total", String.valueOf(stats.total()), true);
+            stats.countsByType().forEach((type, count) ->
+                embed.addField(type.getDisplayName(), String.valueOf(count), true));
+
+            if (stats.total() == 0) {
+                embed.setDescription("This user has no recorded punishments.");
+            }
+
+            hook.editOriginalEmbeds(embed.build()).queue();
+        });
+    }
 
-        stats.countsByType().forEach((type, count) ->
-            embed.addField(type.getDisplayName(), String.valueOf(count), true));
+    // ─── Search Next Page Handler ────────────────────────────────────
+
+    @SlashComponentHandler(id = "punish-more", patterns = {"punish-more-*"})
+    public void handleSearchNextPage(ButtonInteractionEvent event) {
+        // punish-more-{modId}-{moderatorId|*}-{type|*}-{cursor}; the cursor holds the punishment UUID, so split it off last
+        String[] parts = event.getComponentId().split("-", 6);
+        String modId;
+        String moderatorId;
+        PunishmentType type;
+        PunishmentCursor after;
+
+        try {
+            modId = decodeUserId(parts[2]);
+            moderatorId = ANY_FILTER.equals(parts[3]) ? null : decodeUserId(parts[3]);
+            type = ANY_FILTER.equals(parts[4]) ? null : PunishmentType.valueOf(parts[4]);
+            after = PunishmentCursor.decode(parts[5]);
+        } catch (IllegalArgumentException exception) {
+            event.reply("This search has expired. Please run it again.").setEphemeral(true).queue();
+            return;
+        }
 
-        if (stats.total() == 0) {
-            embed.setDescription("This user has no recorded punishments.");
+        if (!event.getUser().getId().equals(modId)) {
+            event.reply("You can only use your own punishment interface!").setEphemeral(true).queue();
+            return;
         }
 
-        event.getHook().editOriginalEmbeds(embed.build()).queue();
+        event.deferEdit().queue();
+        showSearchResults(event.getHook(), modId, moderatorId, type, after);
     }
 
     // ─── Type Select Handler ─────────────────────────────────────────
@@ -176,7 +191,7 @@ public class PunishmentCommands {
             return;
         }
 
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
 
         PunishmentType type = PunishmentType.fromName(typeName);
         if (type == null) {
@@ -453,6 +468,51 @@ public class PunishmentCommands {
         hook.editOriginal(content.toString()).setComponents(actionRows).setEmbeds().queue();
     }
 
+    // ─── Search Results ──────────────────────────────────────────────
+
+    private void showSearchResults(InteractionHook hook, String modId, String moderatorId, PunishmentType type, PunishmentCursor after) {
+        PunishmentService punishmentService = new PunishmentService(new MongoPunishmentStore());
+        PunishmentPage page = punishmentService.search(moderatorId, type, after, ITEMS_PER_PAGE);
+
+        if (page.punishments().isEmpty()) {
+            hook.editOriginal("No punishments found matching the given filters.").setComponents().setEmbeds().queue();
+            return;
+        }
+
+        EmbedBuilder embed = new EmbedBuilder()
+            .setTitle("Punishment Search Results")
+            .setColor(Color.ORANGE)
+            .setFooter("Showing " + page.punishments().size() + " result(s)" + (page.next() != null ? ", more available" : ""));
+
+        for (Punishment p : page.punishments()) {
+            String fieldValue = "**Target:** <@" + p.getTargetUserId() + ">\n" +
+                "**Moderator:** <@" + p.getModeratorUserId() + ">\n" +
+                "**Date:** " + DiscordTimestamp.toShortDateTime(p.getCreatedAt()) + "\n" +
+                "**Reason:** " + StringUtils.truncate(p.getReason(), 100);
+            embed.addField(p.getType().getDisplayName(), fieldValue, false);
+        }
+
+        List<ActionRow> actionRows = new ArrayList<>();
+        if (page.next() != null) {
+            // User IDs go in base 36 so the type's name still fits in Discord's 100 character limit
+            String componentId = "punish-more-" + encodeUserId(modId)
+                + "-" + (moderatorId != null ? encodeUserId(moderatorId) : ANY_FILTER)
+                + "-" + (type != null ? type.name() : ANY_FILTER)
+                + "-" + page.next().encode();
+            actionRows.add(ActionRow.of(Button.secondary(componentId, "Next")));
+        }
+
+        hook.editOriginal("").setEmbeds(embed.build()).setComponents(actionRows).queue();
+    }
+
+    private static String encodeUserId(String userId) {
+        return Long.toString(Long.parseLong(userId), Character.MAX_RADIX);
+    }
+
+    private static String decodeUserId(String encoded) {
+        return Long.toString(Long.parseLong(encoded, Character.MAX_RADIX));
+    }
+
     // ─── Detail View ─────────────────────────────────────────────────
 
     private void showPunishmentDetail(InteractionHook hook, String modId, String targetIdHint, String punishmentId) {
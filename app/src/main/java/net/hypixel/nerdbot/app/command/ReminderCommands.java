@@ -26,6 +26,7 @@ import net.dv8tion.jda.api.interactions.components.text.TextInput;
 import net.dv8tion.jda.api.interactions.components.text.TextInputStyle;
 import net.dv8tion.jda.api.interactions.modals.Modal;
 import net.hypixel.nerdbot.app.reminder.ReminderDispatcher;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.marmalade.format.DiscordTimestamp;
 import net.hypixel.nerdbot.marmalade.storage.database.model.reminder.Reminder;
@@ -136,8 +137,9 @@ public class ReminderCommands {
 
     @SlashCommand(name = "reminders", subcommand = "view", description = "Create, view, and delete reminders", guildOnly = true)
     public void reminders(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-        createReminderPanel(event.getHook(), event.getUser().getId(), 1);
+        CommandExecution.execute(event, true, hook -> {
+            createReminderPanel(hook, event.getUser().getId(), 1);
+        });
     }
 
     @SlashCommand(name = "reminders", subcommand = "create", description = "Quick shortcut to create a new reminder", guildOnly = true)
@@ -226,9 +228,7 @@ public class ReminderCommands {
                     DeleteResult result = reminderRepository.deleteFromDatabase(reminder.getUuid().toString());
 
                     if (result != null && result.wasAcknowledged()) {
-                        if (reminder.getTimer() != null) {
-                            reminder.getTimer().cancel();
-                        }
+                        ReminderDispatcher.cancel(reminder);
                         createReminderPanel(event.getHook(), userId, 1, "✅ Successfully deleted reminder!");
                         log.info("Deleted reminder: {} for user: {}", reminderUuid, userId);
                     } else {
@@ -264,7 +264,7 @@ public class ReminderCommands {
             return;
         }
 
-        event.deferReply(true).queue();
+        CommandExecution.defer(event, true);
 
         if (event.getValues().isEmpty()) {
             event.getHook().editOriginal("❌ No input provided! Please try again.").queue();
@@ -11,6 +11,7 @@ import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionE
 import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.role.RoleManager;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.discord.config.RoleConfig;
@@ -29,96 +30,96 @@ public class RoleCommands {
 
     @SlashCommand(name = "roles", description = "View and manage your assignable roles", guildOnly = true)
     public void roleMenu(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
+        CommandExecution.execute(event, true, hook -> {
+            if (event.getGuild() == null) {
+                hook.editOriginal("This command can only be used in a server!").queue();
+                return;
+            }
 
-        if (event.getGuild() == null) {
-            event.getHook().editOriginal("This command can only be used in a server!").queue();
-            return;
-        }
+            PingableRole[] pingableRoles = DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getPingableRoles();
+            Member member = event.getMember();
 
-        PingableRole[] pingableRoles = DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getPingableRoles();
-        Member member = event.getMember();
+            if (pingableRoles.length == 0) {
+                hook.editOriginal("No roles are currently available.").queue();
+                return;
+            }
 
-        if (pingableRoles.length == 0) {
-            event.getHook().editOriginal("No roles are currently available.").queue();
-            return;
-        }
+            StringSelectMenu.Builder selectBuilder = StringSelectMenu.create("role-select-" + member.getId())
+                .setPlaceholder("Select a role to toggle")
+                .setRequiredRange(1, 1);
 
-        StringSelectMenu.Builder selectBuilder = StringSelectMenu.create("role-select-" + member.getId())
-            .setPlaceholder("Select a role to toggle")
-            .setRequiredRange(1, 1);
-
-        for (PingableRole pingableRole : pingableRoles) {
-            Role discordRole = event.getGuild().getRoleById(pingableRole.roleId());
-            if (discordRole != null) {
-                boolean hasRole = RoleManager.hasRoleById(member, pingableRole.roleId());
-                String emoji = hasRole ? "✅" : "❌";
-                String description = hasRole ? "Currently assigned - click to remove" : "Not assigned - click to add";
+            for (PingableRole pingableRole : pingableRoles) {
+                Role discordRole = event.getGuild().getRoleById(pingableRole.roleId());
+                if (discordRole != null) {
+                    boolean hasRole = RoleManager.hasRoleById(member, pingableRole.roleId());
+                    String emoji = hasRole ? "✅" : "❌";
+                    String description = hasRole ? "Currently assigned - click to remove" : "Not assigned - click to add";
 
-                selectBuilder.addOption(emoji + " " + pingableRole.name(), pingableRole.name(), description);
+                    selectBuilder.addOption(emoji + " " + pingableRole.name(), pingableRole.name(), description);
+                }
             }
-        }
 
-        ActionRow selectRow = ActionRow.of(selectBuilder.build());
+            ActionRow selectRow = ActionRow.of(selectBuilder.build());
 
-        List<String> currentRoles = Arrays.stream(pingableRoles)
-            .filter(role -> RoleManager.hasRoleById(member, role.roleId()))
-            .map(PingableRole::name)
-            .collect(Collectors.toList());
+            List<String> currentRoles = Arrays.stream(pingableRoles)
+                .filter(role -> RoleManager.hasRoleById(member, role.roleId()))
+                .map(PingableRole::name)
+                .collect(Collectors.toList());
 
-        String statusMessage = currentRoles.isEmpty()
-            ? "**Your Current Roles:** None\n\n" +
-            "**Available Roles:** " + pingableRoles.length + "\n" +
-            "Use the dropdown below to add or remove roles."
-            : "**Your Current Roles:** " + String.join(", ", currentRoles) + "\n\n" +
-            "**Available Roles:** " + pingableRoles.length + "\n" +
-            "Use the dropdown below to add or remove roles.";
+            String statusMessage = currentRoles.isEmpty()
+                ? "**Your Current Roles:** None\n\n" +
+                "**Available Roles:** " + pingableRoles.length + "\n" +
+                "Use the dropdown below to add or remove roles."
+                : "**Your Current Roles:** " + String.join(", ", currentRoles) + "\n\n" +
+                "**Available Roles:** " + pingableRoles.length + "\n" +
+                "Use the dropdown below to add or remove roles.";
 
-        event.getHook().editOriginal(statusMessage)
-            .setComponents(selectRow)
-            .queue();
+            hook.editOriginal(statusMessage)
+                .setComponents(selectRow)
+                .queue();
+        });
     }
 
     @SlashCommand(name = "promotion", description = "Check if you are eligible for a promotion to a higher role", guildOnly = true)
     public void checkForPromotionEligibility(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-
-        RoleConfig roleConfig = DiscordBotEnvironment.getBot().getConfig().getRoleConfig();
-        if (!roleConfig.isCurrentlyPromotingUsers()) {
-            event.getHook().editOriginal("We are not currently assessing promotion eligibility, please check back later!").queue();
-            return;
-        }
-
-        DiscordUserRepository repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
-
-        repository.findByIdAsync(event.getMember().getId())
-            .thenAccept(user -> {
-                if (user == null) {
-                    event.getHook().editOriginal("User not found").queue();
-                    return;
-                }
-
-                if (!RoleManager.getHighestRole(event.getMember()).equals(RoleManager.getRoleById(roleConfig.getMemberRoleId()).orElseThrow())) {
-                    event.getHook().editOriginal("You are already at the highest role!").queue();
-                    return;
-                }
+        CommandExecution.execute(event, true, hook -> {
+            RoleConfig roleConfig = DiscordBotEnvironment.getBot().getConfig().getRoleConfig();
+            if (!roleConfig.isCurrentlyPromotingUsers()) {
+                hook.editOriginal("We are not currently assessing promotion eligibility, please check back later!").queue();
+                return;
+            }
 
-                if (isEligibleForPromotion(user)) {
-                    event.getHook().editOriginal("You are currently eligible for a promotion! This is not a guarantee that you will be promoted. Thanks for contributing to SkyBlock Nerds!").queue();
-                } else {
-                    event.getHook().editOriginal(String.format("You have %s/%s required suggestion votes and %s/%s required suggestion comments to be nominated for the Orange role!",
-                        StringUtils.COMMA_SEPARATED_FORMAT.format(user.getLastActivity().getTotalVotes(DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getDaysRequiredForVoteHistory())),
-                        StringUtils.COMMA_SEPARATED_FORMAT.format(DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getMinimumVotesRequiredForPromotion()),
-                        StringUtils.COMMA_SEPARATED_FORMAT.format(user.getLastActivity().getTotalComments(DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getDaysRequiredForVoteHistory())),
-                        StringUtils.COMMA_SEPARATED_FORMAT.format(DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getMinimumCommentsRequiredForPromotion())
-                    )).queue();
-                }
-            })
-            .exceptionally(throwable -> {
-                log.error("Error loading user for promotion check", throwable);
-                event.getHook().editOriginal("Failed to load user data").queue();
-                return null;
-            });
+            DiscordUserRepository repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+
+            repository.findByIdAsync(event.getMember().getId())
+                .thenAccept(user -> {
+                    if (user == null) {
+                        hook.editOriginal("User not found").queue();
+                        return;
+                    }
+
+                    if (!RoleManager.getHighestRole(event.getMember()).equals(RoleManager.getRoleById(roleConfig.getMemberRoleId()).orElseThrow())) {
+                        hook.editOriginal("You are already at the highest role!").queue();
+                        return;
+                    }
+
+                    if (isEligibleForPromotion(user)) {
+                        hook.editOriginal("You are currently eligible for a promotion! This is not a guarantee that you will be promoted. Thanks for contributing to SkyBlock Nerds!").queue();
+                    } else {
+                        hook.editOriginal(String.format("You have %s/%s required suggestion votes and %s/%s required suggestion comments to be nominated for the Orange role!",
+                            StringUtils.COMMA_SEPARATED_FORMAT.format(user.getLastActivity().getTotalVotes(DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getDaysRequiredForVoteHistory())),
+                            StringUtils.COMMA_SEPARATED_FORMAT.format(DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getMinimumVotesRequiredForPromotion()),
+                            StringUtils.COMMA_SEPARATED_FORMAT.format(user.getLastActivity().getTotalComments(DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getDaysRequiredForVoteHistory())),
+                            StringUtils.COMMA_SEPARATED_FORMAT.format(DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getMinimumCommentsRequiredForPromotion())
+                        )).queue();
+                    }
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error loading user for promotion check", throwable);
+                    hook.editOriginal("Failed to load user data").queue();
+                    return null;
+                });
+        });
     }
 
     private boolean isEligibleForPromotion(DiscordUser user) {
@@ -21,6 +21,7 @@ import net.dv8tion.jda.api.entities.emoji.Emoji;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
@@ -29,6 +30,7 @@ import net.dv8tion.jda.api.managers.channel.concrete.ThreadChannelManager;
 import net.hypixel.nerdbot.app.command.util.SuggestionCommandUtils;
 import net.hypixel.nerdbot.app.curator.ForumChannelCurator;
 import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
+import net.hypixel.nerdbot.discord.command.CommandExecution;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.app.suggestion.Suggestion;
 import net.hypixel.nerdbot.discord.config.EmojiConfig;
@@ -65,44 +67,44 @@ public class SuggestionCommands {
 
     @SlashCommand(name = "request-review", description = "Request a greenlit review of your suggestion.", guildOnly = true)
     public void requestSuggestionReview(SlashCommandInteractionEvent event) {
-        event.deferReply(true).complete();
-
-        if (!SkyBlockNerdsBot.config().getSuggestionConfig().getReviewRequestConfig().isEnabled()) {
-            event.getHook().editOriginal("Review requests are currently disabled!").queue();
-            return;
-        }
+        CommandExecution.execute(event, true, hook -> {
+            if (!SkyBlockNerdsBot.config().getSuggestionConfig().getReviewRequestConfig().isEnabled()) {
+                hook.editOriginal("Review requests are currently disabled!").queue();
+                return;
+            }
 
-        DiscordUserRepository repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+            DiscordUserRepository repository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
 
-        repository.findOrCreateByIdAsync(event.getMember().getId())
-            .thenAccept(discordUser -> {
-                if (event.getChannel().getType() != net.dv8tion.jda.api.entities.channel.ChannelType.GUILD_PUBLIC_THREAD) {
-                    event.getHook().editOriginal("This command cannot be used here!").queue();
-                    return;
-                }
+            repository.findOrCreateByIdAsync(event.getMember().getId())
+                .thenAccept(discordUser -> {
+                    if (event.getChannel().getType() != net.dv8tion.jda.api.entities.channel.ChannelType.GUILD_PUBLIC_THREAD) {
+                        hook.editOriginal("This command cannot be used here!").queue();
+                        return;
+                    }
 
-                processReviewRequest(event, discordUser);
-            })
-            .exceptionally(throwable -> {
-                log.error("Error loading user for review request", throwable);
-                event.getHook().editOriginal("Failed to load user data").queue();
-                return null;
-            });
+                    processReviewRequest(event, hook, discordUser);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error loading user for review request", throwable);
+                    hook.editOriginal("Failed to load user data").queue();
+                    return null;
+                });
+        });
     }
 
-    private void processReviewRequest(SlashCommandInteractionEvent event, DiscordUser discordUser) {
+    private void processReviewRequest(SlashCommandInteractionEvent event, InteractionHook hook, DiscordUser discordUser) {
         SuggestionConfig suggestionConfig = SkyBlockNerdsBot.config().getSuggestionConfig();
         EmojiConfig emojiConfig = DiscordBotEnvironment.getBot().getConfig().getEmojiConfig();
         String forumChannelId = event.getChannel().asThreadChannel().getParentChannel().getId();
 
         // Handle Non-Suggestion Channels
         if (!forumChannelId.equals(suggestionConfig.getForumChannelId())) {
-            event.getHook().editOriginal("You cannot send threads in non-suggestion channels for review!").queue();
+            hook.editOriginal("You cannot send threads in non-suggestion channels for review!").queue();
             return;
         }
 
         if (lastReviewRequestCache.getIfPresent(event.getChannel().getId()) != null) {
-            event.getHook().editOriginal("You cannot request another review on this thread yet!").queue();
+            hook.editOriginal("You cannot request another review on this thread yet!").queue();
             return;
         }
 
@@ -110,44 +112,44 @@ public class SuggestionCommands {
 
         // Handle Missing Suggestion
         if (suggestion == null) {
-            event.getHook().editOriginal("Couldn't find that suggestion in the cache! Please try again later!").queue();
+            hook.editOriginal("Couldn't find that suggestion in the cache! Please try again later!").queue();
             return;
         }
 
         // Handle User Deleted Posts
         java.util.Optional<Message> firstMessage = suggestion.getFirstMessage();
         if (firstMessage.isEmpty()) {
-            event.getHook().editOriginal("The original message for this suggestion was deleted!").queue();
+            hook.editOriginal("The original message for this suggestion was deleted!").queue();
             return;
         }
 
         // No Friends Allowed
         if (firstMessage.get().getAuthor().getIdLong() != event.getUser().getIdLong()) {
-            event.getHook().editOriginal("You cannot request a review on a thread you did not create!").queue();
+            hook.editOriginal("You cannot request a review on a thread you did not create!").queue();
             return;
         }
 
         // Handle Already Greenlit
         if (suggestion.isGreenlit()) {
-            event.getHook().editOriginal("You can only request reviews on threads that are not greenlit!").queue();
+            hook.editOriginal("You can only request reviews on threads that are not greenlit!").queue();
             return;
         }
 
         // Handle Minimum Agrees
         if (suggestion.getAgrees() < suggestionConfig.getReviewRequestConfig().getThreshold()) {
-            event.getHook().editOriginal(String.format("You need at least %d agrees to request a review!", suggestionConfig.getReviewRequestConfig().getThreshold())).queue();
+            hook.editOriginal(String.format("You need at least %d agrees to request a review!", suggestionConfig.getReviewRequestConfig().getThreshold())).queue();
             return;
         }
 
         // Make sure the suggestion is old enough
         if (System.currentTimeMillis() - firstMessage.get().getTimeCreated().toInstant().toEpochMilli() < suggestionConfig.getReviewRequestConfig().getMinimumSuggestionAge()) {
-            event.getHook().editOriginal("This suggestion is too new to request a review!").queue();
+            hook.editOriginal("This suggestion is too new to request a review!").queue();
             return;
         }
 
         // Handle Greenlit Ratio
         if (suggestionConfig.getReviewRequestConfig().isEnforceGreenlitRatio() && suggestion.getRatio() <= suggestionConfig.getGreenlitRatio()) {
-            event.getHook().editOriginal(String.format("You need at least a %d%% agree ratio to request a review!", suggestionConfig.getGreenlitRatio())).queue();
+            hook.editOriginal(String.format("You need at least a %d%% agree ratio to request a review!", suggestionConfig.getGreenlitRatio())).queue();
             return;
         }
 
@@ -249,7 +251,7 @@ public class SuggestionCommands {
         }, () -> log.warn("Review request channel not found!"));
 
         lastReviewRequestCache.put(event.getChannel().getId(), System.currentTimeMillis());
-        event.getHook().deleteOriginal().complete();
+        hook.deleteOriginal().complete();
         event.getChannel().sendMessage("This suggestion has been sent for review!").queue();
     }
 
@@ -266,47 +268,48 @@ public class SuggestionCommands {
         @SlashOption(description = "Words to filter title for.", required = false) String title,
         @SlashOption(description = "Show suggestions from a specific category.", autocompleteId = "suggestion-types", required = false) String channelType
     ) {
-        event.deferReply(true).complete();
-        Suggestion.ChannelType channelTypeEnum = (channelType == null || channelType.isEmpty() ? Suggestion.ChannelType.NORMAL : Suggestion.ChannelType.getType(channelType));
+        CommandExecution.execute(event, true, hook -> {
+            Suggestion.ChannelType channelTypeEnum = (channelType == null || channelType.isEmpty() ? Suggestion.ChannelType.NORMAL : Suggestion.ChannelType.getType(channelType));
 
-        if (channelTypeEnum == Suggestion.ChannelType.UNKNOWN) {
-            event.getHook().editOriginal("Invalid channel type provided!").queue();
-            return;
-        }
-
-        try {
-            long userIdLong = Long.parseLong(userId);
-            User searchUser = DiscordBotEnvironment.getBot().getJDA().getUserById(userIdLong);
-            boolean showRatio = userIdLong == event.getMember().getIdLong() || event.getMember().hasPermission(Permission.MANAGE_PERMISSIONS);
-            List<Suggestion> suggestions = SuggestionCommandUtils.getSuggestions(event.getMember(), userIdLong, tags, title, channelTypeEnum);
-            SuggestionStats stats = SuggestionCommandUtils.buildSuggestionStats(suggestions, event.getMember());
-
-            if (suggestions.isEmpty()) {
-                event.getHook().editOriginal("No suggestions found matching that filter!").queue();
+            if (channelTypeEnum == Suggestion.ChannelType.UNKNOWN) {
+                hook.editOriginal("Invalid channel type provided!").queue();
                 return;
             }
 
-            PaginatedResponse<Suggestion> pagination = SuggestionCommandUtils.createSuggestionsPagination(
-                event.getMember(),
-                suggestions,
-                stats,
-                tags,
-                title,
-                channelTypeEnum,
-                false,
-                showRatio,
-                "suggestions-page",
-                searchUser != null ? searchUser.getName() : userId,
-                searchUser != null ? searchUser.getEffectiveAvatarUrl() : null
-            );
+            try {
+                long userIdLong = Long.parseLong(userId);
+                User searchUser = DiscordBotEnvironment.getBot().getJDA().getUserById(userIdLong);
+                boolean showRatio = userIdLong == event.getMember().getIdLong() || event.getMember().hasPermission(Permission.MANAGE_PERMISSIONS);
+                List<Suggestion> suggestions = SuggestionCommandUtils.getSuggestions(event.getMember(), userIdLong, tags, title, channelTypeEnum);
+                SuggestionStats stats = SuggestionCommandUtils.buildSuggestionStats(suggestions, event.getMember());
 
-            pagination.sendMessage(event);
-            event.getHook().retrieveOriginal().queue(message ->
-                PaginationManager.registerPagination(message.getId(), pagination)
-            );
-        } catch (NumberFormatException exception) {
-            event.getHook().editOriginal("Invalid user ID!").queue();
-        }
+                if (suggestions.isEmpty()) {
+                    hook.editOriginal("No suggestions found matching that filter!").queue();
+                    return;
+                }
+
+                PaginatedResponse<Suggestion> pagination = SuggestionCommandUtils.createSuggestionsPagination(
+                    event.getMember(),
+                    suggestions,
+                    stats,
+                    tags,
+                    title,
+                    channelTypeEnum,
+                    false,
+                    showRatio,
+                    "suggestions-page",
+                    searchUser != null ? searchUser.getName() : userId,
+                    searchUser != null ? searchUser.getEffectiveAvatarUrl() : null
+                );
+
+                pagination.sendMessage(event);
+                hook.retrieveOriginal().queue(message ->
+                    PaginationManager.registerPagination(message.getId(), pagination)
+                );
+            } catch (NumberFormatException exception) {
+                hook.editOriginal("Invalid user ID!").queue();
+            }
+        });
     }
 
     @SlashCommand(
@@ -322,42 +325,43 @@ public class SuggestionCommands {
         @SlashOption(description = "Words to filter title for.", required = false) String title,
         @SlashOption(description = "Show suggestions from a specific category.", autocompleteId = "suggestion-types", required = false) String type
     ) {
-        event.deferReply(true).complete();
-        Suggestion.ChannelType typeEnum = (type == null || type.isEmpty() ? Suggestion.ChannelType.NORMAL : Suggestion.ChannelType.getType(type));
+        CommandExecution.execute(event, true, hook -> {
+            Suggestion.ChannelType typeEnum = (type == null || type.isEmpty() ? Suggestion.ChannelType.NORMAL : Suggestion.ChannelType.getType(type));
 
-        if (typeEnum == Suggestion.ChannelType.UNKNOWN) {
-            event.getHook().editOriginal("Invalid channel type provided!").queue();
-            return;
-        }
+            if (typeEnum == Suggestion.ChannelType.UNKNOWN) {
+                hook.editOriginal("Invalid channel type provided!").queue();
+                return;
+            }
 
-        boolean showRatio = member.getIdLong() == event.getMember().getIdLong() || event.getMember().hasPermission(Permission.MANAGE_PERMISSIONS);
+            boolean showRatio = member.getIdLong() == event.getMember().getIdLong() || event.getMember().hasPermission(Permission.MANAGE_PERMISSIONS);
 
-        List<Suggestion> suggestions = SuggestionCommandUtils.getSuggestions(event.getMember(), member.getIdLong(), tags, title, typeEnum);
-        SuggestionStats stats = SuggestionCommandUtils.buildSuggestionStats(suggestions, event.getMember());
+            List<Suggestion> suggestions = SuggestionCommandUtils.getSuggestions(event.getMember(), member.getIdLong(), tags, title, typeEnum);
+            SuggestionStats stats = SuggestionCommandUtils.buildSuggestionStats(suggestions, event.getMember());
 
-        if (suggestions.isEmpty()) {
-            event.getHook().editOriginal("No suggestions found matching that filter!").queue();
-            return;
-        }
+            if (suggestions.isEmpty()) {
+                hook.editOriginal("No suggestions found matching that filter!").queue();
+                return;
+            }
 
-        PaginatedResponse<Suggestion> pagination = SuggestionCommandUtils.createSuggestionsPagination(
-            member,
-            suggestions,
-            stats,
-            tags,
-            title,
-            typeEnum,
-            false,
-            showRatio,
-            "suggestions-page",
-            member.getEffectiveName(),
-            member.getEffectiveAvatarUrl()
-        );
-
-        pagination.sendMessage(event);
-        event.getHook().retrieveOriginal().queue(message ->
-            PaginationManager.registerPagination(message.getId(), pagination)
-        );
+            PaginatedResponse<Suggestion> pagination = SuggestionCommandUtils.createSuggestionsPagination(
+                member,
+                suggestions,
+                stats,
+                tags,
+                title,
+                typeEnum,
+                false,
+                showRatio,
+                "suggestions-page",
+                member.getEffectiveName(),
+                member.getEffectiveAvatarUrl()
+            );
+
+            pagination.sendMessage(event);
+            hook.retrieveOriginal().queue(message ->
+                PaginationManager.registerPagination(message.getId(), pagination)
+            );
+        });
     }
 
     @SlashCommand(
@@ -372,40 +376,41 @@ public class SuggestionCommands {
         @SlashOption(description = "Words to filter title for.", required = false) String title,
         @SlashOption(description = "Show suggestions from a specific category.", autocompleteId = "suggestion-types", required = false) String type
     ) {
-        event.deferReply(true).complete();
-        Suggestion.ChannelType typeEnum = (type == null || type.isEmpty() ? Suggestion.ChannelType.NORMAL : Suggestion.ChannelType.getType(type));
+        CommandExecution.execute(event, true, hook -> {
+            Suggestion.ChannelType typeEnum = (type == null || type.isEmpty() ? Suggestion.ChannelType.NORMAL : Suggestion.ChannelType.getType(type));
 
-        if (typeEnum == Suggestion.ChannelType.UNKNOWN) {
-            event.getHook().editOriginal("Invalid channel type provided!").queue();
-            return;
-        }
+            if (typeEnum == Suggestion.ChannelType.UNKNOWN) {
+                hook.editOriginal("Invalid channel type provided!").queue();
+                return;
+            }
 
-        List<Suggestion> suggestions = SuggestionCommandUtils.getSuggestions(event.getMember(), null, tags, title, typeEnum);
-        SuggestionStats stats = SuggestionCommandUtils.buildSuggestionStats(suggestions, event.getMember());
+            List<Suggestion> suggestions = SuggestionCommandUtils.getSuggestions(event.getMember(), null, tags, title, typeEnum);
+            SuggestionStats stats = SuggestionCommandUtils.buildSuggestionStats(suggestions, event.getMember());
 
-        if (suggestions.isEmpty()) {
-            event.getHook().editOriginal("No suggestions found matching that filter!").queue();
-            return;
-        }
+            if (suggestions.isEmpty()) {
+                hook.editOriginal("No suggestions found matching that filter!").queue();
+                return;
+            }
+
+            PaginatedResponse<Suggestion> pagination = SuggestionCommandUtils.createSuggestionsPagination(
+                event.getMember(),
+                suggestions,
+                stats,
+                tags,
+                title,
+                typeEnum,
+                true,
+                true,
+                "suggestions-page",
+                null,
+                null
+            );
 
-        PaginatedResponse<Suggestion> pagination = SuggestionCommandUtils.createSuggestionsPagination(
-            event.getMember(),
-            suggestions,
-            stats,
-            tags,
-            title,
-            typeEnum,
-            true,
-            true,
-            "suggestions-page",
-            null,
-            null
-        );
-
-        pagination.sendMessage(event);
-        event.getHook().retrieveOriginal().queue(message ->
-            PaginationManager.registerPagination(message.getId(), pagination)
-        );
+            pagination.sendMessage(event);
+            hook.retrieveOriginal().queue(message ->
+                PaginationManager.registerPagination(message.getId(), pagination)
+            );
+        });
     }
 
     @SlashAutocompleteHandler(id = "suggestion-types")
@@ -76,32 +76,22 @@ public class SuggestionCommandUtils {
         final List<String> includeTags = tagFilters.include();
         final List<String> excludeTags = tagFilters.exclude();
 
-        List<Suggestion> allSuggestions = SkyBlockNerdsBot.suggestionCache().getSuggestions();
-        if (allSuggestions.isEmpty()) {
+        if (SkyBlockNerdsBot.suggestionCache().size() == 0) {
             log.warn("Suggestions cache is empty!");
             return Collections.emptyList();
         }
 
-        return allSuggestions.stream()
-            .filter(suggestion -> suggestion.getChannelType() == channelType)
+        if (userId != null) {
+            Member user = DiscordUtils.getMainGuild().retrieveMemberById(userId).complete();
+            if (user == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        return SkyBlockNerdsBot.suggestionCache().findSuggestions(channelType, userId, includeTags, excludeTags)
+            .stream()
             .filter(Suggestion::notDeleted)
-            .filter(suggestion -> {
-                if (userId != null) {
-                    Member user = DiscordUtils.getMainGuild().retrieveMemberById(userId).complete();
-                    return user != null && suggestion.getOwnerIdLong() == userId && suggestion.canSee(member);
-                }
-                return true;
-            })
-            // Include filter: suggestion must have ALL specified include tags
-            .filter(suggestion -> includeTags.isEmpty() || includeTags.stream().allMatch(tag -> suggestion.getAppliedTags()
-                .stream()
-                .anyMatch(forumTag -> forumTag.getName().equalsIgnoreCase(tag))
-            ))
-            // Exclude filter: suggestion must have NONE of the specified exclude tags
-            .filter(suggestion -> excludeTags.isEmpty() || excludeTags.stream().noneMatch(tag -> suggestion.getAppliedTags()
-                .stream()
-                .anyMatch(forumTag -> forumTag.getName().equalsIgnoreCase(tag))
-            ))
+            .filter(suggestion -> userId == null || suggestion.canSee(member))
             .filter(suggestion -> title == null || title.isEmpty() || suggestion.getThreadName()
                 .toLowerCase()
                 .contains(title.toLowerCase())
@@ -39,6 +39,11 @@ public class GeneratorConfig {
      */
     private CacheConfig cache = new CacheConfig();
 
+    /**
+     * Render executor configuration
+     */
+    private RenderConfig render = new RenderConfig();
+
 
     /**
      * General generator configuration
@@ -189,14 +194,38 @@ public class GeneratorConfig {
          */
         private int maxSize = 1000;
 
+        /**
+         * Maximum total size of the cached entries in bytes
+         */
+        private long maxBytes = 64L * 1024 * 1024;
+
         /**
          * Time-to-live for cache entries in minutes
          */
         private int ttlMinutes = 60;
-
     }
 
 
+    @Getter
+    @Setter
+    @ToString
+    public static class RenderConfig {
+        /**
+         * Maximum number of renders waiting for a render worker before new renders are rejected
+         */
+        private int maxQueuedRenders = 32;
+
+        /**
+         * Maximum number of renders a single user may have waiting at once
+         */
+        private int maxQueuedRendersPerUser = 3;
+
+        /**
+         * PNG compression level for static renders, from 0 (fastest, largest) to 9 (slowest, smallest)
+         */
+        private int pngCompressionLevel = 4;
+    }
+
     @Getter
     @Setter
     @ToString
@@ -210,6 +239,13 @@ public class GeneratorConfig {
          * The pack ID applied when a generator command does not specify one (null or empty = vanilla)
          */
         private String defaultPack = null;
+
+        /**
+         * How often to check the pack paths for changed files and reload those packs, in seconds
+         * (0 or less = only reload through /packs reload). Off by default, since every reload
+         * registers a new version of the pack
+         */
+        private int watchIntervalSeconds = 0;
     }
 
     @Getter
@@ -99,6 +99,21 @@ public class NerdBotConfig extends DiscordBotConfig {
      */
     private int inactivityMessages = 10;
 
+    /**
+     * How long the repository save at shutdown may take overall, in seconds, so it finishes inside
+     * the container's stop grace period. Changes not saved by then are journaled to
+     * repositoryJournalDirectory and saved on the next startup
+     * Default value is 8 seconds
+     */
+    private int shutdownSaveDeadlineSeconds = 8;
+
+    /**
+     * The directory repository changes that missed the shutdown save deadline are journaled to.
+     * Should be on persistent storage
+     * Default value is "journal"
+     */
+    private String repositoryJournalDirectory = "journal";
+
     /**
      * Feature configuration. If present and not empty,
      * the bot will instantiate and start the listed features in order.
@@ -83,4 +83,54 @@ public class SuggestionConfig {
      */
     private int autoLockThreshold = -1;
 
-}
\ No newline at end of file
+    /**
+     * The amount of minutes between runs of the thread maintenance task that applies the auto-archive
+     * and auto-lock thresholds to suggestion, alpha and project threads.
+     * <br><br>
+     * Default is 60 minutes
+     */
+    private int maintenanceIntervalMinutes = 60;
+
+    /**
+     * The maximum amount of thread archive/lock requests the maintenance task sends at once.
+     * <br><br>
+     * Default is 2
+     */
+    private int maintenanceConcurrency = 2;
+
+    // Cache
+
+    /**
+     * Keep the suggestion cache current from Discord events, only rebuilding suggestions that changed.
+     * <br><br>
+     * When disabled, every suggestion is rebuilt from Discord every hour.
+     * <br>
+     * Default is true
+     */
+    private boolean incrementalCacheUpdates = true;
+
+    /**
+     * The amount of minutes between reconciling changed suggestions with Discord when incremental cache
+     * updates are enabled.
+     * <br><br>
+     * Default is 5 minutes
+     */
+    private int cacheReconcileIntervalMinutes = 5;
+
+    /**
+     * The amount of hours between full rebuilds of the suggestion cache when incremental cache updates
+     * are enabled.
+     * <br><br>
+     * Default is 24 hours
+     */
+    private int cacheFullRefreshIntervalHours = 24;
+
+    /**
+     * The amount of minutes between re-counting the votes of suggestions that received votes, since
+     * vote counts are otherwise only kept up to date from reaction events.
+     * <br><br>
+     * Default is 60 minutes
+     */
+    private int voteReconcileIntervalMinutes = 60;
+
+}
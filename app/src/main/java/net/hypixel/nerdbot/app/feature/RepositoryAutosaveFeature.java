@@ -1,9 +1,10 @@
 package net.hypixel.nerdbot.app.feature;
 
 import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
+import net.hypixel.nerdbot.app.storage.RepositoryFlusher;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.discord.api.feature.BotFeature;
-import net.hypixel.nerdbot.marmalade.storage.repository.Repository;
 
 import java.time.Duration;
 import java.util.Map;
@@ -14,6 +15,7 @@ import java.util.Map;
  * safety nets are cache-eviction on expiry and the graceful save in {@code onEnd}. An ungraceful
  * shutdown that bypasses {@code onEnd} (a SIGKILL, an OOM-kill or a crash) would otherwise lose
  * every write-behind change accumulated since startup; this bounds that loss to one interval.
+ * Only documents changed since they were last saved are written (see {@link RepositoryFlusher}).
  *
  * <p>Registered unconditionally in code rather than through the feature config so the safety net
  * cannot be turned off by omitting a config entry.
@@ -37,14 +39,7 @@ public class RepositoryAutosaveFeature extends BotFeature {
         Map<Class<?>, Object> repositories = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepositories();
         log.debug("Autosaving {} repositories to the database", repositories.size());
 
-        repositories.values().forEach(repositoryObject -> {
-            Repository<?> repository = (Repository<?>) repositoryObject;
-            repository.saveAllToDatabaseAsync()
-                .exceptionally(throwable -> {
-                    log.error("Failed to autosave repository {}", repository.getClass().getSimpleName(), throwable);
-                    return null;
-                });
-        });
+        SkyBlockNerdsBot.repositoryFlusher().flushAll(repositories);
     }
 
     @Override
@@ -0,0 +1,57 @@
+package net.hypixel.nerdbot.app.feature;
+
+import lombok.extern.slf4j.Slf4j;
+import net.aerh.imagegenerator.pack.PackId;
+import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
+import net.hypixel.nerdbot.app.config.GeneratorConfig;
+import net.hypixel.nerdbot.app.generation.pack.ResourcePackService;
+import net.hypixel.nerdbot.discord.api.feature.BotFeature;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Watches the configured resource pack paths and reloads packs whose files change, so an updated
+ * pack goes live without restarting the bot. Only file sizes and modification times are polled;
+ * a pack is read again only once they change. See
+ * {@link ResourcePackService#reloadConfiguredPacks} for how renders already in progress are kept
+ * on the version they started with.
+ *
+ * <p>Only runs when {@code generatorConfig.resourcePacks.watchIntervalSeconds} is set above zero,
+ * which it is not by default.
+ */
+@Slf4j
+public class ResourcePackReloadFeature extends BotFeature {
+
+    @Override
+    public void onFeatureStart() {
+        GeneratorConfig.ResourcePackConfig config = SkyBlockNerdsBot.config().getGeneratorConfig().getResourcePacks();
+
+        if (config == null || config.getWatchIntervalSeconds() <= 0) {
+            log.info("Resource pack watching is disabled, packs will only reload through /packs reload");
+            return;
+        }
+
+        long period = Duration.ofSeconds(config.getWatchIntervalSeconds()).toMillis();
+        scheduleAtFixedRate("resource-pack-reload-task", this::reloadChangedPacks, period, period);
+    }
+
+    @Override
+    public void onFeatureEnd() {
+        stopScheduledTask();
+    }
+
+    private void reloadChangedPacks() {
+        GeneratorConfig.ResourcePackConfig config = SkyBlockNerdsBot.config().getGeneratorConfig().getResourcePacks();
+        ResourcePackService packService = SkyBlockNerdsBot.resourcePackService();
+
+        if (!packService.hasChanges(config)) {
+            return;
+        }
+
+        List<PackId> changed = packService.reloadConfiguredPacks(config, false);
+        if (!changed.isEmpty()) {
+            log.info("Reloaded {} changed resource pack(s): {}", changed.size(), changed);
+        }
+    }
+}
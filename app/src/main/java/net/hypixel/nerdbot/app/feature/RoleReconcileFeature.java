@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Role;
 import net.hypixel.nerdbot.app.role.RoleIdSync;
+import net.hypixel.nerdbot.app.storage.DiscordUserUpdates;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.discord.api.feature.BotFeature;
 import net.hypixel.nerdbot.discord.util.DiscordUtils;
@@ -50,11 +51,24 @@ public class RoleReconcileFeature extends BotFeature {
                     return;
                 }
                 List<String> roleIds = member.getRoles().stream().map(Role::getId).toList();
-                if (RoleIdSync.applyRoleIds(user, roleIds)) {
+                if (RoleIdSync.isCurrent(user, roleIds)) {
+                    return;
+                }
+                try {
+                    boolean stored = DiscordUserUpdates.update(repository, user, changed -> {
+                        RoleIdSync.applyRoleIds(changed, roleIds);
+                        return RoleIdSync.update(changed);
+                    });
                     repository.cacheObject(user);
-                    repository.saveToDatabaseAsync(user);
-                    log.info("Reconciled role ids for {} ({} roles)", member.getId(), roleIds.size());
+                    if (!stored) {
+                        repository.saveToDatabaseAsync(user);
+                    }
+                } catch (RuntimeException exception) {
+                    // Left to the autosave flush, which writes the cached change in full
+                    log.error("Failed to save reconciled role ids for {}", member.getId(), exception);
+                    return;
                 }
+                log.info("Reconciled role ids for {} ({} roles)", member.getId(), roleIds.size());
             })
             .onError(throwable -> log.error("Role reconcile sweep failed", throwable));
     }
@@ -0,0 +1,180 @@
+package net.hypixel.nerdbot.app.feature;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
+import net.dv8tion.jda.api.managers.channel.concrete.ThreadChannelManager;
+import net.dv8tion.jda.api.utils.TimeUtil;
+import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
+import net.hypixel.nerdbot.app.config.AlphaProjectConfig;
+import net.hypixel.nerdbot.app.config.SuggestionConfig;
+import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
+import net.hypixel.nerdbot.app.suggestion.Suggestion;
+import net.hypixel.nerdbot.app.suggestion.SuggestionCache;
+import net.hypixel.nerdbot.app.suggestion.ThreadMaintenanceAction;
+import net.hypixel.nerdbot.discord.BotEnvironment;
+import net.hypixel.nerdbot.discord.api.feature.BotFeature;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically archives and locks inactive suggestion threads according to the configured
+ * auto-archive and auto-lock thresholds.
+ *
+ * <p>Candidates are collected from every suggestion forum first and deduplicated by thread, then
+ * applied in batches no larger than the configured concurrency budget, waiting for each batch to
+ * finish before sending the next so a large backlog never floods the thread-edit rate limit.
+ * Inactivity is read from the snowflake of the thread's latest message, so collecting candidates
+ * does not fetch any messages.
+ */
+@Slf4j
+public class SuggestionMaintenanceFeature extends BotFeature {
+
+    private static final long INITIAL_DELAY_MS = TimeUnit.MINUTES.toMillis(5);
+
+    @Override
+    public void onFeatureStart() {
+        if (BotEnvironment.getBot().isReadOnly()) {
+            log.warn("Bot is in read-only mode, skipping suggestion maintenance task!");
+            return;
+        }
+
+        long period = Duration.ofMinutes(Math.max(1, SkyBlockNerdsBot.config().getSuggestionConfig().getMaintenanceIntervalMinutes())).toMillis();
+        scheduleAtFixedRate("suggestion-maintenance-task", this::runMaintenance, INITIAL_DELAY_MS, period);
+    }
+
+    @Override
+    public void onFeatureEnd() {
+        stopScheduledTask();
+    }
+
+    private void runMaintenance() {
+        long start = System.currentTimeMillis();
+        Map<Long, Candidate> candidates = collectCandidates(start);
+
+        if (candidates.isEmpty()) {
+            log.debug("Suggestion maintenance found no threads to archive or lock");
+            return;
+        }
+
+        int concurrency = Math.max(1, SkyBlockNerdsBot.config().getSuggestionConfig().getMaintenanceConcurrency());
+        MaintenanceReport report = apply(new ArrayList<>(candidates.values()), concurrency);
+
+        log.info("Suggestion maintenance changed {} of {} candidate thread(s) ({} archived, {} locked, {} failed) in {}ms",
+            report.changed(), candidates.size(), report.archived(), report.locked(), report.failed(), System.currentTimeMillis() - start);
+    }
+
+    private Map<Long, Candidate> collectCandidates(long now) {
+        SuggestionConfig suggestionConfig = SkyBlockNerdsBot.config().getSuggestionConfig();
+        AlphaProjectConfig alphaProjectConfig = SkyBlockNerdsBot.config().getAlphaProjectConfig();
+        Map<Long, Candidate> candidates = new LinkedHashMap<>();
+
+        SuggestionCache.forEachSuggestionForum((forumChannel, channelType) -> {
+            int autoArchiveThreshold = channelType == Suggestion.ChannelType.NORMAL ? suggestionConfig.getAutoArchiveThreshold() : alphaProjectConfig.getAutoArchiveThreshold();
+            int autoLockThreshold = channelType == Suggestion.ChannelType.NORMAL ? suggestionConfig.getAutoLockThreshold() : alphaProjectConfig.getAutoLockThreshold();
+
+            if (autoArchiveThreshold <= 0 && autoLockThreshold <= 0) {
+                return;
+            }
+
+            try {
+                List<ThreadChannel> threads = new ArrayList<>(forumChannel.getThreadChannels());
+
+                // Archived threads can still need locking, but listing them costs requests, so only do it when locking is on
+                if (autoLockThreshold > 0) {
+                    threads.addAll(forumChannel.retrieveArchivedPublicThreadChannels().stream().toList());
+                }
+
+                for (ThreadChannel thread : threads) {
+                    long hoursInactive = TimeUnit.MILLISECONDS.toHours(now - lastActivity(thread).toInstant().toEpochMilli());
+                    ThreadMaintenanceAction action = ThreadMaintenanceAction.decide(thread.isArchived(), thread.isLocked(), hoursInactive, autoArchiveThreshold, autoLockThreshold);
+
+                    if (!action.isEmpty()) {
+                        candidates.putIfAbsent(thread.getIdLong(), new Candidate(thread, action, hoursInactive));
+                    }
+                }
+            } catch (Exception exception) {
+                log.error("Failed to collect maintenance candidates from forum channel: {} (ID: {})", forumChannel.getName(), forumChannel.getId(), exception);
+            }
+        });
+
+        return candidates;
+    }
+
+    private MaintenanceReport apply(List<Candidate> candidates, int concurrency) {
+        int archived = 0;
+        int locked = 0;
+        int failed = 0;
+
+        for (int batchStart = 0; batchStart < candidates.size(); batchStart += concurrency) {
+            List<Candidate> batch = candidates.subList(batchStart, Math.min(batchStart + concurrency, candidates.size()));
+            List<CompletableFuture<Boolean>> results = batch.stream().map(this::submit).toList();
+
+            for (int i = 0; i < batch.size(); i++) {
+                ThreadMaintenanceAction action = batch.get(i).action();
+
+                if (!results.get(i).join()) {
+                    failed++;
+                    continue;
+                }
+
+                if (action.archive()) {
+                    archived++;
+                    PrometheusMetrics.SUGGESTION_THREADS_MAINTAINED_AMOUNT.labels("archive").inc();
+                }
+
+                if (action.lock()) {
+                    locked++;
+                    PrometheusMetrics.SUGGESTION_THREADS_MAINTAINED_AMOUNT.labels("lock").inc();
+                }
+            }
+        }
+
+        return new MaintenanceReport(candidates.size() - failed, archived, locked, failed);
+    }
+
+    private CompletableFuture<Boolean> submit(Candidate candidate) {
+        ThreadChannel thread = candidate.thread();
+        ThreadChannelManager threadManager = thread.getManager();
+
+        if (candidate.action().archive()) {
+            log.debug("Auto-archiving suggestion '{}' (ID: {}) due to inactivity. (Hours: {})", thread.getName(), thread.getId(), candidate.hoursInactive());
+            threadManager = threadManager.setArchived(true);
+        }
+
+        if (candidate.action().lock()) {
+            log.debug("Auto-locking suggestion '{}' (ID: {}) due to inactivity. (Hours: {})", thread.getName(), thread.getId(), candidate.hoursInactive());
+            threadManager = threadManager.setLocked(true);
+        }
+
+        return threadManager.submit()
+            .thenApply(ignored -> true)
+            .exceptionally(throwable -> {
+                log.warn("Failed to apply maintenance to suggestion '{}' (ID: {})", thread.getName(), thread.getId(), throwable);
+                return false;
+            });
+    }
+
+    private static OffsetDateTime lastActivity(ThreadChannel thread) {
+        long latestMessageId = thread.getLatestMessageIdLong();
+        return latestMessageId == 0 ? thread.getTimeCreated() : TimeUtil.getTimeCreated(latestMessageId);
+    }
+
+    private record Candidate(ThreadChannel thread, ThreadMaintenanceAction action, long hoursInactive) {
+    }
+
+    /**
+     * @param changed  threads whose changes were applied
+     * @param archived threads archived
+     * @param locked   threads locked
+     * @param failed   threads whose changes were rejected
+     */
+    private record MaintenanceReport(int changed, int archived, int locked, int failed) {
+    }
+}
@@ -0,0 +1,245 @@
+package net.hypixel.nerdbot.app.generation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A case-insensitive substring index over a fixed set of autocomplete candidates, built once so
+ * that answering a keystroke never lowercases or scans the whole candidate set.
+ *
+ * <p>Results are ranked prefix-first: names starting with the query come before names that only
+ * contain it. Prefix matches are found by binary search over the lowercased names; other matches
+ * are found through trigram posting lists, checking only the names that contain the query's
+ * rarest trigram. Queries shorter than a trigram scan the lowercased names directly, which is
+ * cheap because nearly every name matches and the scan stops at the result limit.
+ */
+public final class AutocompleteIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int[] NO_POSTINGS = new int[0];
+
+    public static final AutocompleteIndex EMPTY = of(List.of());
+
+    private final String[] names;
+    private final String[] lowered;
+    /**
+     * Positions into {@link #names} ordered by lowercased name, and those lowercased names in the
+     * same order, for finding the range of names that start with a query.
+     */
+    private final int[] prefixOrder;
+    private final String[] prefixKeys;
+    /**
+     * Sorted packed trigrams and, at the same position, the ascending positions of every name
+     * containing that trigram.
+     */
+    private final long[] gramKeys;
+    private final int[][] gramPostings;
+
+    private AutocompleteIndex(String[] names) {
+        this.names = names;
+        this.lowered = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            lowered[i] = names[i].toLowerCase(Locale.ROOT);
+        }
+
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> lowered[i]).thenComparingInt(i -> i));
+
+        this.prefixOrder = new int[names.length];
+        this.prefixKeys = new String[names.length];
+        for (int i = 0; i < order.length; i++) {
+            prefixOrder[i] = order[i];
+            prefixKeys[i] = lowered[order[i]];
+        }
+
+        Map<Long, Postings> postings = new HashMap<>();
+        for (int i = 0; i < lowered.length; i++) {
+            String name = lowered[i];
+            for (int start = 0; start + GRAM_LENGTH <= name.length(); start++) {
+                postings.computeIfAbsent(gram(name, start), key -> new Postings()).add(i);
+            }
+        }
+
+        this.gramKeys = postings.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        this.gramPostings = new int[gramKeys.length][];
+        for (int i = 0; i < gramKeys.length; i++) {
+            gramPostings[i] = postings.get(gramKeys[i]).toArray();
+        }
+    }
+
+    /**
+     * Indexes the given names, dropping duplicates but otherwise keeping their order, which is
+     * the order matches of equal rank are returned in.
+     */
+    public static AutocompleteIndex of(@NotNull Collection<String> names) {
+        return new AutocompleteIndex(new LinkedHashSet<>(names).toArray(String[]::new));
+    }
+
+    /**
+     * @param query the user's input, matched case-insensitively
+     * @param limit the maximum number of names to return
+     *
+     * @return the names containing {@code query}, those starting with it first
+     */
+    public List<String> search(@NotNull String query, int limit) {
+        return search(List.of(this), query, limit);
+    }
+
+    /**
+     * Searches several indexes as one, ranking every index's prefix matches ahead of any index's
+     * other matches. Within a rank, earlier indexes come first.
+     *
+     * @see #search(String, int)
+     */
+    public static List<String> search(@NotNull List<AutocompleteIndex> indexes, @NotNull String query, int limit) {
+        return search(indexes, query, limit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Searches several indexes as one, skipping names longer than {@code maxLength} before they
+     * count towards the limit, so a long name never takes the place of a usable one.
+     *
+     * @see #search(List, String, int)
+     */
+    public static List<String> search(@NotNull List<AutocompleteIndex> indexes, @NotNull String query, int limit, int maxLength) {
+        String loweredQuery = query.toLowerCase(Locale.ROOT);
+        List<String> results = new ArrayList<>(Math.min(limit, 32));
+
+        for (AutocompleteIndex index : indexes) {
+            if (results.size() >= limit) {
+                return results;
+            }
+            index.collectPrefixMatches(loweredQuery, limit, maxLength, results);
+        }
+
+        if (loweredQuery.isEmpty()) {
+            return results;
+        }
+
+        for (AutocompleteIndex index : indexes) {
+            if (results.size() >= limit) {
+                return results;
+            }
+            index.collectInnerMatches(loweredQuery, limit, maxLength, results);
+        }
+
+        return results;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    private void collectPrefixMatches(String query, int limit, int maxLength, List<String> results) {
+        if (query.isEmpty()) {
+            for (int i = 0; i < names.length && results.size() < limit; i++) {
+                if (names[i].length() <= maxLength) {
+                    results.add(names[i]);
+                }
+            }
+            return;
+        }
+
+        int low = 0;
+        int high = prefixKeys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (prefixKeys[middle].compareTo(query) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        for (int i = low; i < prefixKeys.length && results.size() < limit && prefixKeys[i].startsWith(query); i++) {
+            if (names[prefixOrder[i]].length() <= maxLength) {
+                results.add(names[prefixOrder[i]]);
+            }
+        }
+    }
+
+    /**
+     * Adds names that contain the query somewhere other than at the start, so nothing found by
+     * {@link #collectPrefixMatches} is added twice.
+     */
+    private void collectInnerMatches(String query, int limit, int maxLength, List<String> results) {
+        if (query.length() < GRAM_LENGTH) {
+            for (int i = 0; i < lowered.length && results.size() < limit; i++) {
+                if (names[i].length() <= maxLength && isInnerMatch(lowered[i], query)) {
+                    results.add(names[i]);
+                }
+            }
+            return;
+        }
+
+        int[] candidates = rarestPostings(query);
+        for (int i = 0; i < candidates.length && results.size() < limit; i++) {
+            int position = candidates[i];
+            if (names[position].length() <= maxLength && isInnerMatch(lowered[position], query)) {
+                results.add(names[position]);
+            }
+        }
+    }
+
+    private static boolean isInnerMatch(String name, String query) {
+        return !name.startsWith(query) && name.indexOf(query, 1) > 0;
+    }
+
+    private int[] rarestPostings(String query) {
+        int[] rarest = null;
+
+        for (int start = 0; start + GRAM_LENGTH <= query.length(); start++) {
+            int slot = Arrays.binarySearch(gramKeys, gram(query, start));
+            if (slot < 0) {
+                return NO_POSTINGS;
+            }
+
+            if (rarest == null || gramPostings[slot].length < rarest.length) {
+                rarest = gramPostings[slot];
+            }
+        }
+
+        return rarest;
+    }
+
+    private static long gram(String text, int start) {
+        return (long) text.charAt(start) << 32 | (long) text.charAt(start + 1) << 16 | text.charAt(start + 2);
+    }
+
+    /**
+     * A growable list of ascending name positions, used only while building.
+     */
+    private static final class Postings {
+
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position) {
+            // A name containing the same trigram twice would otherwise be listed twice
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
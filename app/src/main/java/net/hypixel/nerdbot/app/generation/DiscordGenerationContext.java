@@ -27,20 +27,24 @@ public class DiscordGenerationContext {
         };
 
         String channelId = event.getChannel().getId();
+        return new GenerationContext(channelId, feedback, isAprilFools(channelId));
+    }
 
-        // Determine if April Fools mode should be enabled for this channel
+    /**
+     * Whether April Fools mode is enabled for renders in the given channel right now.
+     */
+    public static boolean isAprilFools(String channelId) {
         FunConfig funConfig = SkyBlockNerdsBot.config().getFunConfig();
         ZoneId zoneId = funConfig.getAprilFoolsTimezone() != null
             ? ZoneId.of(funConfig.getAprilFoolsTimezone())
             : ZoneId.systemDefault();
 
-        boolean aprilFools = false;
-        if (TimeUtils.isAprilFirst(zoneId)) {
-            ChannelConfig channelConfig = DiscordBotEnvironment.getBot().getConfig().getChannelConfig();
-            aprilFools = Arrays.stream(channelConfig.getAprilFoolsGenChannelIds())
-                .anyMatch(id -> id.equalsIgnoreCase(channelId));
+        if (!TimeUtils.isAprilFirst(zoneId)) {
+            return false;
         }
 
-        return new GenerationContext(channelId, feedback, aprilFools);
+        ChannelConfig channelConfig = DiscordBotEnvironment.getBot().getConfig().getChannelConfig();
+        return Arrays.stream(channelConfig.getAprilFoolsGenChannelIds())
+            .anyMatch(id -> id.equalsIgnoreCase(channelId));
     }
 }
@@ -0,0 +1,125 @@
+package net.hypixel.nerdbot.app.generation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Queue of pending renders shared fairly between users.
+ *
+ * <p>This is start-time fair queueing: every render gets a virtual start tag of the later of the
+ * queue's virtual time and the finish tag of the same user's previous render, and renders are taken
+ * in start tag order. A user with several renders queued therefore takes turns with everyone else
+ * rather than holding the workers until their batch is done, and a render's cost (roughly how much
+ * work it is compared to a single item) pushes that user's next render back by as much. A costly
+ * render is never starved, because its own start tag does not depend on its cost.
+ *
+ * <p>Not thread-safe; {@link RenderExecutor} guards it with its lock.
+ *
+ * @param <T> the queued item
+ */
+public class FairRenderQueue<T> {
+
+    private static final Comparator<Entry<?>> ORDER = Comparator
+        .comparingLong((Entry<?> entry) -> entry.startTag())
+        .thenComparingLong(entry -> entry.sequence());
+
+    private final PriorityQueue<Entry<T>> entries = new PriorityQueue<>(ORDER);
+    private final Map<Long, UserState> users = new HashMap<>();
+    private long virtualTime;
+    private long sequence;
+
+    /**
+     * Queues an item for a user.
+     *
+     * @param userId the user the item belongs to
+     * @param cost   the item's relative cost, at least 1
+     * @param item   the item to queue
+     *
+     * @return the item's 1-based position in the queue
+     */
+    public int offer(long userId, int cost, T item) {
+        if (cost < 1) {
+            throw new IllegalArgumentException("cost must be at least 1");
+        }
+
+        UserState user = users.computeIfAbsent(userId, ignored -> new UserState());
+        long startTag = Math.max(virtualTime, user.lastFinishTag);
+        user.lastFinishTag = startTag + cost;
+        user.queued++;
+
+        Entry<T> entry = new Entry<>(userId, startTag, sequence++, item);
+        entries.add(entry);
+
+        int position = 0;
+        for (Entry<T> queued : entries) {
+            if (ORDER.compare(queued, entry) <= 0) {
+                position++;
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * @return the next item, or {@code null} if the queue is empty
+     */
+    public T poll() {
+        Entry<T> entry = entries.poll();
+        if (entry == null) {
+            return null;
+        }
+
+        virtualTime = entry.startTag();
+        users.get(entry.userId()).queued--;
+
+        if (entries.isEmpty()) {
+            // Nobody is waiting, so nobody is owed a turn
+            users.clear();
+        }
+
+        return entry.item();
+    }
+
+    /**
+     * Removes and returns every queued item.
+     */
+    public List<T> clear() {
+        List<T> items = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries) {
+            items.add(entry.item());
+        }
+
+        entries.clear();
+        users.clear();
+        return items;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * @return how many items the user has queued
+     */
+    public int queuedFor(long userId) {
+        UserState user = users.get(userId);
+        return user == null ? 0 : user.queued;
+    }
+
+    private static final class UserState {
+
+        private long lastFinishTag;
+        private int queued;
+    }
+
+    private record Entry<T>(long userId, long startTag, long sequence, T item) {
+    }
+}
@@ -0,0 +1,103 @@
+package net.hypixel.nerdbot.app.generation;
+
+import lombok.experimental.UtilityClass;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Encodes PNGs in memory at a chosen compression level.
+ *
+ * <p>Each thread keeps its own PNG writer and output buffer, so the render workers reuse them from
+ * one render to the next rather than growing a new buffer every time. A buffer that grew past
+ * {@link #MAX_RETAINED_BUFFER_BYTES} for an unusually large render is dropped afterwards instead of
+ * being held for the life of the thread.
+ */
+@UtilityClass
+public class PngEncoder {
+
+    public static final int MIN_COMPRESSION_LEVEL = 0;
+    public static final int MAX_COMPRESSION_LEVEL = 9;
+
+    /**
+     * The deflate level ImageIO uses when none is given.
+     */
+    public static final int DEFAULT_COMPRESSION_LEVEL = 4;
+
+    private static final int INITIAL_BUFFER_BYTES = 64 * 1024;
+    private static final int MAX_RETAINED_BUFFER_BYTES = 4 * 1024 * 1024;
+
+    private static final ThreadLocal<Encoder> ENCODERS = ThreadLocal.withInitial(Encoder::new);
+
+    /**
+     * @param image            the image to encode
+     * @param compressionLevel the deflate level, from {@value #MIN_COMPRESSION_LEVEL} (fastest,
+     *                         largest) to {@value #MAX_COMPRESSION_LEVEL} (slowest, smallest)
+     *
+     * @return the encoded PNG
+     */
+    public static byte[] encode(BufferedImage image, int compressionLevel) throws IOException {
+        if (compressionLevel < MIN_COMPRESSION_LEVEL || compressionLevel > MAX_COMPRESSION_LEVEL) {
+            throw new IllegalArgumentException("PNG compression level must be between " + MIN_COMPRESSION_LEVEL + " and " + MAX_COMPRESSION_LEVEL + ", got " + compressionLevel);
+        }
+
+        return ENCODERS.get().encode(image, compressionLevel);
+    }
+
+    private static final class Encoder {
+
+        private final ImageWriter writer;
+        private Buffer buffer = new Buffer();
+
+        private Encoder() {
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("png");
+            if (!writers.hasNext()) {
+                throw new IllegalStateException("No PNG writer is available");
+            }
+
+            this.writer = writers.next();
+        }
+
+        private byte[] encode(BufferedImage image, int compressionLevel) throws IOException {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            // The PNG writer uses deflate level (int) (9 * (1 - quality)); aim at the middle of
+            // the level's range so float rounding cannot land on the level below
+            param.setCompressionQuality(Math.max(0F, 1F - (compressionLevel + 0.5F) / 9F));
+
+            buffer.reset();
+            try (ImageOutputStream outputStream = new MemoryCacheImageOutputStream(buffer)) {
+                writer.setOutput(outputStream);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.reset();
+            }
+
+            byte[] encoded = buffer.toByteArray();
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_BYTES) {
+                buffer = new Buffer();
+            }
+
+            return encoded;
+        }
+    }
+
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        private Buffer() {
+            super(INITIAL_BUFFER_BYTES);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+    }
+}
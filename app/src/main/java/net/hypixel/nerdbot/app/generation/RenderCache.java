@@ -0,0 +1,193 @@
+package net.hypixel.nerdbot.app.generation;
+
+import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
+import net.hypixel.nerdbot.app.config.GeneratorConfig;
+import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed cache of encoded renders, configured by {@link GeneratorConfig.CacheConfig}.
+ *
+ * <p>Renders are keyed by {@link #key(String, SortedMap, String, String)}, a hash of everything that
+ * decides what the image looks like. Entries expire {@code ttlMinutes} after being rendered, and the
+ * least recently used are evicted once there are more than {@code maxSize} of them or they hold more
+ * than {@code maxBytes} between them, so a few large GIFs push out many small items. A render asked
+ * for again while it is still running shares the running render, and the queue position it was
+ * given, instead of starting another.
+ */
+public class RenderCache {
+
+    private final Supplier<GeneratorConfig.CacheConfig> config;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private final Map<String, RenderExecutor.Ticket<RenderedImage>> inFlight = new HashMap<>();
+    private long bytesHeld;
+
+    public RenderCache() {
+        this(() -> SkyBlockNerdsBot.config().getGeneratorConfig().getCache(), System::currentTimeMillis);
+    }
+
+    RenderCache(Supplier<GeneratorConfig.CacheConfig> config, LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached render for a key, joins an identical render already running, or starts
+     * one with {@code render}.
+     *
+     * @param key    the render's key, or {@code null} to bypass the cache
+     * @param render starts the render when there is nothing to reuse
+     *
+     * @return the render, with position 0 for a cached render and the running render's position
+     * for a shared one
+     */
+    public RenderExecutor.Ticket<RenderedImage> get(@Nullable String key, Supplier<RenderExecutor.Ticket<RenderedImage>> render) {
+        GeneratorConfig.CacheConfig cacheConfig = config.get();
+        if (key == null || !cacheConfig.isEnabled()) {
+            return render.get();
+        }
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > clock.getAsLong()) {
+                PrometheusMetrics.RENDER_CACHE_REQUESTS_AMOUNT.labels("hit").inc();
+                PrometheusMetrics.RENDER_CACHE_SAVED_SECONDS.inc(entry.image().renderNanos() / 1_000_000_000D);
+                return new RenderExecutor.Ticket<>(0, CompletableFuture.completedFuture(entry.image()));
+            }
+
+            if (entry != null) {
+                remove(key);
+                updateGauges();
+            }
+
+            RenderExecutor.Ticket<RenderedImage> running = inFlight.get(key);
+            if (running != null) {
+                PrometheusMetrics.RENDER_CACHE_REQUESTS_AMOUNT.labels("coalesced").inc();
+                return new RenderExecutor.Ticket<>(running.position(), running.result().thenApply(image -> {
+                    PrometheusMetrics.RENDER_CACHE_SAVED_SECONDS.inc(image.renderNanos() / 1_000_000_000D);
+                    return image;
+                }));
+            }
+
+            PrometheusMetrics.RENDER_CACHE_REQUESTS_AMOUNT.labels("miss").inc();
+            RenderExecutor.Ticket<RenderedImage> started = render.get();
+            inFlight.put(key, started);
+            started.result().whenComplete((image, throwable) -> completed(key, image, cacheConfig));
+            return started;
+        }
+    }
+
+    /**
+     * Drops every cached render.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytesHeld = 0;
+        updateGauges();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getBytesHeld() {
+        return bytesHeld;
+    }
+
+    /**
+     * Hashes the inputs that decide what a render looks like into a cache key.
+     *
+     * @param command     the full command name
+     * @param options     the command's normalized options, excluding any that do not affect the image
+     * @param packHash    the content hash of the pack rendered with
+     * @param environment anything else the render depends on, such as the generator config
+     */
+    public static String key(String command, SortedMap<String, String> options, String packHash, String environment) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+
+        update(digest, command);
+        options.forEach((name, value) -> {
+            update(digest, name);
+            update(digest, value);
+        });
+        update(digest, packHash);
+        update(digest, environment);
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Length-prefixed so that ("ab", "c") and ("a", "bc") hash differently
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private synchronized void completed(String key, @Nullable RenderedImage image, GeneratorConfig.CacheConfig cacheConfig) {
+        inFlight.remove(key);
+
+        if (image == null || image.size() > cacheConfig.getMaxBytes()) {
+            return;
+        }
+
+        remove(key);
+        entries.put(key, new Entry(image, clock.getAsLong() + TimeUnit.MINUTES.toMillis(cacheConfig.getTtlMinutes())));
+        bytesHeld += image.size();
+        evict(cacheConfig);
+        updateGauges();
+    }
+
+    private void evict(GeneratorConfig.CacheConfig cacheConfig) {
+        long now = clock.getAsLong();
+        Iterator<Entry> iterator = entries.values().iterator();
+
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            boolean overCapacity = entries.size() > cacheConfig.getMaxSize() || bytesHeld > cacheConfig.getMaxBytes();
+
+            // Least recently used first, so expired entries are dropped on the way
+            if (overCapacity || entry.expiresAt() <= now) {
+                iterator.remove();
+                bytesHeld -= entry.image().size();
+            }
+        }
+    }
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytesHeld -= removed.image().size();
+        }
+    }
+
+    private void updateGauges() {
+        PrometheusMetrics.RENDER_CACHE_ENTRIES.set(entries.size());
+        PrometheusMetrics.RENDER_CACHE_BYTES.set(bytesHeld);
+    }
+
+    private record Entry(RenderedImage image, long expiresAt) {
+    }
+}
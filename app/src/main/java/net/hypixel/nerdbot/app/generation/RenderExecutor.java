@@ -0,0 +1,184 @@
+package net.hypixel.nerdbot.app.generation;
+
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
+import net.hypixel.nerdbot.app.config.GeneratorConfig;
+import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs image renders on a fixed pool of platform threads, one per core, so a burst of large
+ * inventory or animated renders queues up here instead of occupying the threads every other
+ * command runs on.
+ *
+ * <p>Pending renders wait in a {@link FairRenderQueue}, so one user queueing several renders takes
+ * turns with everyone else. Admission is bounded by {@link GeneratorConfig.RenderConfig}: a render is
+ * rejected once the queue or the user's share of it is full, rather than waiting indefinitely.
+ */
+@Slf4j
+public class RenderExecutor {
+
+    private final FairRenderQueue<Job<?>> queue = new FairRenderQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition renderAvailable = lock.newCondition();
+    private final List<Thread> workers = new ArrayList<>();
+    private int idleWorkers;
+    private boolean running = true;
+
+    public RenderExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public RenderExecutor(int workerCount) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount must be positive");
+        }
+
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofPlatform()
+                .name("render-worker-" + i)
+                .daemon(true)
+                .start(this::workLoop));
+        }
+    }
+
+    /**
+     * A submitted render.
+     *
+     * @param position how many renders are ahead of this one for a free worker, or 0 if it started
+     *                 straight away
+     * @param result   completed with the render's result, or exceptionally with whatever it threw
+     */
+    public record Ticket<T>(int position, CompletableFuture<T> result) {
+    }
+
+    /**
+     * Queues a render.
+     *
+     * @param userId    the user the render is for
+     * @param generator the generator name, used as the render time metric's label
+     * @param cost      the render's cost relative to a single item render, at least 1
+     * @param render    the render itself
+     *
+     * @throws RejectedExecutionException if the queue or the user's share of it is full, or the
+     *                                    executor has been stopped
+     */
+    public <T> Ticket<T> submit(long userId, String generator, int cost, Callable<T> render) {
+        GeneratorConfig.RenderConfig config = SkyBlockNerdsBot.config().getGeneratorConfig().getRender();
+        Job<T> job = new Job<>(generator, render);
+
+        lock.lock();
+        try {
+            if (!running) {
+                throw new RejectedExecutionException("The render executor has been stopped");
+            }
+
+            if (queue.queuedFor(userId) >= config.getMaxQueuedRendersPerUser()) {
+                PrometheusMetrics.RENDERS_REJECTED_AMOUNT.labels("user_limit").inc();
+                throw new RejectedExecutionException("User " + userId + " already has " + config.getMaxQueuedRendersPerUser() + " render(s) queued");
+            }
+
+            if (queue.size() >= config.getMaxQueuedRenders()) {
+                PrometheusMetrics.RENDERS_REJECTED_AMOUNT.labels("queue_full").inc();
+                throw new RejectedExecutionException("The render queue is full");
+            }
+
+            int position = queue.offer(userId, cost, job);
+            PrometheusMetrics.RENDER_QUEUE_DEPTH.set(queue.size());
+            renderAvailable.signal();
+
+            return new Ticket<>(Math.max(0, position - idleWorkers), job.result);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the workers once their current render finishes. Renders still queued fail with a
+     * {@link RejectedExecutionException}.
+     */
+    public void stop() {
+        List<Job<?>> abandoned;
+
+        lock.lock();
+        try {
+            running = false;
+            abandoned = queue.clear();
+            PrometheusMetrics.RENDER_QUEUE_DEPTH.set(0);
+            renderAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        for (Job<?> job : abandoned) {
+            job.result.completeExceptionally(new RejectedExecutionException("The render executor has been stopped"));
+        }
+
+        log.info("Stopped render executor, abandoned {} queued render(s)", abandoned.size());
+    }
+
+    private void workLoop() {
+        while (true) {
+            Job<?> job;
+
+            lock.lock();
+            try {
+                while (running && queue.isEmpty()) {
+                    idleWorkers++;
+                    try {
+                        renderAvailable.await();
+                    } finally {
+                        idleWorkers--;
+                    }
+                }
+
+                if (!running) {
+                    return;
+                }
+
+                job = queue.poll();
+                PrometheusMetrics.RENDER_QUEUE_DEPTH.set(queue.size());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            job.run();
+        }
+    }
+
+    private static final class Job<T> {
+
+        private final String generator;
+        private final Callable<T> render;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long queuedAt = System.nanoTime();
+
+        private Job(String generator, Callable<T> render) {
+            this.generator = generator;
+            this.render = render;
+        }
+
+        private void run() {
+            long start = System.nanoTime();
+            PrometheusMetrics.RENDER_QUEUE_WAIT_SECONDS.observe((start - queuedAt) / 1_000_000_000D);
+
+            try {
+                result.complete(render.call());
+            } catch (Throwable throwable) {
+                result.completeExceptionally(throwable);
+            } finally {
+                PrometheusMetrics.RENDER_DURATION_SECONDS.labels(generator).observe((System.nanoTime() - start) / 1_000_000_000D);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package net.hypixel.nerdbot.app.generation;
+
+import net.aerh.imagegenerator.image.GeneratorImageBuilder;
+import net.aerh.imagegenerator.item.GeneratedObject;
+import net.dv8tion.jda.api.utils.FileUpload;
+
+import java.io.IOException;
+
+/**
+ * An encoded render: GIF bytes for animated renders, PNG bytes otherwise.
+ *
+ * @param data        the encoded image, which must not be modified
+ * @param animated    whether {@code data} is a GIF
+ * @param renderNanos how long building and encoding the render took
+ */
+public record RenderedImage(byte[] data, boolean animated, long renderNanos) {
+
+    /**
+     * Builds and encodes a render, timing both.
+     *
+     * @param compressionLevel the PNG compression level for static renders, see {@link PngEncoder}
+     */
+    public static RenderedImage render(GeneratorImageBuilder builder, int compressionLevel) throws IOException {
+        long start = System.nanoTime();
+        GeneratedObject generatedObject = builder.build();
+        byte[] data = encode(generatedObject, compressionLevel);
+        return new RenderedImage(data, generatedObject.isAnimated(), System.nanoTime() - start);
+    }
+
+    /**
+     * Encodes a render at the default compression level without timing it.
+     */
+    public static RenderedImage of(GeneratedObject generatedObject) throws IOException {
+        return new RenderedImage(encode(generatedObject, PngEncoder.DEFAULT_COMPRESSION_LEVEL), generatedObject.isAnimated(), 0);
+    }
+
+    private static byte[] encode(GeneratedObject generatedObject, int compressionLevel) throws IOException {
+        if (generatedObject.isAnimated()) {
+            return generatedObject.getGifData();
+        }
+
+        return PngEncoder.encode(generatedObject.getImage(), compressionLevel);
+    }
+
+    /**
+     * @param baseName the file name without extension (e.g. {@code "item"})
+     *
+     * @return a new upload of this image as {@code <baseName>.gif} or {@code <baseName>.png}
+     */
+    public FileUpload toUpload(String baseName) {
+        return FileUpload.fromData(data, baseName + (animated ? ".gif" : ".png"));
+    }
+
+    public int size() {
+        return data.length;
+    }
+}
@@ -9,19 +9,43 @@ import net.aerh.imagegenerator.pack.PackRepository;
 import net.aerh.imagegenerator.pack.PackSource;
 import net.aerh.imagegenerator.text.TextColorRemap;
 import net.hypixel.nerdbot.app.config.GeneratorConfig;
+import net.hypixel.nerdbot.app.generation.AutocompleteIndex;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 /**
  * Registers the resource packs declared in {@link GeneratorConfig.ResourcePackConfig} with the
@@ -39,7 +63,41 @@ public class ResourcePackService {
 
     private final PackRepository packRepository;
     private final Map<PackId, List<String>> itemRefsByPack = new ConcurrentHashMap<>();
+    private final Map<PackId, AutocompleteIndex> itemRefIndexesByPack = new ConcurrentHashMap<>();
     private final Map<PackId, PackTheme> themesByPack = new ConcurrentHashMap<>();
+    private final Map<PackId, String> contentHashesByPack = new ConcurrentHashMap<>();
+
+    /**
+     * The ID each configured pack is currently registered under. A pack keeps its configured ID
+     * until it is reloaded; each reload registers the new version under a fresh ID, because the
+     * repository cannot replace or unregister a pack. The maps above are keyed by these registered
+     * IDs, which is also what {@link #resolvePackOption} hands to the generator builders, so a
+     * render that resolved its pack before a reload finishes against the version it started with.
+     */
+    private final Map<PackId, PackId> registeredIdsByPack = new ConcurrentHashMap<>();
+    private final Map<PackId, PackSignature> signaturesByPack = new ConcurrentHashMap<>();
+    private final Map<PackId, List<Map<String, String>>> themeConfigsByPack = new ConcurrentHashMap<>();
+    private final AtomicInteger reloadGeneration = new AtomicInteger();
+
+    /**
+     * The source behind each registered version, keyed by registered ID, and the sources of
+     * replaced or removed versions, oldest first. A render holding a replaced version keeps using
+     * its source, so the last {@value #MAX_RETIRED_VERSIONS} are kept open and older ones closed.
+     * Only touched under {@link #registrationLock}.
+     */
+    private final Map<PackId, PackSource> sourcesByPack = new HashMap<>();
+    private final Deque<RetiredVersion> retiredVersions = new ArrayDeque<>();
+
+    private static final int MAX_RETIRED_VERSIONS = 2;
+
+    private record RetiredVersion(PackId registeredId, PackSource source) {
+    }
+
+    /**
+     * Serializes registration and reloads. Readers never take it: they only see maps that already
+     * hold a complete pack version, and {@link #mergedRefs} is swapped in whole.
+     */
+    private final Object registrationLock = new Object();
 
     /**
      * A pack's configured tooltip theming: style refs keyed by lowercase rarity name plus the
@@ -50,15 +108,63 @@ public class ResourcePackService {
     }
 
     /**
-     * The resolved default pack, cached once at registration so command invocations that omit the
-     * pack option do not re-parse and re-validate the configured value on every call. Null means
-     * "no (valid, registered) default pack" and therefore vanilla.
+     * The resolved default pack (by configured ID), cached at registration so command invocations
+     * that omit the pack option do not re-parse and re-validate the configured value on every
+     * call. Null means "no (valid, registered) default pack" and therefore vanilla.
      */
     @Nullable
     private volatile PackId defaultPackId;
 
+    /**
+     * What a pack's files and configuration hold, read before any source is opened so an unchanged
+     * pack can be recognised without one.
+     */
+    private record PackContents(PackTheme theme, List<Map<String, String>> themeConfig, String contentHash, long readNanos) {
+    }
+
+    /**
+     * A pack that has been read and hashed but not yet registered. {@code itemRefs} is null when
+     * indexing was left for after registration.
+     */
+    private record LoadedPack(PackId packId, PackId registeredId, PackSource source, PackLimits limits,
+                              @Nullable List<String> itemRefs, PackContents contents, long openNanos) {
+    }
+
+    /**
+     * Cheap change detection for a pack path: the size and modification time of a zip, or the file
+     * count, total size and newest modification time of a directory.
+     */
+    private record PackSignature(int files, long bytes, long lastModified) {
+        private static final PackSignature MISSING = new PackSignature(0, 0, 0);
+        private static final PackSignature UNREADABLE = new PackSignature(-1, -1, -1);
+    }
+
+    /**
+     * The refs merged across every registered pack, rebuilt and swapped in whole whenever packs are
+     * registered so readers never merge per call or see a half-built view.
+     */
+    private volatile MergedRefs mergedRefs = MergedRefs.EMPTY;
+
+    /**
+     * Sorted, de-duplicated item refs and tooltip styles across every registered pack, plus the
+     * search index over those item refs.
+     */
+    private record MergedRefs(List<String> itemRefs, AutocompleteIndex itemRefIndex, List<String> tooltipStyles) {
+        private static final MergedRefs EMPTY = new MergedRefs(List.of(), AutocompleteIndex.EMPTY, List.of());
+    }
+
+    /**
+     * Runs the item ref indexing deferred by {@link #registerConfiguredPacks}.
+     */
+    private final Executor indexExecutor;
+
     public ResourcePackService(@NotNull PackRepository packRepository) {
+        this(packRepository, task -> Thread.ofVirtual().name("resource-pack-indexer").start(task));
+    }
+
+    ResourcePackService(@NotNull PackRepository packRepository, @NotNull Executor indexExecutor) {
         this.packRepository = Objects.requireNonNull(packRepository, "packRepository cannot be null");
+        this.indexExecutor = Objects.requireNonNull(indexExecutor, "indexExecutor cannot be null");
     }
 
     /**
@@ -76,6 +182,10 @@ public class ResourcePackService {
      * from starting. Already-registered pack IDs are skipped, making this safe to call again on
      * the same instance.
      *
+     * <p>Packs are hashed and opened in parallel, then registered in configuration order. Their
+     * item refs are indexed afterwards in the background, so the packs can be rendered with as soon
+     * as this returns, while item autocomplete only offers each pack's refs once its index is done.
+     *
      * @param config The resource pack configuration, may be null when absent from the config file
      */
     public void registerConfiguredPacks(@Nullable GeneratorConfig.ResourcePackConfig config) {
@@ -84,22 +194,158 @@ public class ResourcePackService {
             return;
         }
 
-        List<GeneratorConfig.PackDefinition> packs = config.getPacks() == null ? List.of() : config.getPacks();
+        synchronized (registrationLock) {
+            long start = System.nanoTime();
+            Map<PackId, GeneratorConfig.PackDefinition> pending = new LinkedHashMap<>();
+
+            for (GeneratorConfig.PackDefinition definition : definitions(config)) {
+                try {
+                    PackId packId = parsePackId(definition);
+                    if (packId == null) {
+                        continue;
+                    }
+
+                    if (registeredIdsByPack.containsKey(packId) || pending.containsKey(packId)) {
+                        log.info("Resource pack '{}' is already registered, skipping", packId);
+                        continue;
+                    }
+
+                    pending.put(packId, definition);
+                } catch (RuntimeException exception) {
+                    log.error("Failed to register resource pack '{}' from path '{}'", definition.getId(), definition.getPath(), exception);
+                }
+            }
 
-        for (GeneratorConfig.PackDefinition definition : packs) {
-            if (definition == null) {
-                log.warn("Skipping null resource pack entry in configuration");
+            Map<PackId, CompletableFuture<LoadedPack>> prepared = new LinkedHashMap<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                pending.forEach((packId, definition) ->
+                    prepared.put(packId, CompletableFuture.supplyAsync(() -> prepare(packId, definition), executor)));
+            }
+
+            int registered = 0;
+            for (Map.Entry<PackId, CompletableFuture<LoadedPack>> entry : prepared.entrySet()) {
+                GeneratorConfig.PackDefinition definition = pending.get(entry.getKey());
+
+                try {
+                    LoadedPack pack = entry.getValue().join();
+                    if (pack != null) {
+                        registerPrepared(pack, definition);
+                        registered++;
+                    }
+                } catch (RuntimeException exception) {
+                    Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+                    log.error("Failed to register resource pack '{}' from path '{}'", definition.getId(), definition.getPath(), cause);
+                }
+            }
+
+            defaultPackId = resolveConfiguredDefaultPack(config.getDefaultPack());
+            mergedRefs = mergeRefs();
+
+            if (!pending.isEmpty()) {
+                log.info("Registered {} of {} resource pack(s) in {}ms", registered, pending.size(), millis(System.nanoTime() - start));
+            }
+        }
+    }
+
+    /**
+     * Brings the registered packs in line with the given configuration without a restart: packs
+     * whose files changed are loaded again and swapped in, new packs are registered, and packs no
+     * longer configured stop being offered. Each new version is read, indexed and hashed on the
+     * calling thread before it replaces the old one, so renders never wait on a reload, and renders
+     * already running keep the version they resolved. A pack that fails to reload keeps serving its
+     * previous version.
+     *
+     * <p>The repository cannot unregister packs, so replaced and removed versions stay registered.
+     * The last {@value #MAX_RETIRED_VERSIONS} keep their sources open for renders still using
+     * them; older ones are closed.
+     *
+     * @param config The resource pack configuration, may be null when absent from the config file
+     * @param force  Whether to re-read every pack even if its file sizes and modification times are
+     *               unchanged. A pack whose contents hash the same is still left alone
+     *
+     * @return The configured IDs of the packs that were reloaded, registered or removed
+     */
+    public List<PackId> reloadConfiguredPacks(@Nullable GeneratorConfig.ResourcePackConfig config, boolean force) {
+        synchronized (registrationLock) {
+            List<PackId> changed = new ArrayList<>();
+            Set<PackId> configured = new HashSet<>();
+
+            for (GeneratorConfig.PackDefinition definition : definitions(config)) {
+                try {
+                    PackId packId = parsePackId(definition);
+                    if (packId == null) {
+                        continue;
+                    }
+
+                    configured.add(packId);
+                    if (registeredIdsByPack.containsKey(packId) ? reloadPack(packId, definition, force) : registerPack(definition)) {
+                        changed.add(packId);
+                    }
+                } catch (RuntimeException exception) {
+                    log.error("Failed to reload resource pack '{}' from path '{}'", definition.getId(), definition.getPath(), exception);
+                }
+            }
+
+            for (PackId packId : List.copyOf(registeredIdsByPack.keySet())) {
+                if (!configured.contains(packId)) {
+                    retire(registeredIdsByPack.remove(packId));
+                    themeConfigsByPack.remove(packId);
+                    changed.add(packId);
+                    log.info("Resource pack '{}' is no longer configured and will not be offered", packId);
+                }
+            }
+            signaturesByPack.keySet().retainAll(configured);
+
+            defaultPackId = resolveConfiguredDefaultPack(config == null ? null : config.getDefaultPack());
+            mergedRefs = mergeRefs();
+            return changed;
+        }
+    }
+
+    /**
+     * Whether any configured pack's files look different from when it was last loaded, or the
+     * configured set of packs has changed. Only file sizes and modification times are read, so
+     * this is cheap enough to poll.
+     */
+    public boolean hasChanges(@Nullable GeneratorConfig.ResourcePackConfig config) {
+        Set<PackId> configured = new HashSet<>();
+
+        for (GeneratorConfig.PackDefinition definition : definitions(config)) {
+            if (definition.getId() == null || definition.getId().isBlank() || definition.getPath() == null || definition.getPath().isBlank()) {
                 continue;
             }
 
+            PackId packId;
             try {
-                registerPack(definition);
-            } catch (RuntimeException exception) {
-                log.error("Failed to register resource pack '{}' from path '{}'", definition.getId(), definition.getPath(), exception);
+                packId = PackId.parse(definition.getId().toLowerCase(Locale.ROOT));
+            } catch (IllegalArgumentException exception) {
+                continue;
+            }
+
+            configured.add(packId);
+            if (!signature(Path.of(definition.getPath())).equals(signaturesByPack.get(packId))) {
+                return true;
+            }
+        }
+
+        return !configured.equals(signaturesByPack.keySet());
+    }
+
+    private static List<GeneratorConfig.PackDefinition> definitions(@Nullable GeneratorConfig.ResourcePackConfig config) {
+        if (config == null || config.getPacks() == null) {
+            return List.of();
+        }
+
+        List<GeneratorConfig.PackDefinition> definitions = new ArrayList<>();
+        for (GeneratorConfig.PackDefinition definition : config.getPacks()) {
+            if (definition == null) {
+                log.warn("Skipping null resource pack entry in configuration");
+                continue;
             }
+            definitions.add(definition);
         }
 
-        defaultPackId = resolveConfiguredDefaultPack(config.getDefaultPack());
+        return definitions;
     }
 
     /**
@@ -117,7 +363,7 @@ public class ResourcePackService {
         String input = userInput == null ? null : userInput.trim();
 
         if (input == null || input.isEmpty()) {
-            return defaultPackId;
+            return currentDefaultPack();
         }
 
         if (input.equalsIgnoreCase(VANILLA_OPTION) || input.equalsIgnoreCase(PackId.VANILLA.toString())) {
@@ -132,21 +378,32 @@ public class ResourcePackService {
             throw new GeneratorException("`" + input + "` is not a valid pack ID! Available packs: " + formatAvailablePacks());
         }
 
-        if (!packRepository.registeredPacks().contains(packId)) {
+        PackId registeredId = registeredIdsByPack.get(packId);
+
+        if (registeredId == null) {
             throw new GeneratorException("Pack `" + packId + "` is not loaded! Available packs: " + formatAvailablePacks());
         }
 
-        return packId;
+        return registeredId;
+    }
+
+    /**
+     * The version of the default pack currently registered, or null for vanilla.
+     */
+    @Nullable
+    private PackId currentDefaultPack() {
+        PackId packId = defaultPackId;
+        return packId == null ? null : registeredIdsByPack.get(packId);
     }
 
     /**
      * Values offered by the pack option autocomplete: {@value VANILLA_OPTION} followed by every
-     * registered pack ID in sorted order.
+     * configured pack ID that is loaded, in sorted order.
      */
     public List<String> packOptionChoices() {
         List<String> choices = new ArrayList<>();
         choices.add(VANILLA_OPTION);
-        packRepository.registeredPacks().stream()
+        registeredIdsByPack.keySet().stream()
             .map(PackId::toString)
             .sorted()
             .forEach(choices::add);
@@ -159,11 +416,7 @@ public class ResourcePackService {
      * only once.
      */
     public List<String> allItemRefs() {
-        return itemRefsByPack.values().stream()
-            .flatMap(List::stream)
-            .distinct()
-            .sorted()
-            .toList();
+        return mergedRefs.itemRefs();
     }
 
     /**
@@ -182,7 +435,20 @@ public class ResourcePackService {
      * @param packOption The raw pack option value from the same interaction, may be null
      */
     public List<String> itemRefsForOption(@Nullable String packOption) {
-        return refsForPackOption(packOption, this::itemRefs, this::allItemRefs);
+        return refsForPackOption(packOption, this::itemRefs, this::allItemRefs, List.of());
+    }
+
+    /**
+     * The search index over {@link #itemRefsForOption(String)}, built when the packs were
+     * registered so autocomplete can match the user's input without scanning every ref.
+     *
+     * @param packOption The raw pack option value from the same interaction, may be null
+     */
+    public AutocompleteIndex itemRefIndexForOption(@Nullable String packOption) {
+        return refsForPackOption(packOption,
+            packId -> itemRefIndexesByPack.getOrDefault(packId, AutocompleteIndex.EMPTY),
+            () -> mergedRefs.itemRefIndex(),
+            AutocompleteIndex.EMPTY);
     }
 
     /**
@@ -191,13 +457,14 @@ public class ResourcePackService {
      * yields the default pack's refs (or none when vanilla is the default), and a half-typed or
      * unrecognised value yields everything rather than hiding all suggestions.
      */
-    private List<String> refsForPackOption(@Nullable String packOption,
-                                           java.util.function.Function<PackId, List<String>> perPack,
-                                           java.util.function.Supplier<List<String>> allRefs) {
+    private <T> T refsForPackOption(@Nullable String packOption,
+                                    java.util.function.Function<PackId, T> perPack,
+                                    java.util.function.Supplier<T> allRefs,
+                                    T noRefs) {
         String input = packOption == null ? null : packOption.trim();
 
         if (input != null && (input.equalsIgnoreCase(VANILLA_OPTION) || input.equalsIgnoreCase(PackId.VANILLA.toString()))) {
-            return List.of();
+            return noRefs;
         }
 
         Optional<PackId> selected = quietlyResolvePack(input);
@@ -207,10 +474,10 @@ public class ResourcePackService {
         }
 
         if (input == null || input.isEmpty()) {
-            PackId defaultPack = defaultPackId;
+            PackId defaultPack = currentDefaultPack();
             // Omitted option resolves to the configured default, or vanilla when there is none.
             // Vanilla renders no pack refs, so offer none rather than suggesting refs that would fail.
-            return defaultPack != null ? perPack.apply(defaultPack) : List.of();
+            return defaultPack != null ? perPack.apply(defaultPack) : noRefs;
         }
 
         return allRefs.get();
@@ -237,6 +504,20 @@ public class ResourcePackService {
         return theme == null ? null : theme.stylesByRarityName().get(rarity.getName().toLowerCase(Locale.ROOT));
     }
 
+    /**
+     * A SHA-256 hash of a registered pack's files, taken when it was registered, so anything keyed
+     * by it (such as cached renders) changes along with the pack's contents. Vanilla (null) hashes
+     * to {@value VANILLA_OPTION}.
+     */
+    @NotNull
+    public String contentHash(@Nullable PackId packId) {
+        if (packId == null) {
+            return VANILLA_OPTION;
+        }
+
+        return contentHashesByPack.getOrDefault(packId, packId.toString());
+    }
+
     /**
      * The configured text color replacement table for a pack, or null when the pack declares none.
      */
@@ -255,46 +536,183 @@ public class ResourcePackService {
      * resolution semantics as {@link #itemRefsForOption(String)}.
      */
     public List<String> tooltipStyleChoices(@Nullable String packOption) {
-        return refsForPackOption(packOption, packRepository::tooltipStyles, this::allTooltipStyles);
+        return refsForPackOption(packOption, packRepository::tooltipStyles, this::allTooltipStyles, List.of());
     }
 
     private List<String> allTooltipStyles() {
-        return packRepository.registeredPacks().stream()
+        return mergedRefs.tooltipStyles();
+    }
+
+    private MergedRefs mergeRefs() {
+        List<String> itemRefs = itemRefsByPack.values().stream()
+            .flatMap(List::stream)
+            .distinct()
+            .sorted()
+            .toList();
+        List<String> tooltipStyles = registeredIdsByPack.values().stream()
             .map(packRepository::tooltipStyles)
             .flatMap(List::stream)
             .distinct()
             .sorted()
             .toList();
+
+        return new MergedRefs(itemRefs, AutocompleteIndex.of(itemRefs), tooltipStyles);
     }
 
     /**
-     * Case-insensitively searches every registered pack for item refs containing the given query.
+     * Case-insensitively searches every registered pack for item refs containing the given query,
+     * refs starting with it first.
      */
     public List<String> searchItemRefs(@NotNull String query) {
-        String loweredQuery = query.toLowerCase(Locale.ROOT);
-        return allItemRefs().stream()
-            .filter(ref -> ref.toLowerCase(Locale.ROOT).contains(loweredQuery))
-            .toList();
+        return mergedRefs.itemRefIndex().search(query, Integer.MAX_VALUE);
     }
 
-    private void registerPack(GeneratorConfig.PackDefinition definition) {
-        if (definition.getId() == null || definition.getId().isBlank() || definition.getPath() == null || definition.getPath().isBlank()) {
-            log.warn("Skipping resource pack with missing ID or path: {}", definition);
-            return;
+    /**
+     * @return whether the pack was registered
+     */
+    private boolean registerPack(GeneratorConfig.PackDefinition definition) {
+        PackId packId = parsePackId(definition);
+        if (packId == null) {
+            return false;
         }
 
-        PackId packId = PackId.parse(definition.getId().toLowerCase(Locale.ROOT));
-
-        if (packRepository.registeredPacks().contains(packId)) {
+        if (registeredIdsByPack.containsKey(packId)) {
             log.info("Resource pack '{}' is already registered, skipping", packId);
-            return;
+            return false;
+        }
+
+        PackContents contents = readContents(packId, definition);
+        if (contents == null) {
+            return false;
+        }
+
+        LoadedPack pack = open(packId, unusedRegisteredId(packId), definition, contents, true);
+        publish(pack);
+        log.info("Registered resource pack '{}' from '{}' with {} item definitions and {} tooltip styles",
+            packId, definition.getPath(), pack.itemRefs().size(), packRepository.tooltipStyles(pack.registeredId()).size());
+        return true;
+    }
+
+    /**
+     * Reads and opens a pack for {@link #registerConfiguredPacks}, leaving its item refs to be
+     * indexed once it is registered. Returns null, after logging why, when the pack cannot be used.
+     */
+    @Nullable
+    private LoadedPack prepare(PackId packId, GeneratorConfig.PackDefinition definition) {
+        PackContents contents = readContents(packId, definition);
+        return contents == null ? null : open(packId, unusedRegisteredId(packId), definition, contents, false);
+    }
+
+    private void registerPrepared(LoadedPack pack, GeneratorConfig.PackDefinition definition) {
+        long start = System.nanoTime();
+        publish(pack);
+        long registerNanos = System.nanoTime() - start;
+
+        log.info("Registered resource pack '{}' from '{}' with {} tooltip styles in {}ms (read and hash {}ms, open {}ms, register {}ms), indexing item definitions in the background",
+            pack.packId(), definition.getPath(), packRepository.tooltipStyles(pack.registeredId()).size(),
+            millis(pack.contents().readNanos() + pack.openNanos() + registerNanos),
+            millis(pack.contents().readNanos()), millis(pack.openNanos()), millis(registerNanos));
+
+        indexExecutor.execute(() -> indexRegistered(pack));
+    }
+
+    /**
+     * Indexes a registered pack's item refs and publishes them, unless the pack was reloaded or
+     * removed in the meantime.
+     */
+    private void indexRegistered(LoadedPack pack) {
+        long start = System.nanoTime();
+        List<String> itemRefs = indexItemRefs(pack.packId(), pack.source());
+
+        synchronized (registrationLock) {
+            if (!pack.registeredId().equals(registeredIdsByPack.get(pack.packId()))) {
+                return;
+            }
+
+            itemRefsByPack.put(pack.registeredId(), itemRefs);
+            itemRefIndexesByPack.put(pack.registeredId(), AutocompleteIndex.of(itemRefs));
+            mergedRefs = mergeRefs();
         }
 
+        log.info("Indexed {} item definitions for resource pack '{}' in {}ms", itemRefs.size(), pack.packId(), millis(System.nanoTime() - start));
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Loads a registered pack again and swaps the new version in if its contents changed.
+     *
+     * @return whether a new version was swapped in
+     */
+    private boolean reloadPack(PackId packId, GeneratorConfig.PackDefinition definition, boolean force) {
+        if (!force && signature(Path.of(definition.getPath())).equals(signaturesByPack.get(packId))
+            && themeConfig(definition).equals(themeConfigsByPack.get(packId))) {
+            return false;
+        }
+
+        PackContents contents = readContents(packId, definition);
+        if (contents == null) {
+            log.warn("Resource pack '{}' failed to reload, keeping the version already loaded", packId);
+            return false;
+        }
+
+        PackId previousId = registeredIdsByPack.get(packId);
+        if (contents.contentHash().equals(contentHashesByPack.get(previousId))
+            && themeConfig(definition).equals(themeConfigsByPack.get(packId))) {
+            log.debug("Resource pack '{}' was touched but its contents are unchanged", packId);
+            return false;
+        }
+
+        PackId registeredId = unusedRegisteredId(packId);
+        LoadedPack pack = open(packId, registeredId, definition, contents, true);
+        publish(pack);
+        retire(previousId);
+        log.info("Reloaded resource pack '{}' from '{}' as '{}' with {} item definitions and {} tooltip styles",
+            packId, definition.getPath(), registeredId, pack.itemRefs().size(), packRepository.tooltipStyles(registeredId).size());
+        return true;
+    }
+
+    /**
+     * The configured ID itself the first time a pack is registered, otherwise a fresh
+     * {@code <id>_reload<n>} the repository has not seen.
+     */
+    private PackId unusedRegisteredId(PackId packId) {
+        PackId registeredId = packId;
+
+        while (packRepository.registeredPacks().contains(registeredId)) {
+            registeredId = PackId.parse(packId + "_reload" + reloadGeneration.incrementAndGet());
+        }
+
+        return registeredId;
+    }
+
+    @Nullable
+    private static PackId parsePackId(GeneratorConfig.PackDefinition definition) {
+        if (definition.getId() == null || definition.getId().isBlank() || definition.getPath() == null || definition.getPath().isBlank()) {
+            log.warn("Skipping resource pack with missing ID or path: {}", definition);
+            return null;
+        }
+
+        return PackId.parse(definition.getId().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Parses a pack's theme and hashes its files. Returns null, after logging why, when the pack
+     * cannot be used.
+     */
+    @Nullable
+    private PackContents readContents(PackId packId, GeneratorConfig.PackDefinition definition) {
+        long start = System.nanoTime();
         Path path = Path.of(definition.getPath());
 
+        // Record what was attempted so an unchanged broken or missing pack is not retried on every poll
+        signaturesByPack.put(packId, signature(path));
+
         if (!Files.exists(path)) {
             log.warn("Skipping resource pack '{}' because path '{}' does not exist", packId, path.toAbsolutePath());
-            return;
+            return null;
         }
 
         // Parse the theme before opening the source so an invalid theme config skips the pack
@@ -306,22 +724,128 @@ public class ResourcePackService {
         } catch (IllegalArgumentException exception) {
             log.error("Skipping resource pack '{}' because its theme configuration is invalid: {}",
                 packId, exception.getMessage());
-            return;
+            return null;
         }
 
+        String contentHash = hashContents(packId, path);
+        return new PackContents(theme, themeConfig(definition), contentHash, System.nanoTime() - start);
+    }
+
+    /**
+     * The theme settings of a pack definition as configured, for noticing config-only changes.
+     */
+    private static List<Map<String, String>> themeConfig(GeneratorConfig.PackDefinition definition) {
+        return List.of(
+            definition.getTooltipStyles() == null ? Map.of() : new HashMap<>(definition.getTooltipStyles()),
+            definition.getTextColorRemap() == null ? Map.of() : new HashMap<>(definition.getTextColorRemap()));
+    }
+
+    /**
+     * Opens a pack's source, ready for {@link #publish}.
+     *
+     * @param packId       The configured pack ID
+     * @param registeredId The ID to register this version under
+     * @param index        Whether to index item refs now, rather than after registration
+     */
+    private LoadedPack open(PackId packId, PackId registeredId, GeneratorConfig.PackDefinition definition, PackContents contents, boolean index) {
+        long start = System.nanoTime();
+        Path path = Path.of(definition.getPath());
         PackLimits limits = PackLimits.fromSystemProperties();
         PackSource source = Files.isDirectory(path) ? PackSource.directory(path, limits) : PackSource.zip(path, limits);
 
-        // Index item refs while we still own the source; the repository takes ownership on
-        // successful registration (and closes the source on failure).
-        List<String> itemRefs = indexItemRefs(packId, source);
-        packRepository.register(packId.toString(), source, limits);
-        itemRefsByPack.put(packId, itemRefs);
-        themesByPack.put(packId, theme);
-        warnAboutMissingConfiguredStyles(packId, theme);
+        // The repository takes ownership of the source on successful registration (and closes it
+        // on failure). Listing it afterwards is read-only, which is what deferred indexing relies on.
+        List<String> itemRefs = index ? indexItemRefs(packId, source) : null;
+        return new LoadedPack(packId, registeredId, source, limits, itemRefs, contents, System.nanoTime() - start);
+    }
 
-        log.info("Registered resource pack '{}' from '{}' with {} item definitions and {} tooltip styles",
-            packId, path.toAbsolutePath(), itemRefs.size(), packRepository.tooltipStyles(packId).size());
+    /**
+     * Registers a loaded pack and makes it the version its configured ID resolves to. The pack's
+     * data is in place before the ID is repointed, so a reader never resolves to a half-registered
+     * version.
+     */
+    private void publish(LoadedPack pack) {
+        PackId registeredId = pack.registeredId();
+
+        packRepository.register(registeredId.toString(), pack.source(), pack.limits());
+        sourcesByPack.put(registeredId, pack.source());
+        if (pack.itemRefs() != null) {
+            itemRefsByPack.put(registeredId, pack.itemRefs());
+            itemRefIndexesByPack.put(registeredId, AutocompleteIndex.of(pack.itemRefs()));
+        }
+        themesByPack.put(registeredId, pack.contents().theme());
+        contentHashesByPack.put(registeredId, pack.contents().contentHash());
+        themeConfigsByPack.put(pack.packId(), pack.contents().themeConfig());
+        registeredIdsByPack.put(pack.packId(), registeredId);
+        warnAboutMissingConfiguredStyles(registeredId, pack.contents().theme());
+    }
+
+    /**
+     * Drops the service's data for a replaced or removed version. Renders that already resolved it
+     * still finish, since the repository keeps serving it, unless it has since fallen out of the
+     * last {@value #MAX_RETIRED_VERSIONS} retired versions and its source has been closed.
+     */
+    private void retire(@Nullable PackId registeredId) {
+        if (registeredId == null) {
+            return;
+        }
+
+        itemRefsByPack.remove(registeredId);
+        itemRefIndexesByPack.remove(registeredId);
+        themesByPack.remove(registeredId);
+        contentHashesByPack.remove(registeredId);
+
+        PackSource source = sourcesByPack.remove(registeredId);
+        if (source != null) {
+            retiredVersions.addLast(new RetiredVersion(registeredId, source));
+        }
+
+        while (retiredVersions.size() > MAX_RETIRED_VERSIONS) {
+            RetiredVersion oldest = retiredVersions.removeFirst();
+            try {
+                oldest.source().close();
+                log.debug("Closed retired resource pack version '{}'", oldest.registeredId());
+            } catch (Exception exception) {
+                log.warn("Failed to close retired resource pack version '{}'", oldest.registeredId(), exception);
+            }
+        }
+    }
+
+    /**
+     * The replaced or removed versions whose sources are still open, oldest first.
+     */
+    List<PackId> retiredVersions() {
+        synchronized (registrationLock) {
+            return retiredVersions.stream().map(RetiredVersion::registeredId).toList();
+        }
+    }
+
+    private static PackSignature signature(Path path) {
+        if (!Files.exists(path)) {
+            return PackSignature.MISSING;
+        }
+
+        try {
+            if (!Files.isDirectory(path)) {
+                return new PackSignature(1, Files.size(path), Files.getLastModifiedTime(path).toMillis());
+            }
+
+            int files = 0;
+            long bytes = 0;
+            long lastModified = 0;
+            try (Stream<Path> walk = Files.walk(path)) {
+                for (Path file : (Iterable<Path>) walk.filter(Files::isRegularFile)::iterator) {
+                    files++;
+                    bytes += Files.size(file);
+                    lastModified = Math.max(lastModified, Files.getLastModifiedTime(file).toMillis());
+                }
+            }
+
+            return new PackSignature(files, bytes, lastModified);
+        } catch (IOException | UncheckedIOException exception) {
+            log.warn("Failed to read the files of resource pack path '{}'", path, exception);
+            return PackSignature.UNREADABLE;
+        }
     }
 
     /**
@@ -391,6 +915,42 @@ public class ResourcePackService {
         });
     }
 
+    /**
+     * Hashes a pack zip's bytes, or every file of an extracted pack directory along with its
+     * relative path. If the pack cannot be read a random value is used instead, which is still
+     * unique to this registration.
+     */
+    private static String hashContents(PackId packId, Path path) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            if (Files.isDirectory(path)) {
+                List<Path> files;
+                try (Stream<Path> walk = Files.walk(path)) {
+                    files = walk.filter(Files::isRegularFile).sorted().toList();
+                }
+
+                for (Path file : files) {
+                    digest.update(path.relativize(file).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+                    digestFile(digest, file);
+                }
+            } else {
+                digestFile(digest, path);
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException exception) {
+            log.warn("Failed to hash the contents of resource pack '{}', using a random content hash instead", packId, exception);
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private static void digestFile(MessageDigest digest, Path file) throws IOException {
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
     private List<String> indexItemRefs(PackId packId, PackSource source) {
         try {
             return source.list("assets/").stream()
@@ -452,7 +1012,7 @@ public class ResourcePackService {
             return null;
         }
 
-        if (!packRepository.registeredPacks().contains(packId)) {
+        if (!registeredIdsByPack.containsKey(packId)) {
             log.warn("Configured default pack '{}' is not registered, commands will fall back to vanilla", packId);
             return null;
         }
@@ -471,7 +1031,7 @@ public class ResourcePackService {
 
         try {
             PackId packId = PackId.parse(input.toLowerCase(Locale.ROOT));
-            return packRepository.registeredPacks().contains(packId) ? Optional.of(packId) : Optional.empty();
+            return Optional.ofNullable(registeredIdsByPack.get(packId));
         } catch (IllegalArgumentException exception) {
             return Optional.empty();
         }
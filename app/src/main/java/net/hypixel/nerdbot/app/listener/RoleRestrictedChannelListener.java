@@ -14,6 +14,7 @@ import net.dv8tion.jda.api.events.guild.override.PermissionOverrideCreateEvent;
 import net.dv8tion.jda.api.events.guild.override.PermissionOverrideDeleteEvent;
 import net.dv8tion.jda.api.events.guild.override.PermissionOverrideUpdateEvent;
 import net.dv8tion.jda.api.hooks.SubscribeEvent;
+import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
 import net.hypixel.nerdbot.discord.config.DiscordBotConfig;
 import net.hypixel.nerdbot.discord.config.objects.RoleRestrictedChannelGroup;
 import net.hypixel.nerdbot.discord.util.DiscordBotEnvironment;
@@ -152,6 +153,7 @@ public class RoleRestrictedChannelListener {
         }
 
         if (configChanged) {
+            SkyBlockNerdsBot.roleRestrictedChannelRouter().invalidate();
             log.info("Role-restricted channel configuration updated, writing to file");
             DiscordBotEnvironment.getBot().writeConfig(botConfig);
         }
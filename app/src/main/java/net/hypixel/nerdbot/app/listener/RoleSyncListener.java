@@ -7,6 +7,7 @@ import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleAddEvent;
 import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleRemoveEvent;
 import net.dv8tion.jda.api.hooks.SubscribeEvent;
 import net.hypixel.nerdbot.app.role.RoleIdSync;
+import net.hypixel.nerdbot.app.storage.DiscordUserUpdates;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.marmalade.storage.database.repository.DiscordUserRepository;
 
@@ -15,7 +16,8 @@ import java.util.List;
 /**
  * Mirrors Discord role changes onto the user's document as they happen. The
  * Minecraft network reads roleIds from Mongo for whitelist/rank decisions, so
- * changes are persisted immediately instead of waiting for the autosave flush.
+ * changes are persisted immediately instead of waiting for the autosave flush,
+ * as a {@code $set} of roleIds alone.
  */
 @Slf4j
 public class RoleSyncListener {
@@ -42,11 +44,22 @@ public class RoleSyncListener {
             if (user == null) {
                 return; // unverified members are created by the grabber/activity flows
             }
-            if (RoleIdSync.applyRoleIds(user, roleIds)) {
-                repository.cacheObject(user);
+            if (RoleIdSync.isCurrent(user, roleIds)) {
+                return;
+            }
+
+            boolean stored = DiscordUserUpdates.update(repository, user, changed -> {
+                RoleIdSync.applyRoleIds(changed, roleIds);
+                return RoleIdSync.update(changed);
+            });
+            repository.cacheObject(user);
+            if (!stored) {
                 repository.saveToDatabaseAsync(user);
-                log.info("Updated role ids for {} ({} roles)", member.getId(), roleIds.size());
             }
+            log.info("Updated role ids for {} ({} roles)", member.getId(), roleIds.size());
+        }).exceptionally(throwable -> {
+            log.error("Failed to save role ids for {}", member.getId(), throwable);
+            return null;
         });
     }
 }
@@ -6,20 +6,30 @@ import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
 import net.dv8tion.jda.api.entities.channel.forums.BaseForumTag;
 import net.dv8tion.jda.api.entities.channel.forums.ForumTag;
 import net.dv8tion.jda.api.entities.channel.forums.ForumTagData;
+import net.dv8tion.jda.api.entities.emoji.Emoji;
 import net.dv8tion.jda.api.events.channel.ChannelCreateEvent;
 import net.dv8tion.jda.api.events.channel.ChannelDeleteEvent;
 import net.dv8tion.jda.api.events.channel.GenericChannelEvent;
 import net.dv8tion.jda.api.events.channel.update.ChannelUpdateAppliedTagsEvent;
 import net.dv8tion.jda.api.events.channel.update.ChannelUpdateNameEvent;
+import net.dv8tion.jda.api.events.message.GenericMessageEvent;
+import net.dv8tion.jda.api.events.message.MessageDeleteEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveAllEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveEmojiEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveEvent;
 import net.dv8tion.jda.api.hooks.SubscribeEvent;
 import net.dv8tion.jda.api.managers.channel.concrete.ForumChannelManager;
 import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
 import net.hypixel.nerdbot.marmalade.collections.ArrayUtils;
 import net.hypixel.nerdbot.app.suggestion.Suggestion;
 import net.hypixel.nerdbot.app.suggestion.SuggestionTypeResolver;
+import net.hypixel.nerdbot.app.suggestion.SuggestionVotes;
 import net.hypixel.nerdbot.app.config.AlphaProjectConfigUpdater;
 import net.hypixel.nerdbot.app.config.NerdBotConfig;
 import net.hypixel.nerdbot.app.config.AlphaProjectConfig;
+import net.hypixel.nerdbot.discord.config.EmojiConfig;
 import net.hypixel.nerdbot.discord.config.objects.ForumAutoTag;
 import net.hypixel.nerdbot.app.config.SuggestionConfig;
 import net.hypixel.nerdbot.discord.util.DiscordBotEnvironment;
@@ -48,6 +58,10 @@ public class SuggestionListener {
     @SubscribeEvent
     public void onChannelUpdate(@NotNull ChannelUpdateNameEvent event) {
         updateConfigForumIds(event);
+
+        if (isInSuggestionChannel(event)) {
+            SkyBlockNerdsBot.suggestionCache().markDirty(event.getChannel().getId());
+        }
     }
 
     @SubscribeEvent
@@ -56,6 +70,8 @@ public class SuggestionListener {
             return;
         }
 
+        SkyBlockNerdsBot.suggestionCache().updateAppliedTags(thread);
+
         List<Long> oldTagIds = event.getOldValue();
         List<ForumTag> currentTags = thread.getAppliedTags();
 
@@ -90,6 +106,66 @@ public class SuggestionListener {
         }
     }
 
+    @SubscribeEvent
+    public void onMessageDelete(@NotNull MessageDeleteEvent event) {
+        markStarterMessageChanged(event);
+    }
+
+    @SubscribeEvent
+    public void onReactionAdd(@NotNull MessageReactionAddEvent event) {
+        applyVoteDelta(event, 1);
+    }
+
+    @SubscribeEvent
+    public void onReactionRemove(@NotNull MessageReactionRemoveEvent event) {
+        applyVoteDelta(event, -1);
+    }
+
+    @SubscribeEvent
+    public void onReactionRemoveAll(@NotNull MessageReactionRemoveAllEvent event) {
+        markStarterMessageChanged(event);
+    }
+
+    @SubscribeEvent
+    public void onReactionRemoveEmoji(@NotNull MessageReactionRemoveEmojiEvent event) {
+        markStarterMessageChanged(event);
+    }
+
+    /**
+     * Applies a vote reaction on a suggestion's starter message straight to the cached vote counts
+     */
+    private void applyVoteDelta(GenericMessageReactionEvent event, int delta) {
+        if (!isSuggestionStarterMessage(event) || event.getEmoji().getType() != Emoji.Type.CUSTOM) {
+            return;
+        }
+
+        EmojiConfig emojiConfig = DiscordBotEnvironment.getBot().getConfig().getEmojiConfig();
+        SuggestionVotes.Vote.fromEmojiId(emojiConfig, event.getEmoji().asCustom().getId())
+            .ifPresent(vote -> SkyBlockNerdsBot.suggestionCache().applyVote(event.getChannel().getId(), vote, delta));
+    }
+
+    /**
+     * Marks the suggestion for reconciliation when its starter message is deleted or has reactions
+     * cleared in bulk, since neither can be applied as a simple delta
+     */
+    private void markStarterMessageChanged(GenericMessageEvent event) {
+        if (isSuggestionStarterMessage(event)) {
+            SkyBlockNerdsBot.suggestionCache().markDirty(event.getChannel().getId());
+        }
+    }
+
+    /**
+     * A forum post's starter message shares the thread's ID
+     */
+    private boolean isSuggestionStarterMessage(GenericMessageEvent event) {
+        if (event.getChannelType() != net.dv8tion.jda.api.entities.channel.ChannelType.GUILD_PUBLIC_THREAD
+            || event.getMessageIdLong() != event.getChannel().getIdLong()) {
+            return false;
+        }
+
+        return isSuggestionForum(event.getChannel().asThreadChannel().getParentChannel().getId());
+    }
+
     private void updateConfigForumIds(GenericChannelEvent event) {
         if (event.getChannelType() == net.dv8tion.jda.api.entities.channel.ChannelType.FORUM) {
             ForumChannel forumChannel = event.getChannel().asForumChannel();
@@ -145,18 +221,21 @@ public class SuggestionListener {
 
     private boolean isInSuggestionChannel(GenericChannelEvent event) {
         if (event.getChannelType() == net.dv8tion.jda.api.entities.channel.ChannelType.GUILD_PUBLIC_THREAD) {
-            SuggestionConfig suggestionConfig = SkyBlockNerdsBot.config().getSuggestionConfig();
-            AlphaProjectConfig alphaProjectConfig = SkyBlockNerdsBot.config().getAlphaProjectConfig();
-            String forumChannelId = event.getChannel().asThreadChannel().getParentChannel().getId();
-
-            return forumChannelId.equals(suggestionConfig.getForumChannelId())
-                || ArrayUtils.safeArrayStream(alphaProjectConfig.getAlphaForumIds()).anyMatch(forumChannelId::equals)
-                || ArrayUtils.safeArrayStream(alphaProjectConfig.getProjectForumIds()).anyMatch(forumChannelId::equals);
+            return isSuggestionForum(event.getChannel().asThreadChannel().getParentChannel().getId());
         }
 
         return false;
     }
 
+    private boolean isSuggestionForum(String forumChannelId) {
+        SuggestionConfig suggestionConfig = SkyBlockNerdsBot.config().getSuggestionConfig();
+        AlphaProjectConfig alphaProjectConfig = SkyBlockNerdsBot.config().getAlphaProjectConfig();
+
+        return forumChannelId.equals(suggestionConfig.getForumChannelId())
+            || ArrayUtils.safeArrayStream(alphaProjectConfig.getAlphaForumIds()).anyMatch(forumChannelId::equals)
+            || ArrayUtils.safeArrayStream(alphaProjectConfig.getProjectForumIds()).anyMatch(forumChannelId::equals);
+    }
+
     /**
      * Applies the configured auto-tag to a newly created forum post
      */
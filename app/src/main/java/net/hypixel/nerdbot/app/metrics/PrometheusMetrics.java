@@ -37,14 +37,52 @@ public class PrometheusMetrics {
         "invites_created_total", "Total number of invites created", "invite_code");
     public static final Counter INVITES_DELETED_AMOUNT = MetricsRegistry.counter(
         "invites_deleted_total", "Total number of invites deleted", "invite_code");
-    public static final Gauge TOTAL_VOICE_CONNECTIONS_BY_USER = MetricsRegistry.gauge(
-        "voice_connections_by_user_total", "Total number of voice connections by a user", "user_name", "channel_name");
-    public static final Gauge TOTAL_VOICE_TIME_SPENT_BY_USER = MetricsRegistry.gauge(
-        "voice_time_by_user_total", "Total time spent in a voice channel by a user", "user_name", "channel_name");
+    public static final Gauge VOICE_SESSIONS_OPEN = MetricsRegistry.gauge(
+        "voice_sessions_open", "Number of members currently connected to a voice channel");
+    public static final Counter VOICE_SESSIONS_STARTED_AMOUNT = MetricsRegistry.counter(
+        "voice_sessions_started_total", "Number of voice sessions started", "channel_type");
+    public static final Summary VOICE_SESSION_DURATION_SECONDS = MetricsRegistry.summary(
+        "voice_session_duration_seconds", "Length of completed voice sessions in seconds");
+    public static final Gauge RENDER_QUEUE_DEPTH = MetricsRegistry.gauge(
+        "render_queue_depth", "Number of image renders waiting for a render worker");
+    public static final Summary RENDER_QUEUE_WAIT_SECONDS = MetricsRegistry.summary(
+        "render_queue_wait_seconds", "Time image renders spent waiting for a render worker in seconds");
+    public static final Summary RENDER_DURATION_SECONDS = MetricsRegistry.summary(
+        "render_duration_seconds", "Time taken to render an image in seconds", "generator");
+    public static final Counter RENDERS_REJECTED_AMOUNT = MetricsRegistry.counter(
+        "renders_rejected_total", "Number of image renders rejected because the render queue was full", "reason");
+    public static final Counter RENDER_CACHE_REQUESTS_AMOUNT = MetricsRegistry.counter(
+        "render_cache_requests_total", "Number of renders looked up in the render cache", "result");
+    public static final Counter RENDER_CACHE_SAVED_SECONDS = MetricsRegistry.counter(
+        "render_cache_saved_seconds_total", "Render time saved by serving renders from the render cache in seconds");
+    public static final Gauge RENDER_CACHE_ENTRIES = MetricsRegistry.gauge(
+        "render_cache_entries", "Number of renders held in the render cache");
+    public static final Gauge RENDER_CACHE_BYTES = MetricsRegistry.gauge(
+        "render_cache_bytes", "Total size of the renders held in the render cache in bytes");
+    public static final Gauge REPOSITORY_DIRTY_DOCUMENTS = MetricsRegistry.gauge(
+        "repository_dirty_documents", "Number of cached documents changed since they were last saved, as of the latest flush", "repository");
+    public static final Summary REPOSITORY_FLUSH_SECONDS = MetricsRegistry.summary(
+        "repository_flush_seconds", "Time taken to save a repository's changed documents in seconds", "repository");
+    public static final Counter REPOSITORY_FLUSH_BYTES = MetricsRegistry.counter(
+        "repository_flush_bytes_total", "Serialized size of the documents saved by repository flushes in bytes", "repository");
+    public static final Gauge STARTUP_USERS_TOTAL = MetricsRegistry.gauge(
+        "startup_users_total", "Number of stored Discord users expected by the startup load");
+    public static final Gauge STARTUP_USERS_LOADED = MetricsRegistry.gauge(
+        "startup_users_loaded", "Number of Discord users processed so far by each startup load phase", "phase");
+    public static final Gauge STARTUP_USERS_READY_SECONDS = MetricsRegistry.gauge(
+        "startup_users_ready_seconds", "Time from startup until each startup user load phase finished in seconds", "phase");
     public static final Counter HTTP_REQUESTS_AMOUNT = MetricsRegistry.counter(
         "http_requests_total", "Total number of HTTP requests", "request_type", "url");
     public static final Summary HTTP_REQUEST_LATENCY = MetricsRegistry.summary(
         "http_requests_latency_seconds", "Request latency in seconds", "url");
+    public static final Gauge REMINDERS_PENDING_AMOUNT = MetricsRegistry.gauge(
+        "reminders_pending", "Number of reminders waiting in the reminder scheduler");
+    public static final Summary REMINDER_DISPATCH_LAG_SECONDS = MetricsRegistry.summary(
+        "reminder_dispatch_lag_seconds", "Delay between a reminder's due time and its dispatch in seconds");
+    public static final Gauge BIRTHDAYS_QUEUED_AMOUNT = MetricsRegistry.gauge(
+        "birthdays_queued", "Number of birthdays queued in the birthday calendar");
+    public static final Counter SUGGESTION_THREADS_MAINTAINED_AMOUNT = MetricsRegistry.counter(
+        "suggestion_threads_maintained_total", "Number of suggestion threads archived or locked by the maintenance task", "action");
 
     private static HTTPServer server;
 
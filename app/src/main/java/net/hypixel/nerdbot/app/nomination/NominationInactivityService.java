@@ -5,6 +5,8 @@ import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Role;
+import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
+import net.hypixel.nerdbot.app.activity.ActivityHistoryIndex;
 import net.hypixel.nerdbot.discord.role.RoleManager;
 import net.hypixel.nerdbot.discord.BotEnvironment;
 import net.hypixel.nerdbot.discord.cache.ChannelCache;
@@ -47,6 +49,7 @@ public class NominationInactivityService {
     public InactivitySweepReport runInactivitySweepForMembers() {
         Guild guild = DiscordUtils.getMainGuild();
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+        ActivityHistoryIndex activityHistory = SkyBlockNerdsBot.activityHistoryIndex();
         int requiredVotes = DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getVotesRequiredForInactivityCheck();
         int requiredComments = DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getCommentsRequiredForInactivityCheck();
         int requiredMessages = DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getMessagesRequiredForInactivityCheck();
@@ -85,9 +88,9 @@ public class NominationInactivityService {
 
             LastActivity lastActivity = discordUser.getLastActivity();
             int days = DiscordBotEnvironment.getBot().getConfig().getRoleConfig().getDaysRequiredForInactivityCheck();
-            int totalMessages = lastActivity.getTotalMessageCount(days);
-            int totalComments = lastActivity.getTotalComments(days);
-            int totalVotes = lastActivity.getTotalVotes(days);
+            int totalMessages = activityHistory.count(discordUser, ActivityHistoryIndex.Category.MESSAGES, days);
+            int totalComments = activityHistory.count(discordUser, ActivityHistoryIndex.Category.COMMENTS, days);
+            int totalVotes = activityHistory.count(discordUser, ActivityHistoryIndex.Category.VOTES, days);
 
             boolean hasRequiredVotes = totalVotes >= requiredVotes;
             boolean hasRequiredComments = totalComments >= requiredComments;
@@ -122,6 +125,7 @@ public class NominationInactivityService {
     public InactivitySweepReport runInactivitySweepForNewMembers() {
         Guild guild = DiscordUtils.getMainGuild();
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+        ActivityHistoryIndex activityHistory = SkyBlockNerdsBot.activityHistoryIndex();
         RoleConfig roleConfig = DiscordBotEnvironment.getBot().getConfig().getRoleConfig();
         String newMemberRoleId = roleConfig.getNewMemberRoleId();
         int requiredVotes = roleConfig.getVotesRequiredForInactivityCheck();
@@ -155,9 +159,9 @@ public class NominationInactivityService {
 
             LastActivity lastActivity = discordUser.getLastActivity();
             int windowDays = roleConfig.getDaysRequiredForInactivityCheck();
-            int totalMessages = lastActivity.getTotalMessageCount(windowDays);
-            int totalComments = lastActivity.getTotalComments(windowDays);
-            int totalVotes = lastActivity.getTotalVotes(windowDays);
+            int totalMessages = activityHistory.count(discordUser, ActivityHistoryIndex.Category.MESSAGES, windowDays);
+            int totalComments = activityHistory.count(discordUser, ActivityHistoryIndex.Category.COMMENTS, windowDays);
+            int totalVotes = activityHistory.count(discordUser, ActivityHistoryIndex.Category.VOTES, windowDays);
 
             boolean hasRequiredVotes = totalVotes >= requiredVotes;
             boolean hasRequiredComments = totalComments >= requiredComments;
@@ -192,6 +196,7 @@ public class NominationInactivityService {
     public void runRoleRestrictedInactivitySweep() {
         Guild guild = DiscordUtils.getMainGuild();
         DiscordUserRepository discordUserRepository = BotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+        ActivityHistoryIndex activityHistory = SkyBlockNerdsBot.activityHistoryIndex();
         List<RoleRestrictedChannelGroup> channelGroups = DiscordBotEnvironment.getBot().getConfig().getChannelConfig().getRoleRestrictedChannelGroups();
 
         if (channelGroups.isEmpty()) {
@@ -237,9 +242,9 @@ public class NominationInactivityService {
                 }
 
                 LastActivity lastActivity = discordUser.getLastActivity();
-                int totalMessages = lastActivity.getRoleRestrictedChannelMessageCount(group.getIdentifier(), group.getActivityCheckDays());
-                int totalVotes = lastActivity.getRoleRestrictedChannelVoteCount(group.getIdentifier(), group.getActivityCheckDays());
-                int totalComments = lastActivity.getRoleRestrictedChannelCommentCount(group.getIdentifier(), group.getActivityCheckDays());
+                int totalMessages = activityHistory.countRoleRestricted(discordUser, group.getIdentifier(), ActivityHistoryIndex.Category.MESSAGES, group.getActivityCheckDays());
+                int totalVotes = activityHistory.countRoleRestricted(discordUser, group.getIdentifier(), ActivityHistoryIndex.Category.VOTES, group.getActivityCheckDays());
+                int totalComments = activityHistory.countRoleRestricted(discordUser, group.getIdentifier(), ActivityHistoryIndex.Category.COMMENTS, group.getActivityCheckDays());
 
                 String messagesStatus = totalMessages >= group.getMinimumMessagesForActivity() ? "✅" : "❌";
                 String votesStatus = totalVotes >= group.getMinimumVotesForActivity() ? "✅" : "❌";
@@ -351,9 +356,10 @@ public class NominationInactivityService {
     private void sendInactiveUserMessage(Member member, DiscordUser discordUser, int requiredMessages, int requiredVotes, int requiredComments, String inactivityType) {
         LastActivity lastActivity = discordUser.getLastActivity();
         RoleConfig roleConfig = DiscordBotEnvironment.getBot().getConfig().getRoleConfig();
-        int totalMessages = lastActivity.getTotalMessageCount(roleConfig.getDaysRequiredForInactivityCheck());
-        int totalVotes = lastActivity.getTotalVotes(roleConfig.getDaysRequiredForInactivityCheck());
-        int totalComments = lastActivity.getTotalComments(roleConfig.getDaysRequiredForInactivityCheck());
+        ActivityHistoryIndex activityHistory = SkyBlockNerdsBot.activityHistoryIndex();
+        int totalMessages = activityHistory.count(discordUser, ActivityHistoryIndex.Category.MESSAGES, roleConfig.getDaysRequiredForInactivityCheck());
+        int totalVotes = activityHistory.count(discordUser, ActivityHistoryIndex.Category.VOTES, roleConfig.getDaysRequiredForInactivityCheck());
+        int totalComments = activityHistory.count(discordUser, ActivityHistoryIndex.Category.COMMENTS, roleConfig.getDaysRequiredForInactivityCheck());
 
         ChannelCache.getTextChannelById(DiscordBotEnvironment.getBot().getConfig().getChannelConfig().getMemberVotingChannelId()).ifPresentOrElse(textChannel -> {
             List<String> openTicketLinks = findOpenTicketLinks(member.getId());
@@ -0,0 +1,94 @@
+package net.hypixel.nerdbot.app.punishment;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.marmalade.json.DataSerialization;
+import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.Punishment;
+import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.PunishmentType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link PunishmentStore} that queries the punishments collection directly, so filters, ordering
+ * and limits run in the database against the indexes declared in {@link PunishmentCollection}
+ * instead of over every punishment in memory.
+ *
+ * <p>When the database is unavailable every query returns nothing.
+ */
+@Slf4j
+public class MongoPunishmentStore implements PunishmentStore {
+
+    private static final JsonWriterSettings RELAXED_JSON = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+    @Override
+    public List<Punishment> find(@Nullable String moderatorUserId, @Nullable PunishmentType type, @Nullable PunishmentCursor after, int limit) {
+        Optional<MongoCollection<Document>> collection = PunishmentCollection.get();
+        if (collection.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Bson> filters = new ArrayList<>();
+        if (moderatorUserId != null) {
+            filters.add(Filters.eq(PunishmentCollection.MODERATOR_FIELD, moderatorUserId));
+        }
+        if (type != null) {
+            filters.add(Filters.eq(PunishmentCollection.TYPE_FIELD, type.name()));
+        }
+        if (after != null) {
+            filters.add(Filters.or(
+                Filters.lt(PunishmentCollection.CREATED_AT_FIELD, after.createdAt()),
+                Filters.and(
+                    Filters.eq(PunishmentCollection.CREATED_AT_FIELD, after.createdAt()),
+                    Filters.lt(PunishmentCollection.ID_FIELD, after.punishmentId())
+                )
+            ));
+        }
+
+        List<Punishment> punishments = new ArrayList<>(limit);
+        for (Document document : collection.get()
+            .find(filters.isEmpty() ? new Document() : Filters.and(filters))
+            .sort(Sorts.descending(PunishmentCollection.CREATED_AT_FIELD, PunishmentCollection.ID_FIELD))
+            .limit(limit)) {
+            punishments.add(DataSerialization.GSON.fromJson(document.toJson(RELAXED_JSON), Punishment.class));
+        }
+
+        return punishments;
+    }
+
+    @Override
+    public Map<PunishmentType, Long> countByType(String targetUserId) {
+        Map<PunishmentType, Long> counts = new EnumMap<>(PunishmentType.class);
+        Optional<MongoCollection<Document>> collection = PunishmentCollection.get();
+        if (collection.isEmpty()) {
+            return counts;
+        }
+
+        for (Document group : collection.get().aggregate(List.of(
+            Aggregates.match(Filters.eq(PunishmentCollection.TARGET_FIELD, targetUserId)),
+            Aggregates.group("$" + PunishmentCollection.TYPE_FIELD, Accumulators.sum("count", 1))
+        ))) {
+            PunishmentType type = PunishmentType.fromName(String.valueOf(group.get("_id")));
+            if (type == null) {
+                log.warn("Skipping {} punishment(s) of unknown type {} for {}", group.get("count"), group.get("_id"), targetUserId);
+                continue;
+            }
+
+            counts.put(type, ((Number) group.get("count")).longValue());
+        }
+
+        return counts;
+    }
+}
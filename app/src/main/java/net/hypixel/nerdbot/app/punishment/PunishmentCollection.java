@@ -0,0 +1,109 @@
+package net.hypixel.nerdbot.app.punishment;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.storage.MongoCollections;
+import net.hypixel.nerdbot.discord.BotEnvironment;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Direct access to the collection backing the {@code PunishmentRepository}, and the indexes the
+ * punishment queries rely on.
+ *
+ * <p>The indexes are managed here: {@link #ensureIndexes()} creates any that are missing and drops
+ * any index carrying the {@value #INDEX_PREFIX} prefix that is no longer declared. An index is
+ * matched by name only, so changing an index's keys means giving it a new name.
+ */
+@Slf4j
+public final class PunishmentCollection {
+
+    public static final String COLLECTION_NAME = "punishments";
+    public static final String ID_FIELD = "punishmentId";
+    public static final String TARGET_FIELD = "targetUserId";
+    public static final String MODERATOR_FIELD = "moderatorUserId";
+    public static final String TYPE_FIELD = "type";
+    public static final String CREATED_AT_FIELD = "createdAt";
+
+    private static final String INDEX_PREFIX = "nerdbot_";
+
+    /**
+     * Equality fields first, then the newest-first sort, so each query reads only the index
+     * entries it returns.
+     */
+    private static final List<IndexModel> INDEXES = List.of(
+        // Stats: match on the target, group by type
+        index("target_type", Indexes.ascending(TARGET_FIELD, TYPE_FIELD)),
+        // Search: by moderator, by moderator and type, or by type alone, newest first
+        index("moderator_created", Indexes.compoundIndex(Indexes.ascending(MODERATOR_FIELD), Indexes.descending(CREATED_AT_FIELD, ID_FIELD))),
+        index("moderator_type_created", Indexes.compoundIndex(Indexes.ascending(MODERATOR_FIELD, TYPE_FIELD), Indexes.descending(CREATED_AT_FIELD, ID_FIELD))),
+        index("type_created", Indexes.compoundIndex(Indexes.ascending(TYPE_FIELD), Indexes.descending(CREATED_AT_FIELD, ID_FIELD)))
+    );
+
+    private PunishmentCollection() {
+    }
+
+    /**
+     * @return the collection, or {@link Optional#empty()} when the database is unavailable
+     */
+    public static Optional<MongoCollection<Document>> get() {
+        return MongoCollections.get(COLLECTION_NAME);
+    }
+
+    /**
+     * Brings the collection's managed indexes in line with {@link #INDEXES}. Safe to call on every
+     * startup; when nothing has changed it only lists the existing indexes. Does nothing while the
+     * bot is read-only.
+     */
+    public static void ensureIndexes() {
+        if (BotEnvironment.getBot().isReadOnly()) {
+            log.info("Bot is in read-only mode, skipping punishment index management");
+            return;
+        }
+
+        Optional<MongoCollection<Document>> collection = get();
+        if (collection.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<String> existing = new HashSet<>();
+            for (Document index : collection.get().listIndexes()) {
+                existing.add(index.getString("name"));
+            }
+
+            Set<String> declared = new HashSet<>();
+            INDEXES.forEach(index -> declared.add(index.getOptions().getName()));
+
+            List<IndexModel> missing = INDEXES.stream()
+                .filter(index -> !existing.contains(index.getOptions().getName()))
+                .toList();
+
+            if (!missing.isEmpty()) {
+                collection.get().createIndexes(missing);
+                log.info("Created {} punishment index(es): {}", missing.size(), missing.stream().map(index -> index.getOptions().getName()).toList());
+            }
+
+            for (String name : existing) {
+                if (name.startsWith(INDEX_PREFIX) && !declared.contains(name)) {
+                    collection.get().dropIndex(name);
+                    log.info("Dropped stale punishment index {}", name);
+                }
+            }
+        } catch (RuntimeException exception) {
+            log.error("Failed to ensure punishment indexes", exception);
+        }
+    }
+
+    private static IndexModel index(String name, Bson keys) {
+        return new IndexModel(keys, new IndexOptions().name(INDEX_PREFIX + name));
+    }
+}
@@ -0,0 +1,56 @@
+package net.hypixel.nerdbot.app.punishment;
+
+import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.Punishment;
+
+import java.util.Comparator;
+
+/**
+ * A position in the newest-first punishment order, used for keyset pagination: the next page is
+ * whatever sorts after the last punishment of the current one.
+ *
+ * <p>Punishments are ordered by creation time, newest first, with ties broken by descending ID so
+ * the order is total and no punishment is skipped or repeated across pages.
+ *
+ * @param createdAt    the creation time of the last punishment on the page
+ * @param punishmentId the ID of the last punishment on the page
+ */
+public record PunishmentCursor(long createdAt, String punishmentId) {
+
+    /**
+     * The order pages are read in.
+     */
+    public static final Comparator<Punishment> NEWEST_FIRST = Comparator.comparingLong(Punishment::getCreatedAt)
+        .thenComparing(Punishment::getPunishmentId)
+        .reversed();
+
+    public static PunishmentCursor of(Punishment punishment) {
+        return new PunishmentCursor(punishment.getCreatedAt(), punishment.getPunishmentId());
+    }
+
+    /**
+     * @return whether the punishment sorts after this position, i.e. belongs on a later page
+     */
+    public boolean precedes(Punishment punishment) {
+        return punishment.getCreatedAt() < createdAt
+            || (punishment.getCreatedAt() == createdAt && punishment.getPunishmentId().compareTo(punishmentId) < 0);
+    }
+
+    /**
+     * @return a compact form of this cursor that fits in a component ID
+     */
+    public String encode() {
+        return Long.toString(createdAt, Character.MAX_RADIX) + "." + punishmentId;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     */
+    public static PunishmentCursor decode(String encoded) {
+        int separator = encoded.indexOf('.');
+        if (separator <= 0 || separator == encoded.length() - 1) {
+            throw new IllegalArgumentException("Invalid punishment cursor: " + encoded);
+        }
+
+        return new PunishmentCursor(Long.parseLong(encoded.substring(0, separator), Character.MAX_RADIX), encoded.substring(separator + 1));
+    }
+}
@@ -0,0 +1,15 @@
+package net.hypixel.nerdbot.app.punishment;
+
+import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.Punishment;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * One page of punishment search results, newest first.
+ *
+ * @param punishments the punishments on this page
+ * @param next        where the next page starts, or {@code null} if this is the last page
+ */
+public record PunishmentPage(List<Punishment> punishments, @Nullable PunishmentCursor next) {
+}
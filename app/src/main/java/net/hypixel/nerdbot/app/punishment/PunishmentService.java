@@ -22,32 +22,31 @@ public class PunishmentService {
     }
 
     /**
-     * Search punishments by moderator and/or type.
+     * Search punishments by moderator and/or type, newest first.
      *
-     * <p>When a moderator is given, only their punishments are scanned; otherwise all punishments
-     * are scanned. A type, when given, further filters the results. If neither filter is given the
-     * result is empty (callers should require at least one filter). At most {@code limit} results are
-     * returned.
+     * <p>Both filters and the limit are applied by the store, so only the returned page is read. If
+     * neither filter is given the result is empty (callers should require at least one filter).
      *
      * @param moderatorUserId the moderator to filter by, or {@code null} for any
      * @param type            the punishment type to filter by, or {@code null} for any
+     * @param after           the {@link PunishmentPage#next()} of the previous page, or {@code null} for
+     *                        the first page
      * @param limit           the maximum number of results
-     * @return the matching punishments, capped at {@code limit}
+     * @return up to {@code limit} matching punishments and where the next page starts
      */
-    public List<Punishment> search(@Nullable String moderatorUserId, @Nullable PunishmentType type, int limit) {
-        List<Punishment> base;
-        if (moderatorUserId != null) {
-            base = store.findByModeratorUserId(moderatorUserId);
-        } else if (type != null) {
-            base = store.getAll();
-        } else {
-            return List.of();
+    public PunishmentPage search(@Nullable String moderatorUserId, @Nullable PunishmentType type, @Nullable PunishmentCursor after, int limit) {
+        if (moderatorUserId == null && type == null) {
+            return new PunishmentPage(List.of(), null);
         }
 
-        return base.stream()
-            .filter(punishment -> type == null || punishment.getType() == type)
-            .limit(limit)
-            .toList();
+        // Ask for one more than a page to learn whether another page follows
+        List<Punishment> punishments = store.find(moderatorUserId, type, after, limit + 1);
+        if (punishments.size() <= limit) {
+            return new PunishmentPage(punishments, null);
+        }
+
+        List<Punishment> page = punishments.subList(0, limit);
+        return new PunishmentPage(List.copyOf(page), PunishmentCursor.of(page.getLast()));
     }
 
     /**
@@ -57,16 +56,14 @@ public class PunishmentService {
      * @return the user's {@link PunishmentStats}
      */
     public PunishmentStats stats(String targetUserId) {
-        long total = store.countByTargetUserId(targetUserId);
-
         Map<PunishmentType, Long> countsByType = new EnumMap<>(PunishmentType.class);
-        for (PunishmentType type : PunishmentType.values()) {
-            long count = store.countByTargetAndType(targetUserId, type);
+        store.countByType(targetUserId).forEach((type, count) -> {
             if (count > 0) {
                 countsByType.put(type, count);
             }
-        }
+        });
 
+        long total = countsByType.values().stream().mapToLong(Long::longValue).sum();
         return new PunishmentStats(total, countsByType);
     }
 }
@@ -2,39 +2,34 @@ package net.hypixel.nerdbot.app.punishment;
 
 import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.Punishment;
 import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.PunishmentType;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Narrow, injectable view over {@link Punishment} storage.
  *
  * <p>{@link PunishmentService} depends on this interface instead of reaching through the global bot
  * for the concrete {@code PunishmentRepository}, so its search and stats logic can be unit-tested
- * against an in-memory fake. Production code is backed by {@link RepositoryPunishmentStore}.
+ * against an in-memory fake. Production code is backed by {@link MongoPunishmentStore}, which
+ * answers each method with a single indexed query.
  */
 public interface PunishmentStore {
 
     /**
-     * @return every recorded punishment
+     * @param moderatorUserId the moderator's Discord ID, or {@code null} for any
+     * @param type            the punishment type, or {@code null} for any
+     * @param after           only return punishments after this position, or {@code null} to start
+     *                        from the newest
+     * @param limit           the maximum number of punishments to return
+     * @return the matching punishments in {@link PunishmentCursor#NEWEST_FIRST} order
      */
-    List<Punishment> getAll();
-
-    /**
-     * @param moderatorUserId the moderator's Discord ID
-     * @return the punishments issued by that moderator
-     */
-    List<Punishment> findByModeratorUserId(String moderatorUserId);
-
-    /**
-     * @param targetUserId the punished user's Discord ID
-     * @return how many punishments the user has received
-     */
-    long countByTargetUserId(String targetUserId);
+    List<Punishment> find(@Nullable String moderatorUserId, @Nullable PunishmentType type, @Nullable PunishmentCursor after, int limit);
 
     /**
      * @param targetUserId the punished user's Discord ID
-     * @param type         the punishment type
-     * @return how many punishments of that type the user has received
+     * @return how many punishments of each type the user has received, omitting types they have none of
      */
-    long countByTargetAndType(String targetUserId, PunishmentType type);
+    Map<PunishmentType, Long> countByType(String targetUserId);
 }
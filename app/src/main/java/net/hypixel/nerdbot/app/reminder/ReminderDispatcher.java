@@ -5,26 +5,37 @@ import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.User;
+import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
 import net.hypixel.nerdbot.marmalade.format.DiscordTimestamp;
 import net.hypixel.nerdbot.marmalade.storage.database.model.reminder.Reminder;
 import net.hypixel.nerdbot.marmalade.storage.database.repository.ReminderRepository;
 import net.hypixel.nerdbot.discord.util.DiscordBotEnvironment;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 @UtilityClass
 @Slf4j
 public class ReminderDispatcher {
 
     public void schedule(Reminder reminder) {
-        Timer timer = new Timer();
-        reminder.assignTimer(timer);
-        timer.schedule(new ReminderTask(reminder), reminder.getTimeAsDate());
+        SkyBlockNerdsBot.reminderScheduler().schedule(reminder);
     }
 
     public void cancel(Reminder reminder) {
-        reminder.cancelTimer();
+        SkyBlockNerdsBot.reminderScheduler().cancel(reminder);
+    }
+
+    /**
+     * Handles a reminder that has come due: removes it from the database and, if this call was the
+     * one that removed it, sends it to the user. Deleting first keeps a reminder from being sent
+     * twice if it is also being deleted through the reminder panel.
+     */
+    public void fire(Reminder reminder, boolean late) {
+        ReminderRepository reminderRepository = DiscordBotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(ReminderRepository.class);
+        DeleteResult result = reminderRepository.deleteFromDatabase(reminder.getUuid().toString());
+
+        if (result != null && result.wasAcknowledged() && result.getDeletedCount() > 0) {
+            dispatch(reminder, late);
+            log.info("Reminder '{}' successfully deleted (result: {})", reminder.getUuid(), result);
+        }
     }
 
     public void dispatch(Reminder reminder, boolean late) {
@@ -47,25 +58,4 @@ public class ReminderDispatcher {
             .queue((success) -> log.info("Sent reminder '{}' message to user {}", reminder.getUuid(), reminder.getUserId()),
                 (failure) -> log.warn("Couldn't send reminder message to user: {} (reminder: {})", reminder.getUserId(), reminder.getUuid())));
     }
-
-    private static class ReminderTask extends TimerTask {
-
-        private final Reminder reminder;
-
-        private ReminderTask(Reminder reminder) {
-            this.reminder = reminder;
-        }
-
-        @Override
-        public void run() {
-        ReminderRepository reminderRepository = DiscordBotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(ReminderRepository.class);
-            DeleteResult result = reminderRepository.deleteFromDatabase(reminder.getUuid().toString());
-
-            if (result != null && result.wasAcknowledged() && result.getDeletedCount() > 0) {
-                reminder.cancelTimer();
-                ReminderDispatcher.dispatch(reminder, false);
-                log.info("Reminder '{}' successfully deleted (result: {})", reminder.getUuid(), result);
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,236 @@
+package net.hypixel.nerdbot.app.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
+import net.hypixel.nerdbot.marmalade.storage.database.model.reminder.Reminder;
+import net.hypixel.nerdbot.marmalade.storage.database.repository.ReminderRepository;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single shared scheduler for every pending {@link Reminder}.
+ *
+ * <p>Reminders used to each own a {@link java.util.Timer} (and therefore a platform thread), so a
+ * few thousand pending reminders meant a few thousand idle threads. Here one poller thread waits on
+ * a {@link DelayQueue} and hands due reminders to a virtual-thread executor, so the thread count no
+ * longer grows with the number of reminders.
+ *
+ * <p>The {@link #pending} map is the source of truth: cancelling a reminder only removes it from the
+ * map (O(1)), and the stale queue entry is skipped when it comes due. Stale entries are compacted
+ * out of the queue once they outnumber the live ones so long-dated cancelled reminders do not pile
+ * up.
+ */
+@Slf4j
+public class ReminderScheduler {
+
+    private static final int COMPACTION_THRESHOLD = 1_024;
+
+    private final DelayQueue<ScheduledReminder> queue = new DelayQueue<>();
+    private final Map<UUID, ScheduledReminder> pending = new ConcurrentHashMap<>();
+    private final DueReminderHandler handler;
+    private volatile ExecutorService dispatchExecutor;
+    private Thread pollerThread;
+
+    /**
+     * Called on a virtual thread for every reminder that comes due.
+     */
+    @FunctionalInterface
+    public interface DueReminderHandler {
+
+        /**
+         * @param reminder the reminder that is due
+         * @param late     {@code true} if the reminder was already overdue when it was loaded
+         */
+        void onDue(Reminder reminder, boolean late);
+    }
+
+    public ReminderScheduler(@NotNull DueReminderHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Starts the poller thread and a fresh dispatch executor. Safe to call more than once, and again
+     * after {@link #stop()}.
+     */
+    public synchronized void start() {
+        if (pollerThread != null) {
+            return;
+        }
+
+        dispatchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        pollerThread = Thread.ofPlatform()
+            .name("reminder-scheduler")
+            .daemon(true)
+            .start(this::pollLoop);
+    }
+
+    /**
+     * Stops the poller thread and lets any in-flight dispatches finish. Pending reminders stay in
+     * the database and are picked up again by {@link #loadFromRepository(ReminderRepository)} on
+     * the next start.
+     */
+    public synchronized void stop() {
+        if (pollerThread != null) {
+            pollerThread.interrupt();
+            pollerThread = null;
+        }
+
+        if (dispatchExecutor != null) {
+            dispatchExecutor.shutdown();
+            dispatchExecutor = null;
+        }
+    }
+
+    /**
+     * Schedules a reminder for its configured time, replacing any earlier schedule for the same
+     * reminder.
+     */
+    public void schedule(@NotNull Reminder reminder) {
+        ScheduledReminder entry = new ScheduledReminder(reminder, reminder.getTime());
+        pending.put(reminder.getUuid(), entry);
+        queue.offer(entry);
+        compactIfNeeded();
+        PrometheusMetrics.REMINDERS_PENDING_AMOUNT.set(pending.size());
+    }
+
+    /**
+     * Cancels a scheduled reminder.
+     *
+     * @return {@code true} if the reminder was pending
+     */
+    public boolean cancel(@NotNull Reminder reminder) {
+        boolean removed = pending.remove(reminder.getUuid()) != null;
+        PrometheusMetrics.REMINDERS_PENDING_AMOUNT.set(pending.size());
+        return removed;
+    }
+
+    /**
+     * @return how many reminders are waiting to be dispatched
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Loads every stored reminder into the scheduler. Reminders whose time has already passed
+     * (because the bot was offline) are dispatched immediately as late reminders.
+     */
+    public void loadFromRepository(@NotNull ReminderRepository reminderRepository) {
+        reminderRepository.loadAllDocumentsIntoCacheAsync()
+            .thenRun(() -> {
+                long now = System.currentTimeMillis();
+                int[] late = {0};
+
+                reminderRepository.forEach(reminder -> {
+                    if (now > reminder.getTime()) {
+                        dispatch(reminder, true);
+                        late[0]++;
+                        log.info("Sending reminder {} because it was not sent yet!", reminder.getUuid());
+                        return;
+                    }
+
+                    schedule(reminder);
+                    log.debug("Loaded reminder: {}", reminder);
+                });
+
+                log.info("Loaded {} reminders ({} pending, {} overdue)", reminderRepository.getCache().estimatedSize(), pending.size(), late[0]);
+            })
+            .exceptionally(throwable -> {
+                log.error("Failed to load reminders from database", throwable);
+                return null;
+            });
+    }
+
+    private void pollLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            ScheduledReminder entry;
+
+            try {
+                entry = queue.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // Skip entries that were cancelled or replaced by a later schedule()
+            if (!pending.remove(entry.reminder().getUuid(), entry)) {
+                continue;
+            }
+
+            long lagMs = Math.max(0, System.currentTimeMillis() - entry.dueAt());
+            PrometheusMetrics.REMINDER_DISPATCH_LAG_SECONDS.observe(lagMs / 1_000.0);
+            PrometheusMetrics.REMINDERS_PENDING_AMOUNT.set(pending.size());
+
+            dispatch(entry.reminder(), false);
+        }
+    }
+
+    private void dispatch(Reminder reminder, boolean late) {
+        ExecutorService executor = dispatchExecutor;
+        if (executor == null) {
+            log.warn("Reminder scheduler is stopped, leaving reminder {} for the next start", reminder.getUuid());
+            return;
+        }
+
+        try {
+            executor.execute(() -> handle(reminder, late));
+        } catch (RejectedExecutionException exception) {
+            log.warn("Reminder scheduler stopped before reminder {} could be dispatched", reminder.getUuid());
+        } catch (RuntimeException exception) {
+            log.error("Failed to dispatch reminder {}", reminder.getUuid(), exception);
+        }
+    }
+
+    private void handle(Reminder reminder, boolean late) {
+        try {
+            handler.onDue(reminder, late);
+        } catch (Exception exception) {
+            log.error("Failed to handle due reminder {}", reminder.getUuid(), exception);
+        }
+    }
+
+    private void compactIfNeeded() {
+        int stale = queue.size() - pending.size();
+
+        if (stale > COMPACTION_THRESHOLD && stale > pending.size()) {
+            queue.removeIf(entry -> pending.get(entry.reminder().getUuid()) != entry);
+            log.debug("Compacted reminder queue, {} live entries remain", queue.size());
+        }
+    }
+
+    /**
+     * Queue entry for a reminder. Compared by identity so a rescheduled reminder's old entry is
+     * recognised as stale.
+     */
+    private record ScheduledReminder(Reminder reminder, long dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(@NotNull TimeUnit unit) {
+            return unit.convert(dueAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(@NotNull Delayed other) {
+            return Long.compare(dueAt, ((ScheduledReminder) other).dueAt);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
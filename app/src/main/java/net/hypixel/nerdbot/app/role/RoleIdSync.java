@@ -1,5 +1,6 @@
 package net.hypixel.nerdbot.app.role;
 
+import net.hypixel.nerdbot.app.storage.DocumentUpdate;
 import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
 
 import java.util.ArrayList;
@@ -14,15 +15,28 @@ public final class RoleIdSync {
     private RoleIdSync() {
     }
 
+    /**
+     * @return true if the stored role ids already match the member's current roles
+     */
+    public static boolean isCurrent(DiscordUser user, List<String> currentRoleIds) {
+        return currentRoleIds.equals(user.getRoleIds());
+    }
+
     /**
      * @return true if the stored role ids changed and the user needs saving
      */
     public static boolean applyRoleIds(DiscordUser user, List<String> currentRoleIds) {
-        List<String> normalized = new ArrayList<>(currentRoleIds);
-        if (normalized.equals(user.getRoleIds())) {
+        if (isCurrent(user, currentRoleIds)) {
             return false;
         }
-        user.setRoleIds(normalized);
+        user.setRoleIds(new ArrayList<>(currentRoleIds));
         return true;
     }
+
+    /**
+     * @return the update persisting the user's current role ids
+     */
+    public static DocumentUpdate update(DiscordUser user) {
+        return new DocumentUpdate().set("roleIds", user.getRoleIds());
+    }
 }
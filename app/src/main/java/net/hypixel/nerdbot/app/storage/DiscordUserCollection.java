@@ -0,0 +1,26 @@
+package net.hypixel.nerdbot.app.storage;
+
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+
+import java.util.Optional;
+
+/**
+ * Direct access to the collection backing the {@code DiscordUserRepository}, for reads and writes
+ * that need more control than the repository offers (projections, field-level updates).
+ */
+public final class DiscordUserCollection {
+
+    public static final String COLLECTION_NAME = "users";
+    public static final String ID_FIELD = "discordId";
+
+    private DiscordUserCollection() {
+    }
+
+    /**
+     * @return the collection, or {@link Optional#empty()} when the database is unavailable
+     */
+    public static Optional<MongoCollection<Document>> get() {
+        return MongoCollections.get(COLLECTION_NAME);
+    }
+}
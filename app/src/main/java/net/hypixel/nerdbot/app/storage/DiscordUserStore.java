@@ -4,6 +4,7 @@ import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Narrow, injectable view over {@link DiscordUser} persistence.
@@ -35,4 +36,13 @@ public interface DiscordUserStore {
      * @param user the user to store
      */
     void save(DiscordUser user);
+
+    /**
+     * Apply a change to stored users and persist it as field-level updates, without rewriting
+     * their whole documents.
+     *
+     * @param users  the stored users to change
+     * @param change applies the change to one user and returns it as an update
+     */
+    void update(List<DiscordUser> users, Function<DiscordUser, DocumentUpdate> change);
 }
@@ -0,0 +1,107 @@
+package net.hypixel.nerdbot.app.storage;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
+import net.hypixel.nerdbot.discord.BotEnvironment;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
+import net.hypixel.nerdbot.marmalade.storage.database.repository.DiscordUserRepository;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Applies changes to cached {@link DiscordUser}s and writes them straight to the {@code users}
+ * collection, so a change to a few fields of a user ships only those fields instead of the whole
+ * serialized document.
+ *
+ * <p>The change and its write go through {@link RepositoryFlusher#update}, so they never interleave
+ * with an autosave and a user the write brings up to date is not saved in full again.
+ *
+ * <p>Updates never upsert: a user that has not been saved yet has no document to update, and is
+ * written in full by the repository's own write-behind instead, or by the caller when
+ * {@link #update(DiscordUserRepository, DiscordUser, Function)} reports no match. When the bot is
+ * read-only or the database is unavailable the change is only applied to the cache.
+ */
+@Slf4j
+@UtilityClass
+public class DiscordUserUpdates {
+
+    /**
+     * Applies {@code change} to a cached user and writes the update it returns.
+     *
+     * @return false if the user has no stored document to update yet. Callers that need the
+     *     change persisted right away should save the whole user when it has none.
+     */
+    public static boolean update(DiscordUserRepository repository, DiscordUser user, Function<DiscordUser, DocumentUpdate> change) {
+        Optional<MongoCollection<Document>> collection = writableCollection();
+        if (collection.isEmpty()) {
+            change.apply(user);
+            return true;
+        }
+
+        return SkyBlockNerdsBot.repositoryFlusher().update(repository, Map.of(user.getDiscordId(), user), change,
+            updates -> apply(collection.get(), user.getDiscordId(), updates.get(user.getDiscordId())));
+    }
+
+    /**
+     * Applies {@code change} to each cached user and writes the updates in one unordered bulk write.
+     */
+    public static void update(DiscordUserRepository repository, Collection<DiscordUser> users, Function<DiscordUser, DocumentUpdate> change) {
+        Optional<MongoCollection<Document>> collection = writableCollection();
+        if (collection.isEmpty()) {
+            users.forEach(change::apply);
+            return;
+        }
+
+        Map<String, DiscordUser> byId = new LinkedHashMap<>();
+        users.forEach(user -> byId.put(user.getDiscordId(), user));
+
+        SkyBlockNerdsBot.repositoryFlusher().update(repository, byId, change, updates -> {
+            apply(collection.get(), updates);
+            return true;
+        });
+    }
+
+    private static Optional<MongoCollection<Document>> writableCollection() {
+        return BotEnvironment.getBot().isReadOnly() ? Optional.empty() : DiscordUserCollection.get();
+    }
+
+    private static boolean apply(MongoCollection<Document> collection, String discordId, DocumentUpdate update) {
+        if (update.isEmpty()) {
+            return true;
+        }
+
+        return collection.updateOne(Filters.eq(DiscordUserCollection.ID_FIELD, discordId), update.toBson()).getMatchedCount() > 0;
+    }
+
+    private static void apply(MongoCollection<Document> collection, Map<String, DocumentUpdate> updates) {
+        List<WriteModel<Document>> writes = new ArrayList<>(updates.size());
+        updates.forEach((discordId, update) -> {
+            if (!update.isEmpty()) {
+                writes.add(new UpdateOneModel<>(Filters.eq(DiscordUserCollection.ID_FIELD, discordId), update.toBson()));
+            }
+        });
+
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        BulkWriteResult result = collection.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+        if (result.getMatchedCount() < writes.size()) {
+            log.debug("{} of {} user updates matched no stored document", writes.size() - result.getMatchedCount(), writes.size());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package net.hypixel.nerdbot.app.storage;
+
+import com.mongodb.client.model.PushOptions;
+import com.mongodb.client.model.Updates;
+import net.hypixel.nerdbot.marmalade.json.DataSerialization;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The field-level changes made to one stored document, written as a single Mongo update instead
+ * of replacing the whole document.
+ *
+ * <p>Changes recorded against the same path are merged: a later {@code $set} wins, increments are
+ * summed and prepended values stack up in front of earlier ones, matching what applying each
+ * change in turn would leave behind. Paths use Mongo dot notation and must not overlap, since Mongo
+ * rejects an update touching both a field and one of its children.
+ *
+ * <p>An update that does not carry every change made to its document is marked with
+ * {@link #requireFullSave()}, so the document is still written in full by the next flush.
+ */
+public final class DocumentUpdate {
+
+    private final Map<String, Object> sets = new LinkedHashMap<>();
+    private final Map<String, Long> increments = new LinkedHashMap<>();
+    private final Map<String, Push> pushes = new LinkedHashMap<>();
+    private boolean fullSaveRequired;
+
+    public DocumentUpdate set(@NotNull String path, Object value) {
+        sets.put(path, value);
+        return this;
+    }
+
+    /**
+     * Sets a field to a model object, converted to BSON the same way the repositories serialize
+     * whole documents.
+     */
+    public DocumentUpdate setSerialized(@NotNull String path, Object value) {
+        String json = DataSerialization.GSON.toJson(value);
+        return set(path, Document.parse("{\"value\":" + json + "}").get("value"));
+    }
+
+    public DocumentUpdate inc(@NotNull String path, long amount) {
+        increments.merge(path, amount, Long::sum);
+        return this;
+    }
+
+    /**
+     * Inserts values at the front of an array, in the given order.
+     */
+    public DocumentUpdate pushFirst(@NotNull String path, @NotNull List<?> values) {
+        return push(path, values, 0, null);
+    }
+
+    /**
+     * Inserts a value at the front of an array, then trims the array to its first
+     * {@code keepFirst} elements.
+     */
+    public DocumentUpdate pushFirst(@NotNull String path, Object value, int keepFirst) {
+        return push(path, List.of(value), 0, keepFirst);
+    }
+
+    /**
+     * Appends a value to an array, then trims the array to its last {@code keepLast} elements.
+     */
+    public DocumentUpdate pushLast(@NotNull String path, Object value, int keepLast) {
+        return push(path, List.of(value), null, -keepLast);
+    }
+
+    /**
+     * Records the change from {@code before} to {@code after} of an array. Adding one element at
+     * either end, with the other end trimmed to keep the array bounded, becomes a {@code $push} with
+     * {@code $slice}; any other change replaces the array.
+     */
+    public DocumentUpdate changeList(@NotNull String path, @NotNull List<?> before, @NotNull List<?> after) {
+        int size = after.size();
+        if (after.equals(before)) {
+            return this;
+        }
+
+        if (size > 0 && size <= before.size() + 1) {
+            if (after.subList(0, size - 1).equals(before.subList(before.size() - (size - 1), before.size()))) {
+                return pushLast(path, after.get(size - 1), size);
+            }
+            if (after.subList(1, size).equals(before.subList(0, size - 1))) {
+                return pushFirst(path, after.get(0), size);
+            }
+        }
+
+        return set(path, new ArrayList<>(after));
+    }
+
+    /**
+     * Marks that the document also changed in ways this update does not record.
+     */
+    public DocumentUpdate requireFullSave() {
+        fullSaveRequired = true;
+        return this;
+    }
+
+    public boolean isFullSaveRequired() {
+        return fullSaveRequired;
+    }
+
+    public boolean isEmpty() {
+        return sets.isEmpty() && increments.isEmpty() && pushes.isEmpty();
+    }
+
+    public Bson toBson() {
+        List<Bson> updates = new ArrayList<>(sets.size() + increments.size() + pushes.size());
+
+        sets.forEach((path, value) -> updates.add(Updates.set(path, value)));
+        increments.forEach((path, amount) -> updates.add(Updates.inc(path, amount)));
+        pushes.forEach((path, push) -> {
+            PushOptions options = new PushOptions();
+            if (push.position() != null) {
+                options.position(push.position());
+            }
+            if (push.slice() != null) {
+                options.slice(push.slice());
+            }
+            updates.add(Updates.pushEach(path, push.values(), options));
+        });
+
+        return Updates.combine(updates);
+    }
+
+    private DocumentUpdate push(String path, List<?> values, Integer position, Integer slice) {
+        Push earlier = pushes.get(path);
+        if (earlier == null) {
+            pushes.put(path, new Push(new ArrayList<>(values), position, slice));
+            return this;
+        }
+
+        if (!Objects.equals(earlier.position(), position)) {
+            throw new IllegalArgumentException("Cannot both prepend and append to " + path + " in one update");
+        }
+
+        List<Object> merged = new ArrayList<>(earlier.values().size() + values.size());
+        if (position != null) {
+            merged.addAll(values);
+            merged.addAll(earlier.values());
+        } else {
+            merged.addAll(earlier.values());
+            merged.addAll(values);
+        }
+
+        pushes.put(path, new Push(merged, position, slice != null ? slice : earlier.slice()));
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return toBson().toBsonDocument().toJson();
+    }
+
+    private record Push(List<Object> values, Integer position, Integer slice) {
+    }
+}
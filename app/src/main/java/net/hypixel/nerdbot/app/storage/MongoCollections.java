@@ -0,0 +1,36 @@
+package net.hypixel.nerdbot.app.storage;
+
+import com.mongodb.client.MongoCollection;
+import net.hypixel.nerdbot.discord.BotEnvironment;
+import org.bson.Document;
+
+import java.util.Optional;
+
+/**
+ * Looks up collections in the bot's database directly, for the stores that read or write a
+ * collection without going through its repository.
+ */
+public final class MongoCollections {
+
+    private MongoCollections() {
+    }
+
+    /**
+     * @param name the collection's name
+     *
+     * @return the collection, or {@link Optional#empty()} when the database is unavailable
+     */
+    public static Optional<MongoCollection<Document>> get(String name) {
+        var database = BotEnvironment.getBot().getDatabase();
+        if (!database.isConnected() || database.getMongoClient() == null) {
+            return Optional.empty();
+        }
+
+        String dbName = database.getConnectionString().getDatabase();
+        if (dbName == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(database.getMongoClient().getDatabase(dbName).getCollection(name));
+    }
+}
@@ -5,13 +5,14 @@ import net.hypixel.nerdbot.marmalade.storage.database.repository.DiscordUserRepo
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Production {@link DiscordUserStore} backed by the real {@link DiscordUserRepository}.
  *
  * <p>This is a thin adapter: {@link #getAll()} and {@link #save(DiscordUser)} map directly onto the
  * repository's in-memory cache operations, matching the behaviour of the call sites this store
- * replaces.
+ * replaces. {@link #update(List, Function)} writes through {@link DiscordUserUpdates}.
  */
 public class RepositoryDiscordUserStore implements DiscordUserStore {
 
@@ -35,4 +36,9 @@ public class RepositoryDiscordUserStore implements DiscordUserStore {
     public void save(DiscordUser user) {
         repository.cacheObject(user);
     }
+
+    @Override
+    public void update(List<DiscordUser> users, Function<DiscordUser, DocumentUpdate> change) {
+        DiscordUserUpdates.update(repository, users, change);
+    }
 }
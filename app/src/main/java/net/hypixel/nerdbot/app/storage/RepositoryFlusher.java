@@ -0,0 +1,456 @@
+package net.hypixel.nerdbot.app.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
+import net.hypixel.nerdbot.marmalade.json.DataSerialization;
+import net.hypixel.nerdbot.marmalade.storage.repository.Repository;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Writes back only the cached repository documents that changed since they were last flushed.
+ *
+ * <p>Most mutations edit cached documents in place, so there is no write to intercept. Instead each
+ * flush serializes every cached document, fingerprints the result and compares it with the
+ * fingerprint recorded when that document was last written; only documents whose fingerprint
+ * differs (or that were never written) are saved. Saves are issued in bounded batches so a large
+ * backlog never floods the connection pool, and a document whose save fails stays dirty for the
+ * next flush. The first flush after startup has nothing to compare against and writes every
+ * cached document, as every flush did before.
+ *
+ * <p>A document changed while its save is in flight may be written with either state, but its
+ * recorded fingerprint is always the serialized state, so a newer change is written again next
+ * time rather than lost.
+ *
+ * <p>Repositories are flushed concurrently. At shutdown the flush is bounded by a deadline: no new
+ * batch starts once it passes, and whatever was not written by then is kept in a
+ * {@link RepositoryJournal} and written on the next startup by {@link #replayJournal}.
+ *
+ * <p>Changes written as field-level updates go through {@link #update}, which orders them against
+ * flushes of the same repository and records the documents they bring up to date, so the next
+ * flush does not write those documents again.
+ */
+@Slf4j
+public class RepositoryFlusher {
+
+    public static final int DEFAULT_BATCH_SIZE = 250;
+
+    /**
+     * How long past the deadline to wait for a repository flush to notice it and journal what it
+     * has left, before giving up on it.
+     */
+    private static final Duration DEADLINE_GRACE = Duration.ofSeconds(1);
+
+    private final Function<Object, String> serializer;
+    private final int batchSize;
+    /**
+     * Per repository, the fingerprint of each document as of its last successful write.
+     */
+    private final Map<String, Map<String, Long>> flushedFingerprints = new ConcurrentHashMap<>();
+
+    public RepositoryFlusher() {
+        this(DataSerialization.GSON::toJson, DEFAULT_BATCH_SIZE);
+    }
+
+    RepositoryFlusher(Function<Object, String> serializer, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1, got " + batchSize);
+        }
+
+        this.serializer = serializer;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Flushes every repository concurrently without a deadline, logging a summary.
+     *
+     * @param repositories the repository manager's repositories, keyed by type
+     */
+    public void flushAll(Map<Class<?>, Object> repositories) {
+        flushAll(repositories, null, null);
+    }
+
+    /**
+     * Flushes every repository concurrently, stopping at the deadline, and logs one summary of
+     * every repository's outcome. A repository that fails to flush does not stop the others.
+     *
+     * @param repositories the repository manager's repositories, keyed by type
+     * @param deadline     how long the whole flush may take, or {@code null} for no limit
+     * @param journal      where to keep documents that were not written, or {@code null} to
+     *                     leave them dirty for the next flush
+     */
+    public void flushAll(Map<Class<?>, Object> repositories, @Nullable Duration deadline, @Nullable RepositoryJournal journal) {
+        long start = System.nanoTime();
+        Long deadlineNanos = deadline == null ? null : start + deadline.toNanos();
+        Map<String, Future<FlushResult>> flushes = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        try {
+            for (Object repositoryObject : repositories.values()) {
+                Repository<?> repository = (Repository<?>) repositoryObject;
+                flushes.put(repository.getClass().getSimpleName(), executor.submit(() -> flushAndJournal(repository, deadlineNanos, journal)));
+            }
+
+            List<String> outcomes = new ArrayList<>(flushes.size());
+            boolean problems = false;
+
+            for (Map.Entry<String, Future<FlushResult>> flush : flushes.entrySet()) {
+                String name = flush.getKey();
+
+                try {
+                    FlushResult result = deadlineNanos == null
+                        ? flush.getValue().get()
+                        : flush.getValue().get(Math.max(0, deadlineNanos + DEADLINE_GRACE.toNanos() - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+                    outcomes.add(name + ": " + result.describe());
+                    problems |= result.failed() > 0 || result.missed() > 0;
+                } catch (TimeoutException exception) {
+                    outcomes.add(name + ": still saving at the deadline, unsaved changes were not journaled");
+                    problems = true;
+                } catch (ExecutionException exception) {
+                    log.error("Failed to save documents for repository {}", name, exception.getCause());
+                    outcomes.add(name + ": failed (" + exception.getCause() + ")");
+                    problems = true;
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    outcomes.add(name + ": interrupted");
+                    problems = true;
+                }
+            }
+
+            String summary = "Saved {} repositories in {} ms:\n  {}";
+            Object[] arguments = {flushes.size(), (System.nanoTime() - start) / 1_000_000, String.join("\n  ", outcomes)};
+            if (problems) {
+                log.warn(summary, arguments);
+            } else if (deadline != null || outcomes.stream().anyMatch(outcome -> !outcome.endsWith("no changes"))) {
+                log.info(summary, arguments);
+            } else {
+                log.debug(summary, arguments);
+            }
+        } finally {
+            // Only reached with flushes still running once they have overrun the deadline
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes every document journaled at the last shutdown to its repository and removes the
+     * journal once it has been written. Must run before the repositories load their documents, so
+     * the loads read the journaled state back from the database. Documents that still cannot be
+     * written stay in the journal.
+     *
+     * @param repositories the repository manager's repositories, keyed by type
+     */
+    public void replayJournal(Map<Class<?>, Object> repositories, RepositoryJournal journal) {
+        Map<String, Repository<?>> byName = new HashMap<>();
+        repositories.values().forEach(repositoryObject -> byName.put(repositoryObject.getClass().getSimpleName(), (Repository<?>) repositoryObject));
+
+        try {
+            for (String name : journal.repositoryNames()) {
+                Repository<?> repository = byName.get(name);
+                if (repository == null) {
+                    log.warn("Keeping journal for unknown repository {}", name);
+                    continue;
+                }
+
+                List<RepositoryJournal.Entry> entries = journal.read(name);
+                List<RepositoryJournal.Entry> remaining = replay(repository, entries);
+
+                if (remaining.isEmpty()) {
+                    journal.delete(name);
+                    log.info("Replayed {} journaled documents for repository {}", entries.size(), name);
+                } else {
+                    journal.write(name, remaining);
+                    log.error("Replayed {} of {} journaled documents for repository {}; the rest stay journaled",
+                        entries.size() - remaining.size(), entries.size(), name);
+                }
+            }
+        } catch (IOException exception) {
+            log.error("Failed to replay the repository journal", exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<RepositoryJournal.Entry> replay(Repository<T> repository, List<RepositoryJournal.Entry> entries) {
+        List<RepositoryJournal.Entry> remaining = new ArrayList<>();
+
+        for (RepositoryJournal.Entry entry : entries) {
+            try {
+                T document = (T) DataSerialization.GSON.fromJson(entry.json(), Class.forName(entry.type()));
+                repository.saveToDatabaseAsync(document).join();
+            } catch (ClassNotFoundException | RuntimeException exception) {
+                log.warn("Failed to replay journaled document {} for repository {}", entry.id(), repository.getClass().getSimpleName(), exception);
+                remaining.add(entry);
+            }
+        }
+
+        return remaining;
+    }
+
+    public <T> FlushResult flush(Repository<T> repository) {
+        return flush(repository, null);
+    }
+
+    private <T> FlushResult flush(Repository<T> repository, @Nullable Long deadlineNanos) {
+        Map<?, T> cached = repository.getCache().asMap();
+        return flush(repository.getClass().getSimpleName(), cached, repository::saveToDatabaseAsync, deadlineNanos);
+    }
+
+    /**
+     * Applies a change to cached documents and writes it as field-level updates, holding off any
+     * flush of the same repository until the write has finished. A flush in between could save a
+     * document in full with the change already in it, and a {@code $push} or {@code $inc} landing
+     * after that would apply the change twice.
+     *
+     * <p>Once the updates are written, each document that was already saved in full before the
+     * change is recorded as saved in the state the change left it in, fingerprinted as soon as the
+     * update is built. Anything else that changes the document while the updates are being written
+     * is not in that fingerprint, so the next flush writes it in full. Documents with other unsaved
+     * changes, and those whose update {@linkplain DocumentUpdate#requireFullSave() does not carry
+     * every change}, also stay dirty for the next flush.
+     *
+     * @param repository the repository caching the documents
+     * @param documents  the cached documents to change, keyed by ID
+     * @param change     applies the change to one document and returns it as an update
+     * @param writer     writes the updates keyed by document ID, returning whether they were written
+     *
+     * @return what the writer returned
+     */
+    public <T> boolean update(Repository<T> repository, Map<String, T> documents, Function<T, DocumentUpdate> change,
+                              Predicate<Map<String, DocumentUpdate>> writer) {
+        return update(repository.getClass().getSimpleName(), documents, change, writer);
+    }
+
+    <T> boolean update(String repositoryName, Map<String, T> documents, Function<T, DocumentUpdate> change,
+                       Predicate<Map<String, DocumentUpdate>> writer) {
+        Map<String, Long> flushed = flushedFingerprints.computeIfAbsent(repositoryName, name -> new HashMap<>());
+
+        synchronized (flushed) {
+            Map<String, Long> updatedFingerprints = new HashMap<>();
+            Map<String, DocumentUpdate> updates = new LinkedHashMap<>();
+
+            documents.forEach((id, document) -> {
+                Long previous = flushed.get(id);
+                boolean saved = previous != null && previous == fingerprint(document);
+                DocumentUpdate update = change.apply(document);
+
+                updates.put(id, update);
+                if (saved && !update.isFullSaveRequired()) {
+                    updatedFingerprints.put(id, fingerprint(document));
+                }
+            });
+
+            if (!writer.test(updates)) {
+                return false;
+            }
+
+            flushed.putAll(updatedFingerprints);
+            return true;
+        }
+    }
+
+    private FlushResult flushAndJournal(Repository<?> repository, @Nullable Long deadlineNanos, @Nullable RepositoryJournal journal) throws IOException {
+        FlushResult result = flush(repository, deadlineNanos);
+
+        if (journal != null && !result.unsaved().isEmpty()) {
+            journal.write(repository.getClass().getSimpleName(), result.unsaved());
+        }
+
+        return result;
+    }
+
+    <T> FlushResult flush(String repositoryName, Map<?, T> documents, Function<T, CompletableFuture<?>> writer) {
+        return flush(repositoryName, documents, writer, null);
+    }
+
+    /**
+     * @param repositoryName the name fingerprints and metrics are recorded under
+     * @param documents      the cached documents keyed by ID
+     * @param writer         saves one document, completing once it is written
+     * @param deadlineNanos  the {@link System#nanoTime()} after which no more writes are waited
+     *                       for or started, or {@code null} for no limit
+     */
+    <T> FlushResult flush(String repositoryName, Map<?, T> documents, Function<T, CompletableFuture<?>> writer, @Nullable Long deadlineNanos) {
+        long start = System.nanoTime();
+        Map<String, Long> flushed = flushedFingerprints.computeIfAbsent(repositoryName, name -> new HashMap<>());
+
+        // Overlapping flushes of the same repository (autosave running into shutdown) would
+        // otherwise both write the same documents
+        synchronized (flushed) {
+            List<DirtyDocument<T>> dirty = new ArrayList<>();
+            Set<String> present = new HashSet<>(documents.size() * 2);
+
+            for (Map.Entry<?, T> entry : documents.entrySet()) {
+                String id = String.valueOf(entry.getKey());
+                String serialized = serializer.apply(entry.getValue());
+                byte[] bytes = serialized.getBytes(StandardCharsets.UTF_8);
+                long fingerprint = fingerprint(bytes);
+                Long previous = flushed.get(id);
+
+                present.add(id);
+                if (previous == null || previous != fingerprint) {
+                    dirty.add(new DirtyDocument<>(id, entry.getValue(), serialized, fingerprint, bytes.length));
+                }
+            }
+
+            // Evicted and deleted documents are written again if they ever come back
+            flushed.keySet().retainAll(present);
+            PrometheusMetrics.REPOSITORY_DIRTY_DOCUMENTS.labels(repositoryName).set(dirty.size());
+
+            int written = 0;
+            int failed = 0;
+            long bytes = 0;
+            List<RepositoryJournal.Entry> unsaved = new ArrayList<>();
+
+            for (int from = 0; from < dirty.size(); from += batchSize) {
+                List<DirtyDocument<T>> batch = dirty.subList(from, Math.min(from + batchSize, dirty.size()));
+
+                if (passed(deadlineNanos)) {
+                    batch.forEach(document -> unsaved.add(document.toJournalEntry()));
+                    continue;
+                }
+
+                List<CompletableFuture<?>> writes = new ArrayList<>(batch.size());
+                for (DirtyDocument<T> document : batch) {
+                    writes.add(write(writer, document.document()));
+                }
+                await(writes, deadlineNanos);
+
+                for (int i = 0; i < batch.size(); i++) {
+                    DirtyDocument<T> document = batch.get(i);
+                    CompletableFuture<?> write = writes.get(i);
+
+                    if (!write.isDone()) {
+                        // It may still land, and writing it again on replay is harmless
+                        unsaved.add(document.toJournalEntry());
+                    } else if (write.isCompletedExceptionally()) {
+                        write.exceptionally(throwable -> {
+                            log.warn("Failed to save document {} for repository {}", document.id(), repositoryName, throwable);
+                            return null;
+                        });
+                        unsaved.add(document.toJournalEntry());
+                        failed++;
+                    } else {
+                        flushed.put(document.id(), document.fingerprint());
+                        written++;
+                        bytes += document.bytes();
+                    }
+                }
+            }
+
+            long nanos = System.nanoTime() - start;
+            PrometheusMetrics.REPOSITORY_FLUSH_SECONDS.labels(repositoryName).observe(nanos / 1_000_000_000D);
+            PrometheusMetrics.REPOSITORY_FLUSH_BYTES.labels(repositoryName).inc(bytes);
+
+            return new FlushResult(documents.size(), dirty.size(), written, failed, dirty.size() - written - failed, bytes, nanos, unsaved);
+        }
+    }
+
+    private static <T> CompletableFuture<?> write(Function<T, CompletableFuture<?>> writer, T document) {
+        try {
+            CompletableFuture<?> write = writer.apply(document);
+            return write != null ? write : CompletableFuture.failedFuture(new IllegalStateException("Repository returned no write"));
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    /**
+     * Waits for every write to finish, or for the deadline. Failures are left for the caller to
+     * inspect per write.
+     */
+    private static void await(List<CompletableFuture<?>> writes, @Nullable Long deadlineNanos) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new));
+
+        try {
+            if (deadlineNanos == null) {
+                all.get();
+            } else {
+                all.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException exception) {
+            // Inspected per write
+        }
+    }
+
+    private static boolean passed(@Nullable Long deadlineNanos) {
+        return deadlineNanos != null && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    private long fingerprint(Object document) {
+        return fingerprint(serializer.apply(document).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 64-bit FNV-1a, wide enough that two different states of one document colliding is not a
+     * practical concern.
+     */
+    private static long fingerprint(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte value : bytes) {
+            hash ^= value & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    /**
+     * @param cached  documents in the cache when the flush started
+     * @param dirty   documents that differed from their last written state
+     * @param written dirty documents saved successfully
+     * @param failed  dirty documents whose save failed, left dirty for the next flush
+     * @param missed  dirty documents not saved before the deadline, left dirty for the next flush
+     * @param bytes   serialized size of the written documents
+     * @param nanos   time the whole flush took
+     * @param unsaved the failed and missed documents, ready to be journaled
+     */
+    public record FlushResult(int cached, int dirty, int written, int failed, int missed, long bytes, long nanos,
+                              List<RepositoryJournal.Entry> unsaved) {
+
+        String describe() {
+            if (dirty == 0) {
+                return "no changes";
+            }
+
+            String outcome = written + "/" + dirty + " changed documents saved (" + bytes + " bytes) in " + nanos / 1_000_000 + " ms";
+            if (failed > 0) {
+                outcome += ", " + failed + " failed";
+            }
+            if (missed > 0) {
+                outcome += ", " + missed + " missed the deadline";
+            }
+            return outcome;
+        }
+    }
+
+    private record DirtyDocument<T>(String id, T document, String serialized, long fingerprint, int bytes) {
+
+        RepositoryJournal.Entry toJournalEntry() {
+            return new RepositoryJournal.Entry(id, document.getClass().getName(), serialized);
+        }
+    }
+}
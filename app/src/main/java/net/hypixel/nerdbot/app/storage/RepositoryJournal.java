@@ -0,0 +1,124 @@
+package net.hypixel.nerdbot.app.storage;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A local, on-disk record of repository documents that could not be written to the database in
+ * time at shutdown, so they can be written on the next startup instead of being lost.
+ *
+ * <p>Each repository gets one file of JSON lines, each holding a document's ID, its model class and
+ * its serialized form. A file is written to a temporary sibling, forced to disk and then moved
+ * into place atomically, so a crash mid-write leaves either the previous journal or the new one,
+ * never a torn file.
+ */
+public class RepositoryJournal {
+
+    private static final String EXTENSION = ".jsonl";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private final Path directory;
+
+    public RepositoryJournal(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Replaces the repository's journal with the given entries.
+     */
+    public void write(String repositoryName, List<Entry> entries) throws IOException {
+        Files.createDirectories(directory);
+        Path target = file(repositoryName);
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_EXTENSION);
+
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : entries) {
+            JsonObject line = new JsonObject();
+            line.addProperty("id", entry.id());
+            line.addProperty("type", entry.type());
+            line.add("document", JsonParser.parseString(entry.json()));
+            lines.append(line).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return the names of the repositories with a journal waiting to be replayed
+     */
+    public List<String> repositoryNames() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                .filter(name -> name.endsWith(EXTENSION))
+                .map(name -> name.substring(0, name.length() - EXTENSION.length()))
+                .sorted()
+                .toList();
+        }
+    }
+
+    public List<Entry> read(String repositoryName) throws IOException {
+        Path file = file(repositoryName);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                JsonObject object = JsonParser.parseString(line).getAsJsonObject();
+                entries.add(new Entry(object.get("id").getAsString(), object.get("type").getAsString(), object.get("document").toString()));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Removes the repository's journal once everything in it has been written.
+     */
+    public void delete(String repositoryName) throws IOException {
+        Files.deleteIfExists(file(repositoryName));
+    }
+
+    private Path file(String repositoryName) {
+        return directory.resolve(repositoryName + EXTENSION);
+    }
+
+    /**
+     * @param id   the document's cache ID
+     * @param type the fully-qualified name of the document's model class
+     * @param json the document as serialized by the repositories
+     */
+    public record Entry(String id, String type, String json) {
+    }
+}
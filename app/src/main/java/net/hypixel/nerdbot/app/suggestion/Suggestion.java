@@ -10,17 +10,14 @@ import net.dv8tion.jda.api.entities.MessageReaction;
 import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
 import net.dv8tion.jda.api.entities.channel.forums.ForumTag;
 import net.dv8tion.jda.api.entities.emoji.Emoji;
-import net.dv8tion.jda.api.managers.channel.concrete.ThreadChannelManager;
 import net.hypixel.nerdbot.marmalade.EnumUtils;
 import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
-import net.hypixel.nerdbot.app.config.NerdBotConfig;
 import net.hypixel.nerdbot.discord.util.DiscordBotEnvironment;
 import net.hypixel.nerdbot.discord.util.DiscordUtils;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 @Getter
 @Slf4j
@@ -34,22 +31,27 @@ public class Suggestion {
     private final String guildId;
     private final OffsetDateTime timeCreated;
     private final String jumpUrl;
-    private final int agrees;
-    private final int disagrees;
-    private final int neutrals;
-    private final boolean greenlit;
+    private final SuggestionVotes votes;
+    private volatile boolean greenlit;
     private final boolean deleted;
     private final long lastUpdated = System.currentTimeMillis();
     private final long lastBump = System.currentTimeMillis();
     private final ChannelType channelType;
-    private boolean expired;
+    private volatile List<String> appliedTagNames;
+    private volatile boolean expired;
 
     public Suggestion(ThreadChannel thread) {
         this(thread, null);
     }
 
     public Suggestion(ThreadChannel thread, ChannelType channelType) {
-        NerdBotConfig botConfig = SkyBlockNerdsBot.config();
+        this(thread, channelType, DiscordUtils.getFirstMessage(thread.getId()));
+    }
+
+    /**
+     * @param firstMessage the thread's starter message, already read, or empty if it is gone
+     */
+    Suggestion(ThreadChannel thread, ChannelType channelType, Optional<Message> firstMessage) {
         this.threadId = thread.getId();
         this.parentId = thread.getParentChannel().asForumChannel().getId();
         this.threadName = thread.getName();
@@ -58,51 +60,23 @@ public class Suggestion {
         this.guildId = thread.getGuild().getId();
         this.timeCreated = thread.getTimeCreated();
         this.jumpUrl = String.format("https://discord.com/channels/%s/%s", this.getGuildId(), this.getThreadId());
-        this.greenlit = channelType == ChannelType.NORMAL && DiscordUtils.hasTagByName(thread, botConfig.getSuggestionConfig().getGreenlitTag());
         this.channelType = channelType == null ? SuggestionTypeResolver.getThreadSuggestionType(thread) : channelType;
+        this.appliedTagNames = thread.getAppliedTags().stream().map(ForumTag::getName).toList();
+        this.greenlit = this.hasGreenlitTag();
         this.expired = false;
 
-        // Activity
-        Message latestMessage = thread.getHistory().getMessageById(thread.getLatestMessageId());
-        if (latestMessage != null) {
-            long createdAt = latestMessage.getTimeCreated().toInstant().toEpochMilli();
-            long currentTime = System.currentTimeMillis();
-            long hoursAgo = TimeUnit.MILLISECONDS.toHours(currentTime - createdAt);
-            ThreadChannelManager threadManager = thread.getManager();
-            boolean changed = false;
-            long autoArchiveThreshold = channelType == ChannelType.NORMAL ? botConfig.getSuggestionConfig().getAutoArchiveThreshold() : botConfig.getAlphaProjectConfig().getAutoArchiveThreshold();
-            long autoLockThreshold = channelType == ChannelType.NORMAL ? botConfig.getSuggestionConfig().getAutoLockThreshold() : botConfig.getAlphaProjectConfig().getAutoLockThreshold();
-
-            if (hoursAgo >= autoArchiveThreshold) {
-                log.debug("Auto-archiving suggestion '{}' (ID: {}) due to inactivity. (Hours: {}, Auto Archive Threshold: {})", thread.getName(), thread.getId(), hoursAgo, autoArchiveThreshold);
-                threadManager = threadManager.setArchived(true);
-                changed = true;
-            }
-
-            if (hoursAgo >= autoLockThreshold) {
-                log.debug("Auto-locking suggestion '{}' (ID: {}) due to inactivity. (Hours: {}, Auto Archive Threshold: {})", thread.getName(), thread.getId(), hoursAgo, autoLockThreshold);
-                threadManager = threadManager.setLocked(true);
-                changed = true;
-            }
-
-            if (changed) {
-                threadManager.queue();
-            }
-        }
-
         // Message & Reactions
-        Optional<Message> firstMessage = this.getFirstMessage();
         if (firstMessage.isEmpty()) {
             this.deleted = true;
-            this.agrees = 0;
-            this.disagrees = 0;
-            this.neutrals = 0;
+            this.votes = new SuggestionVotes(0, 0, 0);
         } else {
             Message message = firstMessage.get();
             this.deleted = message.getIdLong() != thread.getIdLong();
-            this.agrees = getReactionCount(message, DiscordBotEnvironment.getBot().getConfig().getEmojiConfig().getAgreeEmojiId());
-            this.disagrees = getReactionCount(message, DiscordBotEnvironment.getBot().getConfig().getEmojiConfig().getDisagreeEmojiId());
-            this.neutrals = getReactionCount(message, DiscordBotEnvironment.getBot().getConfig().getEmojiConfig().getNeutralEmojiId());
+            this.votes = new SuggestionVotes(
+                getReactionCount(message, DiscordBotEnvironment.getBot().getConfig().getEmojiConfig().getAgreeEmojiId()),
+                getReactionCount(message, DiscordBotEnvironment.getBot().getConfig().getEmojiConfig().getDisagreeEmojiId()),
+                getReactionCount(message, DiscordBotEnvironment.getBot().getConfig().getEmojiConfig().getNeutralEmojiId())
+            );
         }
     }
 
@@ -116,6 +90,18 @@ public class Suggestion {
             .orElse(0);
     }
 
+    public int getAgrees() {
+        return this.votes.get(SuggestionVotes.Vote.AGREE);
+    }
+
+    public int getDisagrees() {
+        return this.votes.get(SuggestionVotes.Vote.DISAGREE);
+    }
+
+    public int getNeutrals() {
+        return this.votes.get(SuggestionVotes.Vote.NEUTRAL);
+    }
+
     public List<ForumTag> getAppliedTags() {
         ThreadChannel threadChannel = DiscordBotEnvironment.getBot().getJDA().getThreadChannelById(this.getThreadId());
         return threadChannel == null ? List.of() : threadChannel.getAppliedTags();
@@ -126,17 +112,38 @@ public class Suggestion {
     }
 
     public double getRatio() {
-        if (this.getAgrees() == 0 && this.getDisagrees() == 0) {
+        int agrees = this.getAgrees();
+        int disagrees = this.getDisagrees();
+
+        if (agrees == 0 && disagrees == 0) {
             return 0;
         }
 
-        return (double) this.getAgrees() / (this.getAgrees() + this.getDisagrees()) * 100.0;
+        return (double) agrees / (agrees + disagrees) * 100.0;
     }
 
     public boolean notDeleted() {
         return !this.isDeleted();
     }
 
+    void setAppliedTagNames(List<String> appliedTagNames) {
+        this.appliedTagNames = List.copyOf(appliedTagNames);
+        this.greenlit = this.hasGreenlitTag();
+    }
+
+    private boolean hasGreenlitTag() {
+        if (this.channelType != ChannelType.NORMAL) {
+            return false;
+        }
+
+        String greenlitTag = SkyBlockNerdsBot.config().getSuggestionConfig().getGreenlitTag();
+        if (greenlitTag == null || greenlitTag.isBlank()) {
+            return false;
+        }
+
+        return this.appliedTagNames.stream().anyMatch(greenlitTag::equalsIgnoreCase);
+    }
+
     void setExpired() {
         this.expired = true;
     }
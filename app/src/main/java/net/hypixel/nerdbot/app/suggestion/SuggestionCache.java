@@ -4,36 +4,74 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.channel.concrete.ForumChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
+import net.dv8tion.jda.api.entities.channel.forums.ForumTag;
 import net.hypixel.nerdbot.marmalade.collections.ArrayUtils;
 import net.hypixel.nerdbot.discord.cache.ChannelCache;
 import net.hypixel.nerdbot.app.config.AlphaProjectConfig;
 import net.hypixel.nerdbot.app.config.SuggestionConfig;
 import net.hypixel.nerdbot.app.SkyBlockNerdsBot;
+import net.hypixel.nerdbot.discord.util.DiscordBotEnvironment;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
+/**
+ * Cache of every suggestion thread in the suggestion, alpha and project forums.
+ *
+ * <p>With {@link SuggestionConfig#isIncrementalCacheUpdates() incremental updates} enabled, the
+ * cache is fully rebuilt once at startup and then kept current from Discord events: votes, tag
+ * changes and new or deleted threads update the affected entry directly, while changes that need a
+ * fresh look at Discord only {@link #markDirty(String) mark} the thread. A periodic
+ * {@link #reconcile()} rebuilds just the marked threads and picks up active threads whose create
+ * event was missed, and less often re-counts the votes of threads that received
+ * {@link #applyVote(String, SuggestionVotes.Vote, int) vote deltas}. A full rebuild still runs at a
+ * much longer interval as a safety net.
+ */
 @Slf4j
 public class SuggestionCache extends TimerTask {
 
-    private final Map<String, Suggestion> cache = new HashMap<>();
+    private final SuggestionIndex cache = new SuggestionIndex();
+    private final Set<String> dirtyThreadIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> votedThreadIds = ConcurrentHashMap.newKeySet();
+    private volatile long lastVoteReconcile = System.currentTimeMillis();
     @Getter
     private final Timer timer = new Timer();
     @Getter
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
     @Getter
-    private boolean updating = false;
+    private volatile boolean updating = false;
 
     public SuggestionCache() {
-        this.timer.scheduleAtFixedRate(this, 0, Duration.ofMinutes(60).toMillis());
+        SuggestionConfig suggestionConfig = SkyBlockNerdsBot.config().getSuggestionConfig();
+
+        if (!suggestionConfig.isIncrementalCacheUpdates()) {
+            this.timer.scheduleAtFixedRate(this, 0, Duration.ofMinutes(60).toMillis());
+            return;
+        }
+
+        // Both tasks share the timer thread, so a reconcile never overlaps a full rebuild
+        long fullRefreshInterval = Duration.ofHours(Math.max(1, suggestionConfig.getCacheFullRefreshIntervalHours())).toMillis();
+        long reconcileInterval = Duration.ofMinutes(Math.max(1, suggestionConfig.getCacheReconcileIntervalMinutes())).toMillis();
+
+        this.timer.scheduleAtFixedRate(this, 0, fullRefreshInterval);
+        this.timer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                reconcile();
+            }
+        }, reconcileInterval, reconcileInterval);
     }
 
     @Override
@@ -42,34 +80,20 @@ public class SuggestionCache extends TimerTask {
             log.info("Started suggestion cache update.");
 
             this.updating = true;
-            this.cache.forEach((key, suggestion) -> suggestion.setExpired());
-
-            SuggestionConfig suggestionConfig = SkyBlockNerdsBot.config().getSuggestionConfig();
-            AlphaProjectConfig alphaProjectConfig = SkyBlockNerdsBot.config().getAlphaProjectConfig();
-
-            // Suggestions
-            Optional<ForumChannel> suggestionChannel = ChannelCache.getForumChannelById(suggestionConfig.getForumChannelId());
-            suggestionChannel.ifPresent(forumChannel -> this.loadSuggestions(forumChannel, Suggestion.ChannelType.NORMAL));
-
-            // Alpha Suggestions
-            ArrayUtils.safeArrayStream(alphaProjectConfig.getAlphaForumIds())
-                .map(ChannelCache::getForumChannelById)
-                .flatMap(Optional::stream)
-                .filter(Objects::nonNull)
-                .forEach(forumChannel -> this.loadSuggestions(forumChannel, Suggestion.ChannelType.ALPHA));
+            // Everything is rebuilt below; threads marked after this point are picked up by the next reconcile
+            this.dirtyThreadIds.clear();
+            this.votedThreadIds.clear();
+            this.lastVoteReconcile = System.currentTimeMillis();
+            this.cache.values().forEach(Suggestion::setExpired);
 
-            // Project Suggestions
-            ArrayUtils.safeArrayStream(alphaProjectConfig.getProjectForumIds())
-                .map(ChannelCache::getForumChannelById)
-                .flatMap(Optional::stream)
-                .filter(Objects::nonNull)
-                .forEach(forumChannel -> this.loadSuggestions(forumChannel, Suggestion.ChannelType.PROJECT));
+            forEachSuggestionForum(this::loadSuggestions);
 
             log.info("Removing expired suggestions.");
-            new ArrayList<>(cache.values())
+            new ArrayList<>(this.cache.values())
                 .stream()
                 .filter(Suggestion::isExpired)
-                .forEach(suggestion -> this.removeSuggestion(suggestion.getThreadName(), suggestion.getThreadId()));
+                .filter(this.cache::removeIfCurrent)
+                .forEach(suggestion -> log.debug("Removed expired suggestion '{}' (ID: {}) from the suggestion cache.", suggestion.getThreadName(), suggestion.getThreadId()));
 
             log.info("Finished caching suggestions.");
             this.initialized = true;
@@ -79,6 +103,142 @@ public class SuggestionCache extends TimerTask {
         }
     }
 
+    /**
+     * Rebuilds only the suggestions {@link #markDirty(String) marked} as changed since the last pass,
+     * and adds any active thread in a suggestion forum that is missing from the cache. Active threads
+     * come from JDA's own cache, so a pass with nothing to do makes no requests to Discord.
+     */
+    public void reconcile() {
+        if (!this.initialized) {
+            return; // The initial full load has not finished yet
+        }
+
+        try {
+            this.queueVoteReconciliation();
+
+            int rebuilt = 0;
+            int pending = 0;
+
+            for (String threadId : List.copyOf(this.dirtyThreadIds)) {
+                // Unmarked before the rebuild so a change arriving meanwhile marks it again
+                this.dirtyThreadIds.remove(threadId);
+
+                // Archived threads are not in JDA's cache; they stay marked until the next full rebuild reads them
+                ThreadChannel thread = DiscordBotEnvironment.getBot().getJDA().getThreadChannelById(threadId);
+                if (thread == null || !this.rebuild(thread, null)) {
+                    this.dirtyThreadIds.add(threadId);
+                    pending++;
+                    continue;
+                }
+
+                rebuilt++;
+            }
+
+            AtomicInteger added = new AtomicInteger();
+            forEachSuggestionForum((forumChannel, channelType) -> forumChannel.getThreadChannels().stream()
+                .filter(thread -> this.cache.get(thread.getId()) == null)
+                .filter(thread -> this.rebuild(thread, channelType))
+                .forEach(thread -> added.incrementAndGet()));
+
+            if (rebuilt > 0 || added.get() > 0) {
+                log.info("Reconciled suggestion cache: rebuilt {} changed suggestion(s), added {} missing suggestion(s), {} still pending.", rebuilt, added.get(), pending);
+            }
+        } catch (Exception exception) {
+            log.error("Failed to reconcile suggestion cache!", exception);
+        }
+    }
+
+    /**
+     * Rebuilds one suggestion from its thread, so a thread that fails to load does not stop the
+     * rest of a reconcile pass.
+     *
+     * @return {@code true} if the suggestion was rebuilt
+     */
+    private boolean rebuild(ThreadChannel thread, @Nullable Suggestion.ChannelType channelType) {
+        try {
+            this.cache.put(new Suggestion(thread, channelType));
+            return true;
+        } catch (Exception exception) {
+            log.warn("Failed to rebuild suggestion '{}' (ID: {}), retrying on the next reconcile.", thread.getName(), thread.getId(), exception);
+            return false;
+        }
+    }
+
+    /**
+     * Once every vote reconcile interval, marks every suggestion that received vote deltas so its
+     * counts are re-read from Discord, correcting any drift from missed reaction events.
+     */
+    private void queueVoteReconciliation() {
+        long interval = Duration.ofMinutes(Math.max(1, SkyBlockNerdsBot.config().getSuggestionConfig().getVoteReconcileIntervalMinutes())).toMillis();
+        long now = System.currentTimeMillis();
+
+        if (now - this.lastVoteReconcile < interval) {
+            return;
+        }
+
+        this.lastVoteReconcile = now;
+        Iterator<String> votedIterator = this.votedThreadIds.iterator();
+
+        while (votedIterator.hasNext()) {
+            this.dirtyThreadIds.add(votedIterator.next());
+            votedIterator.remove();
+        }
+    }
+
+    /**
+     * Applies a single reaction change to a cached suggestion's vote counts without any request to
+     * Discord. Suggestions that are not cached are marked for reconciliation instead.
+     *
+     * @param delta {@code 1} for an added reaction, {@code -1} for a removed one
+     */
+    public void applyVote(String threadId, SuggestionVotes.Vote vote, int delta) {
+        Suggestion suggestion = this.cache.get(threadId);
+
+        if (suggestion == null) {
+            this.markDirty(threadId);
+            return;
+        }
+
+        int count = suggestion.getVotes().apply(vote, delta);
+        this.votedThreadIds.add(threadId);
+        log.debug("Applied {} {} vote to suggestion '{}' (ID: {}), now {}.", delta > 0 ? "+" + delta : delta, vote.name().toLowerCase(), suggestion.getThreadName(), threadId, count);
+    }
+
+    /**
+     * Marks a suggestion as changed so the next {@link #reconcile()} rebuilds it from Discord.
+     */
+    public void markDirty(String threadId) {
+        if (this.dirtyThreadIds.add(threadId)) {
+            log.debug("Marked suggestion (ID: {}) for reconciliation.", threadId);
+        }
+    }
+
+    /**
+     * Runs {@code action} for every configured suggestion, alpha and project forum that exists.
+     */
+    public static void forEachSuggestionForum(BiConsumer<ForumChannel, Suggestion.ChannelType> action) {
+        SuggestionConfig suggestionConfig = SkyBlockNerdsBot.config().getSuggestionConfig();
+        AlphaProjectConfig alphaProjectConfig = SkyBlockNerdsBot.config().getAlphaProjectConfig();
+
+        // Suggestions
+        Optional<ForumChannel> suggestionChannel = ChannelCache.getForumChannelById(suggestionConfig.getForumChannelId());
+        suggestionChannel.ifPresent(forumChannel -> action.accept(forumChannel, Suggestion.ChannelType.NORMAL));
+
+        // Alpha Suggestions
+        ArrayUtils.safeArrayStream(alphaProjectConfig.getAlphaForumIds())
+            .map(ChannelCache::getForumChannelById)
+            .flatMap(Optional::stream)
+            .filter(Objects::nonNull)
+            .forEach(forumChannel -> action.accept(forumChannel, Suggestion.ChannelType.ALPHA));
+
+        // Project Suggestions
+        ArrayUtils.safeArrayStream(alphaProjectConfig.getProjectForumIds())
+            .map(ChannelCache::getForumChannelById)
+            .flatMap(Optional::stream)
+            .filter(Objects::nonNull)
+            .forEach(forumChannel -> action.accept(forumChannel, Suggestion.ChannelType.PROJECT));
+    }
+
     private void loadSuggestions(ForumChannel forumChannel, Suggestion.ChannelType channelType) {
         try {
             Stream<ThreadChannel> unarchivedPosts = forumChannel.getThreadChannels().stream().sorted(
@@ -89,7 +249,7 @@ public class SuggestionCache extends TimerTask {
                 .distinct()
                 .forEach(threadChannel -> {
                     Suggestion suggestion = new Suggestion(threadChannel, channelType);
-                    this.cache.put(threadChannel.getId(), suggestion);
+                    this.cache.put(suggestion);
                     log.debug("Added existing {} suggestion: '{}' (ID: {}) to the suggestion cache.", channelType.getName().toLowerCase(), threadChannel.getName(), threadChannel.getId());
                 });
         } catch (Exception exception) {
@@ -98,7 +258,9 @@ public class SuggestionCache extends TimerTask {
     }
 
     public void addSuggestion(ThreadChannel thread) {
-        this.cache.put(thread.getId(), new Suggestion(thread));
+        this.dirtyThreadIds.remove(thread.getId());
+        this.votedThreadIds.remove(thread.getId());
+        this.cache.put(new Suggestion(thread));
         log.debug("Added new suggestion '{}' (ID: {}) to the suggestion cache.", thread.getName(), thread.getId());
     }
 
@@ -106,14 +268,36 @@ public class SuggestionCache extends TimerTask {
         return this.cache.get(id);
     }
 
+    /**
+     * @return every cached suggestion, most recent first
+     */
     public List<Suggestion> getSuggestions() {
-        return this.cache.values()
-            .stream()
-            .sorted((o1, o2) -> Long.compare( // Sort by most recent
-                o2.getTimeCreated().toInstant().toEpochMilli(),
-                o1.getTimeCreated().toInstant().toEpochMilli()
-            ))
-            .toList();
+        return this.cache.all();
+    }
+
+    /**
+     * @return the given user's cached suggestions, most recent first
+     */
+    public List<Suggestion> getSuggestionsByOwner(long ownerId) {
+        return this.cache.findByOwner(ownerId);
+    }
+
+    /**
+     * Looks up suggestions through the cache's indexes rather than scanning every suggestion.
+     *
+     * @param channelType the channel type to match, or {@code null} for any
+     * @param ownerId     the owner to match, or {@code null} for any
+     * @param includeTags tag names a suggestion must all have (case-insensitive)
+     * @param excludeTags tag names a suggestion must not have (case-insensitive)
+     *
+     * @return the matching suggestions, most recent first
+     */
+    public List<Suggestion> findSuggestions(@Nullable Suggestion.ChannelType channelType, @Nullable Long ownerId, List<String> includeTags, List<String> excludeTags) {
+        return this.cache.find(channelType, ownerId, includeTags, excludeTags);
+    }
+
+    public int size() {
+        return this.cache.size();
     }
 
     public void removeSuggestion(ThreadChannel threadChannel) {
@@ -121,12 +305,27 @@ public class SuggestionCache extends TimerTask {
     }
 
     public void removeSuggestion(String threadName, String threadId) {
+        this.dirtyThreadIds.remove(threadId);
+        this.votedThreadIds.remove(threadId);
         this.cache.remove(threadId);
         log.debug("Removed suggestion '{}' (ID: {}) from the suggestion cache.", threadName, threadId);
     }
 
     public void updateSuggestion(ThreadChannel thread) {
-        this.cache.put(thread.getId(), new Suggestion(thread));
+        this.dirtyThreadIds.remove(thread.getId());
+        this.votedThreadIds.remove(thread.getId());
+        this.cache.put(new Suggestion(thread));
         log.debug("Updated existing suggestion: '{}' (ID: {}) in the suggestion cache.", thread.getName(), thread.getId());
     }
+
+    /**
+     * Re-indexes a cached suggestion under its thread's current tags without rebuilding it.
+     */
+    public void updateAppliedTags(ThreadChannel thread) {
+        List<String> tagNames = thread.getAppliedTags().stream().map(ForumTag::getName).toList();
+
+        if (this.cache.updateAppliedTags(thread.getId(), tagNames)) {
+            log.debug("Updated tags of suggestion '{}' (ID: {}) in the suggestion cache.", thread.getName(), thread.getId());
+        }
+    }
 }
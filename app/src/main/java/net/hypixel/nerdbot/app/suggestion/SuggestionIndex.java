@@ -0,0 +1,210 @@
+package net.hypixel.nerdbot.app.suggestion;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * Concurrent store of {@link Suggestion}s with secondary indexes by owner, channel type and applied
+ * tag, each kept sorted newest-first.
+ *
+ * <p>Writes are serialized so every index moves together, while reads go straight to the
+ * concurrent collections and never block. Every index is ordered by creation time, so lookups
+ * return already-sorted results instead of re-sorting the whole cache per call.
+ */
+class SuggestionIndex {
+
+    /**
+     * Newest first, with the thread ID as a tie-breaker so two suggestions are only "equal" to the
+     * sorted sets when they are the same thread.
+     */
+    static final Comparator<Suggestion> NEWEST_FIRST = Comparator
+        .comparingLong((Suggestion suggestion) -> suggestion.getTimeCreated().toInstant().toEpochMilli())
+        .reversed()
+        .thenComparing(Suggestion::getThreadId);
+
+    private final Map<String, Suggestion> byThreadId = new ConcurrentHashMap<>();
+    private final NavigableSet<Suggestion> byCreation = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+    private final Map<Long, NavigableSet<Suggestion>> byOwner = new ConcurrentHashMap<>();
+    private final Map<Suggestion.ChannelType, NavigableSet<Suggestion>> byChannelType = new EnumMap<>(Suggestion.ChannelType.class);
+    private final Map<String, NavigableSet<Suggestion>> byTag = new ConcurrentHashMap<>();
+
+    SuggestionIndex() {
+        for (Suggestion.ChannelType channelType : Suggestion.ChannelType.values()) {
+            byChannelType.put(channelType, new ConcurrentSkipListSet<>(NEWEST_FIRST));
+        }
+    }
+
+    @Nullable
+    Suggestion get(String threadId) {
+        return byThreadId.get(threadId);
+    }
+
+    Collection<Suggestion> values() {
+        return byThreadId.values();
+    }
+
+    int size() {
+        return byThreadId.size();
+    }
+
+    /**
+     * Inserts or replaces the suggestion for its thread.
+     */
+    synchronized void put(Suggestion suggestion) {
+        Suggestion previous = byThreadId.put(suggestion.getThreadId(), suggestion);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(suggestion);
+    }
+
+    @Nullable
+    synchronized Suggestion remove(String threadId) {
+        Suggestion removed = byThreadId.remove(threadId);
+        if (removed != null) {
+            unindex(removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the suggestion only if it is still the cached instance for its thread, so a newer
+     * instance stored concurrently is left alone.
+     */
+    synchronized boolean removeIfCurrent(Suggestion expected) {
+        if (!byThreadId.remove(expected.getThreadId(), expected)) {
+            return false;
+        }
+
+        unindex(expected);
+        return true;
+    }
+
+    /**
+     * Moves a cached suggestion to a new set of applied tags.
+     *
+     * @return {@code false} if the thread is not cached
+     */
+    synchronized boolean updateAppliedTags(String threadId, List<String> appliedTagNames) {
+        Suggestion suggestion = byThreadId.get(threadId);
+        if (suggestion == null) {
+            return false;
+        }
+
+        removeFromTagIndex(suggestion);
+        suggestion.setAppliedTagNames(appliedTagNames);
+        addToTagIndex(suggestion);
+        return true;
+    }
+
+    /**
+     * @return every suggestion, newest first
+     */
+    List<Suggestion> all() {
+        return List.copyOf(byCreation);
+    }
+
+    /**
+     * @return the given owner's suggestions, newest first
+     */
+    List<Suggestion> findByOwner(long ownerId) {
+        NavigableSet<Suggestion> suggestions = byOwner.get(ownerId);
+        return suggestions == null ? List.of() : List.copyOf(suggestions);
+    }
+
+    /**
+     * Finds suggestions matching every given filter, newest first. The most selective applicable
+     * index (owner, then an include tag, then channel type) is scanned and the remaining filters
+     * are checked against each candidate's own fields.
+     *
+     * @param channelType the channel type to match, or {@code null} for any
+     * @param ownerId     the owner to match, or {@code null} for any
+     * @param includeTags tag names a suggestion must all have (case-insensitive)
+     * @param excludeTags tag names a suggestion must not have (case-insensitive)
+     */
+    List<Suggestion> find(@Nullable Suggestion.ChannelType channelType, @Nullable Long ownerId, List<String> includeTags, List<String> excludeTags) {
+        Set<String> include = normalizeTags(includeTags);
+        Set<String> exclude = normalizeTags(excludeTags);
+
+        // ConcurrentSkipListSet#size is a full traversal, so pick by expected selectivity instead
+        Collection<Suggestion> candidates;
+        if (ownerId != null) {
+            candidates = byOwner.getOrDefault(ownerId, Collections.emptyNavigableSet());
+        } else if (!include.isEmpty()) {
+            candidates = byTag.getOrDefault(include.iterator().next(), Collections.emptyNavigableSet());
+        } else if (channelType != null) {
+            candidates = byChannelType.get(channelType);
+        } else {
+            candidates = byCreation;
+        }
+
+        List<Suggestion> results = new ArrayList<>();
+        for (Suggestion suggestion : candidates) {
+            if (channelType != null && suggestion.getChannelType() != channelType) {
+                continue;
+            }
+            if (ownerId != null && suggestion.getOwnerIdLong() != ownerId) {
+                continue;
+            }
+
+            Set<String> tags = normalizeTags(suggestion.getAppliedTagNames());
+            if (tags.containsAll(include) && exclude.stream().noneMatch(tags::contains)) {
+                results.add(suggestion);
+            }
+        }
+
+        return results;
+    }
+
+    private void index(Suggestion suggestion) {
+        byCreation.add(suggestion);
+        byOwner.computeIfAbsent(suggestion.getOwnerIdLong(), key -> new ConcurrentSkipListSet<>(NEWEST_FIRST)).add(suggestion);
+        byChannelType.get(suggestion.getChannelType()).add(suggestion);
+        addToTagIndex(suggestion);
+    }
+
+    private void unindex(Suggestion suggestion) {
+        byCreation.remove(suggestion);
+        byChannelType.get(suggestion.getChannelType()).remove(suggestion);
+        removeFrom(byOwner, suggestion.getOwnerIdLong(), suggestion);
+        removeFromTagIndex(suggestion);
+    }
+
+    private void addToTagIndex(Suggestion suggestion) {
+        for (String tag : normalizeTags(suggestion.getAppliedTagNames())) {
+            byTag.computeIfAbsent(tag, key -> new ConcurrentSkipListSet<>(NEWEST_FIRST)).add(suggestion);
+        }
+    }
+
+    private void removeFromTagIndex(Suggestion suggestion) {
+        for (String tag : normalizeTags(suggestion.getAppliedTagNames())) {
+            removeFrom(byTag, tag, suggestion);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, NavigableSet<Suggestion>> index, K key, Suggestion suggestion) {
+        index.computeIfPresent(key, (ignored, suggestions) -> {
+            suggestions.remove(suggestion);
+            return suggestions.isEmpty() ? null : suggestions;
+        });
+    }
+
+    private static Set<String> normalizeTags(Collection<String> tags) {
+        return tags.stream()
+            .map(tag -> tag.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,73 @@
+package net.hypixel.nerdbot.app.suggestion;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.hypixel.nerdbot.discord.config.EmojiConfig;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Live vote counts for a suggestion's starter message.
+ *
+ * <p>Counts are seeded from the message's reactions when the {@link Suggestion} is built, then kept
+ * current by applying reaction add/remove deltas, so a vote never needs a request to Discord.
+ */
+public class SuggestionVotes {
+
+    private final AtomicInteger agrees;
+    private final AtomicInteger disagrees;
+    private final AtomicInteger neutrals;
+
+    public SuggestionVotes(int agrees, int disagrees, int neutrals) {
+        this.agrees = new AtomicInteger(agrees);
+        this.disagrees = new AtomicInteger(disagrees);
+        this.neutrals = new AtomicInteger(neutrals);
+    }
+
+    /**
+     * Adds {@code delta} to the count for the given vote. Counts never drop below zero, which can
+     * otherwise happen when a removal arrives for a reaction added before the counts were seeded.
+     *
+     * @return the new count
+     */
+    public int apply(Vote vote, int delta) {
+        return this.counter(vote).updateAndGet(count -> Math.max(0, count + delta));
+    }
+
+    public int get(Vote vote) {
+        return this.counter(vote).get();
+    }
+
+    private AtomicInteger counter(Vote vote) {
+        return switch (vote) {
+            case AGREE -> this.agrees;
+            case DISAGREE -> this.disagrees;
+            case NEUTRAL -> this.neutrals;
+        };
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Vote {
+
+        AGREE(EmojiConfig::getAgreeEmojiId),
+        DISAGREE(EmojiConfig::getDisagreeEmojiId),
+        NEUTRAL(EmojiConfig::getNeutralEmojiId);
+
+        private static final Vote[] VALUES = values();
+
+        private final Function<EmojiConfig, String> emojiIdSupplier;
+
+        /**
+         * @return the vote the given custom emoji stands for, if it is one of the configured vote emojis
+         */
+        public static Optional<Vote> fromEmojiId(EmojiConfig emojiConfig, String emojiId) {
+            return Arrays.stream(VALUES)
+                .filter(vote -> emojiId.equalsIgnoreCase(vote.getEmojiIdSupplier().apply(emojiConfig)))
+                .findFirst();
+        }
+    }
+}
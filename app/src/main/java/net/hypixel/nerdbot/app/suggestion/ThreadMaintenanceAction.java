@@ -0,0 +1,28 @@
+package net.hypixel.nerdbot.app.suggestion;
+
+/**
+ * The archive and lock changes the suggestion maintenance pass wants to make to a single thread.
+ *
+ * @param archive whether the thread should be archived
+ * @param lock    whether the thread should be locked
+ */
+public record ThreadMaintenanceAction(boolean archive, boolean lock) {
+
+    public static final ThreadMaintenanceAction NONE = new ThreadMaintenanceAction(false, false);
+
+    /**
+     * Decides what to change on a thread that has been inactive for {@code hoursInactive} hours.
+     * A threshold of zero or less disables that action, and a thread is never asked to move into a
+     * state it is already in.
+     */
+    public static ThreadMaintenanceAction decide(boolean archived, boolean locked, long hoursInactive, int autoArchiveThreshold, int autoLockThreshold) {
+        boolean archive = !archived && autoArchiveThreshold > 0 && hoursInactive >= autoArchiveThreshold;
+        boolean lock = !locked && autoLockThreshold > 0 && hoursInactive >= autoLockThreshold;
+
+        return archive || lock ? new ThreadMaintenanceAction(archive, lock) : NONE;
+    }
+
+    public boolean isEmpty() {
+        return !this.archive && !this.lock;
+    }
+}
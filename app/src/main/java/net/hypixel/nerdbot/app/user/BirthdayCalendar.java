@@ -0,0 +1,101 @@
+package net.hypixel.nerdbot.app.user;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Calendar index of upcoming birthdays, bucketed by announcement time.
+ *
+ * <p>Each user occupies exactly one bucket, the first slot starting at or after their next
+ * birthday starts, so scheduling, rescheduling and cancelling are map operations with no per-user
+ * thread or timer. A periodic tick drains every bucket that has come due in one call to
+ * {@link #pollDue(long)}, which lets all of a slot's birthdays be announced together. Rounding up
+ * rather than down means a birthday is never announced before it has started, even in timezones
+ * whose midnight falls part way through a slot.
+ */
+public class BirthdayCalendar {
+
+    private final long bucketMillis;
+    private final NavigableMap<Long, Set<String>> buckets = new TreeMap<>();
+    private final Map<String, Long> occurrenceByUser = new HashMap<>();
+
+    /**
+     * @param bucketSize the width of one calendar slot; birthdays are announced at the start of the
+     *                   first slot at or after they start
+     */
+    public BirthdayCalendar(Duration bucketSize) {
+        this.bucketMillis = bucketSize.toMillis();
+    }
+
+    /**
+     * Places a user in the first slot starting at or after {@code occurrenceMillis}, moving them if
+     * they were already scheduled.
+     */
+    public synchronized void schedule(String userId, long occurrenceMillis) {
+        cancel(userId);
+
+        buckets.computeIfAbsent(bucket(occurrenceMillis), key -> new LinkedHashSet<>()).add(userId);
+        occurrenceByUser.put(userId, occurrenceMillis);
+    }
+
+    /**
+     * Removes a user from the calendar.
+     *
+     * @return {@code true} if the user was scheduled
+     */
+    public synchronized boolean cancel(String userId) {
+        Long occurrence = occurrenceByUser.remove(userId);
+        if (occurrence == null) {
+            return false;
+        }
+
+        long bucket = bucket(occurrence);
+        Set<String> users = buckets.get(bucket);
+        users.remove(userId);
+        if (users.isEmpty()) {
+            buckets.remove(bucket);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes and returns every birthday whose slot starts at or before {@code nowMillis}, in slot
+     * order.
+     */
+    public synchronized List<Occurrence> pollDue(long nowMillis) {
+        long currentBucket = Math.floorDiv(nowMillis, bucketMillis);
+        NavigableMap<Long, Set<String>> due = buckets.headMap(currentBucket, true);
+        List<Occurrence> occurrences = new ArrayList<>();
+
+        due.values().forEach(users -> users.forEach(userId -> occurrences.add(new Occurrence(userId, occurrenceByUser.remove(userId)))));
+        due.clear();
+
+        return occurrences;
+    }
+
+    /**
+     * @return how many birthdays are queued
+     */
+    public synchronized int size() {
+        return occurrenceByUser.size();
+    }
+
+    private long bucket(long occurrenceMillis) {
+        return Math.ceilDiv(occurrenceMillis, bucketMillis);
+    }
+
+    /**
+     * @param userId           the user whose birthday it is
+     * @param occurrenceMillis when their birthday started
+     */
+    public record Occurrence(String userId, long occurrenceMillis) {
+    }
+}
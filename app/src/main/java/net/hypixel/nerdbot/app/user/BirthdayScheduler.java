@@ -2,74 +2,204 @@ package net.hypixel.nerdbot.app.user;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
 import net.hypixel.nerdbot.discord.cache.ChannelCache;
+import net.hypixel.nerdbot.marmalade.concurrent.ScheduledTask;
 import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
 import net.hypixel.nerdbot.marmalade.storage.database.model.user.birthday.BirthdayData;
+import net.hypixel.nerdbot.marmalade.storage.database.repository.DiscordUserRepository;
 import net.hypixel.nerdbot.discord.util.DiscordBotEnvironment;
 
-import java.util.Calendar;
-import java.util.Date;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
+/**
+ * Announces birthdays from a single {@link BirthdayCalendar} instead of one timer per user.
+ *
+ * <p>Birthdays are bucketed by the first hour starting at or after their day starts in the user's
+ * own timezone, and one task drains the due buckets at the top of every hour. An hourly (rather
+ * than daily) tick keeps announcements within the hour after the user's local midnight, and never
+ * before it, since birthday timezones are configurable per user and not all of them are a whole
+ * number of hours from UTC. Everyone due in the same hour is announced in one batch, and each
+ * announced user is put straight back into the calendar for the year after the birthday just
+ * announced.
+ */
 @UtilityClass
 @Slf4j
 public class BirthdayScheduler {
 
+    private static final Duration TICK = Duration.ofHours(1);
+    private static final int MAX_MESSAGE_LENGTH = 2_000;
+
+    private final BirthdayCalendar calendar = new BirthdayCalendar(TICK);
+    private ScheduledTask tickTask;
+
+    /**
+     * Starts the hourly tick. Safe to call more than once.
+     */
+    public synchronized void start() {
+        if (tickTask != null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long untilNextHour = TICK.toMillis() - Math.floorMod(now, TICK.toMillis());
+        tickTask = ScheduledTask.create("birthday-scheduler", () -> tick(), Duration.ofMillis(untilNextHour), TICK);
+        tickTask.start();
+    }
+
+    public synchronized void stop() {
+        if (tickTask != null) {
+            tickTask.stop();
+            tickTask = null;
+        }
+    }
+
+    /**
+     * Queues (or re-queues) the user's next birthday. Users without a birthday are removed from the
+     * calendar.
+     */
     public void schedule(DiscordUser discordUser) {
+        schedule(discordUser, System.currentTimeMillis());
+    }
+
+    /**
+     * Queues the user's first birthday after {@code after}.
+     */
+    private void schedule(DiscordUser discordUser, long after) {
         BirthdayData birthdayData = discordUser.getBirthdayData();
 
-        if (birthdayData == null || !birthdayData.isBirthdaySet()) {
+        if (birthdayData == null || !birthdayData.isBirthdaySet() || birthdayData.getBirthdayThisYear() == null) {
+            cancel(discordUser);
             return;
         }
 
-        Date nextBirthday = birthdayData.getBirthdayThisYear();
-        if (nextBirthday == null) {
-            return;
+        long nextBirthday = nextOccurrence(birthdayData, after);
+        calendar.schedule(discordUser.getDiscordId(), nextBirthday);
+        PrometheusMetrics.BIRTHDAYS_QUEUED_AMOUNT.set(calendar.size());
+        log.debug("Scheduled next birthday for {} at {}", discordUser.getDiscordId(), Instant.ofEpochMilli(nextBirthday));
+    }
+
+    public void cancel(DiscordUser discordUser) {
+        if (calendar.cancel(discordUser.getDiscordId())) {
+            PrometheusMetrics.BIRTHDAYS_QUEUED_AMOUNT.set(calendar.size());
         }
+    }
 
-        if (birthdayData.getTimer() != null) {
-            birthdayData.getTimer().cancel();
+    /**
+     * @return how many birthdays are queued
+     */
+    public int getQueuedCount() {
+        return calendar.size();
+    }
+
+    private void tick() {
+        DiscordUserRepository discordUserRepository = DiscordBotEnvironment.getBot().getDatabase().getRepositoryManager().getRepository(DiscordUserRepository.class);
+        List<DiscordUser> birthdayUsers = pollDue(System.currentTimeMillis(), userId -> discordUserRepository.findById(userId).toOptional());
+
+        if (!birthdayUsers.isEmpty()) {
+            announce(birthdayUsers);
+            log.info("Announced {} birthday(s), {} birthday(s) queued", birthdayUsers.size(), calendar.size());
         }
+    }
+
+    /**
+     * Takes every birthday that has started by {@code now} off the calendar and queues each user's
+     * following birthday, counted from the birthday just due rather than from {@code now}, so it
+     * can never land back in a slot that is already being announced.
+     *
+     * @param users looks up a user by Discord ID
+     * @return the users whose birthday it is
+     */
+    List<DiscordUser> pollDue(long now, Function<String, Optional<DiscordUser>> users) {
+        List<DiscordUser> birthdayUsers = new ArrayList<>();
 
-        Timer timer = new Timer();
-        birthdayData.setTimer(timer);
-        timer.schedule(new BirthdayTask(discordUser, nextBirthday), nextBirthday);
+        for (BirthdayCalendar.Occurrence occurrence : calendar.pollDue(now)) {
+            Optional<DiscordUser> user = users.apply(occurrence.userId())
+                .filter(discordUser -> discordUser.getBirthdayData() != null && discordUser.getBirthdayData().isBirthdaySet());
+
+            if (user.isPresent()) {
+                birthdayUsers.add(user.get());
+                schedule(user.get(), occurrence.occurrenceMillis());
+            }
+        }
+
+        PrometheusMetrics.BIRTHDAYS_QUEUED_AMOUNT.set(calendar.size());
+        return birthdayUsers;
     }
 
-    private static class BirthdayTask extends TimerTask {
+    private void announce(List<DiscordUser> users) {
+        String channelId = DiscordBotEnvironment.getBot().getConfig().getChannelConfig().getBirthdayNotificationChannelId();
+
+        if (users.isEmpty() || channelId == null || channelId.isBlank()) {
+            return;
+        }
 
-        private final DiscordUser user;
-        private final Date date;
+        List<String> lines = users.stream().map(BirthdayScheduler::formatBirthdayLine).toList();
 
-        private BirthdayTask(DiscordUser user, Date date) {
-            this.user = user;
-            this.date = date;
+        ChannelCache.getTextChannelById(channelId).ifPresentOrElse(channel -> {
+            joinIntoMessages(lines).forEach(message -> channel.sendMessage(message).queue());
+            log.info("Sent birthday messages for {} user(s)", users.size());
+        }, () -> log.warn("Cannot find channel to send birthday messages for {} user(s)", users.size()));
+    }
+
+    private String formatBirthdayLine(DiscordUser user) {
+        BirthdayData birthdayData = user.getBirthdayData();
+        String message = "Happy birthday <@%s>!";
+        if (birthdayData.isShouldAnnounceAge()) {
+            message += " You are now %d years old!";
         }
+        return String.format(message, user.getDiscordId(), birthdayData.getAge());
+    }
 
-        @Override
-        public void run() {
-            String channelId = DiscordBotEnvironment.getBot().getConfig().getChannelConfig().getBirthdayNotificationChannelId();
-            BirthdayData birthdayData = user.getBirthdayData();
-
-            if (channelId != null && !channelId.isBlank()) {
-                ChannelCache.getTextChannelById(channelId).ifPresentOrElse(channel -> {
-                    String message = "Happy birthday <@%s>!";
-                    if (birthdayData.isShouldAnnounceAge()) {
-                        message += " You are now %d years old!";
-                    }
-                    channel.sendMessage(String.format(message, user.getDiscordId(), birthdayData.getAge())).queue();
-                    log.info("Sent birthday message for {} at {}", user.getDiscordId(), date);
-                }, () -> log.warn("Cannot find channel to send birthday message for {}", user.getDiscordId()));
+    /**
+     * Packs lines into as few messages as possible without exceeding Discord's message length.
+     */
+    List<String> joinIntoMessages(List<String> lines) {
+        List<String> messages = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String line : lines) {
+            if (!current.isEmpty() && current.length() + 1 + line.length() > MAX_MESSAGE_LENGTH) {
+                messages.add(current.toString());
+                current.setLength(0);
             }
 
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(date);
-            calendar.add(Calendar.YEAR, 1);
-            Date nextDate = calendar.getTime();
-            user.getBirthdayData().setBirthdayTimestamp(user.getBirthdayData().getBirthdayTimestamp());
-            BirthdayScheduler.schedule(user); // reschedule for next year
-            log.debug("Scheduled next birthday reminder for {} at {}", user.getDiscordId(), nextDate);
+            if (!current.isEmpty()) {
+                current.append('\n');
+            }
+            current.append(line);
         }
+
+        if (!current.isEmpty()) {
+            messages.add(current.toString());
+        }
+
+        return messages;
+    }
+
+    /**
+     * The first time the birthday starts after {@code after}, in the user's timezone. Each year's
+     * date is taken from the stored month and day (read in the zone it was parsed in), so a
+     * February 29th birthday falls on the 28th in common years and is back on the 29th in leap
+     * years.
+     */
+    long nextOccurrence(BirthdayData birthdayData, long after) {
+        ZoneId zone = birthdayData.getTimeZoneId();
+        MonthDay monthDay = MonthDay.from(birthdayData.getBirthday().toInstant().atZone(ZoneId.systemDefault()));
+        int year = Instant.ofEpochMilli(after).atZone(zone).getYear();
+
+        long occurrence = occurrenceIn(monthDay, year, zone);
+        return occurrence > after ? occurrence : occurrenceIn(monthDay, year + 1, zone);
+    }
+
+    private long occurrenceIn(MonthDay monthDay, int year, ZoneId zone) {
+        return monthDay.atYear(year).atStartOfDay(zone).toInstant().toEpochMilli();
     }
 }
@@ -0,0 +1,170 @@
+package net.hypixel.nerdbot.app.user;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Projections;
+import lombok.extern.slf4j.Slf4j;
+import net.hypixel.nerdbot.app.metrics.PrometheusMetrics;
+import net.hypixel.nerdbot.app.storage.DiscordUserCollection;
+import net.hypixel.nerdbot.marmalade.concurrent.ScheduledTask;
+import net.hypixel.nerdbot.marmalade.json.DataSerialization;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.birthday.BirthdayData;
+import net.hypixel.nerdbot.marmalade.storage.database.repository.DiscordUserRepository;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Queues birthdays at startup before the user cache has loaded, then runs the repository's full
+ * cache load as before. The full load is unchanged; only the birthdays are moved ahead of it.
+ *
+ * <p>The first phase streams only each user's ID and birthday through a cursor in batches and
+ * queues the birthdays, without materializing anyone's activity history. The second phase is the
+ * repository's full cache load, which the periodic sweeps need since they walk every user; users
+ * needed before it finishes are still read on demand by the repository. A birthday is only queued
+ * from the loaded cache if streaming failed before reaching it or its projection could not be
+ * read, so each is queued once.
+ *
+ * <p>Both phases publish how many users they have processed and how long after startup they were
+ * done.
+ */
+@Slf4j
+public final class StartupUserLoader {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(1);
+    private static final String BIRTHDAY_FIELD = "birthdayData";
+    private static final JsonWriterSettings RELAXED_JSON = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+    private StartupUserLoader() {
+    }
+
+    /**
+     * Starts loading in the background and returns immediately.
+     *
+     * @param startedAt the time in milliseconds the bot started at, which the ready times are
+     *                  measured from
+     */
+    public static void start(DiscordUserRepository repository, long startedAt) {
+        Thread.ofVirtual().name("startup-user-loader").start(() -> {
+            StreamedBirthdays birthdays = queueBirthdays(startedAt);
+            loadCache(repository, startedAt, birthdays);
+        });
+    }
+
+    private static StreamedBirthdays queueBirthdays(long startedAt) {
+        Optional<MongoCollection<Document>> collection = DiscordUserCollection.get();
+        if (collection.isEmpty()) {
+            return StreamedBirthdays.INCOMPLETE;
+        }
+
+        PrometheusMetrics.STARTUP_USERS_TOTAL.set(collection.get().estimatedDocumentCount());
+
+        int streamed = 0;
+        int queued = 0;
+        List<String> unreadable = new ArrayList<>();
+
+        try (MongoCursor<Document> cursor = collection.get().find()
+            .projection(Projections.include(DiscordUserCollection.ID_FIELD, BIRTHDAY_FIELD))
+            .batchSize(BATCH_SIZE)
+            .cursor()) {
+            while (cursor.hasNext()) {
+                Document projected = cursor.next();
+
+                try {
+                    Optional<DiscordUser> user = birthdayUser(projected);
+                    if (user.isPresent()) {
+                        BirthdayScheduler.schedule(user.get());
+                        queued++;
+                    }
+                } catch (RuntimeException exception) {
+                    Object discordId = projected.get(DiscordUserCollection.ID_FIELD);
+                    if (discordId != null) {
+                        log.warn("Could not read the birthday of {} from its projection, it is queued once the user cache has loaded", discordId, exception);
+                        unreadable.add(discordId.toString());
+                    }
+                }
+
+                if (++streamed % BATCH_SIZE == 0) {
+                    PrometheusMetrics.STARTUP_USERS_LOADED.labels("birthdays").set(streamed);
+                }
+            }
+        } catch (RuntimeException exception) {
+            log.error("Failed to stream birthdays after {} users, the rest are queued once the user cache has loaded", streamed, exception);
+            return StreamedBirthdays.INCOMPLETE;
+        }
+
+        PrometheusMetrics.STARTUP_USERS_LOADED.labels("birthdays").set(streamed);
+        PrometheusMetrics.STARTUP_USERS_READY_SECONDS.labels("birthdays").set(secondsSince(startedAt));
+        log.info("Queued {} birthdays from {} streamed users in {} s", queued, streamed, String.format("%.2f", secondsSince(startedAt)));
+        return new StreamedBirthdays(true, unreadable);
+    }
+
+    private static void loadCache(DiscordUserRepository repository, long startedAt, StreamedBirthdays birthdays) {
+        ScheduledTask progress = ScheduledTask.create("startup-user-load-progress",
+            () -> PrometheusMetrics.STARTUP_USERS_LOADED.labels("cache").set(repository.getCache().estimatedSize()),
+            PROGRESS_INTERVAL, PROGRESS_INTERVAL);
+        progress.start();
+
+        repository.loadAllDocumentsIntoCacheAsync()
+            .whenComplete((ignored, throwable) -> progress.stop())
+            .thenRun(() -> {
+                if (!birthdays.complete()) {
+                    repository.forEach(BirthdayScheduler::schedule);
+                } else {
+                    birthdays.unreadable().forEach(discordId -> repository.findById(discordId).toOptional().ifPresent(BirthdayScheduler::schedule));
+                }
+                PrometheusMetrics.STARTUP_USERS_LOADED.labels("cache").set(repository.getCache().estimatedSize());
+                PrometheusMetrics.STARTUP_USERS_READY_SECONDS.labels("cache").set(secondsSince(startedAt));
+                log.info("Successfully loaded all Discord users into cache ({} birthdays queued)", BirthdayScheduler.getQueuedCount());
+            })
+            .exceptionally(throwable -> {
+                log.error("Failed to load Discord users into cache", throwable);
+                return null;
+            });
+    }
+
+    /**
+     * Builds a user holding only the ID and birthday from a projected document.
+     *
+     * @return the user, or {@link Optional#empty()} if the document has no birthday set
+     *
+     * @throws RuntimeException if the document has a birthday that cannot be read
+     */
+    static Optional<DiscordUser> birthdayUser(Document projected) {
+        Object discordId = projected.get(DiscordUserCollection.ID_FIELD);
+        Document birthday = projected.get(BIRTHDAY_FIELD, Document.class);
+        if (discordId == null || birthday == null) {
+            return Optional.empty();
+        }
+
+        BirthdayData birthdayData = DataSerialization.GSON.fromJson(birthday.toJson(RELAXED_JSON), BirthdayData.class);
+        if (birthdayData == null || !birthdayData.isBirthdaySet()) {
+            return Optional.empty();
+        }
+
+        DiscordUser user = new DiscordUser(discordId.toString());
+        user.setBirthdayData(birthdayData);
+        return Optional.of(user);
+    }
+
+    private static double secondsSince(long startedAt) {
+        return (System.currentTimeMillis() - startedAt) / 1_000D;
+    }
+
+    /**
+     * @param complete   whether every stored user was streamed
+     * @param unreadable the users whose projected birthday could not be read, to queue from the
+     *                   loaded cache instead
+     */
+    private record StreamedBirthdays(boolean complete, List<String> unreadable) {
+
+        private static final StreamedBirthdays INCOMPLETE = new StreamedBirthdays(false, List.of());
+    }
+}
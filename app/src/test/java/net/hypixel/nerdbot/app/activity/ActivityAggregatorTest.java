@@ -0,0 +1,146 @@
+package net.hypixel.nerdbot.app.activity;
+
+import net.hypixel.nerdbot.app.suggestion.Suggestion;
+import net.hypixel.nerdbot.app.testsupport.FakeDiscordUserStore;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Buffered activity reaches the user's {@code LastActivity} only when flushed, repeated activity is
+ * replayed by count, nothing is applied twice, and the window counters see what each flush adds.
+ */
+class ActivityAggregatorTest {
+
+    private static final long USER_ID = 123L;
+
+    @Test
+    void flushReplaysBufferedActivityOntoTheUser() {
+        DiscordUser user = new DiscordUser(String.valueOf(USER_ID));
+        FakeDiscordUserStore store = new FakeDiscordUserStore().seed(user);
+        ActivityAggregator aggregator = new ActivityAggregator(new ActivityHistoryIndex());
+
+        aggregator.recordGlobalActivity(USER_ID, 1_000L);
+        aggregator.recordGlobalActivity(USER_ID, 3_000L);
+        aggregator.recordGlobalActivity(USER_ID, 2_000L);
+        aggregator.recordSuggestionComment(USER_ID, Suggestion.ChannelType.NORMAL, 1_000L);
+        aggregator.recordSuggestionComment(USER_ID, Suggestion.ChannelType.NORMAL, 2_000L);
+        aggregator.recordSuggestionComment(USER_ID, Suggestion.ChannelType.ALPHA, 2_000L);
+
+        assertTrue(user.getLastActivity().getSuggestionCommentHistory().isEmpty(), "nothing should be applied before a flush");
+        assertEquals(1, aggregator.flush(store));
+
+        assertEquals(3_000L, user.getLastActivity().getLastGlobalActivity());
+        assertEquals(List.of(2_000L, 2_000L), user.getLastActivity().getSuggestionCommentHistory());
+        assertEquals(List.of(2_000L), user.getLastActivity().getAlphaSuggestionCommentHistory());
+        assertTrue(user.getLastActivity().getProjectSuggestionCommentHistory().isEmpty());
+        assertEquals(List.of(String.valueOf(USER_ID)), store.savedIds());
+    }
+
+    @Test
+    void keepsTheFirstVotePerThread() {
+        DiscordUser user = new DiscordUser(String.valueOf(USER_ID));
+        FakeDiscordUserStore store = new FakeDiscordUserStore().seed(user);
+        ActivityAggregator aggregator = new ActivityAggregator(new ActivityHistoryIndex());
+
+        aggregator.recordSuggestionVote(USER_ID, Suggestion.ChannelType.NORMAL, "thread", 1_000L);
+        aggregator.recordSuggestionVote(USER_ID, Suggestion.ChannelType.NORMAL, "thread", 2_000L);
+        aggregator.flush(store);
+
+        assertEquals(1_000L, user.getLastActivity().getSuggestionVoteHistoryMap().get("thread"));
+    }
+
+    @Test
+    void flushedActivityIsNotAppliedAgain() {
+        DiscordUser user = new DiscordUser(String.valueOf(USER_ID));
+        FakeDiscordUserStore store = new FakeDiscordUserStore().seed(user);
+        ActivityAggregator aggregator = new ActivityAggregator(new ActivityHistoryIndex());
+
+        aggregator.recordSuggestionComment(USER_ID, Suggestion.ChannelType.PROJECT, 1_000L);
+        aggregator.flush(store);
+        assertEquals(0, aggregator.flush(store), "a second flush should find nothing buffered");
+
+        aggregator.recordSuggestionComment(USER_ID, Suggestion.ChannelType.PROJECT, 2_000L);
+        aggregator.flush(store);
+
+        assertEquals(List.of(2_000L, 1_000L), user.getLastActivity().getProjectSuggestionCommentHistory());
+    }
+
+    @Test
+    void flushWritesOnlyTheChangedFields() {
+        DiscordUser user = new DiscordUser(String.valueOf(USER_ID));
+        FakeDiscordUserStore store = new FakeDiscordUserStore().seed(user);
+        ActivityAggregator aggregator = new ActivityAggregator(new ActivityHistoryIndex());
+
+        aggregator.recordGlobalActivity(USER_ID, 3_000L);
+        aggregator.recordSuggestionComment(USER_ID, Suggestion.ChannelType.NORMAL, 1_000L);
+        aggregator.recordSuggestionComment(USER_ID, Suggestion.ChannelType.NORMAL, 2_000L);
+        aggregator.recordSuggestionVote(USER_ID, Suggestion.ChannelType.ALPHA, "thread", 2_000L);
+        aggregator.flush(store);
+
+        assertEquals(BsonDocument.parse("""
+                {"$set": {"lastActivity.lastGlobalActivity": {"$numberLong": "3000"},
+                          "lastActivity.alphaSuggestionVoteHistoryMap.thread": {"$numberLong": "2000"}},
+                 "$push": {"lastActivity.suggestionCommentHistory": {"$each": [{"$numberLong": "2000"}, {"$numberLong": "2000"}], "$position": 0}}}"""),
+            store.updates().get(String.valueOf(USER_ID)).toBson().toBsonDocument());
+    }
+
+    @Test
+    void roleRestrictedActivityIsLeftForAFullSave() {
+        DiscordUser user = new DiscordUser(String.valueOf(USER_ID));
+        FakeDiscordUserStore store = new FakeDiscordUserStore().seed(user);
+        ActivityAggregator aggregator = new ActivityAggregator(new ActivityHistoryIndex());
+
+        aggregator.recordGlobalActivity(USER_ID, 1_000L);
+        aggregator.flush(store);
+        assertFalse(store.updates().get(String.valueOf(USER_ID)).isFullSaveRequired());
+
+        aggregator.recordRoleRestrictedComment(USER_ID, "group", 2_000L);
+        aggregator.flush(store);
+        assertTrue(store.updates().get(String.valueOf(USER_ID)).isFullSaveRequired(), "the update does not carry role-restricted activity");
+    }
+
+    @Test
+    void flushKeepsTheHistoryIndexInStep() {
+        DiscordUser user = new DiscordUser(String.valueOf(USER_ID));
+        FakeDiscordUserStore store = new FakeDiscordUserStore().seed(user);
+        ActivityHistoryIndex historyIndex = new ActivityHistoryIndex();
+        ActivityAggregator aggregator = new ActivityAggregator(historyIndex);
+        long now = System.currentTimeMillis();
+
+        assertEquals(0, historyIndex.count(user, ActivityHistoryIndex.Category.COMMENTS, 7));
+        assertEquals(0, historyIndex.count(user, ActivityHistoryIndex.Category.VOTES, 7));
+
+        aggregator.recordSuggestionComment(USER_ID, Suggestion.ChannelType.NORMAL, now);
+        aggregator.recordSuggestionComment(USER_ID, Suggestion.ChannelType.ALPHA, now);
+        aggregator.recordSuggestionVote(USER_ID, Suggestion.ChannelType.NORMAL, "thread", now);
+        aggregator.recordSuggestionVote(USER_ID, Suggestion.ChannelType.NORMAL, "thread", now);
+        aggregator.flush(store);
+
+        assertEquals(2, historyIndex.count(user, ActivityHistoryIndex.Category.COMMENTS, 7));
+        assertEquals(1, historyIndex.count(user, ActivityHistoryIndex.Category.VOTES, 7));
+
+        aggregator.recordSuggestionVote(USER_ID, Suggestion.ChannelType.NORMAL, "thread", now);
+        aggregator.flush(store);
+
+        assertEquals(1, historyIndex.count(user, ActivityHistoryIndex.Category.VOTES, 7), "a repeat vote on a thread should not be counted");
+    }
+
+    @Test
+    void dropsActivityForUnknownUsers() {
+        FakeDiscordUserStore store = new FakeDiscordUserStore();
+        ActivityAggregator aggregator = new ActivityAggregator(new ActivityHistoryIndex());
+
+        aggregator.recordGlobalActivity(USER_ID, 1_000L);
+
+        assertEquals(0, aggregator.flush(store));
+        assertTrue(store.savedIds().isEmpty());
+        assertEquals(0, aggregator.flush(store), "dropped activity should not stay buffered");
+    }
+}
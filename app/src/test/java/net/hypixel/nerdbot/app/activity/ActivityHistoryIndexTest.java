@@ -0,0 +1,65 @@
+package net.hypixel.nerdbot.app.activity;
+
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.stats.LastActivity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Window counters are seeded from the user's {@code LastActivity}, cover whole days, fall back to
+ * {@code LastActivity} for windows wider than their capacity, and are seeded again when the
+ * history they were built from is replaced or changed elsewhere.
+ */
+class ActivityHistoryIndexTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    @Test
+    void seedsFromLastActivity() {
+        long now = System.currentTimeMillis();
+        DiscordUser user = userWithComments(now - HOUR, now - 3 * DAY - HOUR, now - 40 * DAY);
+        ActivityHistoryIndex index = new ActivityHistoryIndex();
+
+        assertEquals(1, index.count(user, ActivityHistoryIndex.Category.COMMENTS, 1));
+        assertEquals(2, index.count(user, ActivityHistoryIndex.Category.COMMENTS, 7));
+        assertEquals(2, index.count(user, ActivityHistoryIndex.Category.COMMENTS, 30));
+        assertEquals(3, index.count(user, ActivityHistoryIndex.Category.COMMENTS, 60), "windows wider than the capacity should be answered by LastActivity");
+    }
+
+    @Test
+    void replacedLastActivityIsSeededAgain() {
+        DiscordUser user = userWithComments(System.currentTimeMillis() - HOUR);
+        ActivityHistoryIndex index = new ActivityHistoryIndex();
+
+        assertEquals(1, index.count(user, ActivityHistoryIndex.Category.COMMENTS, 7));
+
+        user.setLastActivity(new LastActivity());
+
+        assertEquals(0, index.count(user, ActivityHistoryIndex.Category.COMMENTS, 7));
+    }
+
+    @Test
+    void invalidatedCountersAreSeededAgain() {
+        long now = System.currentTimeMillis();
+        DiscordUser user = userWithComments(now - HOUR);
+        ActivityHistoryIndex index = new ActivityHistoryIndex();
+
+        assertEquals(1, index.count(user, ActivityHistoryIndex.Category.COMMENTS, 7));
+
+        user.getLastActivity().getSuggestionCommentHistory().add(0, now);
+        index.invalidate(user.getDiscordId());
+
+        assertEquals(2, index.count(user, ActivityHistoryIndex.Category.COMMENTS, 7));
+    }
+
+    private static DiscordUser userWithComments(Long... timestamps) {
+        DiscordUser user = new DiscordUser("activity-history-index-test");
+        user.getLastActivity().getSuggestionCommentHistory().addAll(List.of(timestamps));
+        return user;
+    }
+}
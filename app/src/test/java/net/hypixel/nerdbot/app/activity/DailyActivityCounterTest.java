@@ -0,0 +1,55 @@
+package net.hypixel.nerdbot.app.activity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Window sums only include days still inside the ring buffer, and days that roll out are cleared
+ * before their slot is reused.
+ */
+class DailyActivityCounterTest {
+
+    private static final long TODAY = 20_000L;
+
+    @Test
+    void sumsTheRequestedWindow() {
+        DailyActivityCounter counter = new DailyActivityCounter(7);
+
+        counter.add(TODAY, 2);
+        counter.add(TODAY - 1, 3);
+        counter.add(TODAY - 4, 5);
+
+        assertEquals(2, counter.sum(TODAY, 1));
+        assertEquals(5, counter.sum(TODAY, 2));
+        assertEquals(10, counter.sum(TODAY, 5));
+        assertEquals(10, counter.sum(TODAY, 30), "windows wider than the capacity are capped");
+    }
+
+    @Test
+    void expiresDaysThatLeaveTheWindow() {
+        DailyActivityCounter counter = new DailyActivityCounter(3);
+
+        counter.add(TODAY, 4);
+        counter.add(TODAY + 3, 1);
+
+        assertEquals(1, counter.sum(TODAY + 3, 3), "the reused slot should not carry the old day's count");
+        assertEquals(0, counter.sum(TODAY + 10, 3));
+    }
+
+    @Test
+    void ignoresDaysOlderThanTheWindow() {
+        DailyActivityCounter counter = new DailyActivityCounter(3);
+
+        counter.add(TODAY, 1);
+        counter.add(TODAY - 3, 7);
+
+        assertEquals(1, counter.sum(TODAY, 3));
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new DailyActivityCounter(0));
+    }
+}
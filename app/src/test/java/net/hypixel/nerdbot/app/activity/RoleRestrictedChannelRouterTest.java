@@ -0,0 +1,63 @@
+package net.hypixel.nerdbot.app.activity;
+
+import net.hypixel.nerdbot.discord.config.objects.RoleRestrictedChannelGroup;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The compiled table routes a channel to the first configured group the member has a required
+ * role for, and skips IDs that are not snowflakes.
+ */
+class RoleRestrictedChannelRouterTest {
+
+    private static final RoleRestrictedChannelGroup STAFF = group("staff", new String[]{"100", "101"}, new String[]{"900"});
+    private static final RoleRestrictedChannelGroup MODS = group("mods", new String[]{"101", "102"}, new String[]{"800", "700"});
+
+    @Test
+    void routesToTheFirstGroupTheMemberQualifiesFor() {
+        Map<Long, RoleRestrictedChannelRouter.Route[]> table = RoleRestrictedChannelRouter.compile(List.of(STAFF, MODS));
+
+        assertSame(STAFF, match(table, 101L, 900L, 700L).orElseThrow());
+        assertSame(MODS, match(table, 101L, 700L).orElseThrow());
+        assertSame(MODS, match(table, 102L, 800L).orElseThrow());
+    }
+
+    @Test
+    void ignoresMembersWithoutARequiredRole() {
+        Map<Long, RoleRestrictedChannelRouter.Route[]> table = RoleRestrictedChannelRouter.compile(List.of(STAFF, MODS));
+
+        assertTrue(match(table, 100L, 800L).isEmpty());
+        assertTrue(match(table, 100L).isEmpty());
+    }
+
+    @Test
+    void ignoresUnknownChannels() {
+        Map<Long, RoleRestrictedChannelRouter.Route[]> table = RoleRestrictedChannelRouter.compile(List.of(STAFF, MODS));
+
+        assertTrue(match(table, 999L, 900L).isEmpty());
+    }
+
+    @Test
+    void skipsMalformedIds() {
+        RoleRestrictedChannelGroup group = group("broken", new String[]{"not-a-channel", " 200 ", null}, new String[]{"role", "300"});
+        Map<Long, RoleRestrictedChannelRouter.Route[]> table = RoleRestrictedChannelRouter.compile(List.of(group));
+
+        assertEquals(1, table.size());
+        assertSame(group, match(table, 200L, 300L).orElseThrow());
+    }
+
+    private static Optional<RoleRestrictedChannelGroup> match(Map<Long, RoleRestrictedChannelRouter.Route[]> table, long channelId, long... roleIds) {
+        return RoleRestrictedChannelRouter.match(RoleRestrictedChannelRouter.routes(table, channelId), roleIds);
+    }
+
+    private static RoleRestrictedChannelGroup group(String identifier, String[] channelIds, String[] roleIds) {
+        return new RoleRestrictedChannelGroup(identifier, identifier, channelIds, roleIds, 5, 2, 1, 30, true);
+    }
+}
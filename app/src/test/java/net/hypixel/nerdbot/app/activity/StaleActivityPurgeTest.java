@@ -24,7 +24,7 @@ class StaleActivityPurgeTest {
         DiscordUser recent = userWithSuggestionCreatedAt("recent", daysAgo(1));
         FakeDiscordUserStore store = new FakeDiscordUserStore().seed(stale).seed(recent);
 
-        int purged = ActivityPurgeFeature.purgeOldHistory(store, RETENTION_DAYS);
+        int purged = ActivityPurgeFeature.purgeOldHistory(store, RETENTION_DAYS, new ActivityHistoryIndex());
 
         assertEquals(1, purged, "only the stale user should be counted as purged");
         assertEquals(List.of("stale"), store.savedIds(), "only the changed user should be re-saved");
@@ -39,7 +39,7 @@ class StaleActivityPurgeTest {
         DiscordUser recent = userWithSuggestionCreatedAt("recent", daysAgo(1));
         FakeDiscordUserStore store = new FakeDiscordUserStore().seed(recent);
 
-        int purged = ActivityPurgeFeature.purgeOldHistory(store, RETENTION_DAYS);
+        int purged = ActivityPurgeFeature.purgeOldHistory(store, RETENTION_DAYS, new ActivityHistoryIndex());
 
         assertEquals(0, purged);
         assertTrue(store.savedIds().isEmpty(), "no user should be re-saved when nothing is stale");
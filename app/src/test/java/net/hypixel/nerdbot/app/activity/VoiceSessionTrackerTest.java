@@ -0,0 +1,74 @@
+package net.hypixel.nerdbot.app.activity;
+
+import net.hypixel.nerdbot.app.testsupport.FakeVoiceSessionStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sessions are opened and closed per member, and reconciling a checkpoint resumes sessions that are
+ * still connected while reporting those that ended while the bot was offline.
+ */
+class VoiceSessionTrackerTest {
+
+    private static final long USER = 1L;
+    private static final long OTHER_USER = 2L;
+    private static final long CHANNEL = 10L;
+    private static final long OTHER_CHANNEL = 11L;
+
+    @Test
+    void leaveClosesTheOpenSession() {
+        VoiceSessionTracker tracker = new VoiceSessionTracker(new FakeVoiceSessionStore());
+
+        tracker.join(USER, CHANNEL, 1_000L);
+        VoiceSession session = tracker.leave(USER, 61_000L).orElseThrow();
+
+        assertEquals(60_000L, session.durationUntil(61_000L));
+        assertTrue(tracker.leave(USER, 62_000L).isEmpty(), "a session can only be closed once");
+        assertEquals(0, tracker.getOpenSessionCount());
+    }
+
+    @Test
+    void reconcileResumesSessionsStillInTheSameChannel() {
+        FakeVoiceSessionStore store = new FakeVoiceSessionStore()
+            .seed(new VoiceSession(USER, CHANNEL, 1_000L, 5_000L));
+        VoiceSessionTracker tracker = new VoiceSessionTracker(store);
+
+        List<VoiceSession> closed = tracker.reconcile(Map.of(USER, CHANNEL), 9_000L);
+
+        assertTrue(closed.isEmpty());
+        assertEquals(1_000L, tracker.getSession(USER).orElseThrow().joinedAt());
+    }
+
+    @Test
+    void reconcileClosesSessionsThatEndedWhileOffline() {
+        FakeVoiceSessionStore store = new FakeVoiceSessionStore()
+            .seed(new VoiceSession(USER, CHANNEL, 1_000L, 5_000L))
+            .seed(new VoiceSession(OTHER_USER, CHANNEL, 2_000L, 5_000L));
+        VoiceSessionTracker tracker = new VoiceSessionTracker(store);
+
+        List<VoiceSession> closed = tracker.reconcile(Map.of(OTHER_USER, OTHER_CHANNEL), 9_000L);
+
+        assertEquals(2, closed.size(), "both the disconnected and the moved member's sessions ended offline");
+        assertTrue(tracker.getSession(USER).isEmpty());
+        assertEquals(9_000L, tracker.getSession(OTHER_USER).orElseThrow().joinedAt(), "a moved member starts a new session");
+    }
+
+    @Test
+    void checkpointPersistsOnlyOpenSessions() {
+        FakeVoiceSessionStore store = new FakeVoiceSessionStore();
+        VoiceSessionTracker tracker = new VoiceSessionTracker(store);
+
+        tracker.join(USER, CHANNEL, 1_000L);
+        tracker.join(OTHER_USER, CHANNEL, 2_000L);
+        tracker.leave(OTHER_USER, 3_000L);
+        tracker.checkpoint();
+
+        assertEquals(1, store.saved().size());
+        assertEquals(USER, store.saved().getFirst().userId());
+    }
+}
@@ -0,0 +1,59 @@
+package net.hypixel.nerdbot.app.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * An option left out of a render command and the same option given its default value produce the
+ * same render cache options.
+ */
+class RenderOptionDefaultsTest {
+
+    @Test
+    void omittedOptionsMatchTheirExplicitDefaults() {
+        SortedMap<String, String> omitted = options("item_id", "diamond_sword");
+        SortedMap<String, String> explicit = options("item_id", "diamond_sword", "animated", "true", "enchanted", "false");
+
+        GeneratorCommands.applyRenderOptionDefaults("gen display", omitted);
+        GeneratorCommands.applyRenderOptionDefaults("gen display", explicit);
+
+        assertEquals(omitted, explicit);
+    }
+
+    @Test
+    void explicitValuesAreKept() {
+        SortedMap<String, String> omitted = options("item_id", "diamond_sword");
+        SortedMap<String, String> optedOut = options("item_id", "diamond_sword", "animated", "false");
+
+        GeneratorCommands.applyRenderOptionDefaults("gen display", omitted);
+        GeneratorCommands.applyRenderOptionDefaults("gen display", optedOut);
+
+        assertEquals("false", optedOut.get("animated"));
+        assertNotEquals(omitted, optedOut);
+    }
+
+    @Test
+    void defaultsDependOnTheCommand() {
+        SortedMap<String, String> item = options("text", "hello");
+        SortedMap<String, String> text = options("text", "hello");
+
+        GeneratorCommands.applyRenderOptionDefaults("gen item", item);
+        GeneratorCommands.applyRenderOptionDefaults("gen text", text);
+
+        assertEquals("true", item.get("render_border"));
+        assertEquals("false", text.get("render_border"));
+    }
+
+    private static SortedMap<String, String> options(String... namesAndValues) {
+        SortedMap<String, String> options = new TreeMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            options.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,96 @@
+package net.hypixel.nerdbot.app.generation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Searches match case-insensitively anywhere in a name, rank prefix matches first, respect the
+ * limit, and find exactly what a plain substring scan would.
+ */
+class AutocompleteIndexTest {
+
+    private final AutocompleteIndex index = AutocompleteIndex.of(List.of(
+        "aspect_of_the_end",
+        "diamond_sword",
+        "Enchanted_Diamond",
+        "golden_sword",
+        "swordfish",
+        "hypixel_skyblock:item/jacob/cactus_knife"
+    ));
+
+    @Test
+    void ranksPrefixMatchesFirst() {
+        assertEquals(List.of("swordfish", "diamond_sword", "golden_sword"), index.search("sword", 10));
+        assertEquals(List.of("diamond_sword", "Enchanted_Diamond"), index.search("DIAMOND", 10));
+    }
+
+    @Test
+    void matchesShortQueries() {
+        assertEquals(List.of("diamond_sword", "Enchanted_Diamond"), index.search("di", 10));
+        assertEquals(List.of("hypixel_skyblock:item/jacob/cactus_knife"), index.search(":", 10));
+    }
+
+    @Test
+    void findsNothingForAnUnknownQuery() {
+        assertTrue(index.search("netherite", 10).isEmpty());
+        assertTrue(AutocompleteIndex.EMPTY.search("sword", 10).isEmpty());
+    }
+
+    @Test
+    void returnsNamesInOrderForAnEmptyQuery() {
+        assertEquals(List.of("aspect_of_the_end", "diamond_sword"), index.search("", 2));
+    }
+
+    @Test
+    void stopsAtTheLimit() {
+        assertEquals(List.of("swordfish", "diamond_sword"), index.search("sword", 2));
+    }
+
+    @Test
+    void neverReturnsANameTwice() {
+        AutocompleteIndex repeating = AutocompleteIndex.of(List.of("abcabc", "abcabc", "xabcabc"));
+
+        assertEquals(List.of("abcabc", "xabcabc"), repeating.search("abc", 10));
+        assertEquals(2, repeating.size());
+    }
+
+    @Test
+    void searchesSeveralIndexesAsOne() {
+        AutocompleteIndex packRefs = AutocompleteIndex.of(List.of("pack:item/sword_of_storms", "sword_of_storms"));
+
+        assertEquals(List.of("swordfish", "sword_of_storms", "diamond_sword", "golden_sword", "pack:item/sword_of_storms"),
+            AutocompleteIndex.search(List.of(index, packRefs), "sword", 10));
+        assertEquals(List.of("hypixel_skyblock:item/jacob/cactus_knife", "pack:item/sword_of_storms"),
+            AutocompleteIndex.search(List.of(index, packRefs), "item", 10));
+    }
+
+    @Test
+    void skipsNamesOverTheMaximumLengthBeforeLimiting() {
+        AutocompleteIndex packRefs = AutocompleteIndex.of(List.of("sword_" + "x".repeat(100), "sword_of_storms"));
+
+        assertEquals(List.of("swordfish", "sword_of_storms"), AutocompleteIndex.search(List.of(index, packRefs), "sword", 2, 100));
+        assertEquals(List.of("diamond_sword", "golden_sword"), AutocompleteIndex.search(List.of(packRefs, index), "ord", 2, 14));
+        assertEquals(List.of("diamond_sword", "golden_sword"), AutocompleteIndex.search(List.of(packRefs, index), "", 2, 14));
+    }
+
+    @Test
+    void agreesWithASubstringScan() {
+        List<String> names = IntStream.range(0, 500)
+            .mapToObj(i -> "ns" + (i % 7) + ":item/" + Integer.toString(i * 7919, 36) + "_" + (i % 13))
+            .toList();
+        AutocompleteIndex large = AutocompleteIndex.of(names);
+
+        for (String query : List.of("a", "1_", "ns3", "item/z", "_12", "zz", "NS0:ITEM")) {
+            String lowered = query.toLowerCase(Locale.ROOT);
+            List<String> expected = names.stream().filter(name -> name.contains(lowered)).sorted().toList();
+
+            assertEquals(expected, large.search(query, Integer.MAX_VALUE).stream().sorted().toList(), query);
+        }
+    }
+}
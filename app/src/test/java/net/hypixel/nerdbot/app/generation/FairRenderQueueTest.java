@@ -0,0 +1,121 @@
+package net.hypixel.nerdbot.app.generation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Users with renders queued take turns, costly renders push back the same user's next render, and
+ * reported positions match the order renders are taken in.
+ */
+class FairRenderQueueTest {
+
+    private static final long ALICE = 1L;
+    private static final long BOB = 2L;
+
+    @Test
+    void keepsOneUsersRendersInOrder() {
+        FairRenderQueue<String> queue = new FairRenderQueue<>();
+
+        queue.offer(ALICE, 1, "a1");
+        queue.offer(ALICE, 1, "a2");
+        queue.offer(ALICE, 1, "a3");
+
+        assertEquals(List.of("a1", "a2", "a3"), drain(queue));
+    }
+
+    @Test
+    void interleavesUsersInsteadOfServingBatchesFirst() {
+        FairRenderQueue<String> queue = new FairRenderQueue<>();
+
+        queue.offer(ALICE, 1, "a1");
+        queue.offer(ALICE, 1, "a2");
+        queue.offer(ALICE, 1, "a3");
+        queue.offer(BOB, 1, "b1");
+
+        assertEquals(List.of("a1", "b1", "a2", "a3"), drain(queue));
+    }
+
+    @Test
+    void costlyRendersDelayTheSameUsersNextRender() {
+        FairRenderQueue<String> queue = new FairRenderQueue<>();
+
+        queue.offer(ALICE, 3, "a-large");
+        queue.offer(ALICE, 1, "a-small");
+        queue.offer(BOB, 1, "b1");
+        queue.offer(BOB, 1, "b2");
+        queue.offer(BOB, 1, "b3");
+
+        assertEquals(List.of("a-large", "b1", "b2", "b3", "a-small"), drain(queue));
+    }
+
+    @Test
+    void reportsThePositionRendersAreTakenIn() {
+        FairRenderQueue<String> queue = new FairRenderQueue<>();
+
+        assertEquals(1, queue.offer(ALICE, 1, "a1"));
+        assertEquals(2, queue.offer(ALICE, 1, "a2"));
+        assertEquals(2, queue.offer(BOB, 1, "b1"), "bob's first render should go ahead of alice's second");
+        assertEquals(4, queue.offer(BOB, 1, "b2"));
+    }
+
+    @Test
+    void latecomersGetTheNextTurnWithoutBackCredit() {
+        FairRenderQueue<String> queue = new FairRenderQueue<>();
+
+        queue.offer(ALICE, 1, "a1");
+        queue.offer(ALICE, 1, "a2");
+        queue.offer(ALICE, 1, "a3");
+        assertEquals("a1", queue.poll());
+        assertEquals("a2", queue.poll());
+
+        queue.offer(BOB, 1, "b1");
+        queue.offer(BOB, 1, "b2");
+
+        assertEquals(List.of("b1", "a3", "b2"), drain(queue));
+    }
+
+    @Test
+    void countsEachUsersQueuedRenders() {
+        FairRenderQueue<String> queue = new FairRenderQueue<>();
+
+        queue.offer(ALICE, 1, "a1");
+        queue.offer(ALICE, 1, "a2");
+        queue.offer(BOB, 1, "b1");
+
+        assertEquals(2, queue.queuedFor(ALICE));
+        assertEquals(1, queue.queuedFor(BOB));
+
+        queue.poll();
+        assertEquals(1, queue.queuedFor(ALICE));
+
+        assertEquals(2, queue.clear().size());
+        assertEquals(0, queue.queuedFor(ALICE));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void rejectsCostsBelowOne() {
+        FairRenderQueue<String> queue = new FairRenderQueue<>();
+
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(ALICE, 0, "a1"));
+    }
+
+    private static List<String> drain(FairRenderQueue<String> queue) {
+        List<String> drained = new ArrayList<>();
+        String next;
+
+        while ((next = queue.poll()) != null) {
+            drained.add(next);
+        }
+
+        return drained;
+    }
+}
@@ -0,0 +1,76 @@
+package net.hypixel.nerdbot.app.generation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every compression level produces a lossless PNG, higher levels produce smaller files, and the
+ * reused per-thread buffer never leaks one encode's bytes into the next.
+ */
+class PngEncoderTest {
+
+    @Test
+    void encodesLosslesslyAtEveryLevel() throws IOException {
+        BufferedImage image = sampleImage(64, 48);
+
+        for (int level = PngEncoder.MIN_COMPRESSION_LEVEL; level <= PngEncoder.MAX_COMPRESSION_LEVEL; level++) {
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(PngEncoder.encode(image, level)));
+
+            assertEquals(image.getWidth(), decoded.getWidth());
+            assertEquals(image.getHeight(), decoded.getHeight());
+            for (int y = 0; y < image.getHeight(); y++) {
+                for (int x = 0; x < image.getWidth(); x++) {
+                    assertEquals(image.getRGB(x, y), decoded.getRGB(x, y), "pixel " + x + "," + y + " at level " + level);
+                }
+            }
+        }
+    }
+
+    @Test
+    void higherLevelsCompressFurther() throws IOException {
+        BufferedImage image = sampleImage(256, 256);
+
+        int fastest = PngEncoder.encode(image, PngEncoder.MIN_COMPRESSION_LEVEL).length;
+        int smallest = PngEncoder.encode(image, PngEncoder.MAX_COMPRESSION_LEVEL).length;
+
+        assertTrue(smallest < fastest, "level 9 (" + smallest + " bytes) should be smaller than level 0 (" + fastest + " bytes)");
+    }
+
+    @Test
+    void reusedBuffersOnlyHoldTheLatestImage() throws IOException {
+        byte[] large = PngEncoder.encode(sampleImage(256, 256), PngEncoder.DEFAULT_COMPRESSION_LEVEL);
+        byte[] small = PngEncoder.encode(sampleImage(4, 4), PngEncoder.DEFAULT_COMPRESSION_LEVEL);
+
+        assertTrue(small.length < large.length);
+        assertEquals(4, ImageIO.read(new ByteArrayInputStream(small)).getWidth());
+    }
+
+    @Test
+    void rejectsLevelsOutsideTheDeflateRange() {
+        BufferedImage image = sampleImage(1, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> PngEncoder.encode(image, -1));
+        assertThrows(IllegalArgumentException.class, () -> PngEncoder.encode(image, 10));
+    }
+
+    private static BufferedImage sampleImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int shade = ((x / 4 + y / 4) % 3) * 60;
+                image.setRGB(x, y, 0xFF000000 | shade << 16 | (x * 7 & 0xFF) << 8 | (y * 3 & 0xFF));
+            }
+        }
+
+        return image;
+    }
+}
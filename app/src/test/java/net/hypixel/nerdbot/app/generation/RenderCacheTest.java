@@ -0,0 +1,171 @@
+package net.hypixel.nerdbot.app.generation;
+
+import net.hypixel.nerdbot.app.config.GeneratorConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Identical renders are served from the cache or shared while running, and entries leave the cache
+ * by age, count and total size.
+ */
+class RenderCacheTest {
+
+    private final GeneratorConfig.CacheConfig config = new GeneratorConfig.CacheConfig();
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final AtomicInteger renders = new AtomicInteger();
+    private RenderCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config.setEnabled(true);
+        config.setMaxSize(10);
+        config.setMaxBytes(1_000);
+        config.setTtlMinutes(60);
+        cache = new RenderCache(() -> config, clock::get);
+    }
+
+    @Test
+    void servesRepeatedRendersFromTheCache() {
+        RenderedImage first = cache.get("key", render(4)).result().join();
+        RenderedImage second = cache.get("key", render(4)).result().join();
+
+        assertSame(first, second);
+        assertEquals(1, renders.get());
+        assertEquals(1, cache.size());
+        assertEquals(4, cache.getBytesHeld());
+    }
+
+    @Test
+    void sharesARenderThatIsStillRunning() {
+        CompletableFuture<RenderedImage> running = new CompletableFuture<>();
+
+        RenderExecutor.Ticket<RenderedImage> first = cache.get("key", () -> {
+            renders.incrementAndGet();
+            return new RenderExecutor.Ticket<>(3, running);
+        });
+        RenderExecutor.Ticket<RenderedImage> second = cache.get("key", render(4));
+
+        RenderedImage image = image(4);
+        running.complete(image);
+
+        assertSame(image, first.result().join());
+        assertSame(image, second.result().join());
+        assertEquals(3, second.position(), "a shared render should report the queue position it was given");
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    void doesNotCacheFailedRenders() {
+        cache.get("key", () -> new RenderExecutor.Ticket<>(0, CompletableFuture.failedFuture(new IllegalStateException("boom"))));
+        cache.get("key", render(4)).result().join();
+
+        assertEquals(1, renders.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOnceOverTheByteBudget() {
+        config.setMaxBytes(10);
+
+        cache.get("a", render(4)).result().join();
+        cache.get("b", render(4)).result().join();
+        cache.get("a", render(4)).result().join();
+        cache.get("c", render(4)).result().join();
+
+        assertEquals(8, cache.getBytesHeld());
+        assertEquals(3, renders.get());
+
+        cache.get("a", render(4)).result().join();
+        assertEquals(3, renders.get(), "a was used more recently than b, so b should have been evicted");
+
+        cache.get("b", render(4)).result().join();
+        assertEquals(4, renders.get());
+    }
+
+    @Test
+    void evictsOnceOverTheEntryLimit() {
+        config.setMaxSize(2);
+
+        cache.get("a", render(1)).result().join();
+        cache.get("b", render(1)).result().join();
+        cache.get("c", render(1)).result().join();
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void skipsRendersLargerThanTheWholeBudget() {
+        config.setMaxBytes(10);
+
+        cache.get("key", render(11)).result().join();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getBytesHeld());
+    }
+
+    @Test
+    void rendersAgainOnceAnEntryExpires() {
+        cache.get("key", render(4)).result().join();
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(61));
+        cache.get("key", render(4)).result().join();
+
+        assertEquals(2, renders.get());
+        assertEquals(4, cache.getBytesHeld());
+    }
+
+    @Test
+    void bypassesTheCacheWhenDisabledOrUnkeyed() {
+        config.setEnabled(false);
+        cache.get("key", render(4)).result().join();
+        cache.get("key", render(4)).result().join();
+
+        config.setEnabled(true);
+        cache.get(null, render(4)).result().join();
+        cache.get(null, render(4)).result().join();
+
+        assertEquals(4, renders.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void keysDependOnEveryInput() {
+        TreeMap<String, String> options = new TreeMap<>();
+        options.put("item_id", "diamond_sword");
+        String key = RenderCache.key("gen display", options, "vanilla", "config");
+
+        TreeMap<String, String> sameOptions = new TreeMap<>();
+        sameOptions.put("item_id", "diamond_sword");
+        assertEquals(key, RenderCache.key("gen display", sameOptions, "vanilla", "config"));
+
+        TreeMap<String, String> otherOptions = new TreeMap<>();
+        otherOptions.put("item_id", "diamond_swor");
+        otherOptions.put("d", "");
+        assertNotEquals(key, RenderCache.key("gen display", otherOptions, "vanilla", "config"));
+        assertNotEquals(key, RenderCache.key("gen display", options, "hypixel:skyblock@abc", "config"));
+        assertNotEquals(key, RenderCache.key("gen display", options, "vanilla", "other config"));
+        assertTrue(key.matches("[0-9a-f]{64}"));
+    }
+
+    private Supplier<RenderExecutor.Ticket<RenderedImage>> render(int size) {
+        return () -> {
+            renders.incrementAndGet();
+            return new RenderExecutor.Ticket<>(0, CompletableFuture.completedFuture(image(size)));
+        };
+    }
+
+    private static RenderedImage image(int size) {
+        return new RenderedImage(new byte[size], false, TimeUnit.MILLISECONDS.toNanos(5));
+    }
+}
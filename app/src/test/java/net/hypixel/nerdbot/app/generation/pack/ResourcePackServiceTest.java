@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +26,10 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -49,7 +53,8 @@ class ResourcePackServiceTest {
         tempDir = Files.createTempDirectory(fixtureRoot, "run-");
 
         repository = new PackRepository();
-        service = new ResourcePackService(repository);
+        // Index item refs inline so registration is complete when registerConfiguredPacks returns
+        service = new ResourcePackService(repository, Runnable::run);
     }
 
     @Test
@@ -84,6 +89,29 @@ class ResourcePackServiceTest {
         assertEquals(List.of(ITEM_REF), service.allItemRefs());
     }
 
+    @Test
+    void packsAreRenderableBeforeTheirItemRefsAreIndexed() throws IOException {
+        List<Runnable> deferred = new ArrayList<>();
+        ResourcePackService deferringService = new ResourcePackService(repository, deferred::add);
+        Path first = createFixturePackZip("first.zip");
+        Path second = createFixturePackZip("second.zip");
+
+        deferringService.registerConfiguredPacks(config(null,
+            packDefinition("nerdbot:first", first),
+            packDefinition("nerdbot:second", second)));
+
+        assertEquals(PackId.parse("nerdbot:first"), deferringService.resolvePackOption("nerdbot:first"));
+        assertTrue(repository.resolve(PackId.parse("nerdbot:second"), ITEM_REF).isPresent());
+        assertTrue(deferringService.allItemRefs().isEmpty(), "autocomplete offers no pack refs until indexing finishes");
+        assertEquals(List.of("testpack:fancy"), deferringService.tooltipStyleChoices("nerdbot:first"));
+        assertEquals(2, deferred.size());
+
+        deferred.forEach(Runnable::run);
+
+        assertEquals(List.of(ITEM_REF), deferringService.allItemRefs());
+        assertEquals(List.of(ITEM_REF), deferringService.itemRefsForOption("nerdbot:second"));
+    }
+
     @Test
     void brokenPackIsSkippedAndOthersStillRegister() throws IOException {
         Path broken = createZip("broken.zip", Map.of("pack.mcmeta", "{\"pack\":{\"pack_format\":88,\"description\":\"Empty\"}}"));
@@ -260,6 +288,23 @@ class ResourcePackServiceTest {
         assertEquals(List.of(ITEM_REF), service.searchItemRefs("simple"));
     }
 
+    @Test
+    void mergedRefsAreOnlyRebuiltOnRegistration() throws IOException {
+        Path first = createFixturePackZip("first.zip");
+        Path second = createFixturePackZip("second.zip");
+
+        service.registerConfiguredPacks(config(null, packDefinition("nerdbot:first", first)));
+        List<String> refs = service.allItemRefs();
+
+        assertSame(refs, service.allItemRefs());
+        assertSame(refs, service.itemRefsForOption("half-typed"));
+
+        service.registerConfiguredPacks(config(null, packDefinition("nerdbot:second", second)));
+
+        assertEquals(refs, service.allItemRefs());
+        assertTrue(refs != service.allItemRefs(), "registering a pack should publish a new snapshot");
+    }
+
     @Test
     void indexesOnlyItemDefinitionAssetPaths() throws IOException {
         // A pack whose asset listing mixes item definitions (at varying depths) with non-item files.
@@ -347,6 +392,18 @@ class ResourcePackServiceTest {
         assertEquals(List.of(ITEM_REF), service.itemRefsForOption("half-typed"));
     }
 
+    @Test
+    void itemRefIndexForOptionFollowsPackOptionSemantics() throws IOException {
+        Path zip = createFixturePackZip("fixture.zip");
+
+        service.registerConfiguredPacks(config(null, packDefinition(PACK_ID, zip)));
+
+        assertEquals(List.of(ITEM_REF), service.itemRefIndexForOption(PACK_ID).search("SIMPLE", 25));
+        assertEquals(List.of(ITEM_REF), service.itemRefIndexForOption("half-typed").search("item/", 25));
+        assertEquals(0, service.itemRefIndexForOption("vanilla").size());
+        assertEquals(0, service.itemRefIndexForOption(null).size());
+    }
+
     @Test
     void tooltipStyleForReturnsConfiguredMapping() throws IOException {
         Path zip = createFixturePackZip("fixture.zip");
@@ -455,6 +512,111 @@ class ResourcePackServiceTest {
         assertEquals(List.of("testpack:fancy"), service.tooltipStyleChoices(null));
     }
 
+    @Test
+    void reloadSwapsInAChangedPackAndKeepsTheOldVersionResolvable() throws IOException {
+        Path packDir = tempDir.resolve("extracted");
+        writeFixturePackFiles(packDir);
+        GeneratorConfig.ResourcePackConfig config = config(PACK_ID, packDefinition(PACK_ID, packDir));
+        service.registerConfiguredPacks(config);
+        PackId original = service.resolvePackOption(PACK_ID);
+
+        Files.writeString(packDir.resolve("assets/testpack/items/item/other.json"), ITEM_DEFINITION);
+
+        assertTrue(service.hasChanges(config));
+        assertEquals(List.of(PackId.parse(PACK_ID)), service.reloadConfiguredPacks(config, false));
+        assertFalse(service.hasChanges(config));
+
+        PackId reloaded = service.resolvePackOption(PACK_ID);
+        assertNotEquals(original, reloaded);
+        assertEquals(reloaded, service.resolvePackOption(null), "the default pack should follow the reload");
+        assertEquals(List.of("testpack:item/other", ITEM_REF), service.itemRefsForOption(PACK_ID));
+        assertEquals(List.of("testpack:item/other", ITEM_REF), service.allItemRefs());
+        assertEquals(List.of("vanilla", PACK_ID), service.packOptionChoices());
+        assertNotEquals(service.contentHash(original), service.contentHash(reloaded));
+        assertTrue(repository.resolve(original, ITEM_REF).isPresent(), "renders that resolved the old version should still finish");
+    }
+
+    @Test
+    void reloadSkipsUnchangedPacksEvenWhenForced() throws IOException {
+        Path zip = createFixturePackZip("fixture.zip");
+        GeneratorConfig.ResourcePackConfig config = config(null, packDefinition(PACK_ID, zip));
+        service.registerConfiguredPacks(config);
+        PackId original = service.resolvePackOption(PACK_ID);
+
+        assertFalse(service.hasChanges(config));
+        assertTrue(service.reloadConfiguredPacks(config, false).isEmpty());
+        assertTrue(service.reloadConfiguredPacks(config, true).isEmpty());
+        assertEquals(original, service.resolvePackOption(PACK_ID));
+        assertTrue(service.retiredVersions().isEmpty());
+    }
+
+    @Test
+    void forcedReloadPicksUpChangesTheSignatureMissed() throws IOException {
+        Path packDir = tempDir.resolve("extracted");
+        writeFixturePackFiles(packDir);
+        GeneratorConfig.ResourcePackConfig config = config(null, packDefinition(PACK_ID, packDir));
+        service.registerConfiguredPacks(config);
+        PackId original = service.resolvePackOption(PACK_ID);
+
+        // Same size and modification time, different contents
+        Path item = packDir.resolve("assets/testpack/items/item/simple.json");
+        FileTime modified = Files.getLastModifiedTime(item);
+        Files.writeString(item, ITEM_DEFINITION.replace("simple", "simplf"));
+        Files.setLastModifiedTime(item, modified);
+
+        assertTrue(service.reloadConfiguredPacks(config, false).isEmpty());
+        assertEquals(List.of(PackId.parse(PACK_ID)), service.reloadConfiguredPacks(config, true));
+        assertNotEquals(original, service.resolvePackOption(PACK_ID));
+    }
+
+    @Test
+    void reloadKeepsOnlyTheLatestRetiredVersionsOpen() throws IOException {
+        Path packDir = tempDir.resolve("extracted");
+        writeFixturePackFiles(packDir);
+        GeneratorConfig.ResourcePackConfig config = config(null, packDefinition(PACK_ID, packDir));
+        service.registerConfiguredPacks(config);
+
+        List<PackId> versions = new ArrayList<>(List.of(service.resolvePackOption(PACK_ID)));
+        for (int i = 0; i < 3; i++) {
+            Files.writeString(packDir.resolve("assets/testpack/items/item/other" + i + ".json"), ITEM_DEFINITION);
+            assertEquals(List.of(PackId.parse(PACK_ID)), service.reloadConfiguredPacks(config, false));
+            versions.add(service.resolvePackOption(PACK_ID));
+        }
+
+        assertEquals(versions.subList(1, 3), service.retiredVersions());
+        assertTrue(repository.resolve(versions.get(2), ITEM_REF).isPresent(), "the latest retired version should stay usable");
+
+        service.reloadConfiguredPacks(config(null), false);
+        assertEquals(versions.subList(2, 4), service.retiredVersions(), "removing a pack retires its current version");
+    }
+
+    @Test
+    void reloadKeepsThePreviousVersionWhenTheNewOneIsInvalid() throws IOException {
+        Path zip = createFixturePackZip("fixture.zip");
+        GeneratorConfig.PackDefinition definition = packDefinition(PACK_ID, zip);
+        service.registerConfiguredPacks(config(null, definition));
+        PackId original = service.resolvePackOption(PACK_ID);
+
+        definition.setTextColorRemap(Map.of("#AA0000", "red"));
+
+        assertTrue(service.reloadConfiguredPacks(config(null, definition), false).isEmpty());
+        assertEquals(original, service.resolvePackOption(PACK_ID));
+        assertEquals(List.of(ITEM_REF), service.itemRefsForOption(PACK_ID));
+    }
+
+    @Test
+    void reloadStopsOfferingPacksRemovedFromTheConfig() throws IOException {
+        Path zip = createFixturePackZip("fixture.zip");
+        service.registerConfiguredPacks(config(null, packDefinition(PACK_ID, zip)));
+
+        assertTrue(service.hasChanges(config(null)));
+        assertEquals(List.of(PackId.parse(PACK_ID)), service.reloadConfiguredPacks(config(null), false));
+
+        assertEquals(List.of("vanilla"), service.packOptionChoices());
+        assertTrue(service.allItemRefs().isEmpty());
+        assertThrows(GeneratorException.class, () -> service.resolvePackOption(PACK_ID));
+    }
+
     private static GeneratorConfig.ResourcePackConfig config(String defaultPack, GeneratorConfig.PackDefinition... packs) {
         GeneratorConfig.ResourcePackConfig config = new GeneratorConfig.ResourcePackConfig();
         config.setDefaultPack(defaultPack);
@@ -5,10 +5,13 @@ import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.Punishmen
 import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.PunishmentType;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -22,7 +25,7 @@ class PunishmentSearchAndStatsTest {
             .seed(punishment("t1", "mod1", PunishmentType.WARNING))
             .seed(punishment("t2", "mod2", PunishmentType.WARNING)));
 
-        List<Punishment> results = service.search("mod1", null, 10);
+        List<Punishment> results = service.search("mod1", null, null, 10).punishments();
 
         assertEquals(1, results.size());
         assertEquals("mod1", results.getFirst().getModeratorUserId());
@@ -34,7 +37,7 @@ class PunishmentSearchAndStatsTest {
             .seed(punishment("t1", "mod1", PunishmentType.WARNING))
             .seed(punishment("t2", "mod1", PunishmentType.BAN)));
 
-        List<Punishment> results = service.search("mod1", PunishmentType.BAN, 10);
+        List<Punishment> results = service.search("mod1", PunishmentType.BAN, null, 10).punishments();
 
         assertEquals(1, results.size());
         assertEquals(PunishmentType.BAN, results.getFirst().getType());
@@ -47,7 +50,7 @@ class PunishmentSearchAndStatsTest {
             .seed(punishment("t2", "mod2", PunishmentType.BAN))
             .seed(punishment("t3", "mod1", PunishmentType.WARNING)));
 
-        List<Punishment> results = service.search(null, PunishmentType.BAN, 10);
+        List<Punishment> results = service.search(null, PunishmentType.BAN, null, 10).punishments();
 
         assertEquals(2, results.size());
         assertTrue(results.stream().allMatch(punishment -> punishment.getType() == PunishmentType.BAN));
@@ -60,7 +63,44 @@ class PunishmentSearchAndStatsTest {
             store.seed(punishment("t" + i, "mod1", PunishmentType.WARNING));
         }
 
-        assertEquals(10, new PunishmentService(store).search("mod1", null, 10).size());
+        PunishmentPage page = new PunishmentService(store).search("mod1", null, null, 10);
+
+        assertEquals(10, page.punishments().size());
+        assertEquals(List.of(11), store.findLimits(), "the limit should reach the store, plus one to detect a next page");
+    }
+
+    @Test
+    void searchPagesThroughEveryMatchExactlyOnce() {
+        FakePunishmentStore store = new FakePunishmentStore();
+        for (int i = 0; i < 25; i++) {
+            store.seed(punishment("t" + i, "mod1", PunishmentType.WARNING));
+        }
+        PunishmentService service = new PunishmentService(store);
+
+        List<String> seen = new ArrayList<>();
+        PunishmentCursor after = null;
+        int pages = 0;
+        do {
+            PunishmentPage page = service.search("mod1", null, after, 10);
+            page.punishments().forEach(punishment -> seen.add(punishment.getPunishmentId()));
+            // Round-trip through the component ID form, as the Next button does
+            after = page.next() != null ? PunishmentCursor.decode(page.next().encode()) : null;
+            pages++;
+        } while (after != null);
+
+        assertEquals(3, pages);
+        assertEquals(25, seen.size());
+        assertEquals(25, new HashSet<>(seen).size(), "no punishment should appear on two pages");
+    }
+
+    @Test
+    void lastFullPageHasNoNextPage() {
+        FakePunishmentStore store = new FakePunishmentStore();
+        for (int i = 0; i < 10; i++) {
+            store.seed(punishment("t" + i, "mod1", PunishmentType.WARNING));
+        }
+
+        assertNull(new PunishmentService(store).search("mod1", null, null, 10).next());
     }
 
     @Test
@@ -68,7 +108,7 @@ class PunishmentSearchAndStatsTest {
         PunishmentService service = new PunishmentService(new FakePunishmentStore()
             .seed(punishment("t1", "mod1", PunishmentType.WARNING)));
 
-        assertTrue(service.search(null, null, 10).isEmpty());
+        assertTrue(service.search(null, null, null, 10).punishments().isEmpty());
     }
 
     @Test
@@ -0,0 +1,99 @@
+package net.hypixel.nerdbot.app.reminder;
+
+import net.hypixel.nerdbot.marmalade.storage.database.model.reminder.Reminder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The shared reminder scheduler dispatches due reminders in time order, never dispatches a
+ * cancelled reminder, only dispatches a rescheduled reminder once, and keeps dispatching after a
+ * restart.
+ */
+class ReminderSchedulerTest {
+
+    private final List<Reminder> dispatched = new CopyOnWriteArrayList<>();
+    private final CountDownLatch latch = new CountDownLatch(2);
+    private final ReminderScheduler scheduler = new ReminderScheduler((reminder, late) -> {
+        dispatched.add(reminder);
+        latch.countDown();
+    });
+
+    @AfterEach
+    void stopScheduler() {
+        scheduler.stop();
+    }
+
+    @Test
+    void dispatchesDueRemindersInTimeOrder() throws InterruptedException {
+        Reminder later = reminderIn(150);
+        Reminder sooner = reminderIn(50);
+        scheduler.start();
+
+        scheduler.schedule(later);
+        scheduler.schedule(sooner);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "both reminders should be dispatched");
+        assertEquals(List.of(sooner, later), dispatched);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void cancelledReminderIsNeverDispatched() throws InterruptedException {
+        Reminder cancelled = reminderIn(50);
+        Reminder kept = reminderIn(100);
+        Reminder marker = reminderIn(150);
+        scheduler.start();
+
+        scheduler.schedule(cancelled);
+        scheduler.schedule(kept);
+        scheduler.schedule(marker);
+        assertTrue(scheduler.cancel(cancelled));
+        assertFalse(scheduler.cancel(cancelled), "a second cancel should report nothing pending");
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "the remaining reminders should be dispatched");
+        assertEquals(List.of(kept, marker), dispatched);
+    }
+
+    @Test
+    void rescheduledReminderIsDispatchedOnce() throws InterruptedException {
+        Reminder reminder = reminderIn(50);
+        Reminder marker = reminderIn(200);
+        scheduler.start();
+
+        scheduler.schedule(reminder);
+        scheduler.schedule(reminder);
+        scheduler.schedule(marker);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "both reminders should be dispatched");
+        assertEquals(List.of(reminder, marker), dispatched);
+    }
+
+    @Test
+    void restartedSchedulerStillDispatches() throws InterruptedException {
+        scheduler.start();
+        scheduler.stop();
+        scheduler.start();
+
+        Reminder first = reminderIn(50);
+        Reminder second = reminderIn(100);
+        scheduler.schedule(first);
+        scheduler.schedule(second);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "both reminders should be dispatched after a restart");
+        assertEquals(List.of(first, second), dispatched);
+    }
+
+    private static Reminder reminderIn(long millis) {
+        return new Reminder("test", new Date(System.currentTimeMillis() + millis), "channel", "user");
+    }
+}
@@ -0,0 +1,86 @@
+package net.hypixel.nerdbot.app.storage;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Field changes become one combined update, repeated changes to a path merge into what applying
+ * them in turn would leave, and bounded list changes become {@code $push} with {@code $slice}.
+ */
+class DocumentUpdateTest {
+
+    @Test
+    void combinesEveryOperatorIntoOneUpdate() {
+        DocumentUpdate update = new DocumentUpdate()
+            .set("roleIds", List.of("1", "2"))
+            .inc("stats.count", 2)
+            .pushFirst("history", List.of(5L));
+
+        assertUpdate("""
+            {"$set": {"roleIds": ["1", "2"]},
+             "$inc": {"stats.count": {"$numberLong": "2"}},
+             "$push": {"history": {"$each": [{"$numberLong": "5"}], "$position": 0}}}""", update);
+    }
+
+    @Test
+    void mergesRepeatedChangesToAPath() {
+        DocumentUpdate update = new DocumentUpdate()
+            .set("last", 1L)
+            .set("last", 2L)
+            .inc("count", 2)
+            .inc("count", 3)
+            .pushFirst("history", List.of(1L, 1L))
+            .pushFirst("history", List.of(2L));
+
+        assertUpdate("""
+            {"$set": {"last": {"$numberLong": "2"}},
+             "$inc": {"count": {"$numberLong": "5"}},
+             "$push": {"history": {"$each": [{"$numberLong": "2"}, {"$numberLong": "1"}, {"$numberLong": "1"}], "$position": 0}}}""", update);
+    }
+
+    @Test
+    void refusesToPrependAndAppendToTheSamePath() {
+        DocumentUpdate update = new DocumentUpdate().pushFirst("history", List.of("a"));
+
+        assertThrows(IllegalArgumentException.class, () -> update.pushLast("history", "b", 10));
+    }
+
+    @Test
+    void appendingToABoundedListBecomesASlicedPush() {
+        DocumentUpdate growing = new DocumentUpdate().changeList("commands", List.of("a", "b"), List.of("a", "b", "c"));
+        DocumentUpdate full = new DocumentUpdate().changeList("commands", List.of("a", "b", "c"), List.of("b", "c", "d"));
+
+        assertUpdate("""
+            {"$push": {"commands": {"$each": ["c"], "$slice": -3}}}""", growing);
+        assertUpdate("""
+            {"$push": {"commands": {"$each": ["d"], "$slice": -3}}}""", full);
+    }
+
+    @Test
+    void prependingToABoundedListBecomesASlicedPush() {
+        DocumentUpdate update = new DocumentUpdate().changeList("commands", List.of("b", "c", "d"), List.of("a", "b", "c"));
+
+        assertUpdate("""
+            {"$push": {"commands": {"$each": ["a"], "$position": 0, "$slice": 3}}}""", update);
+    }
+
+    @Test
+    void otherListChangesReplaceTheList() {
+        DocumentUpdate edited = new DocumentUpdate().changeList("commands", List.of("a", "b", "c"), List.of("a", "x", "c"));
+        DocumentUpdate unchanged = new DocumentUpdate().changeList("commands", List.of("a"), List.of("a"));
+
+        assertUpdate("""
+            {"$set": {"commands": ["a", "x", "c"]}}""", edited);
+        assertTrue(unchanged.isEmpty());
+    }
+
+    private static void assertUpdate(String expected, DocumentUpdate update) {
+        assertEquals(BsonDocument.parse(expected), update.toBson().toBsonDocument());
+    }
+}
@@ -0,0 +1,250 @@
+package net.hypixel.nerdbot.app.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Only documents whose serialized state changed since their last successful save are written,
+ * failed saves are retried on the next flush, and saves are issued in bounded batches. Field-level
+ * updates wait for a running flush, and a document they bring up to date is not written again.
+ */
+class RepositoryFlusherTest {
+
+    private final RepositoryFlusher flusher = new RepositoryFlusher(Object::toString, 2);
+    private final Map<String, StringBuilder> documents = new LinkedHashMap<>();
+    private final List<String> saved = new ArrayList<>();
+
+    @Test
+    void firstFlushWritesEveryDocument() {
+        put("a", "alpha");
+        put("b", "beta");
+
+        RepositoryFlusher.FlushResult result = flush(this::save);
+
+        assertEquals(List.of("alpha", "beta"), saved);
+        assertEquals(2, result.written());
+        assertEquals(9, result.bytes());
+    }
+
+    @Test
+    void laterFlushesOnlyWriteChangedDocuments() {
+        put("a", "alpha");
+        put("b", "beta");
+        put("c", "gamma");
+        flush(this::save);
+        saved.clear();
+
+        documents.get("b").append("!");
+        RepositoryFlusher.FlushResult result = flush(this::save);
+
+        assertEquals(List.of("beta!"), saved);
+        assertEquals(3, result.cached());
+        assertEquals(1, result.dirty());
+
+        saved.clear();
+        assertEquals(0, flush(this::save).dirty());
+        assertTrue(saved.isEmpty());
+    }
+
+    @Test
+    void failedSavesAreRetriedOnTheNextFlush() {
+        put("a", "alpha");
+        put("b", "beta");
+
+        RepositoryFlusher.FlushResult failed = flush(document -> document.toString().equals("beta")
+            ? CompletableFuture.failedFuture(new IllegalStateException("write rejected"))
+            : save(document));
+
+        assertEquals(1, failed.written());
+        assertEquals(1, failed.failed());
+
+        saved.clear();
+        flush(this::save);
+
+        assertEquals(List.of("beta"), saved);
+    }
+
+    @Test
+    void removedDocumentsAreWrittenAgainIfTheyReturn() {
+        put("a", "alpha");
+        flush(this::save);
+
+        StringBuilder evicted = documents.remove("a");
+        flush(this::save);
+        documents.put("a", evicted);
+        saved.clear();
+        flush(this::save);
+
+        assertEquals(List.of("alpha"), saved);
+    }
+
+    @Test
+    void waitsForEachBatchBeforeStartingTheNext() {
+        for (int i = 0; i < 5; i++) {
+            put("id" + i, "doc" + i);
+        }
+
+        List<CompletableFuture<Object>> inFlight = new ArrayList<>();
+        int[] mostInFlight = {0};
+
+        flush(document -> {
+            inFlight.removeIf(CompletableFuture::isDone);
+            CompletableFuture<Object> write = new CompletableFuture<>();
+            inFlight.add(write);
+            mostInFlight[0] = Math.max(mostInFlight[0], inFlight.size());
+            // Complete asynchronously so the flusher has to wait for the batch
+            CompletableFuture.runAsync(() -> write.complete(document));
+            return write;
+        });
+
+        assertTrue(mostInFlight[0] <= 2, "at most one batch of 2 should be in flight, saw " + mostInFlight[0]);
+    }
+
+    @Test
+    void stopsWaitingAtTheDeadlineAndReportsWhatWasNotSaved() {
+        put("a", "alpha");
+        put("b", "beta");
+        put("c", "gamma");
+
+        RepositoryFlusher.FlushResult result = flusher.flush("test", documents,
+            document -> document.toString().equals("gamma") ? save(document) : new CompletableFuture<>(),
+            System.nanoTime() + 50_000_000L);
+
+        assertEquals(0, result.written());
+        assertEquals(3, result.missed());
+        assertEquals(List.of("a", "b", "c"), result.unsaved().stream().map(RepositoryJournal.Entry::id).toList());
+        assertEquals("beta", result.unsaved().get(1).json());
+        assertTrue(saved.isEmpty(), "no batch should start once the deadline has passed");
+    }
+
+    @Test
+    void journalsFailedSavesAsWellAsMissedOnes() {
+        put("a", "alpha");
+
+        RepositoryFlusher.FlushResult result = flush(document -> CompletableFuture.failedFuture(new IllegalStateException("write rejected")));
+
+        assertEquals(1, result.failed());
+        assertEquals(0, result.missed());
+        assertEquals("java.lang.StringBuilder", result.unsaved().get(0).type());
+    }
+
+    @Test
+    void updatedDocumentsAreNotWrittenAgain() {
+        put("a", "alpha");
+        put("b", "beta");
+        flush(this::save);
+        saved.clear();
+
+        assertTrue(update(documents, new DocumentUpdate(), true));
+
+        assertEquals(0, flush(this::save).dirty());
+        assertTrue(saved.isEmpty());
+    }
+
+    @Test
+    void updatesLeaveOtherUnsavedChangesForTheNextFlush() {
+        put("a", "alpha");
+        put("b", "beta");
+        flush(this::save);
+        saved.clear();
+
+        documents.get("a").append("?");
+        update(documents, new DocumentUpdate(), true);
+
+        assertEquals(List.of("alpha?!"), flushAndCollect());
+    }
+
+    @Test
+    void incompleteOrFailedUpdatesLeaveTheDocumentDirty() {
+        put("a", "alpha");
+        put("b", "beta");
+        flush(this::save);
+        saved.clear();
+
+        update(Map.of("a", documents.get("a")), new DocumentUpdate().requireFullSave(), true);
+        assertFalse(update(Map.of("b", documents.get("b")), new DocumentUpdate(), false));
+
+        assertEquals(List.of("alpha!", "beta!"), flushAndCollect());
+    }
+
+    @Test
+    void changesMadeWhileAnUpdateIsWrittenAreFlushed() {
+        put("a", "alpha");
+        flush(this::save);
+        saved.clear();
+
+        flusher.update("test", documents, document -> {
+            document.append("!");
+            return new DocumentUpdate();
+        }, updates -> {
+            documents.get("a").append("?");
+            return true;
+        });
+
+        assertEquals(List.of("alpha!?"), flushAndCollect());
+    }
+
+    @Test
+    void updatesWaitForARunningFlush() throws Exception {
+        put("a", "alpha");
+        CompletableFuture<Boolean> update = new CompletableFuture<>();
+        boolean[] updatedDuringFlush = {false};
+
+        flush(document -> {
+            Thread.ofVirtual().start(() -> update.complete(update(documents, new DocumentUpdate(), true)));
+            try {
+                update.get(200, TimeUnit.MILLISECONDS);
+                updatedDuringFlush[0] = true;
+            } catch (Exception exception) {
+                // Still waiting, as it should be
+            }
+            return save(document);
+        });
+
+        assertFalse(updatedDuringFlush[0], "the update should wait for the flush to finish");
+        assertTrue(update.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("alpha"), saved);
+        assertEquals(0, flush(this::save).dirty(), "the flush saved the document before the update changed it");
+    }
+
+    private void put(String id, String content) {
+        documents.put(id, new StringBuilder(content));
+    }
+
+    private RepositoryFlusher.FlushResult flush(Function<StringBuilder, CompletableFuture<?>> writer) {
+        return flusher.flush("test", documents, writer);
+    }
+
+    /**
+     * Appends {@code !} to each document as the change, and reports {@code written} as the
+     * outcome of writing it.
+     */
+    private boolean update(Map<String, StringBuilder> changed, DocumentUpdate update, boolean written) {
+        return flusher.update("test", changed, document -> {
+            document.append("!");
+            return update;
+        }, updates -> written);
+    }
+
+    private List<String> flushAndCollect() {
+        saved.clear();
+        flush(this::save);
+        return List.copyOf(saved);
+    }
+
+    private CompletableFuture<?> save(StringBuilder document) {
+        saved.add(document.toString());
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,59 @@
+package net.hypixel.nerdbot.app.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Journaled documents read back exactly as written, a new journal replaces the old one, and a
+ * write interrupted before its final move is never mistaken for a journal.
+ */
+class RepositoryJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackWhatWasWritten() throws IOException {
+        RepositoryJournal journal = new RepositoryJournal(directory.resolve("journal"));
+        List<RepositoryJournal.Entry> entries = List.of(
+            new RepositoryJournal.Entry("1", "example.User", "{\"name\":\"first\",\"roles\":[\"a\",\"b\"]}"),
+            new RepositoryJournal.Entry("2", "example.User", "{\"name\":\"line\\nbreak\"}")
+        );
+
+        journal.write("UserRepository", entries);
+
+        assertEquals(List.of("UserRepository"), journal.repositoryNames());
+        assertEquals(entries, journal.read("UserRepository"));
+    }
+
+    @Test
+    void replacesThePreviousJournal() throws IOException {
+        RepositoryJournal journal = new RepositoryJournal(directory);
+
+        journal.write("UserRepository", List.of(new RepositoryJournal.Entry("1", "example.User", "{}")));
+        journal.write("UserRepository", List.of(new RepositoryJournal.Entry("2", "example.User", "{}")));
+
+        assertEquals(List.of("2"), journal.read("UserRepository").stream().map(RepositoryJournal.Entry::id).toList());
+    }
+
+    @Test
+    void ignoresInterruptedWritesAndDeletedJournals() throws IOException {
+        RepositoryJournal journal = new RepositoryJournal(directory);
+
+        Files.writeString(directory.resolve("ReminderRepository.jsonl.tmp"), "{\"id\":");
+        journal.write("UserRepository", List.of(new RepositoryJournal.Entry("1", "example.User", "{}")));
+        journal.delete("UserRepository");
+
+        assertTrue(journal.repositoryNames().isEmpty());
+        assertTrue(journal.read("UserRepository").isEmpty());
+        assertTrue(new RepositoryJournal(directory.resolve("missing")).repositoryNames().isEmpty());
+    }
+}
@@ -0,0 +1,120 @@
+package net.hypixel.nerdbot.app.suggestion;
+
+import net.hypixel.nerdbot.app.testsupport.FakeThreadChannels;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Adding, replacing, retagging and removing a suggestion keeps every index in line with the
+ * cached suggestions, and lookups return the matching suggestions newest first.
+ */
+class SuggestionIndexTest {
+
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void lookupsReturnMatchesNewestFirst() {
+        SuggestionIndex index = new SuggestionIndex();
+        Suggestion oldest = suggestion("1", 10, 0, Suggestion.ChannelType.ALPHA, "Bug");
+        Suggestion middle = suggestion("2", 20, 1, Suggestion.ChannelType.PROJECT, "bug", "Feature");
+        Suggestion newest = suggestion("3", 10, 2, Suggestion.ChannelType.ALPHA, "Feature");
+        index.put(middle);
+        index.put(newest);
+        index.put(oldest);
+
+        assertEquals(3, index.size());
+        assertSame(middle, index.get("2"));
+        assertEquals(List.of(newest, middle, oldest), index.all());
+        assertEquals(List.of(newest, oldest), index.findByOwner(10));
+        assertEquals(List.of(), index.findByOwner(30));
+        assertEquals(List.of(newest, middle, oldest), index.find(null, null, List.of(), List.of()));
+        assertEquals(List.of(newest, oldest), index.find(Suggestion.ChannelType.ALPHA, null, List.of(), List.of()));
+        assertEquals(List.of(middle, oldest), index.find(null, null, List.of("BUG"), List.of()));
+        assertEquals(List.of(middle), index.find(null, null, List.of("bug", "feature"), List.of()));
+        assertEquals(List.of(newest), index.find(null, 10L, List.of(), List.of("Bug")));
+        assertEquals(List.of(oldest), index.find(Suggestion.ChannelType.ALPHA, 10L, List.of("bug"), List.of()));
+        assertEquals(List.of(), index.find(Suggestion.ChannelType.PROJECT, 10L, List.of(), List.of()));
+    }
+
+    @Test
+    void replacingASuggestionMovesItBetweenIndexes() {
+        SuggestionIndex index = new SuggestionIndex();
+        Suggestion original = suggestion("1", 10, 0, Suggestion.ChannelType.ALPHA, "Bug");
+        Suggestion replacement = suggestion("1", 20, 0, Suggestion.ChannelType.PROJECT, "Feature");
+        index.put(original);
+        index.put(replacement);
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(replacement), index.all());
+        assertEquals(List.of(), index.findByOwner(10));
+        assertEquals(List.of(replacement), index.findByOwner(20));
+        assertEquals(List.of(), index.find(Suggestion.ChannelType.ALPHA, null, List.of(), List.of()));
+        assertEquals(List.of(), index.find(null, null, List.of("Bug"), List.of()));
+        assertEquals(List.of(replacement), index.find(null, null, List.of("Feature"), List.of()));
+    }
+
+    @Test
+    void retaggingMovesASuggestionBetweenTags() {
+        SuggestionIndex index = new SuggestionIndex();
+        Suggestion suggestion = suggestion("1", 10, 0, Suggestion.ChannelType.ALPHA, "Bug");
+        index.put(suggestion);
+
+        assertTrue(index.updateAppliedTags("1", List.of("Feature")));
+        assertFalse(index.updateAppliedTags("2", List.of("Feature")));
+
+        assertEquals(List.of("Feature"), suggestion.getAppliedTagNames());
+        assertEquals(List.of(), index.find(null, null, List.of("Bug"), List.of()));
+        assertEquals(List.of(suggestion), index.find(null, null, List.of("feature"), List.of()));
+        assertEquals(List.of(), index.find(null, 10L, List.of(), List.of("Feature")));
+    }
+
+    @Test
+    void removingASuggestionClearsEveryIndex() {
+        SuggestionIndex index = new SuggestionIndex();
+        Suggestion removed = suggestion("1", 10, 0, Suggestion.ChannelType.ALPHA, "Bug");
+        Suggestion kept = suggestion("2", 10, 1, Suggestion.ChannelType.ALPHA, "Bug");
+        index.put(removed);
+        index.put(kept);
+
+        assertSame(removed, index.remove("1"));
+        assertNull(index.remove("1"));
+
+        assertNull(index.get("1"));
+        assertEquals(List.of(kept), index.all());
+        assertEquals(List.of(kept), index.findByOwner(10));
+        assertEquals(List.of(kept), index.find(Suggestion.ChannelType.ALPHA, null, List.of("Bug"), List.of()));
+    }
+
+    @Test
+    void removeIfCurrentLeavesANewerInstanceAlone() {
+        SuggestionIndex index = new SuggestionIndex();
+        Suggestion stale = suggestion("1", 10, 0, Suggestion.ChannelType.ALPHA, "Bug");
+        Suggestion current = suggestion("1", 10, 0, Suggestion.ChannelType.ALPHA, "Feature");
+        index.put(stale);
+        index.put(current);
+
+        assertFalse(index.removeIfCurrent(stale));
+        assertSame(current, index.get("1"));
+        assertEquals(List.of(current), index.find(null, null, List.of("Feature"), List.of()));
+
+        assertTrue(index.removeIfCurrent(current));
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.all());
+        assertEquals(List.of(), index.findByOwner(10));
+        assertEquals(List.of(), index.find(null, null, List.of("Feature"), List.of()));
+    }
+
+    private static Suggestion suggestion(String threadId, long ownerId, int daysAfterEpoch, Suggestion.ChannelType channelType, String... tags) {
+        return new Suggestion(FakeThreadChannels.thread(threadId, ownerId, EPOCH.plusDays(daysAfterEpoch), tags), channelType, Optional.empty());
+    }
+}
@@ -0,0 +1,72 @@
+package net.hypixel.nerdbot.app.suggestion;
+
+import net.hypixel.nerdbot.discord.config.EmojiConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Vote counts follow reaction deltas exactly, never go negative, and only configured vote emojis
+ * count as votes.
+ */
+class SuggestionVotesTest {
+
+    @Test
+    void appliesDeltasToTheMatchingCounter() {
+        SuggestionVotes votes = new SuggestionVotes(3, 1, 0);
+
+        votes.apply(SuggestionVotes.Vote.AGREE, 1);
+        votes.apply(SuggestionVotes.Vote.DISAGREE, -1);
+        votes.apply(SuggestionVotes.Vote.NEUTRAL, 1);
+
+        assertEquals(4, votes.get(SuggestionVotes.Vote.AGREE));
+        assertEquals(0, votes.get(SuggestionVotes.Vote.DISAGREE));
+        assertEquals(1, votes.get(SuggestionVotes.Vote.NEUTRAL));
+    }
+
+    @Test
+    void removalsNeverDropBelowZero() {
+        SuggestionVotes votes = new SuggestionVotes(0, 0, 0);
+
+        assertEquals(0, votes.apply(SuggestionVotes.Vote.AGREE, -1));
+        assertEquals(1, votes.apply(SuggestionVotes.Vote.AGREE, 1));
+    }
+
+    @Test
+    void concurrentDeltasAreNotLost() throws InterruptedException {
+        SuggestionVotes votes = new SuggestionVotes(0, 0, 0);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    votes.apply(SuggestionVotes.Vote.AGREE, 1);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8_000, votes.get(SuggestionVotes.Vote.AGREE));
+    }
+
+    @Test
+    void resolvesOnlyConfiguredVoteEmojis() {
+        EmojiConfig emojiConfig = new EmojiConfig();
+        emojiConfig.setAgreeEmojiId("1");
+        emojiConfig.setDisagreeEmojiId("2");
+        emojiConfig.setNeutralEmojiId("3");
+        emojiConfig.setGreenlitEmojiId("4");
+
+        assertEquals(Optional.of(SuggestionVotes.Vote.AGREE), SuggestionVotes.Vote.fromEmojiId(emojiConfig, "1"));
+        assertEquals(Optional.of(SuggestionVotes.Vote.DISAGREE), SuggestionVotes.Vote.fromEmojiId(emojiConfig, "2"));
+        assertEquals(Optional.of(SuggestionVotes.Vote.NEUTRAL), SuggestionVotes.Vote.fromEmojiId(emojiConfig, "3"));
+        assertEquals(Optional.empty(), SuggestionVotes.Vote.fromEmojiId(emojiConfig, "4"));
+    }
+}
@@ -0,0 +1,37 @@
+package net.hypixel.nerdbot.app.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inactive threads are archived and locked once they pass the configured thresholds, disabled
+ * thresholds are never applied, and threads already in the target state are left alone.
+ */
+class ThreadMaintenanceActionTest {
+
+    @Test
+    void archivesAndLocksPastTheirThresholds() {
+        assertEquals(new ThreadMaintenanceAction(true, false), ThreadMaintenanceAction.decide(false, false, 168, 168, 336));
+        assertEquals(new ThreadMaintenanceAction(true, true), ThreadMaintenanceAction.decide(false, false, 400, 168, 336));
+    }
+
+    @Test
+    void activeThreadsAreLeftAlone() {
+        assertTrue(ThreadMaintenanceAction.decide(false, false, 167, 168, 336).isEmpty());
+    }
+
+    @Test
+    void disabledThresholdsAreNeverApplied() {
+        assertSame(ThreadMaintenanceAction.NONE, ThreadMaintenanceAction.decide(false, false, 10_000, 0, -1));
+        assertEquals(new ThreadMaintenanceAction(true, false), ThreadMaintenanceAction.decide(false, false, 10_000, 168, -1));
+    }
+
+    @Test
+    void threadsAlreadyInTheTargetStateAreNotChangedAgain() {
+        assertEquals(new ThreadMaintenanceAction(false, true), ThreadMaintenanceAction.decide(true, false, 400, 168, 336));
+        assertSame(ThreadMaintenanceAction.NONE, ThreadMaintenanceAction.decide(true, true, 400, 168, 336));
+    }
+}
@@ -1,6 +1,7 @@
 package net.hypixel.nerdbot.app.testsupport;
 
 import net.hypixel.nerdbot.app.storage.DiscordUserStore;
+import net.hypixel.nerdbot.app.storage.DocumentUpdate;
 import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
 
 import java.util.ArrayList;
@@ -8,17 +9,20 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * In-memory {@link DiscordUserStore} for tests.
  *
  * <p>Seed users with {@link #seed(DiscordUser)} and inspect which users were re-saved with
- * {@link #savedIds()}. Insertion order is preserved so tests can assert deterministic iteration.
+ * {@link #savedIds()} and which field-level updates were written with {@link #updates()}.
+ * Insertion order is preserved so tests can assert deterministic iteration.
  */
 public class FakeDiscordUserStore implements DiscordUserStore {
 
     private final Map<String, DiscordUser> users = new LinkedHashMap<>();
     private final List<String> savedIds = new ArrayList<>();
+    private final Map<String, DocumentUpdate> updates = new LinkedHashMap<>();
 
     /**
      * Add (or replace) a user in the store without recording it as a {@link #save(DiscordUser)}.
@@ -46,10 +50,22 @@ public class FakeDiscordUserStore implements DiscordUserStore {
         savedIds.add(user.getDiscordId());
     }
 
+    @Override
+    public void update(List<DiscordUser> users, Function<DiscordUser, DocumentUpdate> change) {
+        users.forEach(user -> updates.put(user.getDiscordId(), change.apply(user)));
+    }
+
     /**
      * @return the IDs passed to {@link #save(DiscordUser)}, in call order (duplicates preserved)
      */
     public List<String> savedIds() {
         return List.copyOf(savedIds);
     }
+
+    /**
+     * @return the latest update made through {@link #update(List, Function)} for each user
+     */
+    public Map<String, DocumentUpdate> updates() {
+        return Map.copyOf(updates);
+    }
 }
@@ -1,48 +1,55 @@
 package net.hypixel.nerdbot.app.testsupport;
 
+import net.hypixel.nerdbot.app.punishment.PunishmentCursor;
 import net.hypixel.nerdbot.app.punishment.PunishmentStore;
 import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.Punishment;
 import net.hypixel.nerdbot.marmalade.storage.database.model.punishment.PunishmentType;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * In-memory {@link PunishmentStore} for tests. Seed punishments with {@link #seed(Punishment)};
- * insertion order is preserved.
+ * queries return them in the same newest-first order as the real store.
  */
 public class FakePunishmentStore implements PunishmentStore {
 
     private final List<Punishment> punishments = new ArrayList<>();
+    private final List<Integer> findLimits = new ArrayList<>();
 
     public FakePunishmentStore seed(Punishment punishment) {
         punishments.add(punishment);
         return this;
     }
 
-    @Override
-    public List<Punishment> getAll() {
-        return new ArrayList<>(punishments);
+    /**
+     * @return the limit passed to each {@link #find} call, in order
+     */
+    public List<Integer> findLimits() {
+        return findLimits;
     }
 
     @Override
-    public List<Punishment> findByModeratorUserId(String moderatorUserId) {
+    public List<Punishment> find(@Nullable String moderatorUserId, @Nullable PunishmentType type, @Nullable PunishmentCursor after, int limit) {
+        findLimits.add(limit);
         return punishments.stream()
-            .filter(punishment -> moderatorUserId.equals(punishment.getModeratorUserId()))
+            .filter(punishment -> moderatorUserId == null || moderatorUserId.equals(punishment.getModeratorUserId()))
+            .filter(punishment -> type == null || punishment.getType() == type)
+            .filter(punishment -> after == null || after.precedes(punishment))
+            .sorted(PunishmentCursor.NEWEST_FIRST)
+            .limit(limit)
             .toList();
     }
 
     @Override
-    public long countByTargetUserId(String targetUserId) {
-        return punishments.stream()
+    public Map<PunishmentType, Long> countByType(String targetUserId) {
+        Map<PunishmentType, Long> counts = new EnumMap<>(PunishmentType.class);
+        punishments.stream()
             .filter(punishment -> targetUserId.equals(punishment.getTargetUserId()))
-            .count();
-    }
-
-    @Override
-    public long countByTargetAndType(String targetUserId, PunishmentType type) {
-        return punishments.stream()
-            .filter(punishment -> targetUserId.equals(punishment.getTargetUserId()) && punishment.getType() == type)
-            .count();
+            .forEach(punishment -> counts.merge(punishment.getType(), 1L, Long::sum));
+        return counts;
     }
 }
@@ -0,0 +1,65 @@
+package net.hypixel.nerdbot.app.testsupport;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.channel.concrete.ForumChannel;
+import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
+import net.dv8tion.jda.api.entities.channel.forums.ForumTag;
+import net.dv8tion.jda.api.entities.channel.unions.IThreadContainerUnion;
+
+import java.lang.reflect.Proxy;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stand-in forum threads for tests.
+ *
+ * <p>Only the getters a suggestion reads when it is built from its thread are answered; any other
+ * call fails with {@link UnsupportedOperationException}.
+ */
+public final class FakeThreadChannels {
+
+    private static final String GUILD_ID = "1";
+    private static final String FORUM_ID = "2";
+
+    private FakeThreadChannels() {
+    }
+
+    /**
+     * A forum thread with the given id, owner, creation time and applied tag names.
+     */
+    public static ThreadChannel thread(String threadId, long ownerId, OffsetDateTime timeCreated, String... tagNames) {
+        List<ForumTag> tags = Arrays.stream(tagNames)
+            .map(name -> fake(ForumTag.class, Map.of("getName", name)))
+            .toList();
+        ForumChannel forum = fake(ForumChannel.class, Map.of("getId", FORUM_ID));
+
+        return fake(ThreadChannel.class, Map.of(
+            "getId", threadId,
+            "getName", threadId,
+            "getOwnerId", String.valueOf(ownerId),
+            "getOwnerIdLong", ownerId,
+            "getTimeCreated", timeCreated,
+            "getAppliedTags", tags,
+            "getGuild", fake(Guild.class, Map.of("getId", GUILD_ID)),
+            "getParentChannel", fake(IThreadContainerUnion.class, Map.of("asForumChannel", forum))
+        ));
+    }
+
+    private static <T> T fake(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> type.getSimpleName() + answers;
+                default -> {
+                    if (!answers.containsKey(method.getName())) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    yield answers.get(method.getName());
+                }
+            };
+        }));
+    }
+}
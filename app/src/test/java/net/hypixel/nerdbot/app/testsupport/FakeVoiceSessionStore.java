@@ -0,0 +1,47 @@
+package net.hypixel.nerdbot.app.testsupport;
+
+import net.hypixel.nerdbot.app.activity.VoiceSession;
+import net.hypixel.nerdbot.app.activity.VoiceSessionStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory {@link VoiceSessionStore} for tests.
+ *
+ * <p>Seed a previous checkpoint with {@link #seed(VoiceSession)} and inspect the latest one with
+ * {@link #saved()}.
+ */
+public class FakeVoiceSessionStore implements VoiceSessionStore {
+
+    private final List<VoiceSession> sessions = new ArrayList<>();
+
+    /**
+     * Add a session to the stored checkpoint as-is.
+     *
+     * @return this store, for chaining
+     */
+    public FakeVoiceSessionStore seed(VoiceSession session) {
+        sessions.add(session);
+        return this;
+    }
+
+    @Override
+    public List<VoiceSession> loadAll() {
+        return List.copyOf(sessions);
+    }
+
+    @Override
+    public void replaceAll(Collection<VoiceSession> openSessions, long checkpointedAt) {
+        sessions.clear();
+        openSessions.forEach(session -> sessions.add(new VoiceSession(session.userId(), session.channelId(), session.joinedAt(), checkpointedAt)));
+    }
+
+    /**
+     * @return the sessions written by the last checkpoint
+     */
+    public List<VoiceSession> saved() {
+        return List.copyOf(sessions);
+    }
+}
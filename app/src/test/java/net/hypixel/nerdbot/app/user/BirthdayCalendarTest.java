@@ -0,0 +1,70 @@
+package net.hypixel.nerdbot.app.user;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The birthday calendar hands out every birthday whose slot has started, in one batch, never before
+ * the birthday itself has started, and keeps each user in at most one slot.
+ */
+class BirthdayCalendarTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Test
+    void pollsEveryBirthdayInStartedSlotsAsOneBatch() {
+        BirthdayCalendar calendar = new BirthdayCalendar(Duration.ofHours(1));
+        calendar.schedule("a", 10 * HOUR + 5);
+        calendar.schedule("b", 10 * HOUR + 30 * 60_000L);
+        calendar.schedule("c", 9 * HOUR);
+        calendar.schedule("d", 12 * HOUR);
+
+        List<BirthdayCalendar.Occurrence> due = calendar.pollDue(11 * HOUR);
+
+        assertEquals(List.of("c", "a", "b"), userIds(due), "earlier slots first, then slot insertion order");
+        assertEquals(10 * HOUR + 5, due.get(1).occurrenceMillis());
+        assertEquals(1, calendar.size(), "only the future birthday should remain queued");
+        assertTrue(calendar.pollDue(11 * HOUR).isEmpty(), "polled birthdays should not be returned twice");
+    }
+
+    @Test
+    void neverPollsABirthdayBeforeItStarts() {
+        BirthdayCalendar calendar = new BirthdayCalendar(Duration.ofHours(1));
+        calendar.schedule("a", 10 * HOUR + 30 * 60_000L);
+
+        assertTrue(calendar.pollDue(10 * HOUR + 30 * 60_000L).isEmpty(), "the slot the birthday falls in started before it");
+        assertEquals(List.of("a"), userIds(calendar.pollDue(11 * HOUR)));
+    }
+
+    @Test
+    void reschedulingMovesTheUserInsteadOfDuplicatingThem() {
+        BirthdayCalendar calendar = new BirthdayCalendar(Duration.ofHours(1));
+        calendar.schedule("a", HOUR);
+        calendar.schedule("a", 100 * HOUR);
+
+        assertEquals(1, calendar.size());
+        assertTrue(calendar.pollDue(HOUR).isEmpty(), "the old slot should no longer hold the user");
+        assertEquals(List.of("a"), userIds(calendar.pollDue(100 * HOUR)));
+    }
+
+    @Test
+    void cancelledUsersAreNotPolled() {
+        BirthdayCalendar calendar = new BirthdayCalendar(Duration.ofHours(1));
+        calendar.schedule("a", HOUR);
+
+        assertTrue(calendar.cancel("a"));
+        assertFalse(calendar.cancel("a"));
+        assertEquals(0, calendar.size());
+        assertTrue(calendar.pollDue(HOUR).isEmpty());
+    }
+
+    private static List<String> userIds(List<BirthdayCalendar.Occurrence> occurrences) {
+        return occurrences.stream().map(BirthdayCalendar.Occurrence::userId).toList();
+    }
+}
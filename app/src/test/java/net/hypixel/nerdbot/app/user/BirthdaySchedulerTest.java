@@ -0,0 +1,70 @@
+package net.hypixel.nerdbot.app.user;
+
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A birthday in a timezone half an hour off the hourly slots is announced once, in the first slot
+ * after the user's local midnight, and then queued for the following year. A February 29th
+ * birthday falls on the 28th in common years and goes back to the 29th in leap years.
+ */
+class BirthdaySchedulerTest {
+
+    private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata");
+    private static final long HALF_HOUR = Duration.ofMinutes(30).toMillis();
+
+    @Test
+    void halfHourTimezoneIsAnnouncedOnceAndNeverEarly() {
+        DiscordUser user = new DiscordUser("birthday-scheduler-test");
+        user.setBirthday(new Date(946_684_800_000L));
+        user.getBirthdayData().setTimezone(KOLKATA.getId());
+        Function<String, Optional<DiscordUser>> users = userId -> Optional.of(user).filter(candidate -> candidate.getDiscordId().equals(userId));
+
+        try {
+            BirthdayScheduler.schedule(user);
+            long birthday = BirthdayScheduler.nextOccurrence(user.getBirthdayData(), System.currentTimeMillis());
+            long nextBirthday = Instant.ofEpochMilli(birthday).atZone(KOLKATA).plusYears(1).toInstant().toEpochMilli();
+
+            assertEquals(LocalTime.MIDNIGHT, Instant.ofEpochMilli(birthday).atZone(KOLKATA).toLocalTime());
+            assertTrue(BirthdayScheduler.pollDue(birthday - HALF_HOUR, users).isEmpty(), "the slot the birthday falls in starts before local midnight");
+            assertEquals(List.of(user), BirthdayScheduler.pollDue(birthday + HALF_HOUR, users));
+            assertTrue(BirthdayScheduler.pollDue(birthday + 3 * HALF_HOUR, users).isEmpty(), "the birthday should not be announced again");
+            assertEquals(nextBirthday, BirthdayScheduler.nextOccurrence(user.getBirthdayData(), birthday));
+            assertEquals(List.of(user), BirthdayScheduler.pollDue(nextBirthday + HALF_HOUR, users));
+        } finally {
+            BirthdayScheduler.cancel(user);
+        }
+    }
+
+    @Test
+    void leapDayBirthdayReturnsToTheTwentyNinthInLeapYears() {
+        DiscordUser user = new DiscordUser("birthday-scheduler-leap-test");
+        user.setBirthday(Date.from(LocalDate.of(2000, 2, 29).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        user.getBirthdayData().setTimezone("UTC");
+
+        long commonYear = BirthdayScheduler.nextOccurrence(user.getBirthdayData(), utcMidnight(2026, 6, 1));
+        long leapYear = BirthdayScheduler.nextOccurrence(user.getBirthdayData(), commonYear);
+
+        assertEquals(utcMidnight(2027, 2, 28), commonYear);
+        assertEquals(utcMidnight(2028, 2, 29), leapYear, "a leap year after a common year should be back on the 29th");
+        assertEquals(utcMidnight(2029, 2, 28), BirthdayScheduler.nextOccurrence(user.getBirthdayData(), leapYear));
+    }
+
+    private static long utcMidnight(int year, int month, int day) {
+        return LocalDate.of(year, month, day).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
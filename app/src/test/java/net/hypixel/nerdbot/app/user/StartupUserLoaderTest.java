@@ -0,0 +1,56 @@
+package net.hypixel.nerdbot.app.user;
+
+import net.hypixel.nerdbot.marmalade.json.DataSerialization;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.DiscordUser;
+import net.hypixel.nerdbot.marmalade.storage.database.model.user.birthday.BirthdayData;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A projected user document yields a user carrying the same birthday as the full document,
+ * documents without a birthday yield nothing to queue, and an unreadable birthday is reported
+ * rather than skipped.
+ */
+class StartupUserLoaderTest {
+
+    @Test
+    void readsTheBirthdayFromTheProjection() {
+        DiscordUser stored = new DiscordUser("123");
+        stored.setBirthday(new Date(946_684_800_000L));
+        stored.getBirthdayData().setTimezone("Europe/Amsterdam");
+
+        Optional<DiscordUser> projected = StartupUserLoader.birthdayUser(project("123", Document.parse(DataSerialization.GSON.toJson(stored.getBirthdayData()))));
+
+        assertTrue(projected.isPresent());
+        assertEquals("123", projected.get().getDiscordId());
+        assertEquals(stored.getBirthdayData().getBirthdayThisYear(), projected.get().getBirthdayData().getBirthdayThisYear());
+        assertEquals(stored.getBirthdayData().getTimeZoneId(), projected.get().getBirthdayData().getTimeZoneId());
+    }
+
+    @Test
+    void skipsUsersWithoutABirthday() {
+        assertTrue(StartupUserLoader.birthdayUser(project("123", null)).isEmpty());
+        assertTrue(StartupUserLoader.birthdayUser(project("123", Document.parse(DataSerialization.GSON.toJson(new BirthdayData())))).isEmpty());
+        assertTrue(StartupUserLoader.birthdayUser(new Document("birthdayData", new Document("birthday", "not a date"))).isEmpty());
+    }
+
+    @Test
+    void rejectsABirthdayItCannotRead() {
+        assertThrows(RuntimeException.class, () -> StartupUserLoader.birthdayUser(new Document("discordId", "123").append("birthdayData", "not a birthday")));
+    }
+
+    private static Document project(String discordId, Document birthdayData) {
+        Document document = new Document("discordId", discordId);
+        if (birthdayData != null) {
+            document.append("birthdayData", birthdayData);
+        }
+        return document;
+    }
+}
@@ -5,7 +5,7 @@ import net.aerh.slashcommands.SlashCommandManager;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.JDABuilder;
 import net.dv8tion.jda.api.entities.Activity;
-import net.dv8tion.jda.api.hooks.AnnotatedEventManager;
+import net.dv8tion.jda.api.hooks.IEventManager;
 import net.dv8tion.jda.api.requests.GatewayIntent;
 import net.dv8tion.jda.api.utils.ChunkingFilter;
 import net.dv8tion.jda.api.utils.MemberCachePolicy;
@@ -16,6 +16,7 @@ import net.hypixel.nerdbot.discord.api.feature.BotFeature;
 import net.hypixel.nerdbot.discord.cache.ChannelCache;
 import net.hypixel.nerdbot.discord.cache.EmojiCache;
 import net.hypixel.nerdbot.discord.config.DiscordBotConfig;
+import net.hypixel.nerdbot.discord.event.VirtualThreadEventManager;
 import net.hypixel.nerdbot.marmalade.json.JsonUtils;
 import net.hypixel.nerdbot.marmalade.json.DataSerialization;
 import net.hypixel.nerdbot.marmalade.storage.database.Database;
@@ -33,6 +34,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Base implementation for Discord bots built on top of the NerdBot platform.
@@ -85,6 +87,15 @@ public abstract class AbstractDiscordBot implements DiscordBot {
         return null;
     }
 
+    /**
+     * Creates the event manager that dispatches JDA events to the registered listeners. Defaults to a
+     * {@link VirtualThreadEventManager} bounded by {@link DiscordBotConfig#getMaxInFlightEvents()}.
+     */
+    @NotNull
+    protected IEventManager createEventManager(@NotNull DiscordBotConfig config) {
+        return new VirtualThreadEventManager(config.getMaxInFlightEvents());
+    }
+
     /**
      * Hook to customise the JDA builder before it's built.
      * Called during bot creation before JDA is initialized.
@@ -114,7 +125,7 @@ public abstract class AbstractDiscordBot implements DiscordBot {
         loadConfig();
 
         JDABuilder builder = JDABuilder.createDefault(getBotToken())
-            .setEventManager(new AnnotatedEventManager());
+            .setEventManager(createEventManager(config));
 
         Activity activity = buildActivity(config);
         if (activity != null) {
@@ -215,30 +226,7 @@ public abstract class AbstractDiscordBot implements DiscordBot {
             Map<Class<?>, Object> repositories = database.getRepositoryManager().getRepositories();
             log.info("Saving data from {} repositories...", repositories.size());
 
-            repositories.forEach((type, repositoryObject) -> {
-                Repository<?> repository = (Repository<?>) repositoryObject;
-                repository.saveAllToDatabaseAsync()
-                    .thenAccept(result -> {
-                        if (result != null && result.wasAcknowledged()) {
-                            int total = result.getInsertedCount() + result.getModifiedCount();
-                            log.info(
-                                "Saved {} documents for repository {} ({} inserted, {} modified, {} deleted)",
-                                total,
-                                repository.getClass().getSimpleName(),
-                                result.getInsertedCount(),
-                                result.getModifiedCount(),
-                                result.getDeletedCount()
-                            );
-                        } else {
-                            log.info("Saved 0 documents for repository {}", repository.getClass().getSimpleName());
-                        }
-                    })
-                    .exceptionally(throwable -> {
-                        log.error("Failed to save documents for repository {}", repository.getClass().getSimpleName(), throwable);
-                        return null;
-                    })
-                    .join();
-            });
+            saveRepositories(repositories);
         } catch (Exception exception) {
             log.error("Error while saving data: {}", exception.getMessage(), exception);
         } finally {
@@ -250,6 +238,43 @@ public abstract class AbstractDiscordBot implements DiscordBot {
         log.info("Bot shutdown complete!");
     }
 
+    /**
+     * Saves every repository's cache to the database during {@link #onEnd()}, after the features
+     * have stopped and before the database connection is closed. By default every repository's
+     * whole cache is written, all repositories at once.
+     *
+     * @param repositories the repository manager's repositories, keyed by type
+     */
+    protected void saveRepositories(Map<Class<?>, Object> repositories) {
+        List<CompletableFuture<Void>> saves = new ArrayList<>(repositories.size());
+
+        repositories.forEach((type, repositoryObject) -> {
+            Repository<?> repository = (Repository<?>) repositoryObject;
+            saves.add(repository.saveAllToDatabaseAsync()
+                .thenAccept(result -> {
+                    if (result != null && result.wasAcknowledged()) {
+                        int total = result.getInsertedCount() + result.getModifiedCount();
+                        log.info(
+                            "Saved {} documents for repository {} ({} inserted, {} modified, {} deleted)",
+                            total,
+                            repository.getClass().getSimpleName(),
+                            result.getInsertedCount(),
+                            result.getModifiedCount(),
+                            result.getDeletedCount()
+                        );
+                    } else {
+                        log.info("Saved 0 documents for repository {}", repository.getClass().getSimpleName());
+                    }
+                })
+                .exceptionally(throwable -> {
+                    log.error("Failed to save documents for repository {}", repository.getClass().getSimpleName(), throwable);
+                    return null;
+                }));
+        });
+
+        CompletableFuture.allOf(saves.toArray(CompletableFuture[]::new)).join();
+    }
+
     @Override
     public long getUptime() {
         return System.currentTimeMillis() - startTime;
@@ -0,0 +1,121 @@
+package net.hypixel.nerdbot.discord.command;
+
+import io.prometheus.client.Summary;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.interactions.commands.CommandInteractionPayload;
+import net.hypixel.nerdbot.marmalade.metrics.MetricsRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Non-blocking slash command execution.
+ *
+ * <p>{@link #defer(IReplyCallback, boolean)} acknowledges an interaction without waiting for
+ * Discord's response. Requests made through {@link IReplyCallback#getHook()} afterwards are held
+ * by JDA until the acknowledgement lands, so a handler can start its work immediately instead of
+ * blocking on a REST round-trip with {@code deferReply().complete()}.
+ *
+ * <p>{@link #execute(SlashCommandInteractionEvent, boolean, CommandBody)} also moves the handler
+ * body onto a virtual thread, so handlers doing slow work (rendering, database scans) return at
+ * once. The body starts once the deferral has been acknowledged and is skipped if it fails, since
+ * the hook cannot be used without it.
+ *
+ * <p>Both record, per command:
+ * <ul>
+ *     <li>queue time: from Discord creating the interaction until the handler began</li>
+ *     <li>time to first response: from Discord creating the interaction until the deferral was
+ *     acknowledged</li>
+ *     <li>execution time: how long a body passed to {@code execute} ran</li>
+ * </ul>
+ */
+@Slf4j
+@UtilityClass
+public class CommandExecution {
+
+    private static final String GENERIC_ERROR_MESSAGE = "An unexpected error occurred while running this command. Please try again later.";
+
+    private static final Summary QUEUE_SECONDS = MetricsRegistry.summary(
+        "slash_command_queue_seconds", "Time from an interaction being created until its handler started in seconds", "command_name");
+    private static final Summary FIRST_RESPONSE_SECONDS = MetricsRegistry.summary(
+        "slash_command_first_response_seconds", "Time from an interaction being created until it was acknowledged in seconds", "command_name");
+    private static final Summary EXECUTION_SECONDS = MetricsRegistry.summary(
+        "slash_command_execution_seconds", "Time spent running a slash command handler body in seconds", "command_name");
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("slash-command-", 0).factory());
+
+    /**
+     * A handler body run after the interaction has been deferred.
+     */
+    @FunctionalInterface
+    public interface CommandBody {
+
+        void run(InteractionHook hook) throws Exception;
+    }
+
+    /**
+     * Defers the reply without blocking.
+     *
+     * @param event     the interaction to acknowledge
+     * @param ephemeral whether the eventual reply is only visible to the user
+     *
+     * @return the interaction's hook, completed once Discord has acknowledged the deferral
+     */
+    public static CompletableFuture<InteractionHook> defer(IReplyCallback event, boolean ephemeral) {
+        String commandName = commandName(event);
+        QUEUE_SECONDS.labels(commandName).observe(secondsSinceCreated(event));
+
+        return event.deferReply(ephemeral).submit()
+            .whenComplete((hook, throwable) -> {
+                if (throwable != null) {
+                    log.warn("Failed to defer reply for command '{}' (interaction ID: {})", commandName, event.getId(), throwable);
+                    return;
+                }
+
+                FIRST_RESPONSE_SECONDS.labels(commandName).observe(secondsSinceCreated(event));
+            });
+    }
+
+    /**
+     * Defers the reply without blocking, then runs {@code body} on a virtual thread once Discord
+     * has acknowledged the deferral. If the deferral fails the body never runs. An exception
+     * escaping the body is logged and replaced with a generic message for the user; handlers
+     * wanting a specific message should catch it themselves.
+     *
+     * @param event     the command interaction
+     * @param ephemeral whether the reply is only visible to the user
+     * @param body      the handler body, given the interaction's hook
+     *
+     * @return a future completed when the body has finished, or exceptionally when the deferral
+     * failed
+     */
+    public static CompletableFuture<Void> execute(SlashCommandInteractionEvent event, boolean ephemeral, CommandBody body) {
+        String commandName = event.getFullCommandName();
+
+        return defer(event, ephemeral).thenAcceptAsync(hook -> {
+            long start = System.nanoTime();
+
+            try {
+                body.run(hook);
+            } catch (Exception exception) {
+                log.error("Unhandled exception while running command '{}'", commandName, exception);
+                hook.editOriginal(GENERIC_ERROR_MESSAGE).queue();
+            } finally {
+                EXECUTION_SECONDS.labels(commandName).observe((System.nanoTime() - start) / 1_000_000_000D);
+            }
+        }, EXECUTOR);
+    }
+
+    private static String commandName(IReplyCallback event) {
+        return event instanceof CommandInteractionPayload command ? command.getFullCommandName() : event.getClass().getSimpleName();
+    }
+
+    private static double secondsSinceCreated(IReplyCallback event) {
+        return Math.max(0, System.currentTimeMillis() - event.getTimeCreated().toInstant().toEpochMilli()) / 1_000D;
+    }
+}
@@ -54,6 +54,13 @@ public class DiscordBotConfig {
      */
     private String activity = "with a default message!";
 
+    /**
+     * The maximum number of listener invocations that may be queued or running at once before
+     * event dispatch blocks the gateway thread
+     * Default is 1000
+     */
+    private int maxInFlightEvents = 1_000;
+
     public enum ActivityType {
         PLAYING,
         STREAMING,
@@ -0,0 +1,15 @@
+package net.hypixel.nerdbot.discord.event;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * A subscriber method bound to its listener instance.
+ *
+ * <p>Public only because {@link java.lang.invoke.LambdaMetafactory} spins the implementing class in
+ * the listener's own package; it is not meant to be implemented by hand.
+ */
+@FunctionalInterface
+public interface EventHandler {
+
+    void handle(GenericEvent event) throws Throwable;
+}
@@ -0,0 +1,49 @@
+package net.hypixel.nerdbot.discord.event;
+
+import lombok.experimental.UtilityClass;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.channel.GenericChannelEvent;
+import net.dv8tion.jda.api.events.guild.member.GenericGuildMemberEvent;
+import net.dv8tion.jda.api.events.guild.voice.GenericGuildVoiceEvent;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.events.message.GenericMessageEvent;
+
+/**
+ * Decides which events a listener must see in order.
+ *
+ * <p>Each event maps to an ordering key, and a listener handles events sharing a key one at a time
+ * in gateway order. Message and channel events are keyed by channel, so messages, edits and
+ * reactions in one channel or thread stay ordered. Voice and member events are keyed by member, so
+ * a join is never handled after the matching leave. Interactions are keyed by their own ID, since
+ * each must be acknowledged quickly and none depends on another. Anything else shares
+ * {@link #DEFAULT_KEY}, so each listener still handles them one at a time.
+ */
+@UtilityClass
+class EventOrdering {
+
+    static final long DEFAULT_KEY = 0L;
+
+    static long key(GenericEvent event) {
+        if (event instanceof GenericMessageEvent messageEvent) {
+            return messageEvent.getChannel().getIdLong();
+        }
+
+        if (event instanceof GenericChannelEvent channelEvent) {
+            return channelEvent.getChannel().getIdLong();
+        }
+
+        if (event instanceof GenericGuildVoiceEvent voiceEvent) {
+            return voiceEvent.getMember().getIdLong();
+        }
+
+        if (event instanceof GenericGuildMemberEvent memberEvent) {
+            return memberEvent.getMember().getIdLong();
+        }
+
+        if (event instanceof GenericInteractionCreateEvent interactionEvent) {
+            return interactionEvent.getIdLong();
+        }
+
+        return DEFAULT_KEY;
+    }
+}
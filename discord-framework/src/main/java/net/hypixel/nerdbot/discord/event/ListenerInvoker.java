@@ -0,0 +1,121 @@
+package net.hypixel.nerdbot.discord.event;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import net.dv8tion.jda.api.hooks.SubscribeEvent;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The subscriber methods of one registered listener, compiled into {@link EventHandler}s when the
+ * listener is registered.
+ *
+ * <p>Follows {@code AnnotatedEventManager}'s rules: every public {@link SubscribeEvent} method
+ * taking a single {@link GenericEvent} subtype is a subscriber. A listener with no such methods
+ * that implements {@link EventListener} receives every event through
+ * {@link EventListener#onEvent(GenericEvent)} instead.
+ *
+ * <p>Each subscriber is bound to the listener through {@link LambdaMetafactory}, so a call is a
+ * plain interface call the JIT can inline rather than a reflective {@code Method.invoke}. If the
+ * metafactory cannot link a method, a bound {@link MethodHandle} is used instead.
+ *
+ * <p>Public so the dispatch benchmark in the tooling module can drive it directly; listeners are
+ * registered through {@link VirtualThreadEventManager}, not by building one of these.
+ */
+@Slf4j
+public class ListenerInvoker {
+
+    private static final MethodType HANDLE_TYPE = MethodType.methodType(void.class, GenericEvent.class);
+    private static final EventHandler[] NO_HANDLERS = {};
+
+    @Getter
+    private final Object listener;
+    @Getter
+    private final String name;
+    private final List<Subscriber> subscribers;
+
+    public ListenerInvoker(Object listener) {
+        this.listener = listener;
+        this.name = listener.getClass().getSimpleName().isEmpty() ? listener.getClass().getName() : listener.getClass().getSimpleName();
+        this.subscribers = findSubscribers(listener);
+    }
+
+    /**
+     * @return the handlers accepting events of the given type, in declaration order, or an empty
+     * array if this listener does not subscribe to it
+     */
+    public EventHandler[] handlersFor(Class<? extends GenericEvent> eventType) {
+        List<EventHandler> handlers = new ArrayList<>(1);
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.eventType().isAssignableFrom(eventType)) {
+                handlers.add(subscriber.handler());
+            }
+        }
+
+        return handlers.isEmpty() ? NO_HANDLERS : handlers.toArray(EventHandler[]::new);
+    }
+
+    private static List<Subscriber> findSubscribers(Object listener) {
+        List<Subscriber> subscribers = new ArrayList<>();
+
+        for (Method method : listener.getClass().getMethods()) {
+            if (!method.isAnnotationPresent(SubscribeEvent.class)
+                || Modifier.isStatic(method.getModifiers())
+                || method.getParameterCount() != 1
+                || !GenericEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+
+            subscribers.add(new Subscriber(method.getParameterTypes()[0].asSubclass(GenericEvent.class), compile(listener, method)));
+        }
+
+        if (subscribers.isEmpty() && listener instanceof EventListener eventListener) {
+            subscribers.add(new Subscriber(GenericEvent.class, eventListener::onEvent));
+        }
+
+        return List.copyOf(subscribers);
+    }
+
+    private static EventHandler compile(Object listener, Method method) {
+        MethodHandles.Lookup lookup;
+        MethodHandle target;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            target = lookup.unreflect(method);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalArgumentException("Cannot access subscriber " + method + " of " + listener.getClass().getName(), exception);
+        }
+
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "handle",
+                MethodType.methodType(EventHandler.class, method.getDeclaringClass()),
+                HANDLE_TYPE,
+                target,
+                MethodType.methodType(void.class, method.getParameterTypes()[0])
+            );
+
+            return (EventHandler) site.getTarget().invoke(listener);
+        } catch (Throwable throwable) {
+            log.debug("Falling back to a method handle for subscriber {}", method, throwable);
+        }
+
+        MethodHandle bound = target.bindTo(listener).asType(HANDLE_TYPE);
+        return event -> bound.invokeExact(event);
+    }
+
+    private record Subscriber(Class<? extends GenericEvent> eventType, EventHandler handler) {
+    }
+}
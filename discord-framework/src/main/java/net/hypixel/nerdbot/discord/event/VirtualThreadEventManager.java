@@ -0,0 +1,224 @@
+package net.hypixel.nerdbot.discord.event;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Summary;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.hooks.IEventManager;
+import net.hypixel.nerdbot.marmalade.metrics.MetricsRegistry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Event manager that hands each event to its listeners on virtual threads instead of running every
+ * {@code @SubscribeEvent} method on the gateway thread, so one slow handler no longer delays the
+ * rest.
+ *
+ * <p>Listeners are discovered the same way as with JDA's {@code AnnotatedEventManager} and their
+ * subscriber methods are compiled when registered; see {@link ListenerInvoker}. The first event of
+ * each class resolves which listeners subscribe to it into a routing table, so later events of that
+ * class only touch those listeners' pre-bound handlers. Registering or unregistering a listener
+ * discards the table, and an unregistered listener is not handed events still queued for it. Each listener handles events with the same {@link EventOrdering} key
+ * one at a time and in gateway order, while different keys and different listeners run in
+ * parallel. At most {@code maxInFlight} listener invocations may be queued or running at once;
+ * beyond that the gateway thread blocks until one finishes, which pushes back on the websocket
+ * rather than buffering without limit.
+ *
+ * <p>Queue depth and handler latency are exported per listener class.
+ */
+@Slf4j
+public class VirtualThreadEventManager implements IEventManager {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1_000;
+
+    private static final Gauge LISTENER_QUEUE_DEPTH = MetricsRegistry.gauge(
+        "event_listener_queue_depth", "Number of events queued or being handled by a listener", "listener");
+    private static final Summary LISTENER_HANDLER_LATENCY_SECONDS = MetricsRegistry.summary(
+        "event_listener_handler_latency_seconds", "Time taken by a listener to handle an event in seconds", "listener");
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("event-dispatch-", 0).factory());
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private volatile Map<Class<? extends GenericEvent>, Route[]> routes = new ConcurrentHashMap<>();
+    private final Semaphore inFlight;
+
+    public VirtualThreadEventManager() {
+        this(DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    public VirtualThreadEventManager(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public void register(@NotNull Object listener) {
+        if (registrations.stream().anyMatch(registration -> registration.invoker.getListener() == listener)) {
+            return;
+        }
+
+        registrations.add(new Registration(new ListenerInvoker(listener)));
+        routes = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void unregister(@NotNull Object listener) {
+        List<Registration> removed = registrations.stream()
+            .filter(registration -> registration.invoker.getListener() == listener)
+            .toList();
+
+        if (registrations.removeAll(removed)) {
+            removed.forEach(registration -> registration.unregistered = true);
+            routes = new ConcurrentHashMap<>();
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<Object> getRegisteredListeners() {
+        return registrations.stream().map(registration -> registration.invoker.getListener()).toList();
+    }
+
+    @Override
+    public void handle(@NotNull GenericEvent event) {
+        Class<? extends GenericEvent> eventType = event.getClass();
+        Route[] eventRoutes = routes.computeIfAbsent(eventType, this::resolve);
+        if (eventRoutes.length == 0) {
+            return;
+        }
+
+        long key = orderingKey(event);
+
+        for (Route route : eventRoutes) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while dispatching {}, remaining listeners will not receive it", eventType.getSimpleName());
+                return;
+            }
+
+            route.registration().submit(key, new Dispatch(event, route.handlers()));
+        }
+    }
+
+    private Route[] resolve(Class<? extends GenericEvent> eventType) {
+        List<Route> resolved = new ArrayList<>();
+
+        for (Registration registration : registrations) {
+            EventHandler[] handlers = registration.invoker.handlersFor(eventType);
+            if (handlers.length > 0) {
+                resolved.add(new Route(registration, handlers));
+            }
+        }
+
+        return resolved.toArray(Route[]::new);
+    }
+
+    private static long orderingKey(GenericEvent event) {
+        try {
+            return EventOrdering.key(event);
+        } catch (RuntimeException exception) {
+            log.debug("Could not derive an ordering key for {}", event.getClass().getSimpleName(), exception);
+            return EventOrdering.DEFAULT_KEY;
+        }
+    }
+
+    /**
+     * A registered listener and its per-key lanes. A lane exists while it has events queued or
+     * running, and is drained by a single virtual thread, which is what keeps a key's events in
+     * order.
+     */
+    private final class Registration {
+
+        private final ListenerInvoker invoker;
+        private final Map<Long, ArrayDeque<Dispatch>> lanes = new ConcurrentHashMap<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private volatile boolean unregistered;
+
+        private Registration(ListenerInvoker invoker) {
+            this.invoker = invoker;
+        }
+
+        private void submit(long key, Dispatch dispatch) {
+            LISTENER_QUEUE_DEPTH.labels(invoker.getName()).set(depth.incrementAndGet());
+
+            lanes.compute(key, (ignored, lane) -> {
+                if (lane == null) {
+                    executor.execute(() -> drain(key, dispatch));
+                    return new ArrayDeque<>();
+                }
+
+                lane.add(dispatch);
+                return lane;
+            });
+        }
+
+        private void drain(long key, Dispatch first) {
+            Dispatch next = first;
+
+            while (next != null) {
+                run(next);
+                next = poll(key);
+            }
+        }
+
+        /**
+         * @return the lane's next event, or {@code null} after removing the lane if it is empty
+         */
+        private Dispatch poll(long key) {
+            Dispatch[] next = new Dispatch[1];
+
+            lanes.computeIfPresent(key, (ignored, lane) -> {
+                next[0] = lane.poll();
+                return next[0] == null ? null : lane;
+            });
+
+            return next[0];
+        }
+
+        private void run(Dispatch dispatch) {
+            long start = System.nanoTime();
+
+            try {
+                // Queued events are still drained after unregistering, so their permits are released
+                if (unregistered) {
+                    return;
+                }
+
+                for (EventHandler handler : dispatch.handlers()) {
+                    try {
+                        handler.handle(dispatch.event());
+                    } catch (Throwable throwable) {
+                        log.error("Listener {} failed to handle {}", invoker.getName(), dispatch.event().getClass().getSimpleName(), throwable);
+                    }
+                }
+            } finally {
+                LISTENER_HANDLER_LATENCY_SECONDS.labels(invoker.getName()).observe((System.nanoTime() - start) / 1_000_000_000D);
+                LISTENER_QUEUE_DEPTH.labels(invoker.getName()).set(depth.decrementAndGet());
+                inFlight.release();
+            }
+        }
+    }
+
+    /**
+     * The listeners subscribed to one event class, with the handlers each runs for it.
+     */
+    private record Route(Registration registration, EventHandler[] handlers) {
+    }
+
+    private record Dispatch(GenericEvent event, EventHandler[] handlers) {
+    }
+}
@@ -0,0 +1,147 @@
+package net.hypixel.nerdbot.discord.event;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.hooks.SubscribeEvent;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Events sharing an ordering key reach a listener one at a time in dispatch order, dispatch blocks
+ * once the in-flight limit is reached, and a listener unregistered while events are still queued
+ * for it never receives them.
+ */
+class VirtualThreadEventManagerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    void eventsWithTheSameKeyAreHandledInOrder() throws InterruptedException {
+        VirtualThreadEventManager manager = new VirtualThreadEventManager();
+        RecordingListener listener = new RecordingListener(200);
+        manager.register(listener);
+
+        for (int sequence = 0; sequence < 200; sequence++) {
+            manager.handle(new SequencedEvent(sequence));
+        }
+
+        assertTrue(listener.handled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 200).boxed().toList(), listener.sequences);
+        assertEquals(1, listener.maxConcurrent, "events sharing a key must not overlap");
+    }
+
+    @Test
+    void dispatchBlocksWhileTheInFlightLimitIsReached() throws InterruptedException {
+        VirtualThreadEventManager manager = new VirtualThreadEventManager(1);
+        BlockingListener listener = new BlockingListener();
+        manager.register(listener);
+
+        manager.handle(new SequencedEvent(0));
+        assertTrue(listener.started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        Thread gateway = Thread.ofVirtual().start(() -> manager.handle(new SequencedEvent(1)));
+        assertFalse(gateway.join(Duration.ofMillis(200)), "dispatch should wait for a free slot");
+
+        listener.release.countDown();
+        assertTrue(gateway.join(Duration.ofSeconds(TIMEOUT_SECONDS)), "dispatch should resume once the first event is handled");
+    }
+
+    @Test
+    void unregisteredListenerSkipsQueuedEventsAndFreesTheirSlots() throws InterruptedException {
+        VirtualThreadEventManager manager = new VirtualThreadEventManager(3);
+        BlockingListener blocked = new BlockingListener();
+        manager.register(blocked);
+
+        manager.handle(new SequencedEvent(0));
+        assertTrue(blocked.started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        manager.handle(new SequencedEvent(1));
+        manager.handle(new SequencedEvent(2));
+
+        manager.unregister(blocked);
+        assertEquals(List.of(), manager.getRegisteredListeners());
+        blocked.release.countDown();
+
+        // Only succeeds if the queued events gave their slots back
+        RecordingListener next = new RecordingListener(3);
+        manager.register(next);
+        Thread gateway = Thread.ofVirtual().start(() -> IntStream.range(3, 6).forEach(sequence -> manager.handle(new SequencedEvent(sequence))));
+
+        assertTrue(gateway.join(Duration.ofSeconds(TIMEOUT_SECONDS)));
+        assertTrue(next.handled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of(0), blocked.sequences, "queued events should not reach an unregistered listener");
+        assertEquals(List.of(3, 4, 5), next.sequences);
+    }
+
+    /**
+     * Shares the default ordering key with every other event JDA has no more specific key for.
+     */
+    record SequencedEvent(int sequence) implements GenericEvent {
+
+        @Override
+        public JDA getJDA() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getResponseNumber() {
+            return sequence;
+        }
+
+        @Override
+        public DataObject getRawData() {
+            return null;
+        }
+    }
+
+    public static class RecordingListener {
+
+        private final List<Integer> sequences = new CopyOnWriteArrayList<>();
+        private final CountDownLatch handled;
+        private int concurrent;
+        private int maxConcurrent;
+
+        private RecordingListener(int expected) {
+            this.handled = new CountDownLatch(expected);
+        }
+
+        @SubscribeEvent
+        public void onSequenced(SequencedEvent event) {
+            synchronized (this) {
+                maxConcurrent = Math.max(maxConcurrent, ++concurrent);
+            }
+
+            sequences.add(event.sequence());
+            Thread.yield();
+
+            synchronized (this) {
+                concurrent--;
+            }
+            handled.countDown();
+        }
+    }
+
+    public static class BlockingListener {
+
+        private final List<Integer> sequences = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @SubscribeEvent
+        public void onSequenced(SequencedEvent event) throws InterruptedException {
+            sequences.add(event.sequence());
+            started.countDown();
+            release.await();
+        }
+    }
+}
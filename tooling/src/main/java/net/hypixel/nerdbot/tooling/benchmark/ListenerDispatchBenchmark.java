@@ -0,0 +1,186 @@
+package net.hypixel.nerdbot.tooling.benchmark;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.hooks.AnnotatedEventManager;
+import net.dv8tion.jda.api.hooks.SubscribeEvent;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import net.hypixel.nerdbot.discord.event.EventHandler;
+import net.hypixel.nerdbot.discord.event.ListenerInvoker;
+import net.hypixel.nerdbot.discord.event.VirtualThreadEventManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of delivering one event to its subscribers with JDA's reflective
+ * {@link AnnotatedEventManager} and with the handlers {@link ListenerInvoker} compiles, looked up
+ * through a routing table the way {@link VirtualThreadEventManager} does. Both run on the calling
+ * thread, so the numbers compare invocation alone, without the virtual thread handoff.
+ *
+ * <p>The listener mix mirrors the bot's: one catch-all {@link GenericEvent} subscriber like
+ * {@code MetricsListener}, a few listeners subscribed to the event and many that are not. Every
+ * handler counts into a shared {@link Tally} that each benchmark returns, so JMH sinks the work
+ * and none of it can be optimized away.
+ *
+ * <p>Run with {@code mvn -pl tooling -am install -DskipTests} followed by
+ * {@code mvn -pl tooling -P dispatch-benchmark exec:exec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class ListenerDispatchBenchmark {
+
+    @Param({"4"})
+    public int subscribed;
+
+    @Param({"20"})
+    public int unrelated;
+
+    private final Tally tally = new Tally();
+    private final GenericEvent event = new BenchmarkEvent();
+    private AnnotatedEventManager annotated;
+    private CompiledDispatcher compiled;
+
+    @Setup
+    public void setUp() {
+        List<Object> listeners = new ArrayList<>();
+        listeners.add(new CatchAllListener(tally));
+        for (int i = 0; i < subscribed; i++) {
+            listeners.add(new SubscribedListener(tally));
+        }
+        for (int i = 0; i < unrelated; i++) {
+            listeners.add(new UnrelatedListener());
+        }
+
+        annotated = new AnnotatedEventManager();
+        listeners.forEach(annotated::register);
+        compiled = new CompiledDispatcher(listeners);
+    }
+
+    @Benchmark
+    public long annotated() {
+        annotated.handle(event);
+        return tally.handled;
+    }
+
+    @Benchmark
+    public long compiled() throws Throwable {
+        compiled.handle(event);
+        return tally.handled;
+    }
+
+    /**
+     * The synchronous half of {@link VirtualThreadEventManager#handle(GenericEvent)}: a routing
+     * table lookup, then each subscribed listener's compiled handlers.
+     */
+    private static final class CompiledDispatcher {
+
+        private final List<ListenerInvoker> invokers;
+        private final Map<Class<? extends GenericEvent>, EventHandler[][]> routes = new ConcurrentHashMap<>();
+
+        private CompiledDispatcher(List<Object> listeners) {
+            this.invokers = listeners.stream().map(ListenerInvoker::new).toList();
+        }
+
+        private void handle(GenericEvent event) throws Throwable {
+            for (EventHandler[] handlers : routes.computeIfAbsent(event.getClass(), this::resolve)) {
+                for (EventHandler handler : handlers) {
+                    handler.handle(event);
+                }
+            }
+        }
+
+        private EventHandler[][] resolve(Class<? extends GenericEvent> eventType) {
+            return invokers.stream()
+                .map(invoker -> invoker.handlersFor(eventType))
+                .filter(handlers -> handlers.length > 0)
+                .toArray(EventHandler[][]::new);
+        }
+    }
+
+    private static final class Tally {
+
+        private long handled;
+    }
+
+    /**
+     * A bare event, so neither manager pays for building a real JDA event.
+     */
+    public static class BenchmarkEvent implements GenericEvent {
+
+        @Override
+        public JDA getJDA() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getResponseNumber() {
+            return 0;
+        }
+
+        @Override
+        public DataObject getRawData() {
+            return null;
+        }
+    }
+
+    public static final class OtherEvent extends BenchmarkEvent {
+    }
+
+    public static final class CatchAllListener {
+
+        private final Tally tally;
+
+        private CatchAllListener(Tally tally) {
+            this.tally = tally;
+        }
+
+        @SubscribeEvent
+        public void onEvent(GenericEvent event) {
+            tally.handled++;
+        }
+    }
+
+    public static final class SubscribedListener {
+
+        private final Tally tally;
+
+        private SubscribedListener(Tally tally) {
+            this.tally = tally;
+        }
+
+        @SubscribeEvent
+        public void onBenchmark(BenchmarkEvent event) {
+            tally.handled++;
+        }
+
+        @SubscribeEvent
+        public void onOther(OtherEvent event) {
+        }
+    }
+
+    public static final class UnrelatedListener {
+
+        @SubscribeEvent
+        public void onOther(OtherEvent event) {
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package net.hypixel.nerdbot.tooling.benchmark;
+
+import net.aerh.imagegenerator.context.GenerationContext;
+import net.aerh.imagegenerator.data.Rarity;
+import net.aerh.imagegenerator.image.GeneratorImageBuilder;
+import net.aerh.imagegenerator.image.MinecraftTooltip;
+import net.aerh.imagegenerator.impl.MinecraftItemGenerator;
+import net.aerh.imagegenerator.impl.tooltip.MinecraftTooltipGenerator;
+import net.hypixel.nerdbot.app.generation.PngEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long encoding generator output to PNG takes, for an item, a tooltip and a full
+ * inventory render.
+ * <ul>
+ *     <li>{@link #tempFile()} is the temp-file encode the generator commands used before.</li>
+ *     <li>{@link #freshBuffer()} encodes in memory into a new buffer each time, at ImageIO's
+ *     default level, so comparing it with {@link #pooled(Compression)} at level
+ *     {@value PngEncoder#DEFAULT_COMPRESSION_LEVEL} isolates what reusing the buffer saves.</li>
+ *     <li>{@link #pooled(Compression)} is {@link PngEncoder} at each compression level. The size each
+ *     level produces is printed when its trial starts.</li>
+ * </ul>
+ *
+ * <p>Run with {@code mvn -pl tooling -am install -DskipTests} followed by
+ * {@code mvn -pl tooling -P render-benchmark exec:exec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class RenderEncodeBenchmark {
+
+    private static final int INVENTORY_ROWS = 6;
+    private static final int INVENTORY_COLUMNS = 9;
+
+    @Param({"item", "tooltip", "inventory"})
+    public String render;
+
+    private BufferedImage image;
+
+    @Setup
+    public void setUp() {
+        GenerationContext context = new GenerationContext("benchmark", (message, forceEphemeral) -> System.out.println(message), false);
+        BufferedImage item = renderItem(context);
+
+        image = switch (render) {
+            case "item" -> item;
+            case "tooltip" -> renderTooltip(context);
+            case "inventory" -> tileInventory(item);
+            default -> throw new IllegalArgumentException("Unknown render " + render);
+        };
+    }
+
+    @Benchmark
+    public byte[] tempFile() throws IOException {
+        File file = File.createTempFile("render-benchmark", ".png");
+
+        try {
+            ImageIO.write(image, "png", file);
+            return Files.readAllBytes(file.toPath());
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    @Benchmark
+    public byte[] freshBuffer() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] pooled(Compression compression) throws IOException {
+        return PngEncoder.encode(image, compression.level);
+    }
+
+    /**
+     * Kept apart from the render so only {@link #pooled(Compression)} runs once per compression level.
+     */
+    @State(Scope.Benchmark)
+    public static class Compression {
+
+        @Param({"0", "1", "4", "6", "9"})
+        public int level;
+
+        @Setup
+        public void setUp(RenderEncodeBenchmark benchmark) throws IOException {
+            BufferedImage image = benchmark.image;
+            System.out.printf("%s %dx%d at level %d: %d bytes%n", benchmark.render, image.getWidth(), image.getHeight(),
+                level, PngEncoder.encode(image, level).length);
+        }
+    }
+
+    private static BufferedImage renderItem(GenerationContext context) {
+        return new GeneratorImageBuilder().withContext(context)
+            .addGenerator(new MinecraftItemGenerator.Builder()
+                .withItem("diamond_sword")
+                .isEnchanted(true)
+                .build())
+            .build()
+            .getImage();
+    }
+
+    private static BufferedImage renderTooltip(GenerationContext context) {
+        return new GeneratorImageBuilder().withContext(context)
+            .addGenerator(new MinecraftTooltipGenerator.Builder()
+                .withName("&6Aspect of the Dragons")
+                .withRarity(Rarity.byName("legendary"))
+                .withItemLore("&7Damage: &c+225\\n&7Strength: &c+100\\n\\n&6Ability: Dragon Rage &e&lRIGHT CLICK\\n&7All monsters in front of you take &a12,000 &7damage. Hit monsters take large knockback.\\n&8Mana Cost: &3100\\n&8Cooldown: &a5s\\n\\n&6&lLEGENDARY SWORD")
+                .withType("")
+                .withAlpha(MinecraftTooltip.DEFAULT_ALPHA)
+                .withPadding(MinecraftTooltip.DEFAULT_PADDING)
+                .withMaxLineLength(MinecraftTooltipGenerator.DEFAULT_MAX_LINE_LENGTH)
+                .isTextCentered(false)
+                .hasFirstLinePadding(true)
+                .withRenderBorder(true)
+                .build())
+            .build()
+            .getImage();
+    }
+
+    /**
+     * Lays the item render out over a chest-sized slot grid, which is close enough to a real
+     * inventory render in both size and content for encoding purposes.
+     */
+    private static BufferedImage tileInventory(BufferedImage item) {
+        int slotSize = item.getWidth() + item.getWidth() / 8;
+        BufferedImage inventory = new BufferedImage(slotSize * INVENTORY_COLUMNS, slotSize * INVENTORY_ROWS, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = inventory.createGraphics();
+
+        graphics.setColor(new Color(0xC6C6C6));
+        graphics.fillRect(0, 0, inventory.getWidth(), inventory.getHeight());
+
+        for (int row = 0; row < INVENTORY_ROWS; row++) {
+            for (int column = 0; column < INVENTORY_COLUMNS; column++) {
+                if ((row * INVENTORY_COLUMNS + column) % 3 != 2) {
+                    graphics.drawImage(item, column * slotSize, row * slotSize, null);
+                }
+            }
+        }
+
+        graphics.dispose();
+        return inventory;
+    }
+}